@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>
+ * An immutable validation plan for a <code>Form</code>, created by
+ * {@link ValidatorResources#compile()}. </p> <p>
+ *
+ * Each <code>Field</code>'s depends clause is resolved against the
+ * <code>ValidatorAction</code>s once, and the actions it depends on are
+ * flattened into a single array of steps in the order they would run, so that
+ * validation doesn't have to look up the actions, walk their dependencies or
+ * check which of them have already run. Every action runs at most once for
+ * each field, even when the <code>Validator</code> only returns errors. </p> <p>
+ *
+ * A depends clause naming an unknown <code>ValidatorAction</code>, or
+ * <code>ValidatorAction</code>s depending on each other, cause a
+ * <code>ValidatorException</code> when the field is validated, as they would
+ * without the plan. </p> <p>
+ *
+ * The plan is a snapshot of the <code>Form</code>, <code>Field</code>s and
+ * <code>ValidatorAction</code>s at the time it was compiled. </p>
+ *
+ * @since 1.8
+ */
+public final class CompiledForm {
+
+    /**
+     * A single validation step, running a <code>ValidatorAction</code> for
+     * a <code>Field</code>.
+     */
+    private static final class Step {
+
+        /** The field to validate. */
+        private final Field field;
+
+        /** The action to run, <code>null</code> if the step is an error. */
+        private final ValidatorAction action;
+
+        /** The error message if the action can't be run. */
+        private final String error;
+
+        Step(final Field field, final ValidatorAction action, final String error) {
+            this.field = field;
+            this.action = action;
+            this.error = error;
+        }
+
+        boolean execute(final Map<String, Object> params, final ValidatorResults results,
+                final Object indexedBean, final Field indexedField) throws ValidatorException {
+            if (action == null) {
+                throw new ValidatorException(error);
+            }
+            return action.executeValidationMethod(field, params, results, indexedBean, indexedField);
+        }
+    }
+
+    /** The compiled form. */
+    private final Form form;
+
+    /** The fields of the form, in the order they are validated. */
+    private final Field[] fields;
+
+    /**
+     * Whether each field is validated by the plan. Fields without a depends
+     * clause and subclasses of <code>Field</code> validate themselves.
+     */
+    private final boolean[] compiled;
+
+    /** Whether each field can be validated concurrently. */
+    private final boolean[] threadSafe;
+
+    /** Index of the first step of each field, followed by the number of steps. */
+    private final int[] fieldStart;
+
+    /** The steps of all the fields. */
+    private final Step[] steps;
+
+    /** Index of each field, keyed on the field key. */
+    private final Map<String, Integer> fieldIndexes;
+
+    /** The actions, for the fields which validate themselves. */
+    private final Map<String, ValidatorAction> actions;
+
+    /**
+     * Compile a <code>Form</code>.
+     *
+     * @param form The form to compile.
+     * @param actions A Map of validator names to ValidatorAction objects.
+     */
+    CompiledForm(final Form form, final Map<String, ValidatorAction> actions) {
+        this.form = form;
+        this.actions = actions;
+        this.fields = form.getFields().toArray(new Field[0]);
+        this.compiled = new boolean[fields.length];
+        this.threadSafe = new boolean[fields.length];
+        this.fieldStart = new int[fields.length + 1];
+        this.fieldIndexes = new HashMap<>();
+
+        final Map<String, Field> fieldMap = form.getFieldMap();
+        final List<Step> plan = new ArrayList<>();
+        for (int i = 0; i < fields.length; i++) {
+            final Field field = fields[i];
+            fieldStart[i] = plan.size();
+            if (fieldMap.get(field.getKey()) == field) {
+                fieldIndexes.put(field.getKey(), Integer.valueOf(i));
+            }
+            threadSafe[i] = ParallelValidation.isThreadSafe(field, actions);
+            if (field.getClass() != Field.class || field.getDepends() == null) {
+                continue;
+            }
+            compiled[i] = true;
+            final Set<String> done = new HashSet<>();
+            for (final String depend : field.getDependencyList()) {
+                if (!addSteps(field, depend, plan, done, new HashSet<String>())) {
+                    break;
+                }
+            }
+        }
+        fieldStart[fields.length] = plan.size();
+        this.steps = plan.toArray(new Step[0]);
+    }
+
+    /**
+     * Add the steps for an action, after the steps for the actions it
+     * depends on.
+     *
+     * @param field The field the action validates.
+     * @param name The name of the action.
+     * @param plan The steps so far.
+     * @param done The actions which already have a step for the field.
+     * @param pending The actions waiting for their dependencies.
+     * @return <code>false</code> if an error step was added, the steps
+     * following it would never run.
+     */
+    private boolean addSteps(final Field field, final String name, final List<Step> plan,
+            final Set<String> done, final Set<String> pending) {
+        if (done.contains(name)) {
+            return true;
+        }
+        final ValidatorAction action = actions.get(name);
+        if (action == null) {
+            plan.add(new Step(field, null, "No ValidatorAction named " + name
+                    + " found for field " + field.getProperty()));
+            return false;
+        }
+        if (!pending.add(name)) {
+            plan.add(new Step(field, null, "ValidatorAction " + name
+                    + " depends on itself for field " + field.getProperty()));
+            return false;
+        }
+        for (final String depend : action.getDependencyList()) {
+            if (!addSteps(field, depend, plan, done, pending)) {
+                return false;
+            }
+        }
+        pending.remove(name);
+        done.add(name);
+        plan.add(new Step(field, action, null));
+        return true;
+    }
+
+    /**
+     * Gets the compiled <code>Form</code>.
+     *
+     * @return The form.
+     */
+    public Form getForm() {
+        return form;
+    }
+
+    /**
+     * Validate all Fields in the form on the given page and below, or only
+     * the given field.
+     *
+     * @param params A Map of parameter class names to parameter values to pass
+     * into validation methods.
+     * @param page Fields on pages higher than this will not be validated.
+     * @param fieldName The key of the field to validate, <code>null</code>
+     * to validate all the fields.
+     * @return A ValidatorResults object containing all validation messages.
+     * @throws ValidatorException If an error occurs during validation.
+     */
+    public ValidatorResults validate(final Map<String, Object> params, final int page, final String fieldName)
+            throws ValidatorException {
+        return validate(params, page, fieldName, null);
+    }
+
+    /**
+     * Validate all Fields in the form on the given page and below, or only
+     * the given field.  With an <code>Executor</code>, the fields whose
+     * <code>ValidatorAction</code>s are all thread safe are validated
+     * concurrently, and their results merged in the order of the fields.
+     *
+     * @param params A Map of parameter class names to parameter values to pass
+     * into validation methods.
+     * @param page Fields on pages higher than this will not be validated.
+     * @param fieldName The key of the field to validate, <code>null</code>
+     * to validate all the fields.
+     * @param executor The executor to validate the thread safe fields on,
+     * <code>null</code> to validate them in turn.
+     * @return A ValidatorResults object containing all validation messages.
+     * @throws ValidatorException If an error occurs during validation.
+     */
+    public ValidatorResults validate(final Map<String, Object> params, final int page, final String fieldName,
+            final Executor executor) throws ValidatorException {
+        final ValidatorResults results = new ValidatorResults();
+        params.put(Validator.VALIDATOR_RESULTS_PARAM, results);
+
+        if (fieldName != null) {
+            final Integer index = fieldIndexes.get(fieldName);
+            if (index == null) {
+                throw new ValidatorException("Unknown field " + fieldName + " in form " + form.getName());
+            }
+            validateField(index.intValue(), params, page, results);
+        } else if (executor != null) {
+            ParallelValidation.validate(fields, threadSafe, params, page, results, executor,
+                (i, fieldParams) -> {
+                    final ValidatorResults fieldResults = new ValidatorResults();
+                    validateField(i, fieldParams, fieldResults);
+                    return fieldResults;
+                });
+        } else {
+            for (int i = 0; i < fields.length; i++) {
+                validateField(i, params, page, results);
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Validate a field if it is on the given page or below.
+     */
+    private void validateField(final int index, final Map<String, Object> params, final int page,
+            final ValidatorResults results) throws ValidatorException {
+        params.put(Validator.FIELD_PARAM, fields[index]);
+        if (fields[index].getPage() <= page) {
+            validateField(index, params, results);
+        }
+    }
+
+    /**
+     * Run the steps of a field over each of its items in turn, returning
+     * when the first one fails.
+     */
+    private void validateField(final int index, final Map<String, Object> params, final ValidatorResults results)
+            throws ValidatorException {
+        final Field field = fields[index];
+        if (!compiled[index]) {
+            results.merge(field.validate(params, actions));
+            return;
+        }
+
+        final Object[] indexedList =
+            field.isIndexed() ? field.getIndexedProperty(params.get(Validator.BEAN_PARAM)) : null;
+        final int numberOfFieldsToValidate = indexedList != null ? indexedList.length : 1;
+        final int end = fieldStart[index + 1];
+        for (int fieldNumber = 0; fieldNumber < numberOfFieldsToValidate; fieldNumber++) {
+            final ValidatorResults fieldResults = new ValidatorResults();
+            final Object indexedBean = indexedList != null ? indexedList[fieldNumber] : null;
+            final Field indexedField = indexedList != null ? field.getIndexedField(fieldNumber) : null;
+            for (int i = fieldStart[index]; i < end; i++) {
+                if (!steps[i].execute(params, fieldResults, indexedBean, indexedField)) {
+                    results.merge(fieldResults);
+                    return;
+                }
+            }
+            results.merge(fieldResults);
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The parameters of a single validation, created from a
+ * {@link ValidationContext}.
+ * <p>
+ * The parameters with a slot in the context are held in an array, the
+ * others are looked up in the context, then in the parameters of the
+ * <code>Validator</code>.  Parameters set while validating only change
+ * this <code>Map</code>, never the context or the <code>Validator</code>.
+ *
+ * @since 1.8
+ */
+final class ContextParameters extends AbstractMap<String, Object> {
+
+    /** The context. */
+    private final ValidationContext context;
+
+    /** The parameters of the <code>Validator</code>. */
+    private final Map<String, Object> defaults;
+
+    /** The values of the slots. */
+    private final Object[] slots;
+
+    /** The other parameters set while validating, <code>null</code> if there aren't any. */
+    private Map<String, Object> others;
+
+    /**
+     * Create the parameters of a validation.
+     *
+     * @param context The context of the validation.
+     * @param defaults The parameters of the <code>Validator</code>, for the
+     * parameters the context doesn't have.
+     */
+    ContextParameters(final ValidationContext context, final Map<String, Object> defaults) {
+        this.context = context;
+        this.defaults = defaults;
+        this.slots = context.copySlots();
+        if (!defaults.isEmpty()) {
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] == null) {
+                    slots[i] = defaults.get(ValidationContext.SLOT_NAMES[i]);
+                }
+            }
+        }
+    }
+
+    private ContextParameters(final ContextParameters parameters) {
+        this.context = parameters.context;
+        this.defaults = parameters.defaults;
+        this.slots = parameters.slots.clone();
+        this.others = parameters.others == null ? null : new HashMap<>(parameters.others);
+    }
+
+    /**
+     * Copy the parameters, for validating on another thread.
+     *
+     * @return The copy.
+     */
+    ContextParameters copy() {
+        return new ContextParameters(this);
+    }
+
+    /**
+     * Gets the value of a parameter.
+     *
+     * @param slot The slot of the parameter, <code>-1</code> if it doesn't
+     * have one.
+     * @param name The class name of the parameter.
+     * @return The value.
+     */
+    Object get(final int slot, final String name) {
+        if (slot >= 0) {
+            return slots[slot];
+        }
+        if (others != null && others.containsKey(name)) {
+            return others.get(name);
+        }
+        final Object value = context.getOtherValue(name);
+        return value != null ? value : defaults.get(name);
+    }
+
+    @Override
+    public Object get(final Object key) {
+        return key instanceof String ? get(ValidationContext.slotOf((String) key), (String) key) : null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null || key instanceof String && others != null && others.containsKey(key);
+    }
+
+    @Override
+    public Object put(final String key, final Object value) {
+        final int slot = key == null ? -1 : ValidationContext.slotOf(key);
+        if (slot >= 0) {
+            final Object previous = slots[slot];
+            slots[slot] = value;
+            return previous;
+        }
+        if (others == null) {
+            others = new HashMap<>();
+        }
+        return others.put(key, value);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        final Map<String, Object> map = new LinkedHashMap<>(defaults);
+        for (final String name : context.getOtherNames()) {
+            final Object value = context.getOtherValue(name);
+            if (value != null) {
+                map.put(name, value);
+            }
+        }
+        if (others != null) {
+            map.putAll(others);
+        }
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != null) {
+                map.put(ValidationContext.SLOT_NAMES[i], slots[i]);
+            } else {
+                map.remove(ValidationContext.SLOT_NAMES[i]);
+            }
+        }
+        return Collections.unmodifiableMap(map).entrySet();
+    }
+
+}
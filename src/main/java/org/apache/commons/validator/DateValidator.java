@@ -18,7 +18,6 @@ package org.apache.commons.validator;
 
 import java.text.DateFormat;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Locale;
 
 /**
@@ -75,16 +74,16 @@ public class DateValidator {
             return false;
         }
 
-        final SimpleDateFormat formatter = new SimpleDateFormat(datePattern);
-        formatter.setLenient(false);
+        final DateFormat formatter = FormatCache.getDateFormat(datePattern);
 
-        try {
-            formatter.parse(value);
-        } catch(final ParseException e) {
+        // a value which doesn't match the length of the pattern is invalid, so don't parse it
+        if (strict && (datePattern.length() != value.length())) {
             return false;
         }
 
-        if (strict && (datePattern.length() != value.length())) {
+        try {
+            formatter.parse(value);
+        } catch(final ParseException e) {
             return false;
         }
 
@@ -107,17 +106,8 @@ public class DateValidator {
             return false;
         }
 
-        DateFormat formatter = null;
-        if (locale != null) {
-            formatter = DateFormat.getDateInstance(DateFormat.SHORT, locale);
-        } else {
-            formatter =
-                    DateFormat.getDateInstance(
-                            DateFormat.SHORT,
-                            Locale.getDefault());
-        }
-
-        formatter.setLenient(false);
+        final DateFormat formatter =
+                FormatCache.getDateInstance(DateFormat.SHORT, locale != null ? locale : Locale.getDefault());
 
         try {
             formatter.parse(value);
@@ -22,13 +22,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.StringTokenizer;
 
-import org.apache.commons.beanutils.PropertyUtils;
 import org.apache.commons.collections.FastHashMap; // DEPRECATED
 import org.apache.commons.validator.util.ValidatorUtils;
 
@@ -730,6 +731,7 @@ public class Field implements Cloneable, Serializable {
      * Returns an indexed property from the object we're validating.
      *
      * @param bean The bean to extract the indexed values from.
+     * @return The indexed values, an empty array if the property is <code>null</code>.
      * @throws ValidatorException If there's an error looking up the property
      * or, the property found is not indexed.
      */
@@ -738,12 +740,15 @@ public class Field implements Cloneable, Serializable {
 
         try {
             indexProp =
-                PropertyUtils.getProperty(bean, this.getIndexedListProperty());
+                ValidatorUtils.getPropertyAccessor().getProperty(bean, this.getIndexedListProperty());
 
         } catch(IllegalAccessException|InvocationTargetException|NoSuchMethodException e) {
             throw new ValidatorException(e.getMessage());
         }
 
+        if (indexProp == null) {
+            return new Object[0];
+        }
         if (indexProp instanceof Collection) {
             return ((Collection<?>) indexProp).toArray();
 
@@ -755,48 +760,42 @@ public class Field implements Cloneable, Serializable {
         throw new ValidatorException(this.getKey() + " is not indexed");
 
     }
+
     /**
-     * Returns the size of an indexed property from the object we're validating.
+     * Returns the field for an element of the indexed property, with the
+     * key modified to represent the element.  Unlike {@link #clone()}, the
+     * args, vars and msgs are shared with this field.
      *
-     * @param bean The bean to extract the indexed values from.
-     * @throws ValidatorException If there's an error looking up the property
-     * or, the property found is not indexed.
+     * @param pos The index of the element.
+     * @return The field for the element.
      */
-    private int getIndexedPropertySize(final Object bean) throws ValidatorException {
-        Object indexProp = null;
-
+    Field getIndexedField(final int pos) {
+        Field field = null;
         try {
-            indexProp =
-                PropertyUtils.getProperty(bean, this.getIndexedListProperty());
-
-        } catch(IllegalAccessException|InvocationTargetException|NoSuchMethodException e) {
-            throw new ValidatorException(e.getMessage());
-        }
-
-        if (indexProp == null) {
-            return 0;
-        }
-        if (indexProp instanceof Collection) {
-            return ((Collection<?>)indexProp).size();
-        }
-        if (indexProp.getClass().isArray()) {
-            return ((Object[])indexProp).length;
+            field = (Field) super.clone();
+        } catch(final CloneNotSupportedException e) {
+            throw new RuntimeException(e.toString());
         }
-        throw new ValidatorException(this.getKey() + " is not indexed");
 
+        field.setKey(ValidatorUtils.replace(this.getKey(), TOKEN_INDEXED, "[" + pos + "]"));
+        return field;
     }
 
     /**
      * Executes the given ValidatorAction and all ValidatorActions that it
      * depends on.
+     * @param pending The actions waiting for their dependencies to run.
      * @return true if the validation succeeded.
+     * @throws ValidatorException If the action depends on itself.
      */
     private boolean validateForRule(
         final ValidatorAction va,
         final ValidatorResults results,
         final Map<String, ValidatorAction> actions,
         final Map<String, Object> params,
-        final int pos)
+        final Object indexedBean,
+        final Field indexedField,
+        final Set<String> pending)
         throws ValidatorException {
 
         final ValidatorResult result = results.getValidatorResult(this.getKey());
@@ -804,11 +803,16 @@ public class Field implements Cloneable, Serializable {
             return result.isValid(va.getName());
         }
 
-        if (!this.runDependentValidators(va, results, actions, params, pos)) {
+        if (!pending.add(va.getName())) {
+            throw new ValidatorException("ValidatorAction " + va.getName()
+                    + " depends on itself for field " + this.getProperty());
+        }
+        if (!this.runDependentValidators(va, results, actions, params, indexedBean, indexedField, pending)) {
             return false;
         }
+        pending.remove(va.getName());
 
-        return va.executeValidationMethod(this, params, results, pos);
+        return va.executeValidationMethod(this, params, results, indexedBean, indexedField);
     }
 
     /**
@@ -817,7 +821,9 @@ public class Field implements Cloneable, Serializable {
      * @param va Run dependent validators for this action.
      * @param results
      * @param actions
-     * @param pos
+     * @param indexedBean
+     * @param indexedField
+     * @param pending The actions waiting for their dependencies to run.
      * @return true if all of the dependent validations passed.
      * @throws ValidatorException If there's an error running a validator
      */
@@ -826,7 +832,9 @@ public class Field implements Cloneable, Serializable {
         final ValidatorResults results,
         final Map<String, ValidatorAction> actions,
         final Map<String, Object> params,
-        final int pos)
+        final Object indexedBean,
+        final Field indexedField,
+        final Set<String> pending)
         throws ValidatorException {
 
         final List<String> dependentValidators = va.getDependencyList();
@@ -841,7 +849,7 @@ public class Field implements Cloneable, Serializable {
                 this.handleMissingAction(depend);
             }
 
-            if (!this.validateForRule(action, results, actions, params, pos)) {
+            if (!this.validateForRule(action, results, actions, params, indexedBean, indexedField, pending)) {
                 return false;
             }
         }
@@ -870,12 +878,16 @@ public class Field implements Cloneable, Serializable {
         final ValidatorResults allResults = new ValidatorResults();
 
         final Object bean = params.get(Validator.BEAN_PARAM);
+        final Object[] indexedList =
+            this.isIndexed() ? this.getIndexedProperty(bean) : null;
         final int numberOfFieldsToValidate =
-            this.isIndexed() ? this.getIndexedPropertySize(bean) : 1;
+            indexedList != null ? indexedList.length : 1;
 
         for (int fieldNumber = 0; fieldNumber < numberOfFieldsToValidate; fieldNumber++) {
 
             final ValidatorResults results = new ValidatorResults();
+            final Object indexedBean = indexedList != null ? indexedList[fieldNumber] : null;
+            final Field indexedField = indexedList != null ? this.getIndexedField(fieldNumber) : null;
             synchronized(dependencyList) {
                 for (final String depend : this.dependencyList) {
 
@@ -885,7 +897,8 @@ public class Field implements Cloneable, Serializable {
                     }
 
                     final boolean good =
-                        validateForRule(action, results, actions, params, fieldNumber);
+                        validateForRule(action, results, actions, params, indexedBean, indexedField,
+                                new HashSet<String>());
 
                     if (!good) {
                         allResults.merge(results);
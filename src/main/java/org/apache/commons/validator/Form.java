@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.collections.FastHashMap;// DEPRECATED
 
@@ -264,6 +265,31 @@ public class Form implements Serializable {
      */
     ValidatorResults validate(final Map<String, Object> params, final Map<String, ValidatorAction> actions, final int page, final String fieldName)
         throws ValidatorException {
+        return validate(params, actions, page, fieldName, null);
+    }
+
+    /**
+     * Validate all Fields in this Form on the given page and below, or only
+     * the given field.  With an <code>Executor</code>, the fields whose
+     * actions are all thread safe are validated concurrently.
+     *
+     * @param params               A Map of parameter class names to parameter
+     *      values to pass into validation methods.
+     * @param actions              A Map of validator names to ValidatorAction
+     *      objects.
+     * @param page                 Fields on pages higher than this will not be
+     *      validated.
+     * @param fieldName            The key of the field to validate,
+     *      <code>null</code> to validate all the fields.
+     * @param executor             The executor to validate the thread safe
+     *      fields on, <code>null</code> to validate them in turn.
+     * @return                     A ValidatorResults object containing all
+     *      validation messages.
+     * @throws ValidatorException
+     * @since 1.8
+     */
+    ValidatorResults validate(final Map<String, Object> params, final Map<String, ValidatorAction> actions,
+        final int page, final String fieldName, final Executor executor) throws ValidatorException {
         final ValidatorResults results = new ValidatorResults();
         params.put(Validator.VALIDATOR_RESULTS_PARAM, results);
 
@@ -279,6 +305,14 @@ public class Form implements Serializable {
             if (field.getPage() <= page) {
                results.merge(field.validate(params, actions));
             }
+        } else if (executor != null) {
+            final Field[] fields = this.lFields.toArray(new Field[0]);
+            final boolean[] threadSafe = new boolean[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                threadSafe[i] = ParallelValidation.isThreadSafe(fields[i], actions);
+            }
+            ParallelValidation.validate(fields, threadSafe, params, page, results, executor,
+                (index, fieldParams) -> fields[index].validate(fieldParams, actions));
         } else {
             for (final Field field : this.lFields) {
 
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.text.DateFormat;
+import java.text.DecimalFormat;
+import java.text.Format;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A shared cache of the formats used by {@link GenericTypeValidator} and
+ * {@link DateValidator}.
+ * <p>
+ * Creating a <code>SimpleDateFormat</code> or <code>NumberFormat</code> looks up
+ * the locale data and compiles the pattern, which is much slower than cloning
+ * a format which has already been created. The formats aren't thread safe, so
+ * each call returns a clone of the cached format, set up in the same way as a
+ * newly created format (with the default time zone and, for two digit years,
+ * the default century).
+ * </p>
+ *
+ * @since 1.8
+ */
+final class FormatCache {
+
+    /** The maximum number of formats cached */
+    private static final int MAX_CACHED_FORMATS = 256;
+
+    /** The number of years before the current date which two digit years are parsed after */
+    private static final int DEFAULT_CENTURY_YEARS = 80;
+
+    private static final int DATE_PATTERN = 0;
+    private static final int DATE_STYLE = 1;
+    private static final int NUMBER = 2;
+    private static final int INTEGER = 3;
+
+    private static final ConcurrentMap<Key, Entry> FORMATS = new ConcurrentHashMap<>();
+
+    private FormatCache() {
+    }
+
+    /**
+     * Return a non-lenient <code>SimpleDateFormat</code> for a pattern
+     * and the default locale.
+     *
+     * @param pattern The pattern
+     * @return A new <code>SimpleDateFormat</code>
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    static DateFormat getDateFormat(final String pattern) {
+        return getDateFormat(new Key(DATE_PATTERN, pattern, Locale.getDefault(Locale.Category.FORMAT)));
+    }
+
+    /**
+     * Return a non-lenient <code>DateFormat</code> for a date style and locale.
+     *
+     * @param style The date style
+     * @param locale The locale
+     * @return A new <code>DateFormat</code>
+     */
+    static DateFormat getDateInstance(final int style, final Locale locale) {
+        return getDateFormat(new Key(DATE_STYLE, Integer.valueOf(style), locale));
+    }
+
+    /**
+     * Return a number format for a locale.
+     *
+     * @param locale The locale, system default if null
+     * @param integerOnly Whether the format only parses integers
+     * @return A new <code>NumberFormat</code>
+     */
+    static NumberFormat getNumberInstance(final Locale locale, final boolean integerOnly) {
+        final Locale numberLocale = locale != null ? locale : Locale.getDefault();
+        return (NumberFormat) getEntry(new Key(integerOnly ? INTEGER : NUMBER, null, numberLocale)).prototype.clone();
+    }
+
+    /**
+     * Check whether the number format for a locale parses a value with only
+     * ASCII digits and an optional leading <code>'-'</code> as a plain integer.
+     *
+     * @param locale The locale, system default if null
+     * @return <code>true</code> if the number format parses plain integers
+     */
+    static boolean isPlainNumberFormat(final Locale locale) {
+        return getEntry(new Key(NUMBER, null, locale != null ? locale : Locale.getDefault())).plainNumber;
+    }
+
+    /**
+     * Return a date format, set up with the current default time zone and century.
+     *
+     * @param key The key
+     * @return A new <code>DateFormat</code>
+     */
+    private static DateFormat getDateFormat(final Key key) {
+        final Entry entry = getEntry(key);
+        final DateFormat format = (DateFormat) entry.prototype.clone();
+        format.setTimeZone(TimeZone.getDefault());
+        if (entry.shortYear) {
+            // as the SimpleDateFormat constructor does
+            final Calendar calendar = format.getCalendar();
+            calendar.setTimeInMillis(System.currentTimeMillis());
+            calendar.add(Calendar.YEAR, -DEFAULT_CENTURY_YEARS);
+            ((SimpleDateFormat) format).set2DigitYearStart(calendar.getTime());
+        }
+        return format;
+    }
+
+    /**
+     * Return the cached entry for a key, creating it if needed.
+     *
+     * @param key The key
+     * @return The entry
+     */
+    private static Entry getEntry(final Key key) {
+        Entry entry = FORMATS.get(key);
+        if (entry == null) {
+            entry = new Entry(key);
+            if (FORMATS.size() < MAX_CACHED_FORMATS) {
+                FORMATS.putIfAbsent(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * A cached format.
+     */
+    private static final class Entry {
+
+        /** The format which is cloned */
+        private final Format prototype;
+
+        /** Whether a date format parses two digit years in the default century */
+        private final boolean shortYear;
+
+        /** Whether a number format parses plain integers */
+        private final boolean plainNumber;
+
+        Entry(final Key key) {
+            switch (key.type) {
+            case DATE_PATTERN:
+            case DATE_STYLE:
+                final DateFormat dateFormat = key.type == DATE_PATTERN ? new SimpleDateFormat((String) key.pattern)
+                        : DateFormat.getDateInstance(((Integer) key.pattern).intValue(), key.locale);
+                dateFormat.setLenient(false);
+                this.prototype = dateFormat;
+                this.shortYear = dateFormat instanceof SimpleDateFormat
+                        && hasShortYear(((SimpleDateFormat) dateFormat).toPattern());
+                this.plainNumber = false;
+                break;
+            default:
+                final NumberFormat numberFormat = NumberFormat.getNumberInstance(key.locale);
+                numberFormat.setParseIntegerOnly(key.type == INTEGER);
+                this.prototype = numberFormat;
+                this.shortYear = false;
+                this.plainNumber = isPlainNumberFormat(numberFormat);
+                break;
+            }
+        }
+
+        /**
+         * Check whether a date pattern has a year with one or two letters, which
+         * is parsed in the default century.
+         *
+         * @param pattern The date pattern
+         * @return <code>true</code> if the pattern has a two digit year
+         */
+        private static boolean hasShortYear(final String pattern) {
+            boolean quoted = false;
+            int count = 0;
+            for (int i = 0; i <= pattern.length(); i++) {
+                final char c = i < pattern.length() ? pattern.charAt(i) : 0;
+                if (!quoted && (c == 'y' || c == 'Y')) {
+                    count++;
+                    continue;
+                }
+                if (count > 0 && count <= 2) {
+                    return true;
+                }
+                count = 0;
+                if (c == '\'') {
+                    quoted = !quoted;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Check whether a number format parses plain integers.
+         *
+         * @param format The number format
+         * @return <code>true</code> if the format has no positive prefix or suffix,
+         * a <code>'-'</code> negative prefix and no multiplier
+         */
+        private static boolean isPlainNumberFormat(final NumberFormat format) {
+            if (!(format instanceof DecimalFormat)) {
+                return false;
+            }
+            final DecimalFormat decimalFormat = (DecimalFormat) format;
+            return decimalFormat.getPositivePrefix().isEmpty() && decimalFormat.getPositiveSuffix().isEmpty()
+                    && "-".equals(decimalFormat.getNegativePrefix()) && decimalFormat.getNegativeSuffix().isEmpty()
+                    && decimalFormat.getMultiplier() == 1 && !decimalFormat.isParseBigDecimal();
+        }
+    }
+
+    /**
+     * The key of a cached format.
+     */
+    private static final class Key {
+
+        private final int type;
+        private final Object pattern;
+        private final Locale locale;
+
+        Key(final int type, final Object pattern, final Locale locale) {
+            this.type = type;
+            this.pattern = pattern;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return type == other.type && Objects.equals(pattern, other.pattern) && locale.equals(other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return (type * 31 + Objects.hashCode(pattern)) * 31 + locale.hashCode(); // CHECKSTYLE IGNORE MagicNumber
+        }
+    }
+}
@@ -21,7 +21,6 @@ import java.text.DateFormat;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.text.ParsePosition;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
 
@@ -39,6 +38,12 @@ public class GenericTypeValidator implements Serializable {
 
     private static final Log LOG = LogFactory.getLog(GenericTypeValidator.class);
 
+    /** Returned by {@link #parsePlainInteger(String, Locale)} if the value isn't a plain integer */
+    private static final long NOT_PLAIN = Long.MIN_VALUE;
+
+    /** The maximum number of digits parsed as a plain integer, which can't overflow a long */
+    private static final int MAX_PLAIN_DIGITS = 18;
+
     /**
      * Checks if the value can safely be converted to a byte primitive.
      *
@@ -70,13 +75,12 @@ public class GenericTypeValidator implements Serializable {
         Byte result = null;
 
         if (value != null) {
-            NumberFormat formatter = null;
-            if (locale != null) {
-                formatter = NumberFormat.getNumberInstance(locale);
-            } else {
-                formatter = NumberFormat.getNumberInstance(Locale.getDefault());
+            final long digits = parsePlainInteger(value, locale);
+            if (digits != NOT_PLAIN) {
+                return digits >= Byte.MIN_VALUE && digits <= Byte.MAX_VALUE
+                        ? Byte.valueOf((byte) digits) : null;
             }
-            formatter.setParseIntegerOnly(true);
+            final NumberFormat formatter = FormatCache.getNumberInstance(locale, true);
             final ParsePosition pos = new ParsePosition(0);
             final Number num = formatter.parse(value, pos);
 
@@ -122,13 +126,12 @@ public class GenericTypeValidator implements Serializable {
         Short result = null;
 
         if (value != null) {
-            NumberFormat formatter = null;
-            if (locale != null) {
-                formatter = NumberFormat.getNumberInstance(locale);
-            } else {
-                formatter = NumberFormat.getNumberInstance(Locale.getDefault());
+            final long digits = parsePlainInteger(value, locale);
+            if (digits != NOT_PLAIN) {
+                return digits >= Short.MIN_VALUE && digits <= Short.MAX_VALUE
+                        ? Short.valueOf((short) digits) : null;
             }
-            formatter.setParseIntegerOnly(true);
+            final NumberFormat formatter = FormatCache.getNumberInstance(locale, true);
             final ParsePosition pos = new ParsePosition(0);
             final Number num = formatter.parse(value, pos);
 
@@ -174,13 +177,12 @@ public class GenericTypeValidator implements Serializable {
         Integer result = null;
 
         if (value != null) {
-            NumberFormat formatter = null;
-            if (locale != null) {
-                formatter = NumberFormat.getNumberInstance(locale);
-            } else {
-                formatter = NumberFormat.getNumberInstance(Locale.getDefault());
+            final long digits = parsePlainInteger(value, locale);
+            if (digits != NOT_PLAIN) {
+                return digits >= Integer.MIN_VALUE && digits <= Integer.MAX_VALUE
+                        ? Integer.valueOf((int) digits) : null;
             }
-            formatter.setParseIntegerOnly(true);
+            final NumberFormat formatter = FormatCache.getNumberInstance(locale, true);
             final ParsePosition pos = new ParsePosition(0);
             final Number num = formatter.parse(value, pos);
 
@@ -226,13 +228,11 @@ public class GenericTypeValidator implements Serializable {
         Long result = null;
 
         if (value != null) {
-            NumberFormat formatter = null;
-            if (locale != null) {
-                formatter = NumberFormat.getNumberInstance(locale);
-            } else {
-                formatter = NumberFormat.getNumberInstance(Locale.getDefault());
+            final long digits = parsePlainInteger(value, locale);
+            if (digits != NOT_PLAIN) {
+                return Long.valueOf(digits);
             }
-            formatter.setParseIntegerOnly(true);
+            final NumberFormat formatter = FormatCache.getNumberInstance(locale, true);
             final ParsePosition pos = new ParsePosition(0);
             final Number num = formatter.parse(value, pos);
 
@@ -278,12 +278,11 @@ public class GenericTypeValidator implements Serializable {
         Float result = null;
 
         if (value != null) {
-            NumberFormat formatter = null;
-            if (locale != null) {
-                formatter = NumberFormat.getInstance(locale);
-            } else {
-                formatter = NumberFormat.getInstance(Locale.getDefault());
+            final long digits = parsePlainInteger(value, locale);
+            if (digits != NOT_PLAIN) {
+                return Float.valueOf(digits);
             }
+            final NumberFormat formatter = FormatCache.getNumberInstance(locale, false);
             final ParsePosition pos = new ParsePosition(0);
             final Number num = formatter.parse(value, pos);
 
@@ -329,12 +328,11 @@ public class GenericTypeValidator implements Serializable {
         Double result = null;
 
         if (value != null) {
-            NumberFormat formatter = null;
-            if (locale != null) {
-                formatter = NumberFormat.getInstance(locale);
-            } else {
-                formatter = NumberFormat.getInstance(Locale.getDefault());
+            final long digits = parsePlainInteger(value, locale);
+            if (digits != NOT_PLAIN) {
+                return Double.valueOf(digits);
             }
+            final NumberFormat formatter = FormatCache.getNumberInstance(locale, false);
             final ParsePosition pos = new ParsePosition(0);
             final Number num = formatter.parse(value, pos);
 
@@ -368,35 +366,15 @@ public class GenericTypeValidator implements Serializable {
         }
 
         try {
-            // Get the formatters to check against
-            DateFormat formatterShort = null;
-            DateFormat formatterDefault = null;
-            if (locale != null) {
-                formatterShort =
-                        DateFormat.getDateInstance(DateFormat.SHORT, locale);
-                formatterDefault =
-                        DateFormat.getDateInstance(DateFormat.DEFAULT, locale);
-            } else {
-                formatterShort =
-                        DateFormat.getDateInstance(
-                                DateFormat.SHORT,
-                                Locale.getDefault());
-                formatterDefault =
-                        DateFormat.getDateInstance(
-                                DateFormat.DEFAULT,
-                                Locale.getDefault());
-            }
-
-            // Turn off lenient parsing
-            formatterShort.setLenient(false);
-            formatterDefault.setLenient(false);
+            // Get the formatters to check against (which aren't lenient)
+            final Locale dateLocale = locale != null ? locale : Locale.getDefault();
 
             // Firstly, try with the short form
             try {
-                date = formatterShort.parse(value);
+                date = FormatCache.getDateInstance(DateFormat.SHORT, dateLocale).parse(value);
             } catch (final ParseException e) {
                 // Fall back on the default one
-                date = formatterDefault.parse(value);
+                date = FormatCache.getDateInstance(DateFormat.DEFAULT, dateLocale).parse(value);
             }
         } catch (final ParseException e) {
             // Bad date, so LOG and return null
@@ -435,14 +413,14 @@ public class GenericTypeValidator implements Serializable {
         }
 
         try {
-            final SimpleDateFormat formatter = new SimpleDateFormat(datePattern);
-            formatter.setLenient(false);
-
-            date = formatter.parse(value);
+            final DateFormat formatter = FormatCache.getDateFormat(datePattern);
 
+            // a value which doesn't match the length of the pattern is invalid, so don't parse it
             if (strict && datePattern.length() != value.length()) {
-                date = null;
+                return null;
             }
+
+            date = formatter.parse(value);
         } catch (final ParseException e) {
             // Bad date so return null
             if (LOG.isDebugEnabled()) {
@@ -455,6 +433,36 @@ public class GenericTypeValidator implements Serializable {
         return date;
     }
 
+    /**
+     * Parse a value which only has ASCII digits (and an optional leading
+     * <code>'-'</code>) without the number format, if the number format for the
+     * locale would parse it as the same plain integer.
+     *
+     * @param value The value validation is being performed on.
+     * @param locale The locale of the number format (system default if null)
+     * @return The parsed value or {@link #NOT_PLAIN} if the value needs to be
+     * parsed by the number format.
+     */
+    private static long parsePlainInteger(final String value, final Locale locale) {
+        final int start = !value.isEmpty() && value.charAt(0) == '-' ? 1 : 0;
+        if (value.length() == start || value.length() - start > MAX_PLAIN_DIGITS) {
+            return NOT_PLAIN;
+        }
+        long result = 0;
+        for (int i = start; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_PLAIN;
+            }
+            result = result * 10 + (c - '0'); // CHECKSTYLE IGNORE MagicNumber
+        }
+        // the number format parses "-0" as a negative zero double
+        if ((start == 1 && result == 0) || !FormatCache.isPlainNumberFormat(locale)) {
+            return NOT_PLAIN;
+        }
+        return start == 1 ? -result : result;
+    }
+
     /**
      * Checks if the field is a valid credit card number.
      *
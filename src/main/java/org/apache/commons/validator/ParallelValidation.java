@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Validates the fields of a form, running the fields whose
+ * <code>ValidatorAction</code>s are all thread safe on an
+ * <code>Executor</code>.
+ * <p>
+ * Each concurrent field gets its own copy of the parameters.  The other
+ * fields are validated in turn on the calling thread, after the results of
+ * all the fields before them have been merged, and the results are always
+ * merged in the order of the fields, so they are the same as when the form
+ * is validated sequentially.
+ *
+ * @since 1.8
+ */
+final class ParallelValidation {
+
+    /**
+     * Validates a single field of a form.
+     */
+    interface FieldValidation {
+
+        /**
+         * Validate a field.
+         *
+         * @param index The index of the field.
+         * @param params The parameters, with the field set.
+         * @return The results of the field.
+         * @throws ValidatorException If an error occurs during validation.
+         */
+        ValidatorResults validate(int index, Map<String, Object> params) throws ValidatorException;
+    }
+
+    private ParallelValidation() {
+    }
+
+    /**
+     * Whether all the actions a field depends on, and all the actions they
+     * depend on, are thread safe.  Subclasses of <code>Field</code> are
+     * always validated on the calling thread.
+     *
+     * @param field The field.
+     * @param actions A Map of validator names to ValidatorAction objects.
+     * @return <code>false</code> if any action isn't thread safe or can't be
+     * found, or the actions depend on each other.
+     */
+    static boolean isThreadSafe(final Field field, final Map<String, ValidatorAction> actions) {
+        if (field.getClass() != Field.class) {
+            return false;
+        }
+        if (field.getDepends() == null) {
+            return true;
+        }
+        final Set<String> done = new HashSet<>();
+        for (final String depend : field.getDependencyList()) {
+            if (!isThreadSafe(depend, actions, done, new HashSet<String>())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isThreadSafe(final String name, final Map<String, ValidatorAction> actions,
+            final Set<String> done, final Set<String> pending) {
+        if (done.contains(name)) {
+            return true;
+        }
+        final ValidatorAction action = actions.get(name);
+        if (action == null || !action.isThreadSafe() || !pending.add(name)) {
+            return false;
+        }
+        for (final String depend : action.getDependencyList()) {
+            if (!isThreadSafe(depend, actions, done, pending)) {
+                return false;
+            }
+        }
+        pending.remove(name);
+        done.add(name);
+        return true;
+    }
+
+    /**
+     * Validate the fields on the given page and below.
+     *
+     * @param fields The fields, in the order they are validated.
+     * @param threadSafe Whether each field can be validated concurrently.
+     * @param params A Map of parameter class names to parameter values to pass
+     * into validation methods.
+     * @param page Fields on pages higher than this will not be validated.
+     * @param results The results to merge the results of the fields into.
+     * @param executor The executor to validate the thread safe fields on.
+     * @param validation Validates a single field.
+     * @throws ValidatorException If an error occurs during validation.
+     */
+    static void validate(final Field[] fields, final boolean[] threadSafe, final Map<String, Object> params,
+            final int page, final ValidatorResults results, final Executor executor,
+            final FieldValidation validation) throws ValidatorException {
+        final List<FutureTask<ValidatorResults>> tasks =
+            new ArrayList<>(Collections.nCopies(fields.length, (FutureTask<ValidatorResults>) null));
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                if (threadSafe[i] && fields[i].getPage() <= page) {
+                    final int index = i;
+                    final Map<String, Object> fieldParams = params instanceof ContextParameters
+                        ? ((ContextParameters) params).copy() : new HashMap<>(params);
+                    fieldParams.put(Validator.FIELD_PARAM, fields[i]);
+                    final FutureTask<ValidatorResults> task =
+                        new FutureTask<>(() -> validation.validate(index, fieldParams));
+                    try {
+                        executor.execute(task);
+                        tasks.set(i, task);
+                    } catch (final RejectedExecutionException e) {
+                        // validate the field on the calling thread instead
+                    }
+                }
+            }
+
+            for (int i = 0; i < fields.length; i++) {
+                params.put(Validator.FIELD_PARAM, fields[i]);
+                final FutureTask<ValidatorResults> task = tasks.set(i, null);
+                if (task != null) {
+                    results.merge(getResults(task));
+                } else if (fields[i].getPage() <= page) {
+                    results.merge(validation.validate(i, params));
+                }
+            }
+        } finally {
+            for (final FutureTask<ValidatorResults> task : tasks) {
+                if (task != null) {
+                    task.cancel(false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Wait for a field to be validated.
+     */
+    private static ValidatorResults getResults(final FutureTask<ValidatorResults> task)
+            throws ValidatorException {
+        try {
+            return task.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValidatorException("Interrupted while validating fields");
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof ValidatorException) {
+                throw (ValidatorException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ValidatorException(String.valueOf(cause));
+        }
+    }
+
+}
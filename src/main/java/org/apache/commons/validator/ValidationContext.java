@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * <p>
+ * The parameters of a single call to {@link Validator#validate(ValidationContext)},
+ * such as the JavaBean to validate and the <code>Locale</code>. </p> <p>
+ *
+ * A context is immutable: the <code>with</code> methods return a new
+ * context, leaving the original unchanged, so a context can be shared
+ * between threads and reused. </p> <p>
+ *
+ * The parameters the <code>Validator</code> passes to the validation
+ * methods, the bean, the <code>Locale</code>, the <code>Validator</code>,
+ * the <code>Form</code>, the <code>Field</code>, the
+ * <code>ValidatorAction</code> and the <code>ValidatorResults</code>, are
+ * kept in fixed slots rather than a <code>Map</code>, and the validation
+ * methods read them from their slots. </p>
+ *
+ * <pre>
+ * ValidatorResults results = validator.validate(ValidationContext.of(bean, locale));
+ * </pre>
+ *
+ * @since 1.8
+ */
+public final class ValidationContext {
+
+    /** Slot of {@link Validator#BEAN_PARAM}. */
+    static final int BEAN = 0;
+
+    /** Slot of {@link Validator#LOCALE_PARAM}. */
+    static final int LOCALE = 1;
+
+    /** Slot of {@link Validator#VALIDATOR_PARAM}. */
+    static final int VALIDATOR = 2;
+
+    /** Slot of {@link Validator#FORM_PARAM}. */
+    static final int FORM = 3;
+
+    /** Slot of {@link Validator#FIELD_PARAM}. */
+    static final int FIELD = 4;
+
+    /** Slot of {@link Validator#VALIDATOR_ACTION_PARAM}. */
+    static final int VALIDATOR_ACTION = 5;
+
+    /** Slot of {@link Validator#VALIDATOR_RESULTS_PARAM}. */
+    static final int VALIDATOR_RESULTS = 6;
+
+    /** The parameter class names of the slots. */
+    static final String[] SLOT_NAMES = {
+        Validator.BEAN_PARAM,
+        Validator.LOCALE_PARAM,
+        Validator.VALIDATOR_PARAM,
+        Validator.FORM_PARAM,
+        Validator.FIELD_PARAM,
+        Validator.VALIDATOR_ACTION_PARAM,
+        Validator.VALIDATOR_RESULTS_PARAM
+    };
+
+    /** The context without any parameters. */
+    private static final ValidationContext EMPTY =
+        new ValidationContext(new Object[SLOT_NAMES.length], new String[0], new Object[0]);
+
+    /**
+     * Gets the slot of a parameter.
+     *
+     * @param parameterClassName The parameter class name.
+     * @return The slot, or <code>-1</code> if the parameter doesn't have one.
+     */
+    static int slotOf(final String parameterClassName) {
+        switch (parameterClassName) {
+        case Validator.BEAN_PARAM:
+            return BEAN;
+        case Validator.LOCALE_PARAM:
+            return LOCALE;
+        case Validator.VALIDATOR_PARAM:
+            return VALIDATOR;
+        case Validator.FORM_PARAM:
+            return FORM;
+        case Validator.FIELD_PARAM:
+            return FIELD;
+        case Validator.VALIDATOR_ACTION_PARAM:
+            return VALIDATOR_ACTION;
+        case Validator.VALIDATOR_RESULTS_PARAM:
+            return VALIDATOR_RESULTS;
+        default:
+            return -1;
+        }
+    }
+
+    /**
+     * Create a context for validating a JavaBean.
+     *
+     * @param bean The JavaBean to validate.
+     * @return The context.
+     */
+    public static ValidationContext of(final Object bean) {
+        return EMPTY.withParameter(Validator.BEAN_PARAM, bean);
+    }
+
+    /**
+     * Create a context for validating a JavaBean in a <code>Locale</code>.
+     *
+     * @param bean The JavaBean to validate.
+     * @param locale The locale, <code>null</code> for the default locale.
+     * @return The context.
+     */
+    public static ValidationContext of(final Object bean, final Locale locale) {
+        return of(bean).withLocale(locale);
+    }
+
+    /** The values of the slots. */
+    private final Object[] slots;
+
+    /** The class names of the other parameters. */
+    private final String[] names;
+
+    /** The values of the other parameters. */
+    private final Object[] values;
+
+    private ValidationContext(final Object[] slots, final String[] names, final Object[] values) {
+        this.slots = slots;
+        this.names = names;
+        this.values = values;
+    }
+
+    /**
+     * Gets the JavaBean to validate.
+     *
+     * @return The bean, or <code>null</code> if there isn't one.
+     */
+    public Object getBean() {
+        return slots[BEAN];
+    }
+
+    /**
+     * Gets the <code>Locale</code> of the validation.
+     *
+     * @return The locale, or <code>null</code> for the default locale.
+     */
+    public Locale getLocale() {
+        return (Locale) slots[LOCALE];
+    }
+
+    /**
+     * Returns a context with a different <code>Locale</code>.
+     *
+     * @param locale The locale, <code>null</code> for the default locale.
+     * @return The context.
+     */
+    public ValidationContext withLocale(final Locale locale) {
+        return withParameter(Validator.LOCALE_PARAM, locale);
+    }
+
+    /**
+     * Gets the value of a parameter.
+     *
+     * @param parameterClassName The full class name of the parameter.
+     * @return The value, or <code>null</code> if the context doesn't
+     * have the parameter.
+     */
+    public Object getParameterValue(final String parameterClassName) {
+        final int slot = slotOf(parameterClassName);
+        return slot >= 0 ? slots[slot] : getOtherValue(parameterClassName);
+    }
+
+    /**
+     * Returns a context with a parameter to pass to the validation methods.
+     * The parameters are keyed on the full class name the validation methods
+     * declare in the <code>methodParams</code> of the
+     * <code>ValidatorAction</code>.
+     *
+     * @param parameterClassName The full class name of the parameter.
+     * @param parameterValue The value of the parameter.
+     * @return The context.
+     */
+    public ValidationContext withParameter(final String parameterClassName, final Object parameterValue) {
+        final int slot = slotOf(parameterClassName);
+        if (slot >= 0) {
+            final Object[] newSlots = slots.clone();
+            newSlots[slot] = parameterValue;
+            return new ValidationContext(newSlots, names, values);
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(parameterClassName)) {
+                final Object[] newValues = values.clone();
+                newValues[i] = parameterValue;
+                return new ValidationContext(slots, names, newValues);
+            }
+        }
+        final String[] newNames = Arrays.copyOf(names, names.length + 1);
+        final Object[] newValues = Arrays.copyOf(values, values.length + 1);
+        newNames[names.length] = parameterClassName;
+        newValues[values.length] = parameterValue;
+        return new ValidationContext(slots, newNames, newValues);
+    }
+
+    /**
+     * Gets a copy of the slots.
+     */
+    Object[] copySlots() {
+        return slots.clone();
+    }
+
+    /**
+     * Gets the class names of the parameters without a slot.
+     */
+    String[] getOtherNames() {
+        return names;
+    }
+
+    /**
+     * Gets the value of a parameter without a slot.
+     */
+    Object getOtherValue(final String parameterClassName) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(parameterClassName)) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+}
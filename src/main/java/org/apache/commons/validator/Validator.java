@@ -20,6 +20,7 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Validations are processed by the validate method. An instance of
@@ -134,6 +135,12 @@ public class Validator implements Serializable {
      */
     protected boolean onlyReturnErrors = false;
 
+    /**
+     * The executor to validate the thread safe fields on, <code>null</code>
+     * to validate all the fields in turn.
+     */
+    private transient Executor executor = null;
+
     /**
      * Construct a <code>Validator</code> that will
      * use the <code>ValidatorResources</code>
@@ -185,6 +192,27 @@ public class Validator implements Serializable {
         this.fieldName = fieldName;
     }
 
+    /**
+     * Create the <code>Validator</code> passed to the validation methods by
+     * {@link #validate(ValidationContext)}: a copy of the configuration of a
+     * shared <code>Validator</code>, whose parameters are those of a single
+     * validation.
+     *
+     * @param validator The shared <code>Validator</code>.
+     * @param parameters The parameters of the validation.
+     */
+    private Validator(final Validator validator, final Map<String, Object> parameters) {
+        this.resources = validator.resources;
+        this.formName = validator.formName;
+        this.fieldName = validator.fieldName;
+        this.parameters = parameters;
+        this.page = validator.page;
+        this.classLoader = validator.classLoader;
+        this.useContextClassLoader = validator.useContextClassLoader;
+        this.onlyReturnErrors = validator.onlyReturnErrors;
+        this.executor = validator.executor;
+    }
+
     /**
      * Set a parameter of a pluggable validation method.
      *
@@ -341,6 +369,8 @@ public class Validator implements Serializable {
 
     /**
      * Performs validations based on the configured resources.
+     * If the resources are compiled, the validations of the
+     * {@link CompiledForm} are performed.
      *
      * @return The <code>Map</code> returned uses the property of the
      * <code>Field</code> for the key and the value is the number of error the
@@ -354,16 +384,67 @@ public class Validator implements Serializable {
             locale = Locale.getDefault();
         }
 
-        this.setParameter(VALIDATOR_PARAM, this);
+        return this.validate(this.parameters, locale);
+    }
+
+    /**
+     * Performs validations based on the configured resources, with the
+     * bean, <code>Locale</code> and other parameters of a
+     * <code>ValidationContext</code>.
+     * <p>
+     * Unlike {@link #validate()}, this method doesn't change the
+     * <code>Validator</code>: the parameters set while validating are only
+     * kept for the call.  The validation methods are passed a copy of the
+     * <code>Validator</code> whose {@link #getParameterValue(String)}
+     * returns the parameters of the call.  Once configured, one <code>Validator</code> can
+     * validate any number of beans at the same time, on any number of
+     * threads, as long as it isn't changed, and {@link #validate()} isn't
+     * called on it, while it is shared.  Parameters set on the
+     * <code>Validator</code> are used for those the context doesn't have.
+     * </p>
+     * <p>
+     * Forms which have been compiled, see {@link ValidatorResources#compile()},
+     * are validated without any locking.
+     * </p>
+     *
+     * @param context The parameters of the validation.
+     * @return The results of the validation.
+     * @throws ValidatorException If an error occurs during validation
+     * @since 1.8
+     */
+    public ValidatorResults validate(final ValidationContext context) throws ValidatorException {
+        final Map<String, Object> params = new ContextParameters(context, this.parameters);
+        Locale locale = (Locale) params.get(LOCALE_PARAM);
+
+        if (locale == null) {
+            locale = Locale.getDefault();
+        }
+
+        return new Validator(this, params).validate(params, locale);
+    }
+
+    /**
+     * Performs validations with the given parameters.
+     */
+    private ValidatorResults validate(final Map<String, Object> params, final Locale locale)
+            throws ValidatorException {
+        params.put(VALIDATOR_PARAM, this);
+
+        final CompiledForm compiledForm = this.resources.getCompiledForm(locale, this.formName);
+        if (compiledForm != null) {
+            params.put(FORM_PARAM, compiledForm.getForm());
+            return compiledForm.validate(params, this.page, this.fieldName, this.executor);
+        }
 
         final Form form = this.resources.getForm(locale, this.formName);
         if (form != null) {
-            this.setParameter(FORM_PARAM, form);
+            params.put(FORM_PARAM, form);
             return form.validate(
-                this.parameters,
+                params,
                 this.resources.getValidatorActions(),
                 this.page,
-                this.fieldName);
+                this.fieldName,
+                this.executor);
         }
 
         return new ValidatorResults();
@@ -387,4 +468,37 @@ public class Validator implements Serializable {
         this.onlyReturnErrors = onlyReturnErrors;
     }
 
+    /**
+     * Returns the executor the thread safe fields are validated on.
+     * @return the executor, or <code>null</code> if the fields are
+     * validated in turn.
+     * @since 1.8
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor to validate the fields of large forms concurrently.
+     * <p>
+     * The fields whose <code>ValidatorAction</code>s are all thread safe,
+     * see {@link ValidatorAction#isThreadSafe()}, are validated on the
+     * executor, each with its own copy of the parameters.  The other fields
+     * are validated in turn on the calling thread, and the results are merged
+     * in the order of the fields, so they are the same as when the fields are
+     * validated in turn.  Any executor can be used, for example a fixed
+     * thread pool, or the virtual thread per task executor of Java 21.
+     * </p>
+     * <p>
+     * The parameters of the <code>Validator</code> must not be changed while
+     * it is validating.  By default, the fields are validated in turn.
+     * </p>
+     * @param executor the executor, or <code>null</code> to validate the
+     * fields in turn.
+     * @since 1.8
+     */
+    public void setExecutor(final Executor executor) {
+        this.executor = executor;
+    }
+
 }
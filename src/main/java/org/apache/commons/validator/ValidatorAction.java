@@ -21,7 +21,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -32,7 +34,6 @@ import java.util.StringTokenizer;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.commons.validator.util.ValidatorUtils;
 
 /**
  * Contains the information to dynamically create and run a validation
@@ -62,22 +63,12 @@ public class ValidatorAction implements Serializable {
      */
     private String classname = null;
 
-    /**
-     * The Class object loaded from the classname.
-     */
-    private Class<?> validationClass = null;
-
     /**
      * The full method name of the validation to be performed.  The method
      * must be thread safe.
      */
     private String method = null;
 
-    /**
-     * The Method object loaded from the method name.
-     */
-    private Method validationMethod = null;
-
     /**
      * <p>
      * The method signature of the validation method.  This should be a comma
@@ -99,11 +90,6 @@ public class ValidatorAction implements Serializable {
             + ","
             + Validator.FIELD_PARAM;
 
-    /**
-     * The Class objects for each entry in methodParameterList.
-     */
-    private Class<?>[] parameterClasses = null;
-
     /**
      * The other <code>ValidatorAction</code>s that this one depends on.  If
      * any errors occur in an action that this one depends on, this action will
@@ -135,11 +121,17 @@ public class ValidatorAction implements Serializable {
     private String javascript = null;
 
     /**
-     * If the java method matching the correct signature isn't static, the
-     * instance is stored in the action.  This assumes the method is thread
-     * safe.
+     * Whether the java method can run concurrently for different fields.
+     */
+    private boolean threadSafe = false;
+
+    /**
+     * The validation method bound to its parameters, <code>null</code> until
+     * the action is first run.  If the java method matching the correct
+     * signature isn't static, the instance is bound to the method.  This
+     * assumes the method is thread safe.
      */
-    private Object instance = null;
+    private transient volatile MethodBinding binding = null;
 
     /**
      * An internal List representation of the other <code>ValidatorAction</code>s
@@ -156,6 +148,99 @@ public class ValidatorAction implements Serializable {
      */
     private final List<String> methodParameterList = new ArrayList<>();
 
+    /**
+     * A validation method bound to the positions of its parameters, and to the
+     * instance of the validation class if the method isn't static.
+     */
+    private static final class MethodBinding {
+
+        /** The type of {@link #handle}. */
+        private static final MethodType TYPE = MethodType.methodType(Object.class, Object[].class);
+
+        /**
+         * The validation method, taking an array of its parameter values and
+         * returning its result as an <code>Object</code>.
+         */
+        private final MethodHandle handle;
+
+        /** The names of the parameters, the keys of their values in the parameter Map. */
+        private final String[] parameterNames;
+
+        /** The slots of the parameters in a {@link ValidationContext}, <code>-1</code> for those without one. */
+        private final int[] parameterSlots;
+
+        /** The Class objects for each of the parameters. */
+        private final Class<?>[] parameterClasses;
+
+        /** The position of the JavaBean being validated, <code>-1</code> if it isn't a parameter. */
+        private final int beanIndex;
+
+        /** The position of the <code>Field</code>, <code>-1</code> if it isn't a parameter. */
+        private final int fieldIndex;
+
+        MethodBinding(final MethodHandle handle, final List<String> parameterNames,
+                final Class<?>[] parameterClasses) {
+            this.handle = handle.asFixedArity()
+                .asSpreader(Object[].class, parameterClasses.length)
+                .asType(TYPE);
+            this.parameterNames = parameterNames.toArray(new String[0]);
+            this.parameterSlots = new int[this.parameterNames.length];
+            for (int i = 0; i < parameterSlots.length; i++) {
+                parameterSlots[i] = ValidationContext.slotOf(this.parameterNames[i]);
+            }
+            this.parameterClasses = parameterClasses;
+            this.beanIndex = parameterNames.indexOf(Validator.BEAN_PARAM);
+            this.fieldIndex = parameterNames.indexOf(Validator.FIELD_PARAM);
+        }
+
+        /**
+         * Converts the parameter names into their values contained in the
+         * parameters Map.
+         * @param params A Map of class names to parameter values.
+         * @return An array containing the value object for each parameter.
+         */
+        Object[] getParameterValues(final Map<String, ? super Object> params) {
+            final Object[] paramValues = new Object[parameterNames.length];
+            if (params instanceof ContextParameters) {
+                final ContextParameters parameters = (ContextParameters) params;
+                for (int i = 0; i < paramValues.length; i++) {
+                    paramValues[i] = parameters.get(parameterSlots[i], parameterNames[i]);
+                }
+                return paramValues;
+            }
+            for (int i = 0; i < paramValues.length; i++) {
+                paramValues[i] = params.get(parameterNames[i]);
+            }
+            return paramValues;
+        }
+
+        /**
+         * Invokes the validation method.
+         * @param paramValues The parameter values.
+         * @return The result of the validation method.
+         * @throws ValidatorException if a parameter value has the wrong type.
+         * @throws Exception if the validation method throws one.
+         */
+        Object invoke(final Object[] paramValues) throws Exception {
+            for (int i = 0; i < paramValues.length; i++) {
+                if (paramValues[i] != null && !parameterClasses[i].isInstance(paramValues[i])) {
+                    throw new ValidatorException("argument type mismatch");
+                }
+            }
+            try {
+                return (Object) handle.invokeExact(paramValues);
+            } catch (final Throwable t) {
+                if (t instanceof Exception) {
+                    throw (Exception) t;
+                }
+                if (t instanceof Error) {
+                    throw (Error) t;
+                }
+                return null;
+            }
+        }
+    }
+
     /**
      * Gets the name of the validator action.
      * @return Validator Action name.
@@ -295,6 +380,29 @@ public class ValidatorAction implements Serializable {
         this.jsFunctionName = jsFunctionName;
     }
 
+    /**
+     * Whether the java method is thread safe, and doesn't depend on state
+     * shared with the validation of other fields, such as the
+     * <code>ValidatorResults</code>.  A <code>Validator</code> with an
+     * <code>Executor</code> validates the fields whose actions are all
+     * thread safe concurrently.
+     * @return <code>true</code> if the action is thread safe.
+     * @since 1.8
+     */
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
+
+    /**
+     * Sets whether the java method is thread safe, and doesn't depend on
+     * state shared with the validation of other fields.
+     * @param threadSafe <code>true</code> if the action is thread safe.
+     * @since 1.8
+     */
+    public void setThreadSafe(final boolean threadSafe) {
+        this.threadSafe = threadSafe;
+    }
+
     /**
      * Sets the fully qualified class path of the Javascript function.
      * <p>
@@ -513,7 +621,9 @@ public class ValidatorAction implements Serializable {
      * @param field
      * @param params A Map of class names to parameter values.
      * @param results
-     * @param pos The index of the list property to validate if it's indexed.
+     * @param indexedBean The element of the list property to validate if it's indexed.
+     * @param indexedField The field for the element, <code>null</code> if the
+     * field isn't indexed.
      * @throws ValidatorException
      */
     boolean executeValidationMethod(
@@ -522,46 +632,25 @@ public class ValidatorAction implements Serializable {
         // both ValidatorAction and Validator are added as parameters
         final Map<String, Object> params,
         final ValidatorResults results,
-        final int pos)
+        final Object indexedBean,
+        final Field indexedField)
         throws ValidatorException {
 
         params.put(Validator.VALIDATOR_ACTION_PARAM, this);
 
         try {
-            if (this.validationMethod == null) {
-                synchronized(this) {
-                    final ClassLoader loader = this.getClassLoader(params);
-                    this.loadValidationClass(loader);
-                    this.loadParameterClasses(loader);
-                    this.loadValidationMethod();
-                }
+            MethodBinding binding = this.binding;
+            if (binding == null) {
+                binding = this.loadBinding(params);
             }
 
-            final Object[] paramValues = this.getParameterValues(params);
+            final Object[] paramValues = binding.getParameterValues(params);
 
-            if (field.isIndexed()) {
-                this.handleIndexedField(field, pos, paramValues);
+            if (indexedField != null) {
+                this.handleIndexedField(indexedBean, indexedField, paramValues, binding);
             }
 
-            Object result = null;
-            try {
-                result =
-                    validationMethod.invoke(
-                        getValidationClassInstance(),
-                        paramValues);
-
-            } catch (IllegalArgumentException | IllegalAccessException e) {
-                throw new ValidatorException(e.getMessage());
-            } catch (final InvocationTargetException e) {
-
-                if (e.getTargetException() instanceof Exception) {
-                    throw (Exception) e.getTargetException();
-
-                }
-                if (e.getTargetException() instanceof Error) {
-                    throw (Error) e.getTargetException();
-                }
-            }
+            final Object result = binding.invoke(paramValues);
 
             final boolean valid = this.isValid(result);
             if (!valid || (valid && !onlyReturnErrors(params))) {
@@ -590,18 +679,48 @@ public class ValidatorAction implements Serializable {
         return true;
     }
 
+    /**
+     * Load the validation class and method, and bind the method to its
+     * parameters and the instance of the validation class.
+     * @param params A Map of class names to parameter values.
+     * @return The bound validation method.
+     * @throws ValidatorException if the method cannot be loaded or bound.
+     */
+    private synchronized MethodBinding loadBinding(final Map<String, Object> params)
+        throws ValidatorException {
+
+        if (this.binding != null) {
+            return this.binding;
+        }
+
+        final ClassLoader loader = this.getClassLoader(params);
+        final Class<?> validationClass = this.loadValidationClass(loader);
+        final Class<?>[] parameterClasses = this.loadParameterClasses(loader);
+        final Method validationMethod = this.loadValidationMethod(validationClass, parameterClasses);
+
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(validationMethod);
+        } catch (final IllegalAccessException e) {
+            throw new ValidatorException(e.getMessage());
+        }
+        if (!Modifier.isStatic(validationMethod.getModifiers())) {
+            handle = handle.bindTo(this.getValidationClassInstance(validationClass));
+        }
+
+        this.binding = new MethodBinding(handle, this.methodParameterList, parameterClasses);
+        return this.binding;
+    }
+
     /**
      * Load the Method object for the configured validation method name.
      * @throws ValidatorException
      */
-    private void loadValidationMethod() throws ValidatorException {
-        if (this.validationMethod != null) {
-            return;
-        }
+    private Method loadValidationMethod(final Class<?> validationClass, final Class<?>[] parameterClasses)
+        throws ValidatorException {
 
         try {
-            this.validationMethod =
-                this.validationClass.getMethod(this.method, this.parameterClasses);
+            return validationClass.getMethod(this.method, parameterClasses);
 
         } catch (final NoSuchMethodException e) {
             throw new ValidatorException("No such validation method: " +
@@ -614,15 +733,11 @@ public class ValidatorAction implements Serializable {
      * @param loader The ClassLoader used to load the Class object.
      * @throws ValidatorException
      */
-    private void loadValidationClass(final ClassLoader loader)
+    private Class<?> loadValidationClass(final ClassLoader loader)
         throws ValidatorException {
 
-        if (this.validationClass != null) {
-            return;
-        }
-
         try {
-            this.validationClass = loader.loadClass(this.classname);
+            return loader.loadClass(this.classname);
         } catch (final ClassNotFoundException e) {
             throw new ValidatorException(e.toString());
         }
@@ -630,18 +745,13 @@ public class ValidatorAction implements Serializable {
 
     /**
      * Converts a List of parameter class names into their Class objects.
-     * Stores the output in {@link #parameterClasses}.  This
-     * array is in the same order as the given List and is suitable for passing
-     * to the validation method.
+     * This array is in the same order as the given List and is suitable for
+     * binding the validation method.
      * @throws ValidatorException if a class cannot be loaded.
      */
-    private void loadParameterClasses(final ClassLoader loader)
+    private Class<?>[] loadParameterClasses(final ClassLoader loader)
         throws ValidatorException {
 
-        if (this.parameterClasses != null) {
-            return;
-        }
-
         final Class<?>[] parameterClasses = new Class[this.methodParameterList.size()];
 
         for (int i = 0; i < this.methodParameterList.size(); i++) {
@@ -655,82 +765,44 @@ public class ValidatorAction implements Serializable {
             }
         }
 
-        this.parameterClasses = parameterClasses;
-    }
-
-    /**
-     * Converts a List of parameter class names into their values contained in
-     * the parameters Map.
-     * @param params A Map of class names to parameter values.
-     * @return An array containing the value object for each parameter.  This
-     * array is in the same order as the given List and is suitable for passing
-     * to the validation method.
-     */
-    private Object[] getParameterValues(final Map<String, ? super Object> params) {
-
-        final Object[] paramValue = new Object[this.methodParameterList.size()];
-
-        for (int i = 0; i < this.methodParameterList.size(); i++) {
-            final String paramClassName = this.methodParameterList.get(i);
-            paramValue[i] = params.get(paramClassName);
-        }
-
-        return paramValue;
+        return parameterClasses;
     }
 
     /**
-     * Return an instance of the validation class or null if the validation
-     * method is static so does not require an instance to be executed.
+     * Return an instance of the validation class, for a validation method
+     * which isn't static.
      */
-    private Object getValidationClassInstance() throws ValidatorException {
-        if (Modifier.isStatic(this.validationMethod.getModifiers())) {
-            this.instance = null;
-
-        } else if (this.instance == null) {
-            try {
-                this.instance = this.validationClass.newInstance();
-            } catch (InstantiationException | IllegalAccessException e) {
-                final String msg1 =
-                    "Couldn't create instance of "
-                        + this.classname
-                        + ".  "
-                        + e.getMessage();
-
-                throw new ValidatorException(msg1);
-            }
+    private Object getValidationClassInstance(final Class<?> validationClass) throws ValidatorException {
+        try {
+            return validationClass.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            final String msg1 =
+                "Couldn't create instance of "
+                    + this.classname
+                    + ".  "
+                    + e.getMessage();
+
+            throw new ValidatorException(msg1);
         }
-
-        return this.instance;
     }
 
     /**
      * Modifies the paramValue array with indexed fields.
      *
-     * @param field
-     * @param pos
+     * @param indexedBean
+     * @param indexedField
      * @param paramValues
+     * @param binding
      */
-    private void handleIndexedField(final Field field, final int pos, final Object[] paramValues)
-        throws ValidatorException {
-
-        final int beanIndex = this.methodParameterList.indexOf(Validator.BEAN_PARAM);
-        final int fieldIndex = this.methodParameterList.indexOf(Validator.FIELD_PARAM);
-
-        final Object indexedList[] = field.getIndexedProperty(paramValues[beanIndex]);
+    private void handleIndexedField(final Object indexedBean, final Field indexedField,
+            final Object[] paramValues, final MethodBinding binding) {
 
         // Set current iteration object to the parameter array
-        paramValues[beanIndex] = indexedList[pos];
+        paramValues[binding.beanIndex] = indexedBean;
 
-        // Set field clone with the key modified to represent
+        // Set the field with the key modified to represent
         // the current field
-        final Field indexedField = (Field) field.clone();
-        indexedField.setKey(
-            ValidatorUtils.replace(
-                indexedField.getKey(),
-                Field.TOKEN_INDEXED,
-                "[" + pos + "]"));
-
-        paramValues[fieldIndex] = indexedField;
+        paramValues[binding.fieldIndex] = indexedField;
     }
 
     /**
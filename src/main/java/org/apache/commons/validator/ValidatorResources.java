@@ -21,8 +21,12 @@ import java.io.InputStream;
 import java.io.Serializable;
 import java.net.URL;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.collections.FastHashMap; // DEPRECATED
 import org.apache.commons.digester.Digester;
@@ -77,7 +81,9 @@ public class ValidatorResources implements Serializable {
         "-//Apache Software Foundation//DTD Commons Validator Rules Configuration 1.3.0//EN",
         "/org/apache/commons/validator/resources/validator_1_3_0.dtd",
         "-//Apache Software Foundation//DTD Commons Validator Rules Configuration 1.4.0//EN",
-        "/org/apache/commons/validator/resources/validator_1_4_0.dtd"
+        "/org/apache/commons/validator/resources/validator_1_4_0.dtd",
+        "-//Apache Software Foundation//DTD Commons Validator Rules Configuration 1.8.0//EN",
+        "/org/apache/commons/validator/resources/validator_1_8_0.dtd"
     };
 
     private transient Log log = LogFactory.getLog(ValidatorResources.class);
@@ -123,6 +129,30 @@ public class ValidatorResources implements Serializable {
      */
     protected FormSet defaultFormSet;
 
+    /**
+     * The compiled <code>Form</code>s, <code>null</code> until
+     * {@link #compile()} is called or after the resources are changed.
+     */
+    private transient volatile CompiledForms compiledForms;
+
+    /**
+     * The <code>CompiledForm</code>s of the compiled resources, and those
+     * already found for each <code>Locale</code> and form key.
+     */
+    private static final class CompiledForms {
+
+        /** The compiled form of each <code>Form</code>. */
+        private final Map<Form, CompiledForm> forms;
+
+        /** The compiled forms found for each <code>Locale</code>, keyed on the form key. */
+        private final ConcurrentMap<Locale, ConcurrentMap<String, CompiledForm>> locales =
+            new ConcurrentHashMap<>();
+
+        CompiledForms(final Map<Form, CompiledForm> forms) {
+            this.forms = forms;
+        }
+    }
+
     /**
      * Create a ValidatorResources object from an InputStream.
      *
@@ -317,6 +347,7 @@ public class ValidatorResources implements Serializable {
      * @since 1.1
      */
     public void addFormSet(final FormSet fs) {
+        compiledForms = null;
         final String key = this.buildKey(fs);
         if (key.isEmpty()) {// there can only be one default formset
             if (getLog().isWarnEnabled() && defaultFormSet != null) {
@@ -362,6 +393,7 @@ public class ValidatorResources implements Serializable {
      */
     public void addValidatorAction(final ValidatorAction va) {
         va.init();
+        compiledForms = null;
 
         getActions().put(va.getName(), va);
 
@@ -517,6 +549,81 @@ public class ValidatorResources implements Serializable {
         hActions.setFast(true);
 
         this.processForms();
+        compiledForms = null;
+    }
+
+    /**
+     * <p>Compiles each <code>Form</code> into a {@link CompiledForm}, which
+     * the <code>Validator</code> then uses instead of looking up the
+     * <code>Form</code>'s <code>Field</code>s and their
+     * <code>ValidatorAction</code>s each time it validates.</p>
+     *
+     * <p>Call this after the resources are processed. Adding a
+     * <code>FormSet</code> or <code>ValidatorAction</code>, or processing the
+     * resources again, discards the compiled forms.</p>
+     *
+     * @since 1.8
+     */
+    public void compile() {
+        final Map<String, ValidatorAction> actions = Collections.unmodifiableMap(
+            new HashMap<>(getActions()));
+        final Map<Form, CompiledForm> forms = new IdentityHashMap<>();
+        if (defaultFormSet != null) {
+            compile(defaultFormSet, actions, forms);
+        }
+        for (final FormSet fs : getFormSets().values()) {
+            compile(fs, actions, forms);
+        }
+        compiledForms = new CompiledForms(forms);
+    }
+
+    /**
+     * Compiles the <code>Form</code>s of a <code>FormSet</code>.
+     */
+    private void compile(final FormSet fs, final Map<String, ValidatorAction> actions,
+            final Map<Form, CompiledForm> forms) {
+        for (final Form form : fs.getForms().values()) {
+            if (!forms.containsKey(form)) {
+                forms.put(form, new CompiledForm(form, actions));
+            }
+        }
+    }
+
+    /**
+     * <p>Gets the {@link CompiledForm} of the <code>Form</code> returned by
+     * {@link #getForm(Locale, String)}. The <code>CompiledForm</code> is only
+     * looked up by the <code>Locale</code> the first time.</p>
+     *
+     * @param locale The Locale.
+     * @param formKey The key for the Form.
+     * @return The compiled form, or <code>null</code> if the resources aren't
+     * compiled or there is no such form.
+     * @since 1.8
+     */
+    public CompiledForm getCompiledForm(final Locale locale, final String formKey) {
+        final CompiledForms compiled = compiledForms;
+        if (compiled == null || formKey == null) {
+            return null;
+        }
+
+        ConcurrentMap<String, CompiledForm> forms = compiled.locales.get(locale);
+        if (forms == null) {
+            forms = new ConcurrentHashMap<>();
+            final ConcurrentMap<String, CompiledForm> existing = compiled.locales.putIfAbsent(locale, forms);
+            if (existing != null) {
+                forms = existing;
+            }
+        }
+
+        CompiledForm compiledForm = forms.get(formKey);
+        if (compiledForm == null) {
+            final Form form = getForm(locale, formKey);
+            compiledForm = form == null ? null : compiled.forms.get(form);
+            if (compiledForm != null) {
+                forms.put(formKey, compiledForm);
+            }
+        }
+        return compiledForm;
     }
 
     /**
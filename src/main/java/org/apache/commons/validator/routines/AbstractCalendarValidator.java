@@ -19,10 +19,26 @@ package org.apache.commons.validator.routines;
 import java.text.DateFormatSymbols;
 import java.text.Format;
 import java.text.DateFormat;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.FormatStyle;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
 import java.util.Calendar;
 import java.util.Locale;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * <p>Abstract class for Date/Time/Calendar validation.</p>
@@ -30,6 +46,9 @@ import java.util.TimeZone;
  * <p>This is a <i>base</i> class for building Date / Time
  *    Validators using format parsing.</p>
  *
+ * <p>As well as parsing with <code>DateFormat</code>, values can be parsed
+ *    with <code>java.time</code>, see {@link #parseDateTime(String, String, Locale, TimeZone)}.</p>
+ *
  * @since 1.3.0
  */
 public abstract class AbstractCalendarValidator extends AbstractFormatValidator {
@@ -40,6 +59,23 @@ public abstract class AbstractCalendarValidator extends AbstractFormatValidator
 
     private final int timeStyle;
 
+    /** The maximum number of <code>java.time</code> formatters cached by a validator */
+    private static final int MAX_CACHED_FORMATTERS = 64;
+
+    /** The epoch year, which <code>SimpleDateFormat</code> uses if the pattern has no year */
+    private static final int EPOCH_YEAR = 1970;
+
+    //CHECKSTYLE:OFF: MagicNumber
+    private static final long MILLIS_PER_SECOND = 1000;
+    private static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+    private static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+    private static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+    private static final long NANOS_PER_MILLI = 1000000;
+    //CHECKSTYLE:ON: MagicNumber
+
+    /** The <code>java.time</code> formatters created by this validator */
+    private transient volatile ConcurrentMap<FormatKey, FormatterEntry> formatters;
+
     /**
      * Construct an instance with the specified <i>strict</i>,
      * <i>time</i> and <i>date</i> style parameters.
@@ -65,6 +101,10 @@ public abstract class AbstractCalendarValidator extends AbstractFormatValidator
      */
     @Override
     public boolean isValid(final String value, final String pattern, final Locale locale) {
+        final long millis = parseIso(value, pattern, (TimeZone)null);
+        if (millis != IsoDateParser.NOT_PARSED) {
+            return millis != IsoDateParser.INVALID;
+        }
         final Object parsedValue = parse(value, pattern, locale, (TimeZone)null);
         return (parsedValue == null ? false : true);
     }
@@ -179,6 +219,10 @@ public abstract class AbstractCalendarValidator extends AbstractFormatValidator
         if (value == null || value.isEmpty()) {
             return null;
         }
+        final long millis = parseIso(value, pattern, timeZone);
+        if (millis != IsoDateParser.NOT_PARSED) {
+            return millis == IsoDateParser.INVALID ? null : toParsedValue(millis, timeZone);
+        }
         final DateFormat formatter = (DateFormat)getFormat(pattern, locale);
         if (timeZone != null) {
             formatter.setTimeZone(timeZone);
@@ -187,6 +231,57 @@ public abstract class AbstractCalendarValidator extends AbstractFormatValidator
 
     }
 
+    /**
+     * <p>Parse a value with an ISO-8601 pattern (<code>yyyy-MM-dd</code> or
+     *    <code>yyyy-MM-dd'T'HH:mm:ss</code>) using the {@link IsoDateParser}, if
+     *    the result is the same as parsing with the format.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against.
+     * @param timeZone The Time Zone used to parse the date, system default if null.
+     * @return The milliseconds since the epoch, {@link IsoDateParser#INVALID} if the value
+     *         is invalid or {@link IsoDateParser#NOT_PARSED} if the value needs to be parsed
+     *         by the format.
+     */
+    private long parseIso(final String value, final String pattern, final TimeZone timeZone) {
+        // the format's calendar is for the default locale, whichever locale is specified
+        if (value == null || !IsoDateParser.isIsoPattern(pattern) || !isFastPath()
+                || !CalendarFields.getInstance(Locale.getDefault(Locale.Category.FORMAT)).isGregorian()) {
+            return IsoDateParser.NOT_PARSED;
+        }
+        return IsoDateParser.parse(value.trim(), pattern, timeZone == null ? TimeZone.getDefault() : timeZone);
+    }
+
+    /**
+     * <p>Whether values with an ISO-8601 pattern can be parsed with the
+     *    {@link IsoDateParser} and values compared with the {@link CalendarFields},
+     *    which is only the case if a subclass hasn't changed how values are
+     *    parsed or compared.</p>
+     *
+     * @return <code>true</code> if the {@link IsoDateParser} and
+     *         {@link CalendarFields} can be used.
+     */
+    boolean isFastPath() {
+        return false;
+    }
+
+    /**
+     * <p>Convert the milliseconds parsed by the {@link IsoDateParser} to the
+     *    value returned by {@link #processParsedValue(Object, Format)}, which is
+     *    the calendar of the format.</p>
+     *
+     * @param millis The milliseconds since the epoch.
+     * @param timeZone The Time Zone used to parse the date, system default if null.
+     * @return The parsed value.
+     */
+    Object toParsedValue(final long millis, final TimeZone timeZone) {
+        final Calendar calendar = Calendar.getInstance(timeZone == null ? TimeZone.getDefault() : timeZone,
+                Locale.getDefault(Locale.Category.FORMAT));
+        calendar.setLenient(false);
+        calendar.setTimeInMillis(millis);
+        return calendar;
+    }
+
     /**
      * <p>Process the parsed value, performing any further validation
      *    and type conversion required.</p>
@@ -259,6 +354,160 @@ public abstract class AbstractCalendarValidator extends AbstractFormatValidator
 
     }
 
+    /**
+     * <p>Returns the <code>java.time</code> formatter for the specified <i>pattern</i>
+     *    and/or <code>Locale</code>.</p>
+     *
+     * <p>The formatter is created once for each pattern and <code>Locale</code> and
+     *    cached, as it is immutable and can be shared between threads. The pattern is a
+     *    {@link DateTimeFormatter} pattern, which for most patterns is the same as a
+     *    <code>SimpleDateFormat</code> pattern, except that a number with a two letter
+     *    pattern (such as <code>MM</code> or <code>dd</code>) must have two digits. If the
+     *    pattern is <code>null</code> the localized pattern for the date and/or time style
+     *    of this validator is used.</p>
+     *
+     * <p>The formatter parses text case insensitively and checks the values
+     *    (as a <code>SimpleDateFormat</code> does if it isn't lenient). If the
+     *    pattern has no year, month or day, it is the same as
+     *    <code>SimpleDateFormat</code> uses: 1st January 1970.</p>
+     *
+     * @param pattern The pattern used to validate the value against or
+     *        <code>null</code> to use the default for the <code>Locale</code>.
+     * @param locale The locale to use for the format, system default if null.
+     * @return The formatter.
+     * @since 1.8
+     */
+    protected DateTimeFormatter getDateTimeFormatter(final String pattern, final Locale locale) {
+        return getFormatterEntry(pattern, locale).formatter;
+    }
+
+    /**
+     * <p>Parse the value with the <code>java.time</code> formatter for the specified
+     *    <i>pattern</i> and/or <code>Locale</code> (see
+     *    {@link #getDateTimeFormatter(String, Locale)}).</p>
+     *
+     * <p>The time zone is the zone parsed from the value, if the pattern has a time
+     *    zone or offset, otherwise the specified time zone. If the pattern has no time,
+     *    the time is midnight.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against or
+     *        <code>null</code> to use the default for the <code>Locale</code>.
+     * @param locale The locale to use for the format, system default if null.
+     * @param timeZone The Time Zone used to parse the date, system default if null.
+     * @return The parsed date and time if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    protected ZonedDateTime parseDateTime(String value, final String pattern, final Locale locale, final TimeZone timeZone) {
+
+        value = (value == null ? null : value.trim());
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        final FormatterEntry entry = getFormatterEntry(pattern, locale);
+        final ParsePosition pos = new ParsePosition(0);
+        final TemporalAccessor parsed;
+        try {
+            parsed = entry.formatter.parse(value, pos);
+        } catch (final DateTimeParseException e) {
+            return null;
+        }
+        if (isStrict() && pos.getIndex() < value.length()) {
+            return null;
+        }
+
+        // the date is defaulted by the formatter, but the time is only present if the pattern has a time
+        final LocalDate date = parsed.query(TemporalQueries.localDate());
+        final LocalTime time = parsed.query(TemporalQueries.localTime());
+        if (date == null || time == null && entry.time) {
+            return null;
+        }
+        ZoneId zone = parsed.query(TemporalQueries.zone());
+        if (zone == null) {
+            zone = timeZone == null ? ZoneId.systemDefault() : timeZone.toZoneId();
+        }
+        return ZonedDateTime.of(date, time == null ? LocalTime.MIDNIGHT : time, zone);
+
+    }
+
+    /**
+     * <p>Convert a date and time to a <code>Calendar</code>, for callers
+     *    which use the <code>java.time</code> methods but need a <code>Calendar</code>.</p>
+     *
+     * <p>The calendar is created for the time zone of the value and the specified
+     *    <code>Locale</code>, as the calendar of a <code>DateFormat</code> is. If the
+     *    value is in the specified time zone, the calendar has that <code>TimeZone</code>.</p>
+     *
+     * @param value The date and time.
+     * @param locale The locale of the calendar, system default if null.
+     * @param timeZone The Time Zone used to parse the value, system default if null.
+     * @return The calendar or <code>null</code> if the value is <code>null</code>.
+     * @since 1.8
+     */
+    protected Calendar toCalendar(final ZonedDateTime value, final Locale locale, final TimeZone timeZone) {
+        if (value == null) {
+            return null;
+        }
+        TimeZone zone = timeZone == null ? TimeZone.getDefault() : timeZone;
+        if (!zone.toZoneId().equals(value.getZone())) {
+            zone = TimeZone.getTimeZone(value.getZone());
+        }
+        final Calendar calendar = Calendar.getInstance(zone,
+                locale == null ? Locale.getDefault(Locale.Category.FORMAT) : locale);
+        calendar.setTimeInMillis(value.toInstant().toEpochMilli());
+        return calendar;
+    }
+
+    /**
+     * <p>Returns the cached <code>java.time</code> formatter for the specified
+     *    <i>pattern</i> and/or <code>Locale</code>, creating it if necessary.</p>
+     *
+     * @param pattern The pattern or <code>null</code> to use the default for the <code>Locale</code>.
+     * @param locale The locale to use for the format, system default if null.
+     * @return The cached formatter.
+     */
+    private FormatterEntry getFormatterEntry(final String pattern, final Locale locale) {
+        ConcurrentMap<FormatKey, FormatterEntry> cache = formatters;
+        if (cache == null) {
+            cache = new ConcurrentHashMap<>();
+            formatters = cache;
+        }
+        // the default locale can change, so it is part of the key
+        final Locale formatLocale = locale == null ? Locale.getDefault(Locale.Category.FORMAT) : locale;
+        final FormatKey key = new FormatKey(pattern, formatLocale);
+        FormatterEntry entry = cache.get(key);
+        if (entry == null) {
+            final boolean usePattern = pattern != null && !pattern.isEmpty();
+            entry = new FormatterEntry(usePattern ? pattern : getLocalizedPattern(formatLocale), formatLocale);
+            if (cache.size() < MAX_CACHED_FORMATTERS) {
+                cache.putIfAbsent(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * <p>Returns the localized <code>java.time</code> pattern for the date and/or
+     *    time style, in the same way as {@link #getFormat(Locale)}.</p>
+     *
+     * @param locale The locale.
+     * @return The pattern.
+     */
+    private String getLocalizedPattern(final Locale locale) {
+        FormatStyle dateFormatStyle = null;
+        FormatStyle timeFormatStyle = null;
+        if (dateStyle >= 0 && timeStyle >= 0) {
+            dateFormatStyle = FormatStyle.values()[dateStyle];
+            timeFormatStyle = FormatStyle.values()[timeStyle];
+        } else if (timeStyle >= 0) {
+            timeFormatStyle = FormatStyle.values()[timeStyle];
+        } else {
+            dateFormatStyle = FormatStyle.values()[dateStyle >= 0 ? dateStyle : DateFormat.SHORT];
+        }
+        return DateTimeFormatterBuilder.getLocalizedDateTimePattern(dateFormatStyle, timeFormatStyle,
+                IsoChronology.INSTANCE, locale);
+    }
+
     /**
      * <p>Compares a calendar value to another, indicating whether it is
      *    equal, less then or more than at a specified level.</p>
@@ -380,6 +629,250 @@ public abstract class AbstractCalendarValidator extends AbstractFormatValidator
         return 0;
     }
 
+    /**
+     * <p>Compares a date and time value to another, indicating whether it is
+     *    equal, less then or more than at a specified level, in the same way
+     *    as {@link #compare(Calendar, Calendar, int)} compares the default
+     *    <code>Calendar</code> for the time zone.</p>
+     *
+     * <p>The fields are calculated without creating <code>Calendar</code>
+     *    instances, except for dates before the Gregorian calendar was
+     *    introduced or if the default locale doesn't use the Gregorian
+     *    calendar.</p>
+     *
+     * @param value The value, in milliseconds since the epoch.
+     * @param compare The value to check the value against, in milliseconds since the epoch.
+     * @param timeZone The Time Zone used to compare the values, system default if null.
+     * @param field The field <i>level</i> to compare to - e.g. specifying
+     *        <code>Calendar.MONTH</code> will compare the year and month
+     *        portions of the values.
+     * @return Zero if the first value is equal to the second, -1
+     *         if it is less than the second or +1 if it is greater than the second.
+     * @since 1.8
+     */
+    protected int compare(final long value, final long compare, final TimeZone timeZone, final int field) {
+        final TimeZone zone = timeZone == null ? TimeZone.getDefault() : timeZone;
+        final long valueLocal = value + zone.getOffset(value);
+        final long compareLocal = compare + zone.getOffset(compare);
+        final long valueDay = Math.floorDiv(valueLocal, MILLIS_PER_DAY);
+        final long compareDay = Math.floorDiv(compareLocal, MILLIS_PER_DAY);
+        final CalendarFields fields = CalendarFields.getInstance(Locale.getDefault(Locale.Category.FORMAT));
+        if (!isFastPath() || !fields.isGregorian(valueDay) || !fields.isGregorian(compareDay)) {
+            return compare(getCalendar(value, zone), getCalendar(compare, zone), field);
+        }
+
+        switch (field) {
+        case Calendar.YEAR:
+        case Calendar.MONTH:
+        case Calendar.WEEK_OF_YEAR:
+        case Calendar.WEEK_OF_MONTH:
+        case Calendar.DAY_OF_YEAR:
+        case Calendar.DATE:
+        case Calendar.DAY_OF_WEEK:
+        case Calendar.DAY_OF_WEEK_IN_MONTH:
+            return compare(fields, valueDay, compareDay, field);
+        default:
+            // the year, month and date are the same if the days are the same
+            if (valueDay != compareDay) {
+                return valueDay < compareDay ? -1 : 1;
+            }
+            return compareTime(Math.floorMod(valueLocal, MILLIS_PER_DAY), Math.floorMod(compareLocal, MILLIS_PER_DAY),
+                    field);
+        }
+    }
+
+    /**
+     * <p>Compares a date value to another, indicating whether it is
+     *    equal, less then or more than at a specified level, in the same way
+     *    as {@link #compare(Calendar, Calendar, int)} compares
+     *    <code>Calendar</code> instances.</p>
+     *
+     * <p>The fields are calculated without creating <code>Calendar</code>
+     *    instances, in the ISO calendar, with the week numbering of the
+     *    default locale.</p>
+     *
+     * @param value The date value.
+     * @param compare The date to check the value against.
+     * @param field The field <i>level</i> to compare to - e.g. specifying
+     *        <code>Calendar.MONTH</code> will compare the year and month
+     *        portions of the dates.
+     * @return Zero if the first value is equal to the second, -1
+     *         if it is less than the second or +1 if it is greater than the second.
+     * @since 1.8
+     */
+    protected int compare(final LocalDate value, final LocalDate compare, final int field) {
+        return compare(CalendarFields.getInstance(Locale.getDefault(Locale.Category.FORMAT)),
+                value.toEpochDay(), compare.toEpochDay(), field);
+    }
+
+    /**
+     * <p>Compares the date fields of two dates.</p>
+     *
+     * @param fields The fields calculation.
+     * @param value The value, in days since the epoch.
+     * @param compare The value to check the value against, in days since the epoch.
+     * @param field The field <i>level</i> to compare to.
+     * @return Zero if the first value is equal to the second, -1
+     *         if it is less than the second or +1 if it is greater than the second.
+     */
+    private static int compare(final CalendarFields fields, final long value, final long compare, final int field) {
+
+        int result;
+
+        // Compare Year
+        result = calculateCompareResult(fields, value, compare, Calendar.YEAR);
+        if (result != 0 || field == Calendar.YEAR) {
+            return result;
+        }
+
+        // Compare Week of Year or Day of the Year
+        if (field == Calendar.WEEK_OF_YEAR || field == Calendar.DAY_OF_YEAR) {
+            return calculateCompareResult(fields, value, compare, field);
+        }
+
+        // Compare Month
+        result = calculateCompareResult(fields, value, compare, Calendar.MONTH);
+        if (result != 0 || field == Calendar.MONTH) {
+            return result;
+        }
+
+        // Compare Week of Month
+        if (field == Calendar.WEEK_OF_MONTH) {
+            return calculateCompareResult(fields, value, compare, Calendar.WEEK_OF_MONTH);
+        }
+
+        // Compare Date
+        result = calculateCompareResult(fields, value, compare, Calendar.DATE);
+        if (result != 0 || (field == Calendar.DATE ||
+                          field == Calendar.DAY_OF_WEEK ||
+                          field == Calendar.DAY_OF_WEEK_IN_MONTH)) {
+            return result;
+        }
+
+        throw new IllegalArgumentException("Invalid field: " + field);
+
+    }
+
+    /**
+     * <p>Compares a time value to another, indicating whether it is
+     *    equal, less then or more than at a specified level, in the same way
+     *    as {@link #compareTime(Calendar, Calendar, int)}.</p>
+     *
+     * @param value The time value.
+     * @param compare The time to check the value against.
+     * @param field The field <i>level</i> to compare to - e.g. specifying
+     *        <code>Calendar.MINUTE</code> will compare the hours and minutes
+     *        portions of the times.
+     * @return Zero if the first value is equal to the second, -1
+     *         if it is less than the second or +1 if it is greater than the second.
+     * @since 1.8
+     */
+    protected int compareTime(final LocalTime value, final LocalTime compare, final int field) {
+        return compareTime(value.toNanoOfDay() / NANOS_PER_MILLI, compare.toNanoOfDay() / NANOS_PER_MILLI, field);
+    }
+
+    /**
+     * <p>Compares the time fields of two times.</p>
+     *
+     * @param value The value, in milliseconds since midnight.
+     * @param compare The value to check the value against, in milliseconds since midnight.
+     * @param field The field <i>level</i> to compare to.
+     * @return Zero if the first value is equal to the second, -1
+     *         if it is less than the second or +1 if it is greater than the second.
+     */
+    private static int compareTime(final long value, final long compare, final int field) {
+
+        int result;
+
+        // Compare Hour
+        result = Long.compare(value / MILLIS_PER_HOUR, compare / MILLIS_PER_HOUR);
+        if (result != 0 || (field == Calendar.HOUR || field == Calendar.HOUR_OF_DAY)) {
+            return result;
+        }
+
+        // Compare Minute
+        result = Long.compare(value / MILLIS_PER_MINUTE, compare / MILLIS_PER_MINUTE);
+        if (result != 0 || field == Calendar.MINUTE) {
+            return result;
+        }
+
+        // Compare Second
+        result = Long.compare(value / MILLIS_PER_SECOND, compare / MILLIS_PER_SECOND);
+        if (result != 0 || field == Calendar.SECOND) {
+            return result;
+        }
+
+        // Compare Milliseconds
+        if (field == Calendar.MILLISECOND) {
+            return Long.compare(value, compare);
+        }
+
+        throw new IllegalArgumentException("Invalid field: " + field);
+
+    }
+
+    /**
+     * <p>Compares a date and time value's quarter to another, indicating whether it is
+     *    equal, less then or more than the specified quarter, in the same way as
+     *    {@link #compareQuarters(Calendar, Calendar, int)} compares the default
+     *    <code>Calendar</code> for the time zone.</p>
+     *
+     * @param value The value, in milliseconds since the epoch.
+     * @param compare The value to check the value against, in milliseconds since the epoch.
+     * @param timeZone The Time Zone used to compare the values, system default if null.
+     * @param monthOfFirstQuarter The  month that the first quarter starts.
+     * @return Zero if the first quarter is equal to the second, -1
+     *         if it is less than the second or +1 if it is greater than the second.
+     * @since 1.8
+     */
+    protected int compareQuarters(final long value, final long compare, final TimeZone timeZone,
+            final int monthOfFirstQuarter) {
+        final TimeZone zone = timeZone == null ? TimeZone.getDefault() : timeZone;
+        final long valueDay = Math.floorDiv(value + zone.getOffset(value), MILLIS_PER_DAY);
+        final long compareDay = Math.floorDiv(compare + zone.getOffset(compare), MILLIS_PER_DAY);
+        final CalendarFields fields = CalendarFields.getInstance(Locale.getDefault(Locale.Category.FORMAT));
+        if (!isFastPath() || !fields.isGregorian(valueDay) || !fields.isGregorian(compareDay)) {
+            return compareQuarters(getCalendar(value, zone), getCalendar(compare, zone), monthOfFirstQuarter);
+        }
+        return compareQuarters(fields, valueDay, compareDay, monthOfFirstQuarter);
+    }
+
+    /**
+     * <p>Compares a date's quarter to another, indicating whether it is
+     *    equal, less then or more than the specified quarter, in the same way as
+     *    {@link #compareQuarters(Calendar, Calendar, int)}.</p>
+     *
+     * @param value The date value.
+     * @param compare The date to check the value against.
+     * @param monthOfFirstQuarter The  month that the first quarter starts.
+     * @return Zero if the first quarter is equal to the second, -1
+     *         if it is less than the second or +1 if it is greater than the second.
+     * @since 1.8
+     */
+    protected int compareQuarters(final LocalDate value, final LocalDate compare, final int monthOfFirstQuarter) {
+        return Integer.compare(calculateQuarter(value.getYear(), value.getMonthValue(), monthOfFirstQuarter),
+                calculateQuarter(compare.getYear(), compare.getMonthValue(), monthOfFirstQuarter));
+    }
+
+    /**
+     * <p>Compares the quarters of two dates.</p>
+     *
+     * @param fields The fields calculation.
+     * @param value The value, in days since the epoch.
+     * @param compare The value to check the value against, in days since the epoch.
+     * @param monthOfFirstQuarter The  month that the first quarter starts.
+     * @return Zero if the first quarter is equal to the second, -1
+     *         if it is less than the second or +1 if it is greater than the second.
+     */
+    private static int compareQuarters(final CalendarFields fields, final long value, final long compare,
+            final int monthOfFirstQuarter) {
+        final int valueQuarter = calculateQuarter(fields.get(value, Calendar.YEAR),
+                fields.get(value, Calendar.MONTH) + 1, monthOfFirstQuarter);
+        final int compareQuarter = calculateQuarter(fields.get(compare, Calendar.YEAR),
+                fields.get(compare, Calendar.MONTH) + 1, monthOfFirstQuarter);
+        return Integer.compare(valueQuarter, compareQuarter);
+    }
+
     /**
      * <p>Calculate the quarter for the specified Calendar.</p>
      *
@@ -388,10 +881,21 @@ public abstract class AbstractCalendarValidator extends AbstractFormatValidator
      * @return The calculated quarter.
      */
     private int calculateQuarter(final Calendar calendar, final int monthOfFirstQuarter) {
+        return calculateQuarter(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1, monthOfFirstQuarter);
+    }
+
+    /**
+     * <p>Calculate the quarter for the specified year and month.</p>
+     *
+     * @param calendarYear The year.
+     * @param month The month (1 to 12).
+     * @param monthOfFirstQuarter The  month that the first quarter starts.
+     * @return The calculated quarter.
+     */
+    private static int calculateQuarter(final int calendarYear, final int month, final int monthOfFirstQuarter) {
         // Add Year
-        int year = calendar.get(Calendar.YEAR);
+        int year = calendarYear;
 
-        final int month = (calendar.get(Calendar.MONTH) + 1);
         final int relativeMonth = (month >= monthOfFirstQuarter)
                           ? (month - monthOfFirstQuarter)
                           : (month + (12 - monthOfFirstQuarter)); // CHECKSTYLE IGNORE MagicNumber
@@ -424,4 +928,134 @@ public abstract class AbstractCalendarValidator extends AbstractFormatValidator
         }
         return 0;
     }
+
+    /**
+     * <p>Compares a field of two dates.</p>
+     *
+     * @param fields The fields calculation.
+     * @param value The value, in days since the epoch.
+     * @param compare The value to check the value against, in days since the epoch.
+     * @param field The field to compare for the dates.
+     * @return Zero if the first date's field is equal to the seconds, -1
+     *         if it is less than the seconds or +1 if it is greater than the seconds.
+     */
+    private static int calculateCompareResult(final CalendarFields fields, final long value, final long compare,
+            final int field) {
+        return Integer.compare(fields.get(value, field), fields.get(compare, field));
+    }
+
+    /**
+     * <p>Create the default <code>Calendar</code> for a time zone.</p>
+     *
+     * @param millis The milliseconds since the epoch.
+     * @param timeZone The Time Zone.
+     * @return The <code>Calendar</code>.
+     */
+    private static Calendar getCalendar(final long millis, final TimeZone timeZone) {
+        final Calendar calendar = Calendar.getInstance(timeZone);
+        calendar.setTimeInMillis(millis);
+        return calendar;
+    }
+
+    /**
+     * A cached <code>java.time</code> formatter.
+     */
+    private static final class FormatterEntry {
+
+        /** The formatter */
+        final DateTimeFormatter formatter;
+
+        /** Whether the pattern has a time */
+        final boolean time;
+
+        /**
+         * Compile a pattern.
+         *
+         * @param pattern The pattern
+         * @param locale The locale
+         */
+        FormatterEntry(final String pattern, final Locale locale) {
+            final boolean era = hasLetter(pattern, "G");
+            final boolean week = hasLetter(pattern, "wWYFec") || (hasLetter(pattern, "E") && !hasLetter(pattern, "dD"));
+            final DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder().parseCaseInsensitive();
+            appendPattern(builder, pattern, era);
+            if (!week) {
+                // default the missing date fields in the same way as SimpleDateFormat
+                if (!era && !hasLetter(pattern, "uy")) {
+                    builder.parseDefaulting(ChronoField.YEAR, EPOCH_YEAR);
+                }
+                if (!hasLetter(pattern, "MLD")) {
+                    builder.parseDefaulting(ChronoField.MONTH_OF_YEAR, 1);
+                }
+                if (!hasLetter(pattern, "dD")) {
+                    builder.parseDefaulting(ChronoField.DAY_OF_MONTH, 1);
+                }
+            }
+            this.formatter = builder.toFormatter(locale).withResolverStyle(ResolverStyle.STRICT);
+            this.time = hasLetter(pattern, "ahKkHmsSAnN");
+        }
+
+        /**
+         * Check whether a pattern has any of the specified letters, outside quotes.
+         *
+         * @param pattern The pattern
+         * @param letters The letters
+         * @return <code>true</code> if the pattern has one of the letters
+         */
+        private static boolean hasLetter(final String pattern, final String letters) {
+            boolean quoted = false;
+            for (int i = 0; i < pattern.length(); i++) {
+                final char c = pattern.charAt(i);
+                if (c == '\'') {
+                    quoted = !quoted;
+                } else if (!quoted && letters.indexOf(c) >= 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Append a pattern to a builder. The year is the proleptic year unless the
+         * pattern has an era, so that it can be resolved strictly, and a two digit
+         * year is parsed in the same way as <code>SimpleDateFormat</code>: within
+         * 80 years before and 20 years after now, unless it has more than two digits.
+         *
+         * @param builder The builder
+         * @param pattern The pattern
+         * @param era Whether the pattern has an era
+         */
+        private static void appendPattern(final DateTimeFormatterBuilder builder, final String pattern,
+                final boolean era) {
+            final ChronoField year = era ? ChronoField.YEAR_OF_ERA : ChronoField.YEAR;
+            final StringBuilder buffer = new StringBuilder(pattern.length());
+            boolean quoted = false;
+            int i = 0;
+            while (i < pattern.length()) {
+                final char c = pattern.charAt(i);
+                if (c == '\'') {
+                    quoted = !quoted;
+                } else if (!quoted && c == 'y') {
+                    int end = i + 1;
+                    while (end < pattern.length() && pattern.charAt(end) == 'y') {
+                        end++;
+                    }
+                    if (end - i == 2) {
+                        builder.appendPattern(buffer.toString());
+                        buffer.setLength(0);
+                        builder.appendValueReduced(year, 2, 4, LocalDate.now().minusYears(80)); // CHECKSTYLE IGNORE MagicNumber
+                    } else {
+                        for (int j = i; j < end; j++) {
+                            buffer.append(era ? 'y' : 'u');
+                        }
+                    }
+                    i = end;
+                    continue;
+                }
+                buffer.append(c);
+                i++;
+            }
+            builder.appendPattern(buffer.toString());
+        }
+    }
 }
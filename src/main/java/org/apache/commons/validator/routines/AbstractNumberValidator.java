@@ -16,11 +16,14 @@
  */
 package org.apache.commons.validator.routines;
 
+import java.math.BigDecimal;
 import java.text.DecimalFormatSymbols;
 import java.text.Format;
 import java.text.NumberFormat;
 import java.text.DecimalFormat;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * <p>Abstract class for Number Validation.</p>
@@ -43,9 +46,15 @@ public abstract class AbstractNumberValidator extends AbstractFormatValidator {
     /** Percent <code>NumberFormat</code> type */
     public static final int PERCENT_FORMAT  = 2;
 
+    /** The maximum number of formats cached by a validator */
+    private static final int MAX_CACHED_FORMATS = 64;
+
     private final boolean allowFractions;
     private final int     formatType;
 
+    /** The formats created by this validator, cloned each time they are used */
+    private transient volatile ConcurrentMap<FormatKey, FormatEntry> formats;
+
     /**
      * Construct an instance with specified <i>strict</i>
      * and <i>decimal</i> parameters.
@@ -112,6 +121,34 @@ public abstract class AbstractNumberValidator extends AbstractFormatValidator {
         return (minValue(value, min) && maxValue(value, max));
     }
 
+    /**
+     * Check if the value is within a specified range.
+     *
+     * @param value The value validation is being performed on.
+     * @param min The minimum value of the range.
+     * @param max The maximum value of the range.
+     * @return <code>true</code> if the value is within the
+     *         specified range.
+     * @since 1.8
+     */
+    public boolean isInRange(final long value, final long min, final long max) {
+        return (value >= min && value <= max);
+    }
+
+    /**
+     * Check if the value is within a specified range.
+     *
+     * @param value The value validation is being performed on.
+     * @param min The minimum value of the range.
+     * @param max The maximum value of the range.
+     * @return <code>true</code> if the value is within the
+     *         specified range.
+     * @since 1.8
+     */
+    public boolean isInRange(final double value, final double min, final double max) {
+        return (value >= min && value <= max);
+    }
+
     /**
      * Check if the value is greater than or equal to a minimum.
      *
@@ -142,6 +179,58 @@ public abstract class AbstractNumberValidator extends AbstractFormatValidator {
         return (value.longValue() <= max.longValue());
     }
 
+    /**
+     * Check if the value is greater than or equal to a minimum.
+     *
+     * @param value The value validation is being performed on.
+     * @param min The minimum value.
+     * @return <code>true</code> if the value is greater than
+     *         or equal to the minimum.
+     * @since 1.8
+     */
+    public boolean minValue(final long value, final long min) {
+        return (value >= min);
+    }
+
+    /**
+     * Check if the value is less than or equal to a maximum.
+     *
+     * @param value The value validation is being performed on.
+     * @param max The maximum value.
+     * @return <code>true</code> if the value is less than
+     *         or equal to the maximum.
+     * @since 1.8
+     */
+    public boolean maxValue(final long value, final long max) {
+        return (value <= max);
+    }
+
+    /**
+     * Check if the value is greater than or equal to a minimum.
+     *
+     * @param value The value validation is being performed on.
+     * @param min The minimum value.
+     * @return <code>true</code> if the value is greater than
+     *         or equal to the minimum.
+     * @since 1.8
+     */
+    public boolean minValue(final double value, final double min) {
+        return (value >= min);
+    }
+
+    /**
+     * Check if the value is less than or equal to a maximum.
+     *
+     * @param value The value validation is being performed on.
+     * @param max The maximum value.
+     * @return <code>true</code> if the value is less than
+     *         or equal to the maximum.
+     * @since 1.8
+     */
+    public boolean maxValue(final double value, final double max) {
+        return (value <= max);
+    }
+
     /**
      * <p>Parse the value using the specified pattern.</p>
      *
@@ -178,6 +267,9 @@ public abstract class AbstractNumberValidator extends AbstractFormatValidator {
      * <p>Returns a <code>NumberFormat</code> for the specified <i>pattern</i>
      *    and/or <code>Locale</code>.</p>
      *
+     * <p>The formats are created once for each pattern and <code>Locale</code>
+     *    and a copy is returned, so the caller can modify it.</p>
+     *
      * @param pattern The pattern used to validate the value against or
      *        <code>null</code> to use the default for the <code>Locale</code>.
      * @param locale The locale to use for the currency format, system default if null.
@@ -185,6 +277,142 @@ public abstract class AbstractNumberValidator extends AbstractFormatValidator {
      */
     @Override
     protected Format getFormat(final String pattern, final Locale locale) {
+        // formats aren't thread-safe and parse() can modify them, so each caller gets a copy
+        return (Format) getFormatEntry(pattern, locale).prototype.clone();
+    }
+
+    /**
+     * <p>Parse an integer using an {@link IntegerParser} for the format
+     *    specified by the <i>pattern</i> and/or <code>Locale</code>.</p>
+     *
+     * <p>This is only valid for validators which use the format returned by
+     *    {@link #getFormat(String, Locale)} to parse whole numbers to a <code>Long</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the number format, system default if null.
+     * @return The parsed value, {@link IntegerParser#BLANK} if the value is <code>null</code>
+     *         or blank, or {@link IntegerParser#NOT_PARSED} if the value needs to be parsed
+     *         by the format.
+     */
+    long parseInteger(final CharSequence value, final String pattern, final Locale locale) {
+        if (value == null) {
+            return IntegerParser.BLANK;
+        }
+        final IntegerParser parser = getFormatEntry(pattern, locale).parser;
+        return parser == null ? IntegerParser.NOT_PARSED : parser.parse(value);
+    }
+
+    /**
+     * <p>Parse an integer as {@link #parseInteger(CharSequence, String, Locale)}
+     *    does, unless this validator is a subclass of the validator class which
+     *    uses the {@link IntegerParser}, as a subclass may have changed how
+     *    values are parsed.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the number format, system default if null.
+     * @param fastPathClass The validator class which uses the {@link IntegerParser}.
+     * @return The parsed value, {@link IntegerParser#BLANK} if the value is <code>null</code>
+     *         or blank, or {@link IntegerParser#NOT_PARSED} if the value needs to be parsed
+     *         by the format.
+     */
+    long parseInteger(final CharSequence value, final String pattern, final Locale locale,
+            final Class<?> fastPathClass) {
+        if (getClass() != fastPathClass) {
+            return IntegerParser.NOT_PARSED;
+        }
+        return parseInteger(value, pattern, locale);
+    }
+
+    /**
+     * <p>Parse a decimal number using a {@link DecimalParser} for the format
+     *    specified by the <i>pattern</i> and/or <code>Locale</code>, setting the
+     *    scale in the same way as {@link #determineScale(NumberFormat)}.</p>
+     *
+     * <p>This is only valid for validators which use the format returned by
+     *    {@link #getFormat(String, Locale)} to parse numbers to a <code>BigDecimal</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the number format, system default if null.
+     * @return The parsed value, {@link DecimalParser#INVALID} if the format doesn't
+     *         parse the value or <code>null</code> if the value needs to be parsed
+     *         by the format.
+     */
+    BigDecimal parseDecimal(final CharSequence value, final String pattern, final Locale locale) {
+        if (value == null) {
+            return null;
+        }
+        return getFormatEntry(pattern, locale).parseDecimal(value);
+    }
+
+    /**
+     * <p>Parse a decimal number in the same way as
+     *    {@link #parseDecimal(CharSequence, String, Locale)}, but with the format
+     *    created by removing a symbol from the pattern of the format
+     *    specified by the <i>pattern</i> and/or <code>Locale</code>.</p>
+     *
+     * <p>The format without the symbol is created once and cached with the format,
+     *    for validators which accept values with or without a symbol.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the number format, system default if null.
+     * @param symbol The symbol to remove from the pattern.
+     * @return The parsed value, {@link DecimalParser#INVALID} if the format doesn't
+     *         parse the value or the pattern doesn't contain the symbol, or
+     *         <code>null</code> if the value needs to be parsed by the format.
+     */
+    BigDecimal parseDecimal(final CharSequence value, final String pattern, final Locale locale, final char symbol) {
+        if (value == null) {
+            return null;
+        }
+        final FormatEntry entry = getFormatEntry(pattern, locale).withoutSymbol(symbol);
+        return entry == null ? DecimalParser.INVALID : entry.parseDecimal(value);
+    }
+
+    /**
+     * <p>Returns the cached format for the specified <i>pattern</i>
+     *    and/or <code>Locale</code>, creating it if necessary.</p>
+     *
+     * @param pattern The pattern used to validate the value against or
+     *        <code>null</code> to use the default for the <code>Locale</code>.
+     * @param locale The locale to use for the format, system default if null.
+     * @return The cached format.
+     */
+    private FormatEntry getFormatEntry(final String pattern, final Locale locale) {
+        ConcurrentMap<FormatKey, FormatEntry> cache = formats;
+        if (cache == null) {
+            cache = new ConcurrentHashMap<>();
+            formats = cache;
+        }
+        // the default locale can change, so it is part of the key
+        final FormatKey key = new FormatKey(pattern, locale == null ? Locale.getDefault(Locale.Category.FORMAT) : locale);
+        FormatEntry entry = cache.get(key);
+        if (entry == null) {
+            entry = new FormatEntry(createFormat(pattern, locale));
+            if (cache.size() < MAX_CACHED_FORMATS) {
+                cache.putIfAbsent(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * <p>Creates a <code>NumberFormat</code> for the specified <i>pattern</i>
+     *    and/or <code>Locale</code>.</p>
+     *
+     * @param pattern The pattern used to validate the value against or
+     *        <code>null</code> to use the default for the <code>Locale</code>.
+     * @param locale The locale to use for the currency format, system default if null.
+     * @return The <code>NumberFormat</code> created.
+     */
+    private Format createFormat(final String pattern, final Locale locale) {
 
         NumberFormat formatter = null;
         final boolean usePattern = pattern != null && !pattern.isEmpty();
@@ -203,6 +431,80 @@ public abstract class AbstractNumberValidator extends AbstractFormatValidator {
         return formatter;
     }
 
+    /**
+     * A cached format.
+     */
+    private final class FormatEntry {
+
+        /** The format, which is copied before it is used */
+        final Format prototype;
+
+        /** The integer parser for the format, or <code>null</code> if it can't be used */
+        final IntegerParser parser;
+
+        /** The decimal parser for the format, or <code>null</code> if it can't be used */
+        final DecimalParser decimalParser;
+
+        /** The scale of parsed decimal numbers */
+        private final int scale;
+
+        /** The format without a symbol, created when it is first used */
+        private volatile FormatEntry withoutSymbol;
+
+        FormatEntry(final Format prototype) {
+            this.prototype = prototype;
+            this.parser = IntegerParser.of(prototype);
+            this.decimalParser = DecimalParser.of(prototype);
+            this.scale = decimalParser == null ? -1 : determineScale((NumberFormat) prototype);
+        }
+
+        /**
+         * Parse a decimal number with the {@link DecimalParser}.
+         *
+         * @param value The value
+         * @return The parsed value, {@link DecimalParser#INVALID} or <code>null</code>
+         */
+        BigDecimal parseDecimal(final CharSequence value) {
+            if (decimalParser == null) {
+                return null;
+            }
+            final BigDecimal decimal = decimalParser.parse(value, isStrict());
+            if (decimal == null || decimal == DecimalParser.INVALID || scale < 0) {
+                return decimal;
+            }
+            return decimal.setScale(scale, BigDecimal.ROUND_DOWN);
+        }
+
+        /**
+         * Return the entry for the format with a symbol removed from the pattern.
+         * A validator always removes the same symbol, so the entry is only created once.
+         *
+         * @param symbol The symbol to remove
+         * @return The entry, or <code>null</code> if the pattern doesn't contain the symbol
+         */
+        FormatEntry withoutSymbol(final char symbol) {
+            FormatEntry entry = withoutSymbol;
+            if (entry == null) {
+                // this entry marks a format without the symbol
+                entry = this;
+                final String pattern = prototype instanceof DecimalFormat ? ((DecimalFormat) prototype).toPattern() : "";
+                if (pattern.indexOf(symbol) >= 0) {
+                    final StringBuilder buffer = new StringBuilder(pattern.length());
+                    for (int i = 0; i < pattern.length(); i++) {
+                        if (pattern.charAt(i) != symbol) {
+                            buffer.append(pattern.charAt(i));
+                        }
+                    }
+                    final DecimalFormat decimalFormat = (DecimalFormat) prototype.clone();
+                    decimalFormat.applyPattern(buffer.toString());
+                    entry = new FormatEntry(decimalFormat);
+                }
+                withoutSymbol = entry;
+            }
+            return entry == this ? null : entry;
+        }
+    }
+
     /**
      * <p>Returns the <i>multiplier</i> of the <code>NumberFormat</code>.</p>
      *
@@ -17,6 +17,7 @@
 package org.apache.commons.validator.routines;
 
 import java.math.BigDecimal;
+import java.text.DecimalFormat;
 import java.text.Format;
 import java.text.NumberFormat;
 import java.util.Locale;
@@ -69,6 +70,12 @@ public class BigDecimalValidator extends AbstractNumberValidator {
 
     private static final long serialVersionUID = -670320911490506772L;
 
+    /** The number of integer digits of the largest <code>double</code> */
+    private static final int MAX_DOUBLE_DIGITS = 309;
+
+    /** The decimal exponent below which a <code>double</code> is zero */
+    private static final int MIN_DOUBLE_EXPONENT = -324;
+
     private static final BigDecimalValidator VALIDATOR = new BigDecimalValidator();
 
     /**
@@ -133,7 +140,7 @@ public class BigDecimalValidator extends AbstractNumberValidator {
      *  if invalid.
      */
     public BigDecimal validate(final String value) {
-        return (BigDecimal)parse(value, (String)null, (Locale)null);
+        return validate(value, (String)null, (Locale)null);
     }
 
     /**
@@ -146,7 +153,7 @@ public class BigDecimalValidator extends AbstractNumberValidator {
      * @return The parsed <code>BigDecimal</code> if valid or <code>null</code> if invalid.
      */
     public BigDecimal validate(final String value, final String pattern) {
-        return (BigDecimal)parse(value, pattern, (Locale)null);
+        return validate(value, pattern, (Locale)null);
     }
 
     /**
@@ -158,7 +165,7 @@ public class BigDecimalValidator extends AbstractNumberValidator {
      * @return The parsed <code>BigDecimal</code> if valid or <code>null</code> if invalid.
      */
     public BigDecimal validate(final String value, final Locale locale) {
-        return (BigDecimal)parse(value, (String)null, locale);
+        return validate(value, (String)null, locale);
     }
 
     /**
@@ -172,7 +179,46 @@ public class BigDecimalValidator extends AbstractNumberValidator {
      * @return The parsed <code>BigDecimal</code> if valid or <code>null</code> if invalid.
      */
     public BigDecimal validate(final String value, final String pattern, final Locale locale) {
-        return (BigDecimal)parse(value, pattern, locale);
+        final BigDecimal result = parseFast(value, pattern, locale);
+        if (result == null) {
+            return (BigDecimal)parse(value, pattern, locale);
+        }
+        return result == DecimalParser.INVALID ? null : result;
+    }
+
+    /**
+     * <p>Validate using the specified pattern and/or <code>Locale</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the number format, system default if null.
+     * @return <code>true</code> if the value is valid.
+     */
+    @Override
+    public boolean isValid(final String value, final String pattern, final Locale locale) {
+        final BigDecimal result = parseFast(value, pattern, locale);
+        if (result == null) {
+            return super.isValid(value, pattern, locale);
+        }
+        return result != DecimalParser.INVALID;
+    }
+
+    /**
+     * Parse the value with the {@link DecimalParser}, unless a subclass
+     * may have changed how values are parsed.
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against.
+     * @param locale The locale to use for the number format.
+     * @return The parsed value, {@link DecimalParser#INVALID} if the value is invalid
+     *         or <code>null</code> if the value needs to be parsed by the format.
+     */
+    BigDecimal parseFast(final String value, final String pattern, final Locale locale) {
+        if (getClass() != BigDecimalValidator.class) {
+            return null;
+        }
+        return parseDecimal(value, pattern, locale);
     }
 
     /**
@@ -212,6 +258,49 @@ public class BigDecimalValidator extends AbstractNumberValidator {
         return (value.doubleValue() <= max);
     }
 
+    /**
+     * <p>Returns a <code>DecimalFormat</code> which parses values to
+     *    <code>BigDecimal</code>s, so that values with more significant digits
+     *    than a <code>double</code> holds, and percentages, are parsed exactly
+     *    whether or not they are parsed by the format.</p>
+     *
+     * @param pattern The pattern used to validate the value against or
+     *        <code>null</code> to use the default for the <code>Locale</code>.
+     * @param locale The locale to use for the format, system default if null.
+     * @return The <code>NumberFormat</code> created.
+     * @since 1.8
+     */
+    @Override
+    protected Format getFormat(final String pattern, final Locale locale) {
+        final Format format = super.getFormat(pattern, locale);
+        if (format instanceof DecimalFormat) {
+            ((DecimalFormat) format).setParseBigDecimal(true);
+        }
+        return format;
+    }
+
+    /**
+     * <p>Parse the value with the specified <code>Format</code>.</p>
+     *
+     * <p>A <code>DecimalFormat</code> which parses <code>BigDecimal</code>s
+     *    throws an <code>ArithmeticException</code> for an exponent too
+     *    large for the scale of a <code>BigDecimal</code>, which makes
+     *    the value invalid.</p>
+     *
+     * @param value The value to be parsed.
+     * @param formatter The Format to parse the value with.
+     * @return The parsed value if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    @Override
+    protected Object parse(final String value, final Format formatter) {
+        try {
+            return super.parse(value, formatter);
+        } catch (final ArithmeticException e) {
+            return null;
+        }
+    }
+
     /**
      * Convert the parsed value to a <code>BigDecimal</code>.
      *
@@ -223,7 +312,26 @@ public class BigDecimalValidator extends AbstractNumberValidator {
     @Override
     protected Object processParsedValue(final Object value, final Format formatter) {
         BigDecimal decimal = null;
-        if (value instanceof Long) {
+        if (value instanceof BigDecimal) {
+            // values with an exponent beyond the range of a double were
+            // invalid (or zero) as a Double, and are too costly to rescale
+            decimal = (BigDecimal)value;
+            final long integerDigits = (long) decimal.precision() - decimal.scale();
+            if (integerDigits > MAX_DOUBLE_DIGITS) {
+                return null;
+            }
+            // drop the trailing zeros of the fraction, and any exponent, as for a Long or Double
+            if (decimal.signum() == 0 || integerDigits <= MIN_DOUBLE_EXPONENT) {
+                decimal = BigDecimal.ZERO;
+            } else {
+                if (decimal.scale() > 0) {
+                    decimal = decimal.stripTrailingZeros();
+                }
+                if (decimal.scale() < 0) {
+                    decimal = decimal.setScale(0);
+                }
+            }
+        } else if (value instanceof Long) {
             decimal = BigDecimal.valueOf(((Long)value).longValue());
         } else {
             decimal = new BigDecimal(value.toString());
@@ -116,7 +116,7 @@ public class ByteValidator extends AbstractNumberValidator {
      *  if invalid.
      */
     public Byte validate(final String value) {
-        return (Byte)parse(value, (String)null, (Locale)null);
+        return validate(value, (String)null, (Locale)null);
     }
 
     /**
@@ -128,7 +128,7 @@ public class ByteValidator extends AbstractNumberValidator {
      * @return The parsed <code>Byte</code> if valid or <code>null</code> if invalid.
      */
     public Byte validate(final String value, final String pattern) {
-        return (Byte)parse(value, pattern, (Locale)null);
+        return validate(value, pattern, (Locale)null);
     }
 
     /**
@@ -140,7 +140,7 @@ public class ByteValidator extends AbstractNumberValidator {
      * @return The parsed <code>Byte</code> if valid or <code>null</code> if invalid.
      */
     public Byte validate(final String value, final Locale locale) {
-        return (Byte)parse(value, (String)null, locale);
+        return validate(value, (String)null, locale);
     }
 
     /**
@@ -154,7 +154,29 @@ public class ByteValidator extends AbstractNumberValidator {
      * @return The parsed <code>Byte</code> if valid or <code>null</code> if invalid.
      */
     public Byte validate(final String value, final String pattern, final Locale locale) {
-        return (Byte)parse(value, pattern, locale);
+        final long result = parseInteger(value, pattern, locale, ByteValidator.class);
+        if (result == IntegerParser.NOT_PARSED) {
+            return (Byte)parse(value, pattern, locale);
+        }
+        return result >= Byte.MIN_VALUE && result <= Byte.MAX_VALUE ? Byte.valueOf((byte)result) : null;
+    }
+
+    /**
+     * <p>Validate using the specified pattern and/or <code>Locale</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the number format, system default if null.
+     * @return <code>true</code> if the value is valid.
+     */
+    @Override
+    public boolean isValid(final String value, final String pattern, final Locale locale) {
+        final long result = parseInteger(value, pattern, locale, ByteValidator.class);
+        if (result == IntegerParser.NOT_PARSED) {
+            return super.isValid(value, pattern, locale);
+        }
+        return result >= Byte.MIN_VALUE && result <= Byte.MAX_VALUE;
     }
 
     /**
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.util.Calendar;
+import java.util.Locale;
+
+/**
+ * Calculates the <code>Calendar</code> fields used to compare dates from the
+ * number of days since the epoch (1970-01-01), without creating a <code>Calendar</code>.
+ * <p>
+ * The fields are calculated in the proleptic Gregorian calendar, with the week
+ * numbering rules (the first day of the week and the minimal days in the first
+ * week) of a locale. For the dates which {@link #isGregorian(long)} this gives
+ * the same values as the <code>GregorianCalendar</code> for the locale.
+ * </p>
+ *
+ * @since 1.8
+ */
+final class CalendarFields {
+
+    //CHECKSTYLE:OFF: MagicNumber
+    /** Days from 0000-03-01 to 1970-01-01 */
+    private static final long DAYS_0000_TO_1970 = 719468;
+
+    /** Days in 400 years */
+    private static final long DAYS_PER_ERA = 146097;
+
+    /** Calendar.THURSDAY - the day of the week of 1970-01-01 */
+    private static final int EPOCH_DAY_OF_WEEK = 5;
+
+    /** The first day of the first year which, and whose previous year, are entirely in the Gregorian calendar */
+    private static final long FIRST_GREGORIAN_DAY = epochDay(1584, 1, 1);
+    //CHECKSTYLE:ON: MagicNumber
+
+    /** The fields for the last locale used */
+    private static volatile CalendarFields last;
+
+    private final Locale locale;
+    private final boolean gregorian;
+    private final int firstDayOfWeek;
+    private final int minimalDaysInFirstWeek;
+
+    /**
+     * Construct the fields for a locale.
+     *
+     * @param locale The locale
+     */
+    private CalendarFields(final Locale locale) {
+        final Calendar calendar = Calendar.getInstance(locale);
+        this.locale = locale;
+        this.gregorian = "gregory".equals(calendar.getCalendarType());
+        this.firstDayOfWeek = calendar.getFirstDayOfWeek();
+        this.minimalDaysInFirstWeek = calendar.getMinimalDaysInFirstWeek();
+    }
+
+    /**
+     * Return the fields for a locale.
+     *
+     * @param locale The locale
+     * @return The fields
+     */
+    static CalendarFields getInstance(final Locale locale) {
+        CalendarFields fields = last;
+        if (fields == null || !fields.locale.equals(locale)) {
+            fields = new CalendarFields(locale);
+            last = fields;
+        }
+        return fields;
+    }
+
+    /**
+     * Check whether a <code>Calendar</code> for the locale is a
+     * <code>GregorianCalendar</code>.
+     *
+     * @return <code>true</code> if the locale uses the Gregorian calendar
+     */
+    boolean isGregorian() {
+        return gregorian;
+    }
+
+    /**
+     * Check whether a <code>Calendar</code> for the locale has the
+     * same fields as this class for a date.
+     *
+     * @param epochDay The number of days since the epoch
+     * @return <code>true</code> if the locale uses the Gregorian calendar
+     * and the date is after the Gregorian calendar was introduced
+     */
+    boolean isGregorian(final long epochDay) {
+        return gregorian && epochDay >= FIRST_GREGORIAN_DAY;
+    }
+
+    /**
+     * Return the value of a field for a date.
+     *
+     * @param epochDay The number of days since the epoch
+     * @param field The <code>Calendar</code> field: <code>YEAR</code>,
+     * <code>MONTH</code>, <code>DATE</code>, <code>DAY_OF_YEAR</code>,
+     * <code>WEEK_OF_YEAR</code> or <code>WEEK_OF_MONTH</code>
+     * @return The value of the field
+     */
+    //CHECKSTYLE:OFF: MagicNumber
+    int get(final long epochDay, final int field) {
+        // years start in March, so the leap day is at the end of the year
+        final long days = epochDay + DAYS_0000_TO_1970;
+        final long era = Math.floorDiv(days, DAYS_PER_ERA);
+        final int dayOfEra = (int) (days - era * DAYS_PER_ERA);
+        final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final int dayOfMarchYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final int marchMonth = (5 * dayOfMarchYear + 2) / 153;
+        final int day = dayOfMarchYear - (153 * marchMonth + 2) / 5 + 1;
+        final int month = marchMonth < 10 ? marchMonth + 3 : marchMonth - 9;
+        final int year = (int) (era * 400 + yearOfEra + (month <= 2 ? 1 : 0));
+
+        switch (field) {
+        case Calendar.YEAR:
+            return year;
+        case Calendar.MONTH:
+            return month - 1;
+        case Calendar.DATE:
+            return day;
+        case Calendar.DAY_OF_YEAR:
+            return (int) (epochDay - epochDay(year, 1, 1)) + 1;
+        case Calendar.WEEK_OF_MONTH:
+            return weekNumber(epochDay - day + 1, epochDay);
+        case Calendar.WEEK_OF_YEAR:
+            return weekOfYear(year, epochDay);
+        default:
+            throw new IllegalArgumentException("Invalid field: " + field);
+        }
+    }
+
+    /**
+     * Return the week of the year in the same way as the <code>GregorianCalendar</code>,
+     * where the days at the start of the year before the first week are in the
+     * last week of the previous year, and the days at the end of the year in
+     * the first week of the next year are in week 1.
+     *
+     * @param year The year
+     * @param epochDay The number of days since the epoch
+     * @return The week of the year
+     */
+    private int weekOfYear(final int year, final long epochDay) {
+        final long jan1 = epochDay(year, 1, 1);
+        int weekOfYear = weekNumber(jan1, epochDay);
+        if (weekOfYear == 0) {
+            weekOfYear = weekNumber(epochDay(year - 1, 1, 1), jan1 - 1);
+        } else if (weekOfYear >= 52) {
+            final long nextJan1 = epochDay(year + 1, 1, 1);
+            final long nextWeek1 = dayOfWeekOnOrBefore(nextJan1 + 6, firstDayOfWeek);
+            if (nextWeek1 - nextJan1 >= minimalDaysInFirstWeek && epochDay >= nextWeek1 - 7) {
+                weekOfYear = 1;
+            }
+        }
+        return weekOfYear;
+    }
+
+    /**
+     * Return the number of weeks in a period, using the first day
+     * of the week and minimal days in the first week.
+     *
+     * @param firstDay The first day of the period
+     * @param epochDay The last day of the period
+     * @return The number of weeks, which is zero if the last day is before the first week
+     */
+    private int weekNumber(final long firstDay, final long epochDay) {
+        long firstWeek = dayOfWeekOnOrBefore(firstDay + 6, firstDayOfWeek);
+        if (firstWeek - firstDay >= minimalDaysInFirstWeek) {
+            firstWeek -= 7;
+        }
+        return (int) Math.floorDiv(epochDay - firstWeek, 7) + 1;
+    }
+
+    /**
+     * Return the last day on or before a date which is a day of the week.
+     *
+     * @param epochDay The number of days since the epoch
+     * @param dayOfWeek The <code>Calendar</code> day of the week
+     * @return The number of days since the epoch of the day of the week
+     */
+    private static long dayOfWeekOnOrBefore(final long epochDay, final int dayOfWeek) {
+        final int dayOfWeekOfDate = (int) Math.floorMod(epochDay + EPOCH_DAY_OF_WEEK - 1, 7) + 1;
+        return epochDay - Math.floorMod(dayOfWeekOfDate - dayOfWeek, 7);
+    }
+
+    /**
+     * Return the number of days since 1970-01-01 of a date in the proleptic Gregorian calendar.
+     *
+     * @param year The year
+     * @param month The month (1 to 12)
+     * @param day The day of the month
+     * @return The number of days since the epoch
+     */
+    static long epochDay(final int year, final int month, final int day) {
+        // years start in March, so the leap day is at the end of the year
+        final long y = month <= 2 ? year - 1L : year;
+        final long era = Math.floorDiv(y, 400);
+        final int yearOfEra = (int) (y - era * 400);
+        final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+    }
+    //CHECKSTYLE:ON: MagicNumber
+}
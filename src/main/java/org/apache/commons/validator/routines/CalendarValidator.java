@@ -18,6 +18,8 @@ package org.apache.commons.validator.routines;
 
 import java.text.DateFormat;
 import java.text.Format;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Locale;
 import java.util.TimeZone;
@@ -222,6 +224,104 @@ public class CalendarValidator extends AbstractCalendarValidator {
         return (Calendar)parse(value, pattern, locale, timeZone);
     }
 
+    /**
+     * <p>Validate/convert a <code>LocalDate</code> using <code>java.time</code>
+     *    with the default <code>Locale</code> (see {@link #validateLocalDate(String, String, Locale)}).</p>
+     *
+     * @param value The value validation is being performed on.
+     * @return The parsed <code>LocalDate</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public LocalDate validateLocalDate(final String value) {
+        return validateLocalDate(value, (String)null, (Locale)null);
+    }
+
+    /**
+     * <p>Validate/convert a <code>LocalDate</code> using <code>java.time</code>
+     *    with the specified pattern (see {@link #validateLocalDate(String, String, Locale)}).</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against.
+     * @return The parsed <code>LocalDate</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public LocalDate validateLocalDate(final String value, final String pattern) {
+        return validateLocalDate(value, pattern, (Locale)null);
+    }
+
+    /**
+     * <p>Validate/convert a <code>LocalDate</code> using <code>java.time</code>
+     *    with the specified <code>Locale</code> (see {@link #validateLocalDate(String, String, Locale)}).</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param locale The locale to use for the date format, system default if null.
+     * @return The parsed <code>LocalDate</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public LocalDate validateLocalDate(final String value, final Locale locale) {
+        return validateLocalDate(value, (String)null, locale);
+    }
+
+    /**
+     * <p>Validate/convert a <code>LocalDate</code> using <code>java.time</code>
+     *    with the specified pattern and/or <code>Locale</code>.</p>
+     *
+     * <p>The formatter for the pattern and <code>Locale</code> is created once and
+     *    cached, see {@link #getDateTimeFormatter(String, Locale)} for the
+     *    differences from <code>SimpleDateFormat</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the date format, system default if null.
+     * @return The parsed <code>LocalDate</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public LocalDate validateLocalDate(final String value, final String pattern, final Locale locale) {
+        final ZonedDateTime result = parseDateTime(value, pattern, locale, (TimeZone)null);
+        return result == null ? null : result.toLocalDate();
+    }
+
+    /**
+     * <p>Validate/convert a <code>ZonedDateTime</code> using <code>java.time</code>
+     *    with the specified pattern, <code>Locale</code> and <code>TimeZone</code>.</p>
+     *
+     * <p>The formatter for the pattern and <code>Locale</code> is created once and
+     *    cached, see {@link #parseDateTime(String, String, Locale, TimeZone)}.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the date format, system default if null.
+     * @param timeZone The Time Zone used to parse the date, system default if null.
+     * @return The parsed <code>ZonedDateTime</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public ZonedDateTime validateZonedDateTime(final String value, final String pattern, final Locale locale,
+            final TimeZone timeZone) {
+        return parseDateTime(value, pattern, locale, timeZone);
+    }
+
+    /**
+     * <p>Validate/convert a <code>Calendar</code> using <code>java.time</code>
+     *    with the specified pattern, <code>Locale</code> and <code>TimeZone</code>.</p>
+     *
+     * <p>This parses the value in the same way as
+     *    {@link #validateZonedDateTime(String, String, Locale, TimeZone)}, for callers
+     *    which need a <code>Calendar</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the date format, system default if null.
+     * @param timeZone The Time Zone used to parse the date, system default if null.
+     * @return The parsed <code>Calendar</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public Calendar validateCalendar(final String value, final String pattern, final Locale locale, final TimeZone timeZone) {
+        return toCalendar(parseDateTime(value, pattern, locale, timeZone), locale, timeZone);
+    }
+
     /**
      * <p>Adjusts a Calendar's value to a different TimeZone.</p>
      *
@@ -322,6 +422,18 @@ public class CalendarValidator extends AbstractCalendarValidator {
         return compare(value, compare, Calendar.YEAR);
     }
 
+    /**
+     * <p>Whether values with an ISO-8601 pattern can be parsed without the format,
+     *    and values compared without calendars, unless a subclass may have changed
+     *    how values are parsed or compared.</p>
+     *
+     * @return <code>true</code> if this isn't a subclass.
+     */
+    @Override
+    boolean isFastPath() {
+        return getClass() == CalendarValidator.class;
+    }
+
     /**
      * <p>Convert the parsed <code>Date</code> to a <code>Calendar</code>.</p>
      *
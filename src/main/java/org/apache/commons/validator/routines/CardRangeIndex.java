@@ -0,0 +1,365 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.validator.routines.CreditCardValidator.CreditCardRange;
+
+/**
+ * Index of {@link CreditCardRange}s, for finding the range that
+ * a card number belongs to.
+ * <p>
+ * The ranges are converted to intervals of the leading digits of the card
+ * number (for example <code>"644"</code> to <code>"65"</code> becomes
+ * 644000-659999 for 6 digit prefixes) and split into disjoint segments
+ * which are searched with a binary search, so finding the range takes
+ * O(log n) time however many ranges there are. Each segment has a mask
+ * of the card lengths allowed by any of its ranges, so most numbers of
+ * the wrong length are rejected without looking at the ranges themselves.
+ * </p>
+ * <p>
+ * The matching rules are those of the range validators created by
+ * {@link CreditCardValidator}. Card numbers shorter than the longest
+ * prefix, or any card number if a prefix isn't numeric or is longer than
+ * 18 digits, are compared with each range in turn.
+ * </p>
+ * <p>
+ * Instances are immutable and thread-safe.
+ * </p>
+ *
+ * @since 1.8
+ */
+public final class CardRangeIndex implements Serializable {
+
+    private static final long serialVersionUID = 4602396385209934616L;
+
+    /** The maximum number of prefix digits that fit in a <code>long</code> key */
+    private static final int MAX_KEY_DIGITS = 18;
+
+    /** Length mask bit for lengths too long to have their own bit */
+    private static final int LONG_LENGTH_BIT = 63;
+
+    private final String[] lows;
+    private final String[] highs;
+    private final int[] minLengths;
+    private final int[] maxLengths;
+    private final int[][] lengths;
+
+    /** The number of leading digits in a key, or -1 if the ranges can't be indexed */
+    private final int keyDigits;
+
+    /** The first key of each segment, in ascending order */
+    private final long[] segmentKeys;
+
+    /** The lengths allowed by the ranges of each segment */
+    private final long[] segmentLengths;
+
+    /** The start of the ranges of each segment in {@link #rangeIds}, and the end of the last one */
+    private final int[] segmentOffsets;
+
+    /** The indices of the ranges of each segment, in ascending order */
+    private final int[] rangeIds;
+
+    /**
+     * Construct an index of credit card ranges.
+     *
+     * @param ranges The credit card ranges
+     */
+    public CardRangeIndex(final CreditCardRange[] ranges) {
+        if (ranges == null) {
+            throw new IllegalArgumentException("Card ranges are missing");
+        }
+        final int count = ranges.length;
+        lows = new String[count];
+        highs = new String[count];
+        minLengths = new int[count];
+        maxLengths = new int[count];
+        lengths = new int[count][];
+        int digits = 0;
+        for (int r = 0; r < count; r++) {
+            final CreditCardRange range = ranges[r];
+            lows[r] = range.low;
+            highs[r] = range.high;
+            minLengths[r] = range.minLen;
+            maxLengths[r] = range.maxLen;
+            lengths[r] = range.lengths;
+            if (digits >= 0) {
+                if (isNumeric(range.low) && (range.high == null || isNumeric(range.high))) {
+                    digits = Math.max(digits, Math.max(range.low.length(), range.high == null ? 0 : range.high.length()));
+                } else {
+                    digits = -1;
+                }
+            }
+        }
+        keyDigits = digits > MAX_KEY_DIGITS ? -1 : digits;
+        if (keyDigits < 0) {
+            segmentKeys = null;
+            segmentLengths = null;
+            segmentOffsets = null;
+            rangeIds = null;
+            return;
+        }
+
+        // The key intervals of the ranges
+        final long[] from = new long[count];
+        final long[] to = new long[count];
+        final long[] bounds = new long[2 * count];
+        for (int r = 0; r < count; r++) {
+            from[r] = toKey(lows[r], '0');
+            to[r] = toKey(highs[r] == null ? lows[r] : highs[r], '9');
+            bounds[2 * r] = from[r];
+            bounds[2 * r + 1] = to[r] + 1;
+        }
+        Arrays.sort(bounds);
+        int segments = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            if (i == 0 || bounds[i] != bounds[i - 1]) {
+                bounds[segments++] = bounds[i];
+            }
+        }
+        segmentKeys = Arrays.copyOf(bounds, segments);
+        segmentLengths = new long[segments];
+
+        // Add each range to the segments it covers, in range order
+        final List<List<Integer>> covering = new ArrayList<>(Collections.nCopies(segments, (List<Integer>) null));
+        for (int r = 0; r < count; r++) {
+            if (from[r] > to[r]) {
+                continue;
+            }
+            final long mask = lengthMask(r);
+            for (int s = Arrays.binarySearch(segmentKeys, from[r]); s < segments && segmentKeys[s] <= to[r]; s++) {
+                if (covering.get(s) == null) {
+                    covering.set(s, new ArrayList<Integer>(1));
+                }
+                covering.get(s).add(Integer.valueOf(r));
+                segmentLengths[s] |= mask;
+            }
+        }
+        segmentOffsets = new int[segments + 1];
+        for (int s = 0; s < segments; s++) {
+            final List<Integer> ids = covering.get(s);
+            segmentOffsets[s + 1] = segmentOffsets[s] + (ids == null ? 0 : ids.size());
+        }
+        rangeIds = new int[segmentOffsets[segments]];
+        for (int s = 0; s < segments; s++) {
+            final List<Integer> ids = covering.get(s);
+            if (ids != null) {
+                for (int i = 0; i < ids.size(); i++) {
+                    rangeIds[segmentOffsets[s] + i] = ids.get(i).intValue();
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the number of ranges in the index.
+     *
+     * @return The number of ranges
+     */
+    public int size() {
+        return lows.length;
+    }
+
+    /**
+     * Find the first range that a card number belongs to.
+     *
+     * @param number The card number, which must consist of digits only
+     * @return The index of the first matching range in the array the index was
+     * built from, or <code>-1</code> if no range matches or the number isn't numeric
+     */
+    public int indexOf(final CharSequence number) {
+        if (number == null) {
+            return -1;
+        }
+        return indexOf(number, 0, number.length());
+    }
+
+    /**
+     * Find the first range that a card number, which is part of a
+     * sequence of characters, belongs to.
+     *
+     * @param number The characters containing the card number
+     * @param start The index of the first character of the card number
+     * @param end The index after the last character of the card number
+     * @return The index of the first matching range in the array the index was
+     * built from, or <code>-1</code> if no range matches or the number isn't numeric
+     */
+    public int indexOf(final CharSequence number, final int start, final int end) {
+        final int length = end - start;
+        if (length <= 0) {
+            return -1;
+        }
+        long key = 0;
+        for (int i = start; i < end; i++) {
+            final char c = number.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            if (i - start < keyDigits) {
+                key = key * 10 + (c - '0'); // CHECKSTYLE IGNORE MagicNumber
+            }
+        }
+        if (keyDigits < 0 || length < keyDigits) {
+            return linearIndexOf(number.subSequence(start, end).toString());
+        }
+        return indexOf(key, length);
+    }
+
+    /**
+     * Find the first range that a card number belongs to, given the
+     * leading digits of the number.
+     *
+     * @param key The first {@link #keyDigits} digits of the number
+     * @param length The length of the card number, at least {@link #keyDigits}
+     * @return The index of the first matching range or <code>-1</code>
+     */
+    int indexOf(final long key, final int length) {
+        int s = Arrays.binarySearch(segmentKeys, key);
+        if (s < 0) {
+            s = -s - 2;
+            if (s < 0) {
+                return -1;
+            }
+        }
+        if ((segmentLengths[s] & 1L << Math.min(length, LONG_LENGTH_BIT)) == 0) {
+            return -1;
+        }
+        for (int i = segmentOffsets[s]; i < segmentOffsets[s + 1]; i++) {
+            final int r = rangeIds[i];
+            if (validLength(r, length)) {
+                return r;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Return the number of leading digits used to search the index.
+     *
+     * @return The number of leading digits or <code>-1</code> if
+     * the ranges are searched in turn
+     */
+    int getKeyDigits() {
+        return keyDigits;
+    }
+
+    /**
+     * Compare a card number with each range in turn.
+     *
+     * @param value The card number
+     * @return The index of the first matching range or <code>-1</code>
+     */
+    int linearIndexOf(final String value) {
+        final int length = value.length();
+        for (int r = 0; r < lows.length; r++) {
+            if (validLength(r, length)) {
+                if (highs[r] == null) { // single prefix only
+                    if (value.startsWith(lows[r])) {
+                        return r;
+                    }
+                } else if (lows[r].compareTo(value) <= 0
+                        // here we have to ignore digits beyond the prefix
+                        && length >= highs[r].length()
+                        && highs[r].compareTo(value.substring(0, highs[r].length())) >= 0) {
+                    return r;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check whether a card length is valid for a range.
+     *
+     * @param r The index of the range
+     * @param length The length of the card number
+     * @return <code>true</code> if the length is valid
+     */
+    private boolean validLength(final int r, final int length) {
+        if (lengths[r] != null) {
+            for (final int len : lengths[r]) {
+                if (length == len) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return length >= minLengths[r] && length <= maxLengths[r];
+    }
+
+    /**
+     * Return the mask of the lengths which are valid for a range, with
+     * the top bit for all the lengths too long to have a bit of their own.
+     *
+     * @param r The index of the range
+     * @return The mask of valid lengths
+     */
+    private long lengthMask(final int r) {
+        long mask = 0;
+        if (lengths[r] != null) {
+            for (final int len : lengths[r]) {
+                if (len >= 0) {
+                    mask |= 1L << Math.min(len, LONG_LENGTH_BIT);
+                }
+            }
+        } else {
+            final int max = Math.min(maxLengths[r], LONG_LENGTH_BIT);
+            for (int len = Math.max(minLengths[r], 0); len <= max; len++) {
+                mask |= 1L << len;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Convert a prefix to a key, padding it to the key length.
+     *
+     * @param prefix The prefix
+     * @param pad The padding digit
+     * @return The key
+     */
+    private long toKey(final String prefix, final char pad) {
+        long key = 0;
+        for (int i = 0; i < keyDigits; i++) {
+            final char c = i < prefix.length() ? prefix.charAt(i) : pad;
+            key = key * 10 + (c - '0'); // CHECKSTYLE IGNORE MagicNumber
+        }
+        return key;
+    }
+
+    /**
+     * Check whether a prefix consists of ASCII digits only.
+     *
+     * @param prefix The prefix
+     * @return <code>true</code> if the prefix is numeric
+     */
+    private static boolean isNumeric(final String prefix) {
+        for (int i = 0; i < prefix.length(); i++) {
+            final char c = prefix.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
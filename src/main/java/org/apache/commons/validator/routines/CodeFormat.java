@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.apache.commons.validator.routines.checkdigit.CheckDigitAccumulator;
+
+/**
+ * Compiled <b>Code Format</b> for use by a {@link CodeValidator} in place
+ * of a regular expression.
+ * <p>
+ * A format describes the characters allowed at each position of a fixed
+ * length code, optionally with a literal prefix that may precede the code
+ * and separator characters (such as hyphens) that divide it into groups.
+ * The allowed characters are compiled into bit masks, so a code can be
+ * trimmed, checked, stripped of its separators and fed to a check digit
+ * routine in a single pass over the input, without the intermediate
+ * Strings created by trimming and matching a regular expression.
+ * </p>
+ * <p>
+ * For example the format of an ISSN (e.g. <code>ISSN 0317-8471</code>) is:
+ * </p>
+ * <pre>
+ * CodeFormat.of(CodeFormat.DIGITS, 7)
+ *           .then(CodeFormat.DIGITS + "X", 1)
+ *           .withOptionalPrefix("ISSN ")
+ *           .withGroups("-", true, new int[] {4, 4}, new int[] {4, 4});
+ * </pre>
+ * <p>
+ * Only ASCII characters are supported. Instances are immutable and
+ * thread-safe.
+ * </p>
+ *
+ * @since 1.8
+ */
+public final class CodeFormat implements Serializable {
+
+    private static final long serialVersionUID = -3260379425370651409L;
+
+    /** The decimal digits <code>0-9</code> */
+    public static final String DIGITS = "0123456789";
+
+    /** The upper case letters <code>A-Z</code> */
+    public static final String UPPER_CASE_LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    /** The whitespace characters, as matched by <code>\s</code> in a regular expression */
+    public static final String WHITESPACE = " \t\n\u000B\f\r";
+
+    /** The number of bits in a mask word */
+    private static final int WORD_SIZE = 64;
+
+    /** The allowed characters, as two mask words for each position of the code */
+    private final long[] positions;
+
+    /** Optional literal prefix skipped if present, or <code>null</code> */
+    private final String prefix;
+
+    /** The separator characters, as two mask words */
+    private final long[] separators;
+
+    /** Whether the groups must be separated */
+    private final boolean separatorRequired;
+
+    /** The minimum length of each group, or <code>null</code> if the code has no groups */
+    private final int[] minGroupLengths;
+
+    /** The maximum length of each group, or <code>null</code> if the code has no groups */
+    private final int[] maxGroupLengths;
+
+    private CodeFormat(final long[] positions, final String prefix, final long[] separators,
+            final boolean separatorRequired, final int[] minGroupLengths, final int[] maxGroupLengths) {
+        this.positions = positions;
+        this.prefix = prefix;
+        this.separators = separators;
+        this.separatorRequired = separatorRequired;
+        this.minGroupLengths = minGroupLengths;
+        this.maxGroupLengths = maxGroupLengths;
+    }
+
+    /**
+     * Create a format for codes starting with <code>count</code> characters
+     * from a set of allowed characters.
+     *
+     * @param chars The allowed characters
+     * @param count The number of positions
+     * @return The code format
+     * @throws IllegalArgumentException if the characters are not ASCII
+     * or the count is negative
+     */
+    public static CodeFormat of(final String chars, final int count) {
+        return new CodeFormat(new long[0], null, new long[2], false, null, null).then(chars, count);
+    }
+
+    /**
+     * Return a format which follows the positions of this one with
+     * <code>count</code> characters from a set of allowed characters.
+     *
+     * @param chars The allowed characters
+     * @param count The number of positions to add
+     * @return The code format
+     * @throws IllegalArgumentException if the characters are not ASCII
+     * or the count is negative
+     */
+    public CodeFormat then(final String chars, final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Invalid count: " + count);
+        }
+        final long[] mask = toMask(chars);
+        final long[] extended = Arrays.copyOf(positions, positions.length + 2 * count);
+        for (int i = positions.length; i < extended.length; i += 2) {
+            extended[i] = mask[0];
+            extended[i + 1] = mask[1];
+        }
+        return new CodeFormat(extended, prefix, separators, separatorRequired, minGroupLengths, maxGroupLengths);
+    }
+
+    /**
+     * Return a format which skips a literal prefix, if it is present
+     * at the start of the (trimmed) input.
+     *
+     * @param prefix The optional prefix, which is not part of the code
+     * @return The code format
+     */
+    public CodeFormat withOptionalPrefix(final String prefix) {
+        return new CodeFormat(positions, prefix == null || prefix.isEmpty() ? null : prefix, separators,
+                separatorRequired, minGroupLengths, maxGroupLengths);
+    }
+
+    /**
+     * Return a format whose code is divided into groups by a single
+     * separator character between each group, the separators being removed
+     * from the code.
+     * <p>
+     * If the separators are not required, then either all or none of them
+     * must be present; without them only the positions are checked.
+     * </p>
+     *
+     * @param separators The separator characters
+     * @param required Whether the separators must be present
+     * @param minLengths The minimum length of each group
+     * @param maxLengths The maximum length of each group
+     * @return The code format
+     * @throws IllegalArgumentException if the characters are not ASCII or a
+     * group can be empty or the number of lengths doesn't match
+     */
+    public CodeFormat withGroups(final String separators, final boolean required,
+            final int[] minLengths, final int[] maxLengths) {
+        if (minLengths.length == 0 || minLengths.length != maxLengths.length) {
+            throw new IllegalArgumentException("Invalid group lengths");
+        }
+        for (int i = 0; i < minLengths.length; i++) {
+            if (minLengths[i] < 1 || maxLengths[i] < minLengths[i]) {
+                throw new IllegalArgumentException("Invalid length for group " + i);
+            }
+        }
+        return new CodeFormat(positions, prefix, toMask(separators), required,
+                minLengths.clone(), maxLengths.clone());
+    }
+
+    /**
+     * Return the length of the code (excluding any prefix and separators).
+     *
+     * @return The length of the code
+     */
+    public int getLength() {
+        return positions.length / 2;
+    }
+
+    /**
+     * Check that the input matches this format.
+     *
+     * @param input The input to check
+     * @return <code>true</code> if the input matches, otherwise <code>false</code>
+     */
+    public boolean matches(final String input) {
+        return input != null && scan(input, null, null) > 0;
+    }
+
+    /**
+     * Scan the input, passing each character of the code to a check digit
+     * accumulator and optionally appending it to a buffer.
+     *
+     * @param input The input to scan
+     * @param accumulator The check digit accumulator, may be <code>null</code>
+     * @param code The buffer for the code (with the prefix, separators and
+     * surrounding whitespace removed), may be <code>null</code>
+     * @return The length of the code, zero if the input is blank
+     * or <code>-1</code> if it doesn't match the format
+     */
+    int scan(final String input, final CheckDigitAccumulator accumulator, final StringBuilder code) {
+        int start = 0;
+        int end = input.length();
+        // trim, as String.trim()
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return 0;
+        }
+        if (prefix != null && input.startsWith(prefix, start)) {
+            start += prefix.length();
+        }
+        final int maxLength = getLength();
+        int length = 0;
+        int group = 0;
+        int groupStart = 0;
+        for (int i = start; i < end; i++) {
+            final char c = input.charAt(i);
+            if (minGroupLengths != null && isSet(separators, 0, c)) {
+                if (group == minGroupLengths.length - 1 || !isGroupLength(group, length - groupStart)) {
+                    return -1;
+                }
+                group++;
+                groupStart = length;
+            } else if (length < maxLength && isSet(positions, length * 2, c)) {
+                if (accumulator != null) {
+                    accumulator.append(c);
+                }
+                if (code != null) {
+                    code.append(c);
+                }
+                length++;
+            } else {
+                return -1;
+            }
+        }
+        if (length != maxLength) {
+            return -1;
+        }
+        if (minGroupLengths != null) {
+            if (group == 0) {
+                if (separatorRequired && minGroupLengths.length > 1) {
+                    return -1;
+                }
+            } else if (group != minGroupLengths.length - 1 || !isGroupLength(group, length - groupStart)) {
+                return -1;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Check the length of a group.
+     *
+     * @param group The index of the group
+     * @param length The length of the group
+     * @return <code>true</code> if the length is allowed
+     */
+    private boolean isGroupLength(final int group, final int length) {
+        return length >= minGroupLengths[group] && length <= maxGroupLengths[group];
+    }
+
+    /**
+     * Check whether a character is in a mask.
+     *
+     * @param mask The mask words
+     * @param offset The offset of the two mask words to use
+     * @param c The character
+     * @return <code>true</code> if the character is in the mask
+     */
+    private static boolean isSet(final long[] mask, final int offset, final char c) {
+        return c < 2 * WORD_SIZE && (mask[offset + c / WORD_SIZE] & 1L << c) != 0;
+    }
+
+    /**
+     * Convert a set of characters to mask words.
+     *
+     * @param chars The characters
+     * @return The two mask words
+     */
+    private static long[] toMask(final String chars) {
+        final long[] mask = new long[2];
+        for (int i = 0; i < chars.length(); i++) {
+            final char c = chars.charAt(i);
+            if (c >= 2 * WORD_SIZE) {
+                throw new IllegalArgumentException("Invalid character: " + c);
+            }
+            mask[c / WORD_SIZE] |= 1L << c;
+        }
+        return mask;
+    }
+
+}
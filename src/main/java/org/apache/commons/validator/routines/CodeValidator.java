@@ -19,6 +19,7 @@ package org.apache.commons.validator.routines;
 import java.io.Serializable;
 
 import org.apache.commons.validator.routines.checkdigit.CheckDigit;
+import org.apache.commons.validator.routines.checkdigit.CheckDigitAccumulator;
 
 /**
  * Generic <b>Code Validation</b> providing format, minimum/maximum
@@ -63,6 +64,10 @@ import org.apache.commons.validator.routines.checkdigit.CheckDigit;
  * expression (i.e. use the <code>(?:   )</code> notation).
  * <br>
  * Or just avoid using parentheses except for the parts you want to capture
+ * <p>
+ * Alternatively the format can be specified as a {@link CodeFormat}, in which case
+ * the trimming, format, length and check digit validations are done in a single
+ * pass over the input and {@link #isValid(String)} doesn't create any Strings.
  *
  * @since 1.4
  */
@@ -71,6 +76,7 @@ public final class CodeValidator implements Serializable {
     private static final long serialVersionUID = 446960910870938233L;
 
     private final RegexValidator regexValidator;
+    private final CodeFormat format;
     private final int minLength;
     private final int maxLength;
     private final CheckDigit checkdigit;
@@ -118,6 +124,7 @@ public final class CodeValidator implements Serializable {
         } else {
             this.regexValidator = null;
         }
+        this.format = null;
         this.minLength = minLength;
         this.maxLength = maxLength;
         this.checkdigit = checkdigit;
@@ -159,6 +166,43 @@ public final class CodeValidator implements Serializable {
     public CodeValidator(final RegexValidator regexValidator, final int minLength, final int maxLength,
             final CheckDigit checkdigit) {
         this.regexValidator = regexValidator;
+        this.format = null;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.checkdigit = checkdigit;
+    }
+
+    /**
+     * Construct a code validator with a specified compiled format,
+     * length and {@link CheckDigit} validation.
+     *
+     * @param format The compiled code format
+     * @param length The length of the code
+     *  (sets the mimimum/maximum to the same value)
+     * @param checkdigit The check digit validation routine
+     * @since 1.8
+     */
+    public CodeValidator(final CodeFormat format, final int length, final CheckDigit checkdigit) {
+        this(format, length, length, checkdigit);
+    }
+
+    /**
+     * Construct a code validator with a specified compiled format,
+     * minimum/maximum length and {@link CheckDigit} validation.
+     *
+     * @param format The compiled code format
+     * @param minLength The minimum length of the code
+     * @param maxLength The maximum length of the code
+     * @param checkdigit The check digit validation routine
+     * @since 1.8
+     */
+    public CodeValidator(final CodeFormat format, final int minLength, final int maxLength,
+            final CheckDigit checkdigit) {
+        if (format == null) {
+            throw new IllegalArgumentException("Code format is missing");
+        }
+        this.regexValidator = null;
+        this.format = format;
         this.minLength = minLength;
         this.maxLength = maxLength;
         this.checkdigit = checkdigit;
@@ -214,6 +258,17 @@ public final class CodeValidator implements Serializable {
         return regexValidator;
     }
 
+    /**
+     * Return the compiled code format.
+     *
+     * @return The compiled code format or <code>null</code>
+     * if the validator was constructed with a regular expression
+     * @since 1.8
+     */
+    public CodeFormat getFormat() {
+        return format;
+    }
+
     /**
      * Validate the code returning either <code>true</code>
      * or <code>false</code>.
@@ -224,12 +279,18 @@ public final class CodeValidator implements Serializable {
      * Note that {@link #validate(String)} trims the input
      * and if there is a {@link RegexValidator} it may also
      * change the input as part of the validation.
+     * <p>
+     * If there is a {@link CodeFormat} the code is validated in a
+     * single pass, without creating the validated code.
      *
      * @param input The code to validate
      * @return <code>true</code> if valid, otherwise
      * <code>false</code>
      */
     public boolean isValid(final String input) {
+        if (format != null) {
+            return isValid(input, null);
+        }
         return (validate(input) != null);
     }
 
@@ -251,6 +312,45 @@ public final class CodeValidator implements Serializable {
             return null;
         }
 
+        if (format != null) {
+            final StringBuilder buffer = new StringBuilder(format.getLength());
+            return isValid(input, buffer) ? buffer.toString() : null;
+        }
+
+        final String code = validateFormat(input);
+        if (code == null) {
+            return null;
+        }
+
+        // validate the check digit
+        if (checkdigit != null && !checkdigit.isValid(code)) {
+            return null;
+        }
+
+        return code;
+
+    }
+
+    /**
+     * Validate the format and length of the code, without
+     * validating the check digit.
+     *
+     * @param input The code to validate
+     * @return The code if the format and length are valid,
+     * otherwise <code>null</code>
+     */
+    String validateFormat(final String input) {
+
+        if (input == null) {
+            return null;
+        }
+
+        if (format != null) {
+            final StringBuilder buffer = new StringBuilder(format.getLength());
+            final int length = format.scan(input, null, buffer);
+            return length > 0 && isValidLength(length) ? buffer.toString() : null;
+        }
+
         String code = input.trim();
         if (code.isEmpty()) {
             return null;
@@ -265,13 +365,7 @@ public final class CodeValidator implements Serializable {
         }
 
         // check the length (must be done after validate as that can change the code)
-        if ((minLength >= 0 && code.length() < minLength) ||
-            (maxLength >= 0 && code.length() > maxLength)) {
-            return null;
-        }
-
-        // validate the check digit
-        if (checkdigit != null && !checkdigit.isValid(code)) {
+        if (!isValidLength(code.length())) {
             return null;
         }
 
@@ -279,4 +373,35 @@ public final class CodeValidator implements Serializable {
 
     }
 
+    /**
+     * Check the length of the code.
+     *
+     * @param length The length of the code
+     * @return <code>true</code> if the length is within the minimum/maximum
+     */
+    private boolean isValidLength(final int length) {
+        return (minLength < 0 || length >= minLength) &&
+               (maxLength < 0 || length <= maxLength);
+    }
+
+    /**
+     * Validate the code against the compiled format, length and check digit
+     * in a single pass.
+     *
+     * @param input The code to validate
+     * @param code The buffer for the validated code, may be <code>null</code>
+     * @return <code>true</code> if valid, otherwise <code>false</code>
+     */
+    private boolean isValid(final String input, final StringBuilder code) {
+        if (input == null) {
+            return false;
+        }
+        final CheckDigitAccumulator accumulator = checkdigit == null ? null : checkdigit.newAccumulator();
+        final int length = format.scan(input, accumulator, code);
+        if (length <= 0 || !isValidLength(length)) {
+            return false;
+        }
+        return accumulator == null || accumulator.isValid();
+    }
+
 }
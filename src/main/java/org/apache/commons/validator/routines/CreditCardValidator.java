@@ -17,7 +17,10 @@
 package org.apache.commons.validator.routines;
 
 import org.apache.commons.validator.routines.checkdigit.CheckDigit;
+import org.apache.commons.validator.routines.checkdigit.CheckDigitAccumulator;
 import org.apache.commons.validator.routines.checkdigit.LuhnCheckDigit;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
@@ -199,12 +202,51 @@ public class CreditCardValidator implements Serializable {
     @Deprecated
     public static final long MASTERCARD_PRE_OCT2016 = 1 << 6; // CHECKSTYLE IGNORE MagicNumber
 
+    /**
+     * Identifier returned by {@link #identify(CharSequence)} for a card
+     * belonging to a {@link CreditCardRange}, to which the index of the
+     * range in the array the validator was created with is added.
+     * @since 1.8
+     */
+    public static final long CUSTOM_RANGE = 1L << 32; // CHECKSTYLE IGNORE MagicNumber
+
+    /**
+     * Identifier returned by {@link #identify(CharSequence)} for a card
+     * accepted by a {@link CodeValidator} which is not one of the predefined
+     * card validators, to which the index of the validator in the array the
+     * validator was created with is added.
+     * @since 1.8
+     */
+    public static final long CUSTOM_VALIDATOR = 1L << 48; // CHECKSTYLE IGNORE MagicNumber
+
 
     /**
      * The CreditCardTypes that are allowed to pass validation.
      */
     private final List<CodeValidator> cardTypes = new ArrayList<>();
 
+    /**
+     * The option flag of each card type, {@link #NONE} if it isn't predefined,
+     * for restoring the predefined card types when deserialized.
+     */
+    private final long[] cardTypeOptions;
+
+    /**
+     * The index of the {@link CreditCardRange}s validated by the last card type,
+     * or <code>null</code> if the validator was created without ranges.
+     */
+    private final CardRangeIndex rangeIndex;
+
+    /**
+     * The prefixes of the card types, for identifying cards.
+     */
+    private transient CardTypeIndex cardTypeIndex;
+
+    /**
+     * The separator characters skipped in card numbers, or <code>null</code> if none are allowed.
+     */
+    private final String separators;
+
     /**
      * Luhn checkdigit validator for the card numbers.
      */
@@ -325,6 +367,10 @@ public class CreditCardValidator implements Serializable {
         if (isOn(options, DINERS)) {
             this.cardTypes.add(DINERS_VALIDATOR);
         }
+        this.cardTypeOptions = cardTypeOptions(cardTypes);
+        this.rangeIndex = null;
+        this.cardTypeIndex = new CardTypeIndex(cardTypes, null);
+        this.separators = null;
     }
 
     /**
@@ -336,6 +382,10 @@ public class CreditCardValidator implements Serializable {
             throw new IllegalArgumentException("Card validators are missing");
         }
         Collections.addAll(cardTypes, creditCardValidators);
+        this.cardTypeOptions = cardTypeOptions(cardTypes);
+        this.rangeIndex = null;
+        this.cardTypeIndex = new CardTypeIndex(cardTypes, null);
+        this.separators = null;
     }
 
     /**
@@ -347,7 +397,11 @@ public class CreditCardValidator implements Serializable {
         if (creditCardRanges == null) {
             throw new IllegalArgumentException("Card ranges are missing");
         }
-        Collections.addAll(cardTypes, createRangeValidator(creditCardRanges, LUHN_VALIDATOR));
+        this.rangeIndex = new CardRangeIndex(creditCardRanges);
+        cardTypes.add(createRangeValidator(rangeIndex, LUHN_VALIDATOR));
+        this.cardTypeOptions = cardTypeOptions(cardTypes);
+        this.cardTypeIndex = new CardTypeIndex(cardTypes, rangeIndex);
+        this.separators = null;
     }
 
     /**
@@ -368,7 +422,44 @@ public class CreditCardValidator implements Serializable {
             throw new IllegalArgumentException("Card ranges are missing");
         }
         Collections.addAll(cardTypes, creditCardValidators);
-        Collections.addAll(cardTypes, createRangeValidator(creditCardRanges, LUHN_VALIDATOR));
+        this.rangeIndex = new CardRangeIndex(creditCardRanges);
+        cardTypes.add(createRangeValidator(rangeIndex, LUHN_VALIDATOR));
+        this.cardTypeOptions = cardTypeOptions(cardTypes);
+        this.cardTypeIndex = new CardTypeIndex(cardTypes, rangeIndex);
+        this.separators = null;
+    }
+
+    /**
+     * Create a copy of a CreditCardValidator with different separators.
+     * @param validator The validator to copy
+     * @param separators The separator characters, or <code>null</code>
+     */
+    private CreditCardValidator(final CreditCardValidator validator, final String separators) {
+        this.cardTypes.addAll(validator.cardTypes);
+        this.cardTypeOptions = validator.cardTypeOptions;
+        this.rangeIndex = validator.rangeIndex;
+        this.cardTypeIndex = validator.cardTypeIndex;
+        this.separators = separators;
+    }
+
+    /**
+     * Return a validator for the same card types which skips separator
+     * characters, such as spaces and hyphens, in card numbers.
+     * <p>
+     * The separators are skipped when matching the leading digits,
+     * counting the length and calculating the Luhn check digit of the
+     * predefined card types and {@link CreditCardRange}s, so numbers such
+     * as <code>"4417 1234 5678 9113"</code> are validated without first
+     * removing the separators. Custom {@link CodeValidator}s are given
+     * the number unchanged.
+     * </p>
+     * @param separators The separator characters, or <code>null</code> or
+     * an empty String if no separators are allowed
+     * @return A validator which skips the separators
+     * @since 1.8
+     */
+    public CreditCardValidator withSeparators(final String separators) {
+        return new CreditCardValidator(this, separators == null || separators.isEmpty() ? null : separators);
     }
 
     /**
@@ -416,12 +507,7 @@ public class CreditCardValidator implements Serializable {
         if (card == null || card.isEmpty()) {
             return false;
         }
-        for (final CodeValidator cardType : cardTypes) {
-            if (cardType.isValid(card)) {
-                return true;
-            }
-        }
-        return false;
+        return identify(card) != NONE;
     }
 
     /**
@@ -434,15 +520,125 @@ public class CreditCardValidator implements Serializable {
         if (card == null || card.isEmpty()) {
             return null;
         }
-        Object result = null;
-        for (final CodeValidator cardType : cardTypes) {
-            result = cardType.validate(card);
-            if (result != null) {
-                return result;
+        final long type = identify(card);
+        if (type == NONE) {
+            return null;
+        }
+        if (type >= CUSTOM_VALIDATOR) {
+            return cardTypes.get((int) (type - CUSTOM_VALIDATOR)).validate(card);
+        }
+        final String code = card.trim();
+        return separators == null ? code : removeSeparators(code, 0, code.length(), separators);
+
+    }
+
+    /**
+     * Identify the type of a credit card number.
+     * <p>
+     * The card types are tried in the order they were configured, and the
+     * first one which accepts the number is returned. The predefined card
+     * types and {@link CreditCardRange}s are found from the leading digits
+     * of the number with a single lookup, and the Luhn check digit is only
+     * validated once, skipping any separators (see {@link #withSeparators(String)}).
+     * </p>
+     * @param card The card number to identify.
+     * @return The option flag of the predefined card type (e.g. {@link #VISA}),
+     * {@link #CUSTOM_RANGE} or {@link #CUSTOM_VALIDATOR} plus the index of the
+     * custom range or validator, or {@link #NONE} if the card number is invalid.
+     * @since 1.8
+     */
+    public long identify(final CharSequence card) {
+        return identify(card, null);
+    }
+
+    /**
+     * Validate a credit card number, writing it without surrounding
+     * whitespace and separators to a buffer.
+     * <p>
+     * This allows a number to be validated and normalized without
+     * creating any Strings (unless it is accepted by a custom {@link CodeValidator}).
+     * The contents of the buffer are undefined if the number is invalid.
+     * </p>
+     * @param card The card number to validate.
+     * @param buffer The buffer for the normalized card number.
+     * @return The length of the normalized card number, or <code>-1</code>
+     * if the card number is invalid.
+     * @throws IllegalArgumentException if the normalized card number is
+     * longer than the buffer.
+     * @since 1.8
+     */
+    public int normalize(final CharSequence card, final char[] buffer) {
+        final long type = identify(card, buffer);
+        if (type == NONE) {
+            return -1;
+        }
+        final int length;
+        if (type >= CUSTOM_VALIDATOR) {
+            final String code = (String) cardTypes.get((int) (type - CUSTOM_VALIDATOR)).validate(card.toString());
+            length = code.length();
+            if (length <= buffer.length) {
+                code.getChars(0, length, buffer, 0);
             }
+        } else {
+            int digits = 0;
+            for (int i = 0; i < card.length(); i++) {
+                final char c = card.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    digits++;
+                }
+            }
+            length = digits;
+        }
+        if (length > buffer.length) {
+            throw new IllegalArgumentException("Card number is longer than the buffer: " + length);
+        }
+        return length;
+    }
+
+    /**
+     * Identify the type of a credit card number, optionally writing its
+     * digits to a buffer.
+     * @param card The card number to identify.
+     * @param buffer The buffer for the digits, or <code>null</code>
+     * @return The card type identifier or {@link #NONE}
+     */
+    private long identify(final CharSequence card, final char[] buffer) {
+        if (card == null) {
+            return NONE;
+        }
+        int start = 0;
+        int end = card.length();
+        // trim, as String.trim()
+        while (start < end && card.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && card.charAt(end - 1) <= ' ') {
+            end--;
         }
-        return null;
+        if (start == end) {
+            return NONE;
+        }
+        return cardTypeIndex.identify(card, start, end, separators, buffer, cardTypes);
+    }
 
+    /**
+     * Remove the separators from part of a card number.
+     * @param card The characters containing the card number
+     * @param start The index of the first character of the card number
+     * @param end The index after the last character of the card number
+     * @param separators The separator characters, or <code>null</code>
+     * @return The card number without the separators
+     */
+    private static String removeSeparators(final CharSequence card, final int start, final int end,
+            final String separators) {
+        final StringBuilder buffer = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            final char c = card.charAt(i);
+            if (separators == null || separators.indexOf(c) < 0) {
+                buffer.append(c);
+            }
+        }
+        return buffer.toString();
     }
 
     // package protected for unit test access
@@ -460,32 +656,18 @@ public class CreditCardValidator implements Serializable {
 
     // package protected for unit test access
     static CodeValidator createRangeValidator(final CreditCardRange[] creditCardRanges, final CheckDigit digitCheck ) {
+        return createRangeValidator(new CardRangeIndex(creditCardRanges), digitCheck);
+    }
+
+    private static CodeValidator createRangeValidator(final CardRangeIndex index, final CheckDigit digitCheck) {
         return new CodeValidator(
                 // must be numeric (rest of validation is done later)
                 new RegexValidator("(\\d+)") {
                     private static final long serialVersionUID = 1L;
-                    private final CreditCardRange[] ccr = creditCardRanges.clone();
                     @Override
                     // must return full string
                     public String validate(final String value) {
-                        if (super.match(value) != null) {
-                            final int length = value.length();
-                            for(final CreditCardRange range : ccr) {
-                                if (validLength(length, range)) {
-                                    if (range.high == null) { // single prefix only
-                                        if (value.startsWith(range.low)) {
-                                            return value;
-                                        }
-                                    } else if (range.low.compareTo(value) <= 0 // no need to trim value here
-                                                &&
-                                                // here we have to ignore digits beyond the prefix
-                                                range.high.compareTo(value.substring(0, range.high.length())) >= 0) {
-                                               return value;
-                                    }
-                                }
-                            }
-                        }
-                        return null;
+                        return index.indexOf(value) >= 0 ? value : null;
                     }
                     @Override
                     public boolean isValid(final String value) {
@@ -498,6 +680,46 @@ public class CreditCardValidator implements Serializable {
                 }, digitCheck);
     }
 
+    /**
+     * Return the option flag of each card type.
+     *
+     * @param cardTypes The card types
+     * @return The option flags, {@link #NONE} for the card types which aren't predefined
+     */
+    private static long[] cardTypeOptions(final List<CodeValidator> cardTypes) {
+        final long[] options = new long[cardTypes.size()];
+        for (int p = 0; p < options.length; p++) {
+            options[p] = CardTypeIndex.predefinedType(cardTypes.get(p));
+        }
+        return options;
+    }
+
+    /**
+     * Restore the predefined card types, which are recognised by identity,
+     * and rebuild the index of the card types.
+     * <p>
+     * Validators serialized before the index existed don't have the option
+     * flags or the range index, so all their card types are validated as
+     * custom validators.
+     *
+     * @param in The stream to read from
+     * @throws IOException if the stream can't be read
+     * @throws ClassNotFoundException if a class of the validator can't be found
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (cardTypeOptions != null && cardTypeOptions.length == cardTypes.size()) {
+            for (int p = 0; p < cardTypeOptions.length; p++) {
+                final CodeValidator predefined = CardTypeIndex.predefinedValidator(cardTypeOptions[p]);
+                if (predefined != null) {
+                    cardTypes.set(p, predefined);
+                }
+            }
+        }
+        final CardRangeIndex ranges = rangeIndex != null && !cardTypes.isEmpty() ? rangeIndex : null;
+        cardTypeIndex = new CardTypeIndex(cardTypes, ranges);
+    }
+
     /**
      * Tests whether the given flag is on.  If the flag is not a power of 2
      * (ie. 3) this tests whether the combination of flags is on.
@@ -511,4 +733,294 @@ public class CreditCardValidator implements Serializable {
         return (options & flag) > 0;
     }
 
+    /**
+     * Index of the leading digits of the predefined card types and
+     * {@link CreditCardRange}s of a validator.
+     */
+    private static final class CardTypeIndex {
+
+        /** The index of the ranges of the predefined card types */
+        private final CardRangeIndex predefined;
+
+        /** The card type identifier of each predefined range */
+        private final long[] predefinedIds;
+
+        /** The position in the card types of the card type of each predefined range */
+        private final int[] predefinedPositions;
+
+        /** The index of the custom ranges, or <code>null</code> if there aren't any */
+        private final CardRangeIndex custom;
+
+        /** The position in the card types of the custom range validator */
+        private final int customPosition;
+
+        /** The positions in the card types of the custom validators */
+        private final int[] customValidators;
+
+        /**
+         * Construct the index of some card types.
+         *
+         * @param cardTypes The card types
+         * @param rangeIndex The index of the custom ranges, which are
+         * validated by the last card type, or <code>null</code>
+         */
+        CardTypeIndex(final List<CodeValidator> cardTypes, final CardRangeIndex rangeIndex) {
+            final List<CreditCardRange> ranges = new ArrayList<>();
+            final List<Long> ids = new ArrayList<>();
+            final List<Integer> positions = new ArrayList<>();
+            final List<Integer> validators = new ArrayList<>();
+            final int types = rangeIndex == null ? cardTypes.size() : cardTypes.size() - 1;
+            for (int p = 0; p < types; p++) {
+                final CodeValidator cardType = cardTypes.get(p);
+                final long id = predefinedType(cardType);
+                if (id == NONE) {
+                    validators.add(Integer.valueOf(p));
+                    continue;
+                }
+                for (final CreditCardRange range : predefinedRanges(id)) {
+                    ranges.add(range);
+                    ids.add(Long.valueOf(id));
+                    positions.add(Integer.valueOf(p));
+                }
+            }
+            this.predefined = new CardRangeIndex(ranges.toArray(new CreditCardRange[ranges.size()]));
+            this.predefinedIds = new long[ids.size()];
+            this.predefinedPositions = new int[positions.size()];
+            for (int r = 0; r < predefinedIds.length; r++) {
+                predefinedIds[r] = ids.get(r).longValue();
+                predefinedPositions[r] = positions.get(r).intValue();
+            }
+            this.custom = rangeIndex;
+            this.customPosition = types;
+            this.customValidators = new int[validators.size()];
+            for (int i = 0; i < customValidators.length; i++) {
+                customValidators[i] = validators.get(i).intValue();
+            }
+        }
+
+        /**
+         * Identify the type of a credit card number.
+         * <p>
+         * The leading digits, length and Luhn check digit of the number
+         * are all found in a single pass, skipping any separators.
+         * </p>
+         *
+         * @param card The characters containing the card number
+         * @param start The index of the first character of the (trimmed) card number
+         * @param end The index after the last character of the card number
+         * @param separators The separator characters to skip, or <code>null</code>
+         * @param buffer The buffer for the digits of the number, or <code>null</code>
+         * @param cardTypes The card types
+         * @return The card type identifier or {@link CreditCardValidator#NONE}
+         */
+        long identify(final CharSequence card, final int start, final int end, final String separators,
+                final char[] buffer, final List<CodeValidator> cardTypes) {
+            final int keyDigits = custom == null ? predefined.getKeyDigits()
+                    : Math.max(predefined.getKeyDigits(), custom.getKeyDigits());
+            final CheckDigitAccumulator luhn = LUHN_VALIDATOR.newAccumulator();
+            long key = 0;
+            int length = 0;
+            boolean numeric = true;
+            for (int i = start; i < end; i++) {
+                final char c = card.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    if (length < keyDigits) {
+                        key = key * 10 + (c - '0'); // CHECKSTYLE IGNORE MagicNumber
+                    }
+                    if (buffer != null && length < buffer.length) {
+                        buffer[length] = c;
+                    }
+                    luhn.append(c);
+                    length++;
+                } else if (separators == null || separators.indexOf(c) < 0) {
+                    numeric = false;
+                    break;
+                }
+            }
+
+            long id = NONE;
+            int position = Integer.MAX_VALUE;
+            if (numeric && length > 0) {
+                final int keyLength = Math.min(length, keyDigits);
+                final int r = indexOf(predefined, key, keyLength, length, card, start, end, separators);
+                if (r >= 0) {
+                    id = predefinedIds[r];
+                    position = predefinedPositions[r];
+                }
+                if (custom != null && customPosition < position) {
+                    final int c = indexOf(custom, key, keyLength, length, card, start, end, separators);
+                    if (c >= 0) {
+                        id = CUSTOM_RANGE + c;
+                        position = customPosition;
+                    }
+                }
+            }
+            // the custom validators configured before the matching card type
+            int v = 0;
+            String value = null;
+            for (; v < customValidators.length && customValidators[v] < position; v++) {
+                if (value == null) {
+                    value = card.toString();
+                }
+                if (cardTypes.get(customValidators[v]).isValid(value)) {
+                    return CUSTOM_VALIDATOR + customValidators[v];
+                }
+            }
+            // all the ranges use the Luhn check digit, so if this one fails they all do
+            if (id != NONE && luhn.isValid()) {
+                return id;
+            }
+            for (; v < customValidators.length; v++) {
+                if (value == null) {
+                    value = card.toString();
+                }
+                if (cardTypes.get(customValidators[v]).isValid(value)) {
+                    return CUSTOM_VALIDATOR + customValidators[v];
+                }
+            }
+            return NONE;
+        }
+
+        /**
+         * Find the first range that a card number belongs to.
+         *
+         * @param index The range index
+         * @param key The leading digits of the number
+         * @param keyLength The number of leading digits in the key
+         * @param length The number of digits in the card number
+         * @param card The characters containing the card number
+         * @param start The index of the first character of the card number
+         * @param end The index after the last character of the card number
+         * @param separators The separator characters to skip, or <code>null</code>
+         * @return The index of the first matching range or <code>-1</code>
+         */
+        private static int indexOf(final CardRangeIndex index, final long key, final int keyLength, final int length,
+                final CharSequence card, final int start, final int end, final String separators) {
+            final int digits = index.getKeyDigits();
+            if (digits < 0 || length < digits) {
+                return index.linearIndexOf(removeSeparators(card, start, end, separators));
+            }
+            long prefix = key;
+            for (int i = digits; i < keyLength; i++) {
+                prefix /= 10; // CHECKSTYLE IGNORE MagicNumber
+            }
+            return index.indexOf(prefix, length);
+        }
+
+        /**
+         * Return the option flag of a predefined card validator.
+         *
+         * @param cardType The card validator
+         * @return The option flag or {@link CreditCardValidator#NONE} if it isn't predefined
+         */
+        @SuppressWarnings("deprecation") // MASTERCARD_PRE_OCT2016 is still supported
+        private static long predefinedType(final CodeValidator cardType) {
+            if (cardType == AMEX_VALIDATOR) {
+                return AMEX;
+            }
+            if (cardType == VISA_VALIDATOR) {
+                return VISA;
+            }
+            if (cardType == MASTERCARD_VALIDATOR) {
+                return MASTERCARD;
+            }
+            if (cardType == DISCOVER_VALIDATOR) {
+                return DISCOVER;
+            }
+            if (cardType == DINERS_VALIDATOR) {
+                return DINERS;
+            }
+            if (cardType == VPAY_VALIDATOR) {
+                return VPAY;
+            }
+            if (cardType == MASTERCARD_VALIDATOR_PRE_OCT2016) {
+                return MASTERCARD_PRE_OCT2016;
+            }
+            return NONE;
+        }
+
+        /**
+         * Return the predefined card validator of an option flag.
+         *
+         * @param type The option flag
+         * @return The card validator or <code>null</code> if the flag isn't a predefined card type
+         */
+        @SuppressWarnings("deprecation") // MASTERCARD_PRE_OCT2016 is still supported
+        private static CodeValidator predefinedValidator(final long type) {
+            if (type == AMEX) {
+                return AMEX_VALIDATOR;
+            }
+            if (type == VISA) {
+                return VISA_VALIDATOR;
+            }
+            if (type == MASTERCARD) {
+                return MASTERCARD_VALIDATOR;
+            }
+            if (type == DISCOVER) {
+                return DISCOVER_VALIDATOR;
+            }
+            if (type == DINERS) {
+                return DINERS_VALIDATOR;
+            }
+            if (type == VPAY) {
+                return VPAY_VALIDATOR;
+            }
+            if (type == MASTERCARD_PRE_OCT2016) {
+                return MASTERCARD_VALIDATOR_PRE_OCT2016;
+            }
+            return null;
+        }
+
+        /**
+         * Return the ranges equivalent to the regular expressions of a predefined card validator.
+         *
+         * @param type The option flag of the card validator
+         * @return The ranges
+         */
+        //CHECKSTYLE:OFF: MagicNumber
+        @SuppressWarnings("deprecation") // MASTERCARD_PRE_OCT2016 is still supported
+        private static CreditCardRange[] predefinedRanges(final long type) {
+            if (type == AMEX) {
+                return new CreditCardRange[] {
+                    new CreditCardRange("34", null, 15, 15),
+                    new CreditCardRange("37", null, 15, 15),
+                };
+            }
+            if (type == VISA) {
+                return new CreditCardRange[] {new CreditCardRange("4", null, new int[] {13, 16})};
+            }
+            if (type == MASTERCARD) {
+                return new CreditCardRange[] {
+                    new CreditCardRange("51", "55", 16, 16),
+                    new CreditCardRange("2221", "2720", 16, 16),
+                };
+            }
+            if (type == DISCOVER) {
+                return new CreditCardRange[] {
+                    new CreditCardRange("6011", null, 16, 17),
+                    new CreditCardRange("644", "649", 16, 16),
+                    new CreditCardRange("65", null, 16, 16),
+                    new CreditCardRange("622", "628", 16, 16),
+                };
+            }
+            if (type == DINERS) {
+                return new CreditCardRange[] {
+                    new CreditCardRange("300", "305", 14, 14),
+                    new CreditCardRange("3095", null, 14, 14),
+                    new CreditCardRange("36", null, 14, 14),
+                    new CreditCardRange("38", "39", 14, 14),
+                };
+            }
+            if (type == VPAY) {
+                return new CreditCardRange[] {new CreditCardRange("4", null, 13, 19)};
+            }
+            if (type == MASTERCARD_PRE_OCT2016) {
+                return new CreditCardRange[] {new CreditCardRange("51", "55", 16, 16)};
+            }
+            return new CreditCardRange[0];
+        }
+        //CHECKSTYLE:ON: MagicNumber
+
+    }
+
 }
@@ -16,8 +16,10 @@
  */
 package org.apache.commons.validator.routines;
 
+import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.Format;
+import java.util.Locale;
 
 /**
  * <p><b>Currency Validation</b> and Conversion routines (<code>java.math.BigDecimal</code>).</p>
@@ -77,6 +79,29 @@ public class CurrencyValidator extends BigDecimalValidator {
         super(strict, CURRENCY_FORMAT, allowFractions);
     }
 
+    /**
+     * Parse the value with the cached {@link DecimalParser}s for the format with
+     * and without the currency symbol, in the same way as {@link #parse(String, Format)},
+     * unless a subclass may have changed how values are parsed.
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against.
+     * @param locale The locale to use for the number format.
+     * @return The parsed value, {@link DecimalParser#INVALID} if the value is invalid
+     *         or <code>null</code> if the value needs to be parsed by the format.
+     */
+    @Override
+    BigDecimal parseFast(final String value, final String pattern, final Locale locale) {
+        if (getClass() != CurrencyValidator.class) {
+            return null;
+        }
+        final BigDecimal result = parseDecimal(value, pattern, locale);
+        if (result != DecimalParser.INVALID) {
+            return result;
+        }
+        return parseDecimal(value, pattern, locale, CURRENCY_SYMBOL);
+    }
+
     /**
      * <p>Parse the value with the specified <code>Format</code>.</p>
      *
@@ -18,6 +18,9 @@ package org.apache.commons.validator.routines;
 
 import java.text.DateFormat;
 import java.text.Format;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
@@ -69,6 +72,10 @@ import java.util.TimeZone;
  *           whether the first year is equal, before or after the second.</li>
  *    </ul>
  *
+ * <p>The comparison methods are also provided for values in milliseconds
+ *    since the epoch and for <code>LocalDate</code> values, which don't
+ *    create <code>Calendar</code> instances.</p>
+ *
  * <p>So that the same mechanism used for parsing an <i>input</i> value
  *    for validation can be used to format <i>output</i>, corresponding
  *    <code>format()</code> methods are also provided. That is you can
@@ -220,6 +227,105 @@ public class DateValidator extends AbstractCalendarValidator {
         return (Date)parse(value, pattern, locale, timeZone);
     }
 
+    /**
+     * <p>Validate/convert a <code>LocalDate</code> using <code>java.time</code>
+     *    with the default <code>Locale</code> (see {@link #validateLocalDate(String, String, Locale)}).</p>
+     *
+     * @param value The value validation is being performed on.
+     * @return The parsed <code>LocalDate</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public LocalDate validateLocalDate(final String value) {
+        return validateLocalDate(value, (String)null, (Locale)null);
+    }
+
+    /**
+     * <p>Validate/convert a <code>LocalDate</code> using <code>java.time</code>
+     *    with the specified pattern (see {@link #validateLocalDate(String, String, Locale)}).</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against.
+     * @return The parsed <code>LocalDate</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public LocalDate validateLocalDate(final String value, final String pattern) {
+        return validateLocalDate(value, pattern, (Locale)null);
+    }
+
+    /**
+     * <p>Validate/convert a <code>LocalDate</code> using <code>java.time</code>
+     *    with the specified <code>Locale</code> (see {@link #validateLocalDate(String, String, Locale)}).</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param locale The locale to use for the date format, system default if null.
+     * @return The parsed <code>LocalDate</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public LocalDate validateLocalDate(final String value, final Locale locale) {
+        return validateLocalDate(value, (String)null, locale);
+    }
+
+    /**
+     * <p>Validate/convert a <code>LocalDate</code> using <code>java.time</code>
+     *    with the specified pattern and/or <code>Locale</code>.</p>
+     *
+     * <p>The formatter for the pattern and <code>Locale</code> is created once and
+     *    cached, see {@link #getDateTimeFormatter(String, Locale)} for the
+     *    differences from <code>SimpleDateFormat</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the date format, system default if null.
+     * @return The parsed <code>LocalDate</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public LocalDate validateLocalDate(final String value, final String pattern, final Locale locale) {
+        final ZonedDateTime result = parseDateTime(value, pattern, locale, (TimeZone)null);
+        return result == null ? null : result.toLocalDate();
+    }
+
+    /**
+     * <p>Validate/convert an <code>Instant</code> using <code>java.time</code>
+     *    with the specified pattern, <code>Locale</code> and <code>TimeZone</code>.</p>
+     *
+     * <p>The formatter for the pattern and <code>Locale</code> is created once and
+     *    cached, see {@link #parseDateTime(String, String, Locale, TimeZone)}.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the date format, system default if null.
+     * @param timeZone The Time Zone used to parse the date, system default if null.
+     * @return The parsed <code>Instant</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public Instant validateInstant(final String value, final String pattern, final Locale locale, final TimeZone timeZone) {
+        final ZonedDateTime result = parseDateTime(value, pattern, locale, timeZone);
+        return result == null ? null : result.toInstant();
+    }
+
+    /**
+     * <p>Validate/convert a <code>Date</code> using <code>java.time</code>
+     *    with the specified pattern, <code>Locale</code> and <code>TimeZone</code>.</p>
+     *
+     * <p>This parses the value in the same way as
+     *    {@link #validateInstant(String, String, Locale, TimeZone)}, for callers
+     *    which need a <code>Date</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the date format, system default if null.
+     * @param timeZone The Time Zone used to parse the date, system default if null.
+     * @return The parsed <code>Date</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public Date validateDate(final String value, final String pattern, final Locale locale, final TimeZone timeZone) {
+        final Instant result = validateInstant(value, pattern, locale, timeZone);
+        return result == null ? null : Date.from(result);
+    }
+
     /**
      * <p>Compare Dates (day, month and year - not time).</p>
      *
@@ -231,9 +337,7 @@ public class DateValidator extends AbstractCalendarValidator {
      * date is greater than.
      */
     public int compareDates(final Date value, final Date compare, final TimeZone timeZone) {
-        final Calendar calendarValue   = getCalendar(value, timeZone);
-        final Calendar calendarCompare = getCalendar(compare, timeZone);
-        return compare(calendarValue, calendarCompare, Calendar.DATE);
+        return compareDates(value.getTime(), compare.getTime(), timeZone);
     }
 
     /**
@@ -247,9 +351,7 @@ public class DateValidator extends AbstractCalendarValidator {
      * parameter's week is greater than.
      */
     public int compareWeeks(final Date value, final Date compare, final TimeZone timeZone) {
-        final Calendar calendarValue   = getCalendar(value, timeZone);
-        final Calendar calendarCompare = getCalendar(compare, timeZone);
-        return compare(calendarValue, calendarCompare, Calendar.WEEK_OF_YEAR);
+        return compareWeeks(value.getTime(), compare.getTime(), timeZone);
     }
 
     /**
@@ -263,9 +365,7 @@ public class DateValidator extends AbstractCalendarValidator {
      * parameter's month is greater than.
      */
     public int compareMonths(final Date value, final Date compare, final TimeZone timeZone) {
-        final Calendar calendarValue   = getCalendar(value, timeZone);
-        final Calendar calendarCompare = getCalendar(compare, timeZone);
-        return compare(calendarValue, calendarCompare, Calendar.MONTH);
+        return compareMonths(value.getTime(), compare.getTime(), timeZone);
     }
 
     /**
@@ -294,9 +394,7 @@ public class DateValidator extends AbstractCalendarValidator {
      * parameter's quarter is greater than.
      */
     public int compareQuarters(final Date value, final Date compare, final TimeZone timeZone, final int monthOfFirstQuarter) {
-        final Calendar calendarValue   = getCalendar(value, timeZone);
-        final Calendar calendarCompare = getCalendar(compare, timeZone);
-        return super.compareQuarters(calendarValue, calendarCompare, monthOfFirstQuarter);
+        return compareQuarters(value.getTime(), compare.getTime(), timeZone, monthOfFirstQuarter);
     }
 
     /**
@@ -310,40 +408,229 @@ public class DateValidator extends AbstractCalendarValidator {
      * parameter's year is greater than.
      */
     public int compareYears(final Date value, final Date compare, final TimeZone timeZone) {
-        final Calendar calendarValue   = getCalendar(value, timeZone);
-        final Calendar calendarCompare = getCalendar(compare, timeZone);
-        return compare(calendarValue, calendarCompare, Calendar.YEAR);
+        return compareYears(value.getTime(), compare.getTime(), timeZone);
     }
 
     /**
-     * <p>Returns the parsed <code>Date</code> unchanged.</p>
+     * <p>Compare Dates (day, month and year - not time) in milliseconds
+     *    since the epoch, without creating <code>Calendar</code> instances.</p>
      *
-     * @param value The parsed <code>Date</code> object created.
-     * @param formatter The Format used to parse the value with.
-     * @return The parsed value converted to a <code>Calendar</code>.
+     * @param value The value to check, in milliseconds since the epoch.
+     * @param compare The value to compare the value to, in milliseconds since the epoch.
+     * @param timeZone The Time Zone used to compare the dates, system default if null.
+     * @return Zero if the dates are equal, -1 if first
+     * date is less than the seconds and +1 if the first
+     * date is greater than.
+     * @since 1.8
+     */
+    public int compareDates(final long value, final long compare, final TimeZone timeZone) {
+        return compare(value, compare, timeZone, Calendar.DATE);
+    }
+
+    /**
+     * <p>Compare Weeks (week and year) in milliseconds since the epoch,
+     *    without creating <code>Calendar</code> instances.</p>
+     *
+     * @param value The value to check, in milliseconds since the epoch.
+     * @param compare The value to compare the value to, in milliseconds since the epoch.
+     * @param timeZone The Time Zone used to compare the dates, system default if null.
+     * @return Zero if the weeks are equal, -1 if first
+     * parameter's week is less than the seconds and +1 if the first
+     * parameter's week is greater than.
+     * @since 1.8
+     */
+    public int compareWeeks(final long value, final long compare, final TimeZone timeZone) {
+        return compare(value, compare, timeZone, Calendar.WEEK_OF_YEAR);
+    }
+
+    /**
+     * <p>Compare Months (month and year) in milliseconds since the epoch,
+     *    without creating <code>Calendar</code> instances.</p>
+     *
+     * @param value The value to check, in milliseconds since the epoch.
+     * @param compare The value to compare the value to, in milliseconds since the epoch.
+     * @param timeZone The Time Zone used to compare the dates, system default if null.
+     * @return Zero if the months are equal, -1 if first
+     * parameter's month is less than the seconds and +1 if the first
+     * parameter's month is greater than.
+     * @since 1.8
+     */
+    public int compareMonths(final long value, final long compare, final TimeZone timeZone) {
+        return compare(value, compare, timeZone, Calendar.MONTH);
+    }
+
+    /**
+     * <p>Compare Quarters (quarter and year) in milliseconds since the epoch,
+     *    without creating <code>Calendar</code> instances.</p>
+     *
+     * @param value The value to check, in milliseconds since the epoch.
+     * @param compare The value to compare the value to, in milliseconds since the epoch.
+     * @param timeZone The Time Zone used to compare the dates, system default if null.
+     * @return Zero if the quarters are equal, -1 if first
+     * parameter's quarter is less than the seconds and +1 if the first
+     * parameter's quarter is greater than.
+     * @since 1.8
+     */
+    public int compareQuarters(final long value, final long compare, final TimeZone timeZone) {
+        return compareQuarters(value, compare, timeZone, 1);
+    }
+
+    /**
+     * <p>Compare Quarters (quarter and year) in milliseconds since the epoch,
+     *    without creating <code>Calendar</code> instances.</p>
+     *
+     * @param value The value to check, in milliseconds since the epoch.
+     * @param compare The value to compare the value to, in milliseconds since the epoch.
+     * @param timeZone The Time Zone used to compare the dates, system default if null.
+     * @param monthOfFirstQuarter The  month that the first quarter starts.
+     * @return Zero if the quarters are equal, -1 if first
+     * parameter's quarter is less than the seconds and +1 if the first
+     * parameter's quarter is greater than.
+     * @since 1.8
      */
     @Override
-    protected Object processParsedValue(final Object value, final Format formatter) {
-        return value;
+    public int compareQuarters(final long value, final long compare, final TimeZone timeZone,
+            final int monthOfFirstQuarter) {
+        return super.compareQuarters(value, compare, timeZone, monthOfFirstQuarter);
+    }
+
+    /**
+     * <p>Compare Years in milliseconds since the epoch, without creating
+     *    <code>Calendar</code> instances.</p>
+     *
+     * @param value The value to check, in milliseconds since the epoch.
+     * @param compare The value to compare the value to, in milliseconds since the epoch.
+     * @param timeZone The Time Zone used to compare the dates, system default if null.
+     * @return Zero if the years are equal, -1 if first
+     * parameter's year is less than the seconds and +1 if the first
+     * parameter's year is greater than.
+     * @since 1.8
+     */
+    public int compareYears(final long value, final long compare, final TimeZone timeZone) {
+        return compare(value, compare, timeZone, Calendar.YEAR);
+    }
+
+    /**
+     * <p>Compare <code>LocalDate</code> Dates (day, month and year).</p>
+     *
+     * @param value The <code>LocalDate</code> value to check.
+     * @param compare The <code>LocalDate</code> to compare the value to.
+     * @return Zero if the dates are equal, -1 if first
+     * date is less than the seconds and +1 if the first
+     * date is greater than.
+     * @since 1.8
+     */
+    public int compareDates(final LocalDate value, final LocalDate compare) {
+        return compare(value, compare, Calendar.DATE);
+    }
+
+    /**
+     * <p>Compare <code>LocalDate</code> Weeks (week and year), using the
+     *    week numbering of the default <code>Locale</code>.</p>
+     *
+     * @param value The <code>LocalDate</code> value to check.
+     * @param compare The <code>LocalDate</code> to compare the value to.
+     * @return Zero if the weeks are equal, -1 if first
+     * parameter's week is less than the seconds and +1 if the first
+     * parameter's week is greater than.
+     * @since 1.8
+     */
+    public int compareWeeks(final LocalDate value, final LocalDate compare) {
+        return compare(value, compare, Calendar.WEEK_OF_YEAR);
+    }
+
+    /**
+     * <p>Compare <code>LocalDate</code> Months (month and year).</p>
+     *
+     * @param value The <code>LocalDate</code> value to check.
+     * @param compare The <code>LocalDate</code> to compare the value to.
+     * @return Zero if the months are equal, -1 if first
+     * parameter's month is less than the seconds and +1 if the first
+     * parameter's month is greater than.
+     * @since 1.8
+     */
+    public int compareMonths(final LocalDate value, final LocalDate compare) {
+        return compare(value, compare, Calendar.MONTH);
+    }
+
+    /**
+     * <p>Compare <code>LocalDate</code> Quarters (quarter and year).</p>
+     *
+     * @param value The <code>LocalDate</code> value to check.
+     * @param compare The <code>LocalDate</code> to compare the value to.
+     * @return Zero if the quarters are equal, -1 if first
+     * parameter's quarter is less than the seconds and +1 if the first
+     * parameter's quarter is greater than.
+     * @since 1.8
+     */
+    public int compareQuarters(final LocalDate value, final LocalDate compare) {
+        return compareQuarters(value, compare, 1);
+    }
+
+    /**
+     * <p>Compare <code>LocalDate</code> Quarters (quarter and year).</p>
+     *
+     * @param value The <code>LocalDate</code> value to check.
+     * @param compare The <code>LocalDate</code> to compare the value to.
+     * @param monthOfFirstQuarter The  month that the first quarter starts.
+     * @return Zero if the quarters are equal, -1 if first
+     * parameter's quarter is less than the seconds and +1 if the first
+     * parameter's quarter is greater than.
+     * @since 1.8
+     */
+    @Override
+    public int compareQuarters(final LocalDate value, final LocalDate compare, final int monthOfFirstQuarter) {
+        return super.compareQuarters(value, compare, monthOfFirstQuarter);
+    }
+
+    /**
+     * <p>Compare <code>LocalDate</code> Years.</p>
+     *
+     * @param value The <code>LocalDate</code> value to check.
+     * @param compare The <code>LocalDate</code> to compare the value to.
+     * @return Zero if the years are equal, -1 if first
+     * parameter's year is less than the seconds and +1 if the first
+     * parameter's year is greater than.
+     * @since 1.8
+     */
+    public int compareYears(final LocalDate value, final LocalDate compare) {
+        return compare(value, compare, Calendar.YEAR);
     }
 
     /**
-     * <p>Convert a <code>Date</code> to a <code>Calendar</code>.</p>
+     * <p>Whether values with an ISO-8601 pattern can be parsed without the format,
+     *    and values compared without calendars, unless a subclass may have changed
+     *    how values are parsed or compared.</p>
      *
-     * @param value The date value to be converted.
-     * @return The converted <code>Calendar</code>.
+     * @return <code>true</code> if this isn't a subclass.
      */
-    private Calendar getCalendar(final Date value, final TimeZone timeZone) {
+    @Override
+    boolean isFastPath() {
+        return getClass() == DateValidator.class;
+    }
 
-        Calendar calendar = null;
-        if (timeZone != null) {
-            calendar = Calendar.getInstance(timeZone);
-        } else {
-            calendar = Calendar.getInstance();
-        }
-        calendar.setTime(value);
-        return calendar;
+    /**
+     * <p>Convert the milliseconds parsed without the format to a <code>Date</code>.</p>
+     *
+     * @param millis The milliseconds since the epoch.
+     * @param timeZone The Time Zone used to parse the date.
+     * @return The parsed <code>Date</code>.
+     */
+    @Override
+    Object toParsedValue(final long millis, final TimeZone timeZone) {
+        return new Date(millis);
+    }
 
+    /**
+     * <p>Returns the parsed <code>Date</code> unchanged.</p>
+     *
+     * @param value The parsed <code>Date</code> object created.
+     * @param formatter The Format used to parse the value with.
+     * @return The parsed value converted to a <code>Calendar</code>.
+     */
+    @Override
+    protected Object processParsedValue(final Object value, final Format formatter) {
+        return value;
     }
 
 }
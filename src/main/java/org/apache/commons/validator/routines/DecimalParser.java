@@ -0,0 +1,314 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.Format;
+
+/**
+ * Parses decimal numbers to a <code>BigDecimal</code> in the common case of digits,
+ * grouping separators and a decimal separator, with the prefixes and suffixes of the
+ * format, without the intermediate objects created by <code>DecimalFormat</code>.
+ * <p>
+ * The parser is created from the <code>DecimalFormat</code> used for validation and
+ * is immutable, so it can be cached and shared between threads. It matches the
+ * prefixes and suffixes (for example a currency symbol, a percent sign or a minus
+ * sign) in the same way as <code>DecimalFormat</code>, and applies a multiplier
+ * which is a power of ten (for example for a percent format) by moving the decimal
+ * point. The value is built directly from the digits, using <code>long</code>
+ * arithmetic for up to 18 significant digits, so it is exact. Trailing zeros in the
+ * fraction are dropped, as <code>DecimalFormat</code> does.
+ * </p>
+ * <p>
+ * A value which the format would definitely reject returns {@link #INVALID}. Any
+ * other value the parser doesn't handle (for example with an exponent, <code>-0</code>,
+ * or a separator which isn't between digits) returns <code>null</code> so the value
+ * can be parsed by the format.
+ * </p>
+ *
+ * @since 1.8
+ */
+final class DecimalParser {
+
+    /** Returned (by identity) for a value which the format would not parse */
+    static final BigDecimal INVALID = new BigDecimal(0);
+
+    /** DecimalFormat's currency symbol */
+    private static final char CURRENCY_SYMBOL = '\u00A4';
+
+    /** The maximum number of digits in a <code>long</code> */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /** Powers of ten which fit in a <code>long</code> */
+    private static final long[] POWERS_OF_TEN = new long[MAX_LONG_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10; // CHECKSTYLE IGNORE MagicNumber
+        }
+    }
+
+    private final String positivePrefix;
+    private final String positiveSuffix;
+    private final String negativePrefix;
+    private final String negativeSuffix;
+    private final char groupingSeparator;
+    private final boolean groupingUsed;
+    private final char decimalSeparator;
+    private final boolean integerOnly;
+    private final int multiplierScale;
+    private final String nan;
+    private final String infinity;
+    private final String exponentSeparator;
+
+    private DecimalParser(final DecimalFormat format, final DecimalFormatSymbols symbols,
+            final char groupingSeparator, final char decimalSeparator, final int multiplierScale) {
+        this.positivePrefix = format.getPositivePrefix();
+        this.positiveSuffix = format.getPositiveSuffix();
+        this.negativePrefix = format.getNegativePrefix();
+        this.negativeSuffix = format.getNegativeSuffix();
+        this.groupingSeparator = groupingSeparator;
+        this.groupingUsed = format.isGroupingUsed();
+        this.decimalSeparator = decimalSeparator;
+        this.integerOnly = format.isParseIntegerOnly();
+        this.multiplierScale = multiplierScale;
+        this.nan = symbols.getNaN();
+        this.infinity = symbols.getInfinity();
+        this.exponentSeparator = symbols.getExponentSeparator();
+    }
+
+    /**
+     * Create a parser for a format.
+     *
+     * @param format The format
+     * @return The parser or <code>null</code> if the format is not a
+     * <code>DecimalFormat</code> which parses numbers with ASCII digits and
+     * a multiplier which is a power of ten
+     */
+    static DecimalParser of(final Format format) {
+        if (!(format instanceof DecimalFormat)) {
+            return null;
+        }
+        final DecimalFormat decimalFormat = (DecimalFormat) format;
+        final DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+        int multiplierScale = 0;
+        for (int multiplier = decimalFormat.getMultiplier(); multiplier != 1; multiplier /= 10) { // CHECKSTYLE IGNORE MagicNumber
+            if (multiplier <= 0 || multiplier % 10 != 0) { // CHECKSTYLE IGNORE MagicNumber
+                return null;
+            }
+            multiplierScale++;
+        }
+        if (decimalFormat.isParseBigDecimal() || symbols.getZeroDigit() != '0') {
+            return null;
+        }
+        // currency formats parse with the monetary separators
+        final boolean currency = decimalFormat.toPattern().indexOf(CURRENCY_SYMBOL) >= 0;
+        final char groupingSeparator = symbols.getGroupingSeparator();
+        final char decimalSeparator = currency ? symbols.getMonetaryDecimalSeparator() : symbols.getDecimalSeparator();
+        if (isDigit(decimalSeparator) || isDigit(groupingSeparator) || decimalSeparator == groupingSeparator) {
+            return null;
+        }
+        if (currency && decimalFormat.isGroupingUsed() && decimalFormat.getGroupingSize() > 0
+                && decimalFormat.getGroupingSize() < MAX_LONG_DIGITS
+                && ((DecimalFormat) decimalFormat.clone()).format(POWERS_OF_TEN[MAX_LONG_DIGITS - 1])
+                        .indexOf(groupingSeparator) < 0) {
+            // the monetary grouping separator is different (only available from Java 15)
+            return null;
+        }
+        return new DecimalParser(decimalFormat, symbols, groupingSeparator, decimalSeparator, multiplierScale);
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Check whether a region of a value starts with a string.
+     *
+     * @param value The value
+     * @param start The start of the region
+     * @param end The end of the region
+     * @param text The string
+     * @return <code>true</code> if the region starts with the string
+     */
+    private static boolean startsWith(final CharSequence value, final int start, final int end, final String text) {
+        if (text.length() > end - start) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (value.charAt(start + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parse a value, ignoring leading and trailing whitespace
+     * (in the same way as <code>String.trim()</code>).
+     *
+     * @param value The value
+     * @param strict Whether the whole value must be parsed
+     * @return The parsed value, {@link #INVALID} if the format would not parse
+     * the value (or the value is blank) or <code>null</code> if the value
+     * needs to be parsed by the format
+     */
+    BigDecimal parse(final CharSequence value, final boolean strict) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return INVALID;
+        }
+        if (startsWith(value, start, end, nan)) {
+            return null;
+        }
+
+        // match the prefixes in the same way as DecimalFormat, the longest wins
+        boolean positive = startsWith(value, start, end, positivePrefix);
+        boolean negative = startsWith(value, start, end, negativePrefix);
+        if (positive && negative) {
+            positive = positivePrefix.length() >= negativePrefix.length();
+            negative = negativePrefix.length() >= positivePrefix.length();
+        }
+        if (!positive && !negative) {
+            return INVALID;
+        }
+        final int numberStart = start + (positive ? positivePrefix.length() : negativePrefix.length());
+        if (startsWith(value, numberStart, end, infinity)) {
+            return null;
+        }
+
+        long unscaled = 0;
+        int digits = 0; // significant digits
+        int fractionDigits = 0;
+        int trailingZeros = 0; // zeros at the end of the significant digits
+        boolean sawDigit = false;
+        boolean sawDecimal = false;
+        int numberEnd = numberStart;
+        for (; numberEnd < end; numberEnd++) {
+            final char c = value.charAt(numberEnd);
+            if (isDigit(c)) {
+                sawDigit = true;
+                if (sawDecimal) {
+                    fractionDigits++;
+                }
+                if (digits > 0 || c != '0') {
+                    digits++;
+                    trailingZeros = c == '0' ? trailingZeros + 1 : 0;
+                    if (digits <= MAX_LONG_DIGITS) {
+                        unscaled = unscaled * 10 + (c - '0'); // CHECKSTYLE IGNORE MagicNumber
+                    }
+                }
+            } else if (c == decimalSeparator || c == groupingSeparator && groupingUsed) {
+                if (numberEnd + 1 == end || !isDigit(value.charAt(numberEnd + 1))) {
+                    return null;
+                } else if (c == groupingSeparator) {
+                    if (sawDecimal) {
+                        return null;
+                    }
+                } else if (integerOnly || sawDecimal) {
+                    return null;
+                } else {
+                    sawDecimal = true;
+                }
+            } else if (Character.digit(c, 10) >= 0 // CHECKSTYLE IGNORE MagicNumber
+                    || startsWith(value, numberEnd, end, exponentSeparator)) {
+                return null;
+            } else {
+                break;
+            }
+        }
+        if (!sawDigit) {
+            return INVALID;
+        }
+
+        // match the suffixes in the same way as DecimalFormat, the longest wins
+        if (positive) {
+            positive = startsWith(value, numberEnd, end, positiveSuffix);
+        }
+        if (negative) {
+            negative = startsWith(value, numberEnd, end, negativeSuffix);
+        }
+        if (positive && negative) {
+            positive = positiveSuffix.length() > negativeSuffix.length();
+            negative = negativeSuffix.length() > positiveSuffix.length();
+        }
+        if (positive == negative) {
+            return INVALID;
+        }
+        if (numberEnd + (positive ? positiveSuffix.length() : negativeSuffix.length()) < end) {
+            // DecimalFormat ignores the rest of the value
+            return strict ? INVALID : null;
+        }
+
+        if (digits == 0) {
+            // DecimalFormat parses -0 as a Double
+            return negative ? null : BigDecimal.ZERO;
+        }
+        final int scale = fractionDigits + multiplierScale;
+        final int dropped = Math.min(trailingZeros, scale);
+        if (digits <= MAX_LONG_DIGITS) {
+            unscaled /= POWERS_OF_TEN[dropped];
+            return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale - dropped);
+        }
+        return new BigDecimal(digits(value, numberStart, numberEnd, negative), scale)
+                .setScale(scale - dropped, BigDecimal.ROUND_UNNECESSARY);
+    }
+
+    /**
+     * Return the digits of a value which is too long for a <code>long</code>,
+     * as an unscaled integer.
+     *
+     * @param value The value
+     * @param start The start of the digits
+     * @param end The end of the digits
+     * @param negative Whether the value is negative
+     * @return The unscaled value
+     */
+    private static BigInteger digits(final CharSequence value, final int start, final int end, final boolean negative) {
+        // add the digits in blocks which fit in a long
+        final BigInteger blockScale = BigInteger.valueOf(POWERS_OF_TEN[MAX_LONG_DIGITS]);
+        BigInteger result = BigInteger.ZERO;
+        long block = 0;
+        int blockDigits = 0;
+        for (int i = start; i < end; i++) {
+            final char c = value.charAt(i);
+            if (isDigit(c)) {
+                block = block * 10 + (c - '0'); // CHECKSTYLE IGNORE MagicNumber
+                if (++blockDigits == MAX_LONG_DIGITS) {
+                    result = result.multiply(blockScale).add(BigInteger.valueOf(block));
+                    block = 0;
+                    blockDigits = 0;
+                }
+            }
+        }
+        if (blockDigits > 0) {
+            result = result.multiply(BigInteger.valueOf(POWERS_OF_TEN[blockDigits])).add(BigInteger.valueOf(block));
+        }
+        return negative ? result.negate() : result;
+    }
+}
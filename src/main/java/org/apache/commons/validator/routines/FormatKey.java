@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Key of a format cached by a validator, for a pattern and <code>Locale</code>.
+ *
+ * @since 1.8
+ */
+final class FormatKey {
+
+    private final String pattern;
+    private final Locale locale;
+
+    /**
+     * Construct a key.
+     *
+     * @param pattern The pattern, or <code>null</code> (or empty) for the default
+     * @param locale The locale, which must not be <code>null</code>
+     */
+    FormatKey(final String pattern, final Locale locale) {
+        this.pattern = pattern == null || pattern.isEmpty() ? null : pattern;
+        this.locale = locale;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (!(obj instanceof FormatKey)) {
+            return false;
+        }
+        final FormatKey other = (FormatKey) obj;
+        return Objects.equals(pattern, other.pattern) && locale.equals(other.locale);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(pattern) * 31 + locale.hashCode(); // CHECKSTYLE IGNORE MagicNumber
+    }
+}
@@ -16,9 +16,24 @@
  */
 package org.apache.commons.validator.routines;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
 
 import org.apache.commons.validator.routines.checkdigit.IBANCheckDigit;
 
@@ -42,13 +57,47 @@ import org.apache.commons.validator.routines.checkdigit.IBANCheckDigit;
  * ibv.setValidator("XX", 12, "XX\\d{10}")
  * </pre>
  * <p>
+ * The whole set can also be replaced from a copy of the IBAN registry, without
+ * a new release, using {@link #loadValidators(Path)} and {@link #setValidators(Validator[])}:
+ * </p>
+ * <pre>
+ * IBANValidator ibv = new IBANValidator(IBANValidator.loadValidators(registry));
+ * ...
+ * ibv.setValidators(IBANValidator.loadValidators(registry)); // when the registry is updated
+ * </pre>
+ * <p>
  * The singleton default instance cannot be modifed in this way.
  * </p>
  * @since 1.5.0
  */
 public class IBANValidator {
 
-    private final Map<String, Validator> formatValidators;
+    /** The number of letters that a country code letter can be */
+    private static final int ALPHABET = 26;
+
+    /** The size of the buffers used to read records */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** The maximum size of a memory mapping */
+    private static final long MAX_MAPPING = Integer.MAX_VALUE;
+
+    /**
+     * The maximum size of the chunks a file is split into, leaving room in a mapping for the
+     * record at the end of a chunk (one character longer than the longest IBAN, and its delimiter)
+     */
+    private static final long MAX_CHUNK = MAX_MAPPING - (Validator.MAX_LEN + 2);
+
+    /** The row of the IBAN registry with the country codes */
+    private static final String REGISTRY_COUNTRY_CODE = "IBAN prefix country code (ISO 3166)";
+
+    /** The row of the IBAN registry with the IBAN structures */
+    private static final String REGISTRY_STRUCTURE = "IBAN structure";
+
+    /** The row of the IBAN registry with the IBAN lengths */
+    private static final String REGISTRY_LENGTH = "IBAN length";
+
+    /** The validators, replaced as a whole when a validator is added or removed */
+    private volatile FormatTable formatValidators;
 
     /**
      * The validation class
@@ -65,9 +114,24 @@ public class IBANValidator {
          */
         private static final int MIN_LEN = 8;
         private static final int MAX_LEN = 34; // defined by [3]
+        /** Structure run of digits, <code>\d</code> */
+        private static final byte DIGITS = 1;
+        /** Structure run of upper case letters, <code>[A-Z]</code> */
+        private static final byte LETTERS = 2;
+        /** Structure run of digits or upper case letters, <code>[A-Z0-9]</code> */
+        private static final byte ALPHANUMERICS = 3;
+        /** Largest total before it must be reduced, as in IBANCheckDigit */
+        private static final long MAX = 999999999;
+        private static final int MODULUS = 97;
         final String countryCode;
         final RegexValidator validator;
         final int lengthOfIBAN; // used to avoid unnecessary regex matching
+        /**
+         * The format after the country code compiled to runs of characters of the same type,
+         * as pairs of type and count (e.g. <code>\d{2}[A-Z]{4}</code> is <code>{DIGITS, 2, LETTERS, 4}</code>),
+         * or <code>null</code> if the format is not a simple sequence of runs
+         */
+        private final byte[] structure;
 
         /**
          * Creates the validator
@@ -88,6 +152,302 @@ public class IBANValidator {
             this.countryCode = cc;
             this.lengthOfIBAN = len;
             this.validator = new RegexValidator(format);
+            this.structure = FormatTable.index(cc, 0) < 0 ? null : compile(format.substring(2), len - 2);
+        }
+
+        /**
+         * Validate the format and check digits of an IBAN whose country code and
+         * length have already been checked.
+         * <p>
+         * If the format has been compiled to a structure, this checks the structure
+         * and calculates the modulus 97 check in a single scan of the code (in the same
+         * way as {@link IBANCheckDigit}, but without rearranging the code). Otherwise it
+         * uses the regular expression and {@link IBANCheckDigit}.
+         * </p>
+         *
+         * @param code The IBAN
+         * @return <code>true</code> if the code is valid
+         */
+        boolean isValid(final CharSequence code) {
+            if (structure == null) {
+                final String iban = code.toString();
+                return validator.isValid(iban) && IBANCheckDigit.IBAN_CHECK_DIGIT.isValid(iban);
+            }
+            final char check1 = code.charAt(2);
+            final char check2 = code.charAt(3); // CHECKSTYLE IGNORE MagicNumber
+            if ((check1 == '0' && (check2 == '0' || check2 == '1')) || (check1 == '9' && check2 == '9')) {
+                return false;
+            }
+            // the first four characters are moved to the end for the check, so they are kept separately
+            long head = (code.charAt(0) - 'A' + 10) * 100 + code.charAt(1) - 'A' + 10; // CHECKSTYLE IGNORE MagicNumber
+            long headScale = 10000; // CHECKSTYLE IGNORE MagicNumber
+            long total = 0;
+            int pos = 2;
+            for (int r = 0; r < structure.length; r += 2) {
+                final byte type = structure[r];
+                for (final int end = pos + structure[r + 1]; pos < end; pos++) {
+                    final char c = code.charAt(pos);
+                    final int charValue;
+                    if (c >= '0' && c <= '9') {
+                        if (type == LETTERS) {
+                            return false;
+                        }
+                        charValue = c - '0';
+                    } else if (c >= 'A' && c <= 'Z') {
+                        if (type == DIGITS) {
+                            return false;
+                        }
+                        charValue = c - 'A' + 10; // CHECKSTYLE IGNORE MagicNumber
+                    } else {
+                        return false;
+                    }
+                    final int scale = charValue > 9 ? 100 : 10; // CHECKSTYLE IGNORE MagicNumber
+                    if (pos < 4) { // CHECKSTYLE IGNORE MagicNumber
+                        head = head * scale + charValue;
+                        headScale *= scale;
+                    } else {
+                        total = total * scale + charValue;
+                        if (total > MAX) {
+                            total = total % MODULUS;
+                        }
+                    }
+                }
+            }
+            return ((total % MODULUS) * headScale + head) % MODULUS == 1;
+        }
+
+        /**
+         * Compile a format (after the country code) consisting of runs of
+         * <code>\d</code>, <code>[A-Z]</code> or <code>[A-Z0-9]</code>,
+         * each optionally followed by a count such as <code>{4}</code>.
+         *
+         * @param format The format after the country code
+         * @param length The length of the IBAN after the country code
+         * @return The structure or <code>null</code> if the format is not
+         * a sequence of runs with the expected length
+         */
+        private static byte[] compile(final String format, final int length) {
+            final byte[] runs = new byte[2 * length];
+            int count = 0;
+            int total = 0;
+            int i = 0;
+            while (i < format.length()) {
+                final byte type;
+                if (format.startsWith("\\d", i)) {
+                    type = DIGITS;
+                    i += 2;
+                } else if (format.startsWith("[A-Z]", i)) {
+                    type = LETTERS;
+                    i += 5; // CHECKSTYLE IGNORE MagicNumber
+                } else if (format.startsWith("[A-Z0-9]", i)) {
+                    type = ALPHANUMERICS;
+                    i += 8; // CHECKSTYLE IGNORE MagicNumber
+                } else {
+                    return null;
+                }
+                int n = 1;
+                if (i < format.length() && format.charAt(i) == '{') {
+                    final int close = format.indexOf('}', i);
+                    if (close < 0) {
+                        return null;
+                    }
+                    try {
+                        n = Integer.parseInt(format.substring(i + 1, close));
+                    } catch (final NumberFormatException e) {
+                        return null;
+                    }
+                    i = close + 1;
+                }
+                total += n;
+                if (n < 1 || total > length) {
+                    return null;
+                }
+                runs[count++] = type;
+                runs[count++] = (byte) n;
+            }
+            return total == length ? Arrays.copyOf(runs, count) : null;
+        }
+    }
+
+    /**
+     * Handler for the results of validating a stream of IBANs.
+     *
+     * @see IBANValidator#validate(Reader, String, RecordHandler)
+     * @since 1.8
+     */
+    public interface RecordHandler {
+
+        /**
+         * Handle the result of validating a record.
+         *
+         * @param start The offset of the start of the record
+         * @param end The offset of the end of the record (excluding the delimiter)
+         * @param iban The normalised IBAN, which is only valid during the call
+         * and is truncated if the record is too long to be an IBAN
+         * @param valid <code>true</code> if the IBAN is valid
+         */
+        void handle(long start, long end, CharSequence iban, boolean valid);
+    }
+
+    /**
+     * Splits a stream of characters into records, normalises them and validates them.
+     */
+    private static final class RecordScanner {
+
+        private final FormatTable table;
+        private final String delimiters;
+        private final boolean[] asciiDelimiters = new boolean[128]; // CHECKSTYLE IGNORE MagicNumber
+        private final RecordHandler handler;
+        private final StringBuilder code = new StringBuilder(Validator.MAX_LEN + 1);
+        private long offset;
+        private long start;
+        private long records;
+
+        RecordScanner(final FormatTable table, final String delimiters, final RecordHandler handler, final long offset) {
+            this.table = table;
+            this.delimiters = delimiters;
+            this.handler = handler;
+            this.offset = offset;
+            this.start = offset;
+            for (int i = 0; i < delimiters.length(); i++) {
+                final char c = delimiters.charAt(i);
+                if (c < asciiDelimiters.length) {
+                    asciiDelimiters[c] = true;
+                }
+            }
+        }
+
+        void accept(final char c) {
+            if (c < asciiDelimiters.length ? asciiDelimiters[c] : delimiters.indexOf(c) >= 0) {
+                endRecord();
+                start = offset + 1;
+            } else if (c >= 'a' && c <= 'z') {
+                append((char) (c - 'a' + 'A'));
+            } else if (!Character.isWhitespace(c)) {
+                append(c);
+            }
+            offset++;
+        }
+
+        private void append(final char c) {
+            // anything longer than the longest IBAN is invalid, so doesn't need to be kept
+            if (code.length() <= Validator.MAX_LEN) {
+                code.append(c);
+            }
+        }
+
+        private void endRecord() {
+            if (code.length() > 0) {
+                records++;
+                handler.handle(start, offset, code, isValid(table, code));
+                code.setLength(0);
+            }
+        }
+
+        long finish() {
+            endRecord();
+            return records;
+        }
+    }
+
+    /**
+     * Immutable table of validators indexed by country code.
+     */
+    private static final class FormatTable {
+
+        /** The validators of country codes made of the letters A-Z, indexed by {@link #index(String, int)} */
+        final Validator[] byCountry;
+
+        /** The validators of any other country codes */
+        final Map<String, Validator> others;
+
+        FormatTable(final Validator[] byCountry, final Map<String, Validator> others) {
+            this.byCountry = byCountry;
+            this.others = others;
+        }
+
+        /**
+         * Return the index of a country code in {@link #byCountry}.
+         *
+         * @param code A string starting with the country code
+         * @param offset The index of the country code in the string
+         * @return The index, or <code>-1</code> if the country code isn't made of the letters A-Z
+         */
+        static int index(final CharSequence code, final int offset) {
+            final int first = code.charAt(offset) - 'A';
+            final int second = code.charAt(offset + 1) - 'A';
+            if (first < 0 || first >= ALPHABET || second < 0 || second >= ALPHABET) {
+                return -1;
+            }
+            return first * ALPHABET + second;
+        }
+
+        Validator get(final CharSequence code) {
+            final int index = index(code, 0);
+            return index >= 0 ? byCountry[index] : others.get(code.subSequence(0, 2).toString());
+        }
+
+        /**
+         * Return a copy of the table with a validator added or removed.
+         *
+         * @param countryCode The country code
+         * @param validator The validator, or <code>null</code> to remove it
+         * @return The new table
+         */
+        FormatTable with(final String countryCode, final Validator validator) {
+            final int index = countryCode.length() == 2 ? index(countryCode, 0) : -1;
+            if (index >= 0) {
+                final Validator[] copy = byCountry.clone();
+                copy[index] = validator;
+                return new FormatTable(copy, others);
+            }
+            final Map<String, Validator> copy = new HashMap<>(others);
+            if (validator == null) {
+                copy.remove(countryCode);
+            } else {
+                copy.put(countryCode, validator);
+            }
+            return new FormatTable(byCountry, Collections.unmodifiableMap(copy));
+        }
+
+        /**
+         * Create a table of validators.
+         *
+         * @param validators The validators
+         * @return The table
+         */
+        static FormatTable of(final Validator[] validators) {
+            FormatTable table = new FormatTable(new Validator[ALPHABET * ALPHABET], Collections.<String, Validator>emptyMap());
+            for (final Validator v : validators) {
+                table = table.with(v.countryCode, v);
+            }
+            return table;
+        }
+
+        /**
+         * Return the validators in the table, sorted by country code.
+         *
+         * @return The validators
+         */
+        Validator[] toArray() {
+            final Map<String, Validator> sorted = new TreeMap<>(others);
+            for (final Validator v : byCountry) {
+                if (v != null) {
+                    sorted.put(v.countryCode, v);
+                }
+            }
+            return sorted.values().toArray(new Validator[sorted.size()]);
+        }
+
+        /**
+         * Return the validator for a country code.
+         *
+         * @param countryCode The country code
+         * @return The validator or <code>null</code>
+         */
+        Validator lookup(final String countryCode) {
+            final int index = countryCode.length() == 2 ? index(countryCode, 0) : -1;
+            return index >= 0 ? byCountry[index] : others.get(countryCode);
         }
     }
 
@@ -225,15 +585,7 @@ public class IBANValidator {
      * @param formatMap map of IBAN formats
      */
     public IBANValidator(final Validator[] formatMap) {
-        this.formatValidators = createValidators(formatMap);
-    }
-
-    private Map<String, Validator> createValidators(final Validator[] formatMap) {
-        final Map<String, Validator> m = new ConcurrentHashMap<>();
-        for(final Validator v : formatMap) {
-            m.put(v.countryCode, v);
-        }
-        return m;
+        this.formatValidators = FormatTable.of(formatMap);
     }
 
     /**
@@ -243,11 +595,137 @@ public class IBANValidator {
      * @return <code>true</code> if the value is valid
      */
     public boolean isValid(final String code) {
-        final Validator formatValidator = getValidator(code);
-        if (formatValidator == null || code.length() != formatValidator.lengthOfIBAN || !formatValidator.validator.isValid(code)) {
+        return isValid(formatValidators, code);
+    }
+
+    /**
+     * Validate an IBAN Code using a table of validators.
+     *
+     * @param table The validators
+     * @param code The value validation is being performed on
+     * @return <code>true</code> if the value is valid
+     */
+    private static boolean isValid(final FormatTable table, final CharSequence code) {
+        if (code == null || code.length() < 2) {
             return false;
         }
-        return IBANCheckDigit.IBAN_CHECK_DIGIT.isValid(code);
+        final Validator formatValidator = table.get(code);
+        if (formatValidator == null || code.length() != formatValidator.lengthOfIBAN) {
+            return false;
+        }
+        return formatValidator.isValid(code);
+    }
+
+    /**
+     * Validate the IBANs in a stream of delimited records.
+     * <p>
+     * Each record is normalised as it is read: whitespace is removed and lower
+     * case letters are converted to upper case, so that records such as
+     * <code>gb29 nwbk 6016 1331 9268 19</code> are valid. Blank records are
+     * ignored. The IBANs are validated in the same way as {@link #isValid(String)},
+     * but without creating a String for each record.
+     * </p>
+     * <p>
+     * The validators installed when the method is called are used for the whole stream,
+     * even if they are replaced while the stream is being read.
+     * </p>
+     *
+     * @param reader the records
+     * @param delimiters the characters that separate the records, for example <code>"\n,;"</code>
+     * @param handler the handler called with the result of each record
+     * @return the number of records
+     * @throws IOException if the records cannot be read
+     * @since 1.8
+     */
+    public long validate(final Reader reader, final String delimiters, final RecordHandler handler) throws IOException {
+        final RecordScanner scanner = new RecordScanner(formatValidators, delimiters, handler, 0);
+        final char[] buffer = new char[BUFFER_SIZE];
+        int read;
+        while ((read = reader.read(buffer)) >= 0) {
+            for (int i = 0; i < read; i++) {
+                scanner.accept(buffer[i]);
+            }
+        }
+        return scanner.finish();
+    }
+
+    /**
+     * Validate the IBANs in a file of delimited records, see {@link #validate(Reader, String, RecordHandler)}.
+     * <p>
+     * The file is memory mapped and split into chunks, which are validated in parallel
+     * using the common fork-join pool, so the handler may be called concurrently and
+     * in any order. Each byte of the file is one character (IBANs only contain ASCII
+     * characters, so the file may be in any ASCII-compatible encoding) and the record
+     * offsets are byte offsets.
+     * </p>
+     *
+     * @param path the file
+     * @param delimiters the characters that separate the records, for example <code>"\n,;"</code>
+     * @param handler the thread-safe handler called with the result of each record
+     * @param chunks the number of chunks to split the file into, for example the number of processors
+     * @return the number of records
+     * @throws IOException if the file cannot be read
+     * @since 1.8
+     */
+    public long validate(final Path path, final String delimiters, final RecordHandler handler, final int chunks)
+            throws IOException {
+        final FormatTable table = formatValidators;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final int count = (int) Math.max(Math.max(chunks, 1), (size + MAX_CHUNK - 1) / MAX_CHUNK);
+            // move the chunk boundaries after the next delimiter, so that no record is split
+            final long[] starts = new long[count + 1];
+            starts[count] = size;
+            for (int i = 1; i < count; i++) {
+                starts[i] = nextRecord(channel, Math.max(starts[i - 1], size / count * i), delimiters);
+            }
+            // a record which isn't an IBAN can be long enough to need more than one mapping
+            final MappedByteBuffer[][] buffers = new MappedByteBuffer[count][];
+            for (int i = 0; i < count; i++) {
+                buffers[i] = new MappedByteBuffer[(int) ((starts[i + 1] - starts[i] + MAX_MAPPING - 1) / MAX_MAPPING)];
+                for (int j = 0; j < buffers[i].length; j++) {
+                    final long position = starts[i] + j * MAX_MAPPING;
+                    buffers[i][j] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                            Math.min(MAX_MAPPING, starts[i + 1] - position));
+                }
+            }
+            return IntStream.range(0, count).parallel().mapToLong(i -> {
+                final RecordScanner scanner = new RecordScanner(table, delimiters, handler, starts[i]);
+                for (final MappedByteBuffer buffer : buffers[i]) {
+                    final int limit = buffer.limit();
+                    for (int j = 0; j < limit; j++) {
+                        scanner.accept((char) (buffer.get(j) & 0xFF)); // CHECKSTYLE IGNORE MagicNumber
+                    }
+                }
+                return scanner.finish();
+            }).sum();
+        }
+    }
+
+    /**
+     * Find the start of the first record at or after a position.
+     *
+     * @param channel the file
+     * @param position the position
+     * @param delimiters the characters that separate the records
+     * @return the position after the first delimiter at or after the position, or the end of the file
+     * @throws IOException if the file cannot be read
+     */
+    private static long nextRecord(final FileChannel channel, final long position, final String delimiters)
+            throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long pos = position;
+        int read;
+        while ((read = channel.read(buffer, pos)) > 0) {
+            for (int i = 0; i < read; i++) {
+                if (delimiters.indexOf((char) (buffer.get(i) & 0xFF)) >= 0) { // CHECKSTYLE IGNORE MagicNumber
+                    return pos + i + 1;
+                }
+            }
+            pos += read;
+            buffer.clear();
+        }
+        return channel.size();
     }
 
     /**
@@ -269,6 +747,16 @@ public class IBANValidator {
         return Arrays.copyOf(DEFAULT_FORMATS, DEFAULT_FORMATS.length);
     }
 
+    /**
+     * Gets the Validators currently installed, sorted by country code.
+     *
+     * @return a copy of the installed Validators
+     * @since 1.8
+     */
+    public Validator[] getValidators() {
+        return formatValidators.toArray();
+    }
+
     /**
      * Get the Validator for a given IBAN
      *
@@ -280,8 +768,7 @@ public class IBANValidator {
         if (code == null || code.length() < 2) { // ensure we can extract the code
             return null;
         }
-        final String key = code.substring(0, 2);
-        return formatValidators.get(key);
+        return formatValidators.get(code);
     }
 
     /**
@@ -296,7 +783,7 @@ public class IBANValidator {
         if (this == DEFAULT_IBAN_VALIDATOR) {
             throw new IllegalStateException("The singleton validator cannot be modified");
         }
-        return formatValidators.put(validator.countryCode, validator);
+        return replace(validator.countryCode, validator);
     }
 
     /**
@@ -316,8 +803,229 @@ public class IBANValidator {
             throw new IllegalStateException("The singleton validator cannot be modified");
         }
         if (length < 0) {
-            return formatValidators.remove(countryCode);
+            return replace(countryCode, null);
         }
         return setValidator(new Validator(countryCode, length, format));
     }
+
+    /**
+     * Replaces all the installed validators.
+     * <p>
+     * The new validators are installed atomically: a concurrent validation
+     * uses either the previous or the new validators, never a mixture of them.
+     * </p>
+     *
+     * @param validators the validators to install
+     * @return the previous Validators, sorted by country code
+     * @throws IllegalStateException if an attempt is made to modify the singleton validator
+     * @since 1.8
+     */
+    public Validator[] setValidators(final Validator[] validators) {
+        if (this == DEFAULT_IBAN_VALIDATOR) {
+            throw new IllegalStateException("The singleton validator cannot be modified");
+        }
+        final FormatTable table = FormatTable.of(validators);
+        final FormatTable previous;
+        synchronized (this) {
+            previous = formatValidators;
+            formatValidators = table;
+        }
+        return previous.toArray();
+    }
+
+    /**
+     * Loads validators from a file, see {@link #readValidators(Reader)}.
+     * <p>
+     * The IBAN registry is published in ISO-8859-1, so the file is read with
+     * that encoding.
+     * </p>
+     *
+     * @param path the file
+     * @return the validators, sorted by country code
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file contains an invalid format
+     * @since 1.8
+     */
+    public static Validator[] loadValidators(final Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.ISO_8859_1)) {
+            return readValidators(reader);
+        }
+    }
+
+    /**
+     * Reads validators from either the IBAN registry or a list of formats.
+     * <p>
+     * The IBAN registry is the tab-separated text file published at
+     * https://www.swift.com/standards/data-standards/iban, with a row for each
+     * item and a column for each country. The validators are created from the
+     * <i>IBAN prefix country code (ISO 3166)</i>, <i>IBAN structure</i> and
+     * <i>IBAN length</i> rows.
+     * </p>
+     * <p>
+     * Otherwise each line is a country code, length and format separated by tabs
+     * or spaces, for example <code>GB 22 GB2!n4!a6!n8!n</code>. The format is
+     * either an IBAN registry structure or a regular expression such as
+     * <code>GB\d{2}[A-Z]{4}\d{14}</code>. Blank lines and lines starting with
+     * <code>#</code> are ignored.
+     * </p>
+     *
+     * @param reader the file contents
+     * @return the validators, sorted by country code
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file contains an invalid format
+     * @since 1.8
+     */
+    public static Validator[] readValidators(final Reader reader) throws IOException {
+        final BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        final List<String> rows = new ArrayList<>();
+        String[] countryCodes = null;
+        String[] structures = null;
+        String[] lengths = null;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            final String[] fields = line.split("\t");
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = unquote(fields[i]);
+            }
+            if (REGISTRY_COUNTRY_CODE.equals(fields[0])) {
+                countryCodes = fields;
+            } else if (REGISTRY_STRUCTURE.equals(fields[0])) {
+                structures = fields;
+            } else if (REGISTRY_LENGTH.equals(fields[0])) {
+                lengths = fields;
+            } else if (!fields[0].isEmpty() && fields[0].charAt(0) != '#') {
+                rows.add(line.trim());
+            }
+        }
+        final Map<String, Validator> validators = new TreeMap<>();
+        if (countryCodes != null) {
+            if (structures == null || lengths == null) {
+                throw new IllegalArgumentException("The IBAN registry has no '" + REGISTRY_STRUCTURE
+                        + "' or '" + REGISTRY_LENGTH + "' row");
+            }
+            for (int i = 1; i < countryCodes.length; i++) {
+                if (!countryCodes[i].isEmpty()) {
+                    final String length = i < lengths.length ? lengths[i] : "";
+                    final String structure = i < structures.length ? structures[i] : "";
+                    putValidator(validators, countryCodes[i], length, structure);
+                }
+            }
+        } else {
+            for (final String row : rows) {
+                final String[] fields = row.split("\\s+");
+                if (fields.length != 3) { // CHECKSTYLE IGNORE MagicNumber
+                    throw new IllegalArgumentException("Expected country code, length and format: " + row);
+                }
+                putValidator(validators, fields[0], fields[1], fields[2]);
+            }
+        }
+        return validators.values().toArray(new Validator[validators.size()]);
+    }
+
+    /**
+     * Create a validator from the fields of the IBAN registry or a list of formats.
+     *
+     * @param validators the validators by country code
+     * @param countryCode the country code
+     * @param length the length, optionally followed by the registry type (e.g. <code>28!n</code>)
+     * @param format the registry structure or regular expression
+     */
+    private static void putValidator(final Map<String, Validator> validators, final String countryCode,
+            final String length, final String format) {
+        final int len;
+        try {
+            final int type = length.indexOf('!');
+            len = Integer.parseInt(type < 0 ? length : length.substring(0, type));
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid length '" + length + "' for " + countryCode);
+        }
+        final String regex = structureToRegex(format);
+        if (validators.put(countryCode, new Validator(countryCode, len, regex == null ? format : regex)) != null) {
+            throw new IllegalArgumentException("Duplicate country code " + countryCode);
+        }
+    }
+
+    /**
+     * Convert an IBAN registry structure such as <code>GB2!n4!a6!n8!n</code>
+     * to a regular expression such as <code>GB\d{2}[A-Z]{4}\d{14}</code>.
+     *
+     * @param structure the structure
+     * @return the regular expression, or <code>null</code> if the
+     * structure is not in the registry notation
+     */
+    private static String structureToRegex(final String structure) {
+        if (structure.length() < 2) {
+            return null;
+        }
+        final StringBuilder regex = new StringBuilder(structure.substring(0, 2));
+        char runType = 0;
+        int runLength = 0;
+        int i = 2;
+        while (i < structure.length()) {
+            int count = 0;
+            final int start = i;
+            while (i < structure.length() && structure.charAt(i) >= '0' && structure.charAt(i) <= '9') {
+                count = count * 10 + structure.charAt(i++) - '0'; // CHECKSTYLE IGNORE MagicNumber
+            }
+            if (i == start || i + 1 >= structure.length() || structure.charAt(i) != '!') {
+                return null;
+            }
+            final char type = structure.charAt(i + 1);
+            if (type != 'n' && type != 'a' && type != 'c') {
+                return null;
+            }
+            i += 2;
+            if (type != runType) {
+                appendRun(regex, runType, runLength);
+                runType = type;
+                runLength = 0;
+            }
+            runLength += count;
+        }
+        if (runLength == 0) {
+            return null;
+        }
+        appendRun(regex, runType, runLength);
+        return regex.toString();
+    }
+
+    private static void appendRun(final StringBuilder regex, final char type, final int length) {
+        switch (type) {
+        case 'n':
+            regex.append("\\d");
+            break;
+        case 'a':
+            regex.append("[A-Z]");
+            break;
+        case 'c':
+            regex.append("[A-Z0-9]");
+            break;
+        default:
+            return;
+        }
+        regex.append('{').append(length).append('}');
+    }
+
+    private static String unquote(final String field) {
+        final String value = field.trim();
+        if (value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+            return value.substring(1, value.length() - 1).replace("\"\"", "\"");
+        }
+        return value;
+    }
+
+    /**
+     * Replace the validator for a country code, copying the table so that
+     * lookups don't need to be synchronized.
+     *
+     * @param countryCode the country code
+     * @param validator the new validator, or {@code null} to remove it
+     * @return the previous Validator, or {@code null} if there was none
+     */
+    private synchronized Validator replace(final String countryCode, final Validator validator) {
+        final FormatTable table = formatValidators;
+        final Validator previous = table.lookup(countryCode);
+        formatValidators = table.with(countryCode, validator);
+        return previous;
+    }
 }
@@ -90,6 +90,19 @@ public class ISBNValidator implements Serializable {
     static final String ISBN13_REGEX     =
         "^(978|979)(?:(\\d{10})|(?:" + SEP + GROUP + SEP + PUBLISHER + SEP + TITLE + SEP + "([0-9])))$";
 
+    /** Separators allowed between the groups, as matched by {@link #SEP} */
+    private static final String SEPARATORS = "-" + CodeFormat.WHITESPACE;
+
+    /** Compiled equivalent of {@link #ISBN10_REGEX} */
+    private static final CodeFormat ISBN10_FORMAT = CodeFormat.of(CodeFormat.DIGITS, 9) // CHECKSTYLE IGNORE MagicNumber
+            .then(CodeFormat.DIGITS + "X", 1)
+            .withGroups(SEPARATORS, false, new int[] {1, 1, 1, 1}, new int[] {5, 7, 6, 1}); // CHECKSTYLE IGNORE MagicNumber
+
+    /** Compiled equivalent of {@link #ISBN13_REGEX} */
+    private static final CodeFormat ISBN13_FORMAT = CodeFormat.of("9", 1).then("7", 1).then("89", 1)
+            .then(CodeFormat.DIGITS, 10) // CHECKSTYLE IGNORE MagicNumber
+            .withGroups(SEPARATORS, false, new int[] {3, 1, 1, 1, 1}, new int[] {3, 5, 7, 6, 1}); // CHECKSTYLE IGNORE MagicNumber
+
     /** ISBN Code Validator (which converts ISBN-10 codes to ISBN-13 */
     private static final ISBNValidator ISBN_VALIDATOR = new ISBNValidator();
 
@@ -98,10 +111,10 @@ public class ISBNValidator implements Serializable {
 
 
     /** ISBN-10 Code Validator */
-    private final CodeValidator isbn10Validator = new CodeValidator(ISBN10_REGEX, 10, ISBN10CheckDigit.ISBN10_CHECK_DIGIT);
+    private final CodeValidator isbn10Validator = new CodeValidator(ISBN10_FORMAT, 10, ISBN10CheckDigit.ISBN10_CHECK_DIGIT);
 
     /** ISBN-13 Code Validator */
-    private final CodeValidator isbn13Validator = new CodeValidator(ISBN13_REGEX, 13, EAN13CheckDigit.EAN13_CHECK_DIGIT);
+    private final CodeValidator isbn13Validator = new CodeValidator(ISBN13_FORMAT, 13, EAN13CheckDigit.EAN13_CHECK_DIGIT);
 
     private final boolean convert;
 
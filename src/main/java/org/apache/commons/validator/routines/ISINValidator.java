@@ -48,9 +48,12 @@ public class ISINValidator implements Serializable {
 
     private static final long serialVersionUID = -5964391439144260936L;
 
-    private static final String ISIN_REGEX = "([A-Z]{2}[A-Z0-9]{9}[0-9])";
+    // Equivalent to the regular expression "([A-Z]{2}[A-Z0-9]{9}[0-9])"
+    private static final CodeFormat ISIN_FORMAT = CodeFormat.of(CodeFormat.UPPER_CASE_LETTERS, 2)
+            .then(CodeFormat.UPPER_CASE_LETTERS + CodeFormat.DIGITS, 9) // CHECKSTYLE IGNORE MagicNumber
+            .then(CodeFormat.DIGITS, 1);
 
-    private static final CodeValidator VALIDATOR = new CodeValidator(ISIN_REGEX, 12, ISINCheckDigit.ISIN_CHECK_DIGIT);
+    private static final CodeValidator VALIDATOR = new CodeValidator(ISIN_FORMAT, 12, ISINCheckDigit.ISIN_CHECK_DIGIT);
 
     /** ISIN Code Validator (no countryCode check) */
     private static final ISINValidator ISIN_VALIDATOR_FALSE = new ISINValidator(false);
@@ -64,19 +64,26 @@ public class ISSNValidator implements Serializable {
 
     private static final long serialVersionUID = 4319515687976420405L;
 
-    private static final String ISSN_REGEX = "(?:ISSN )?(\\d{4})-(\\d{3}[0-9X])$"; // We don't include the '-' in the code, so it is 8 chars
+    // Equivalent to the regular expression "(?:ISSN )?(\\d{4})-(\\d{3}[0-9X])$"
+    // We don't include the '-' in the code, so it is 8 chars
+    private static final CodeFormat ISSN_FORMAT = CodeFormat.of(CodeFormat.DIGITS, 7) // CHECKSTYLE IGNORE MagicNumber
+            .then(CodeFormat.DIGITS + "X", 1)
+            .withOptionalPrefix("ISSN ")
+            .withGroups("-", true, new int[] {4, 4}, new int[] {4, 4}); // CHECKSTYLE IGNORE MagicNumber
 
     private static final int ISSN_LEN = 8;
 
     private static final String ISSN_PREFIX = "977";
 
-    private static final String EAN_ISSN_REGEX = "^(977)(?:(\\d{10}))$";
+    // Equivalent to the regular expression "^(977)(?:(\\d{10}))$"
+    private static final CodeFormat EAN_ISSN_FORMAT = CodeFormat.of("9", 1).then("7", 2)
+            .then(CodeFormat.DIGITS, 10); // CHECKSTYLE IGNORE MagicNumber
 
     private static final int EAN_ISSN_LEN = 13;
 
-    private static final CodeValidator VALIDATOR = new CodeValidator(ISSN_REGEX, ISSN_LEN, ISSNCheckDigit.ISSN_CHECK_DIGIT);
+    private static final CodeValidator VALIDATOR = new CodeValidator(ISSN_FORMAT, ISSN_LEN, ISSNCheckDigit.ISSN_CHECK_DIGIT);
 
-    private static final CodeValidator EAN_VALIDATOR = new CodeValidator(EAN_ISSN_REGEX, EAN_ISSN_LEN, EAN13CheckDigit.EAN13_CHECK_DIGIT);
+    private static final CodeValidator EAN_VALIDATOR = new CodeValidator(EAN_ISSN_FORMAT, EAN_ISSN_LEN, EAN13CheckDigit.EAN13_CHECK_DIGIT);
 
     /** ISSN Code Validator */
     private static final ISSNValidator ISSN_VALIDATOR = new ISSNValidator();
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.Format;
+
+/**
+ * Parses integers in the common case of digits, an optional minus sign
+ * and grouping separators, without the intermediate objects created by
+ * <code>DecimalFormat</code>.
+ * <p>
+ * The parser is created from the <code>DecimalFormat</code> used for
+ * validation, and only decides values which <code>DecimalFormat</code>
+ * parses completely to a <code>Long</code> (which it does for whole numbers,
+ * whether or not the format allows fractions). For any other value (for example
+ * with a currency symbol, a decimal separator, <code>-0</code>, more than
+ * 18 digits or a grouping separator which isn't between digits) it returns
+ * {@link #NOT_PARSED} so the value can be parsed by the format.
+ * </p>
+ *
+ * @since 1.8
+ */
+final class IntegerParser {
+
+    /** Returned by {@link #parse(String)} when the value needs to be parsed by the format */
+    static final long NOT_PARSED = Long.MIN_VALUE;
+
+    /** Returned by {@link #parse(String)} when the value is blank */
+    static final long BLANK = Long.MAX_VALUE;
+
+    /** Values at or above this would have more than 18 digits if another digit is added */
+    private static final long LIMIT = 100000000000000000L;
+
+    private final char minusSign;
+    private final char groupingSeparator;
+    private final boolean groupingUsed;
+
+    private IntegerParser(final char minusSign, final char groupingSeparator, final boolean groupingUsed) {
+        this.minusSign = minusSign;
+        this.groupingSeparator = groupingSeparator;
+        this.groupingUsed = groupingUsed;
+    }
+
+    /**
+     * Create a parser for a format.
+     *
+     * @param format The format
+     * @return The parser or <code>null</code> if the format is not a
+     * <code>DecimalFormat</code> which parses numbers without a prefix,
+     * suffix or multiplier
+     */
+    static IntegerParser of(final Format format) {
+        if (!(format instanceof DecimalFormat)) {
+            return null;
+        }
+        final DecimalFormat decimalFormat = (DecimalFormat) format;
+        final DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+        final String negativePrefix = decimalFormat.getNegativePrefix();
+        if (decimalFormat.isParseBigDecimal()
+                || decimalFormat.getMultiplier() != 1 || symbols.getZeroDigit() != '0'
+                || !decimalFormat.getPositivePrefix().isEmpty() || !decimalFormat.getPositiveSuffix().isEmpty()
+                || !decimalFormat.getNegativeSuffix().isEmpty() || negativePrefix.length() != 1
+                || isDigit(negativePrefix.charAt(0))) {
+            return null;
+        }
+        final char groupingSeparator = symbols.getGroupingSeparator();
+        final boolean groupingUsed = decimalFormat.isGroupingUsed() && !isDigit(groupingSeparator)
+                && groupingSeparator != negativePrefix.charAt(0);
+        return new IntegerParser(negativePrefix.charAt(0), groupingSeparator, groupingUsed);
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Parse a value, ignoring leading and trailing whitespace
+     * (in the same way as <code>String.trim()</code>).
+     *
+     * @param value The value
+     * @return The parsed value, {@link #BLANK} if the value is blank, or {@link #NOT_PARSED}
+     * if the value needs to be parsed by the format
+     */
+    long parse(final CharSequence value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return BLANK;
+        }
+        final boolean negative = value.charAt(start) == minusSign;
+        if (negative) {
+            start++;
+        }
+        if (start == end || !isDigit(value.charAt(start))) {
+            return NOT_PARSED;
+        }
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            final char c = value.charAt(i);
+            if (isDigit(c)) {
+                if (result >= LIMIT) {
+                    return NOT_PARSED;
+                }
+                result = result * 10 + (c - '0'); // CHECKSTYLE IGNORE MagicNumber
+            } else if (!groupingUsed || c != groupingSeparator || i + 1 == end || !isDigit(value.charAt(i + 1))) {
+                return NOT_PARSED;
+            }
+        }
+        if (negative) {
+            // DecimalFormat parses -0 as a Double
+            return result == 0 ? NOT_PARSED : -result;
+        }
+        return result;
+    }
+}
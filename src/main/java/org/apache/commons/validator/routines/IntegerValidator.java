@@ -116,7 +116,7 @@ public class IntegerValidator extends AbstractNumberValidator {
      *  if invalid.
      */
     public Integer validate(final String value) {
-        return (Integer)parse(value, (String)null, (Locale)null);
+        return validate(value, (String)null, (Locale)null);
     }
 
     /**
@@ -128,7 +128,7 @@ public class IntegerValidator extends AbstractNumberValidator {
      * @return The parsed <code>Integer</code> if valid or <code>null</code> if invalid.
      */
     public Integer validate(final String value, final String pattern) {
-        return (Integer)parse(value, pattern, (Locale)null);
+        return validate(value, pattern, (Locale)null);
     }
 
     /**
@@ -140,7 +140,7 @@ public class IntegerValidator extends AbstractNumberValidator {
      * @return The parsed <code>Integer</code> if valid or <code>null</code> if invalid.
      */
     public Integer validate(final String value, final Locale locale) {
-        return (Integer)parse(value, (String)null, locale);
+        return validate(value, (String)null, locale);
     }
 
     /**
@@ -154,7 +154,79 @@ public class IntegerValidator extends AbstractNumberValidator {
      * @return The parsed <code>Integer</code> if valid or <code>null</code> if invalid.
      */
     public Integer validate(final String value, final String pattern, final Locale locale) {
-        return (Integer)parse(value, pattern, locale);
+        final long result = parseInteger(value, pattern, locale, IntegerValidator.class);
+        if (result == IntegerParser.NOT_PARSED) {
+            return (Integer)parse(value, pattern, locale);
+        }
+        return result >= Integer.MIN_VALUE && result <= Integer.MAX_VALUE ? Integer.valueOf((int)result) : null;
+    }
+
+    /**
+     * <p>Validate/convert an <code>int</code> using the default
+     *    <code>Locale</code>, without creating an <code>Integer</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param defaultIfInvalid The value to return if the value is invalid.
+     * @return The parsed value if valid or <code>defaultIfInvalid</code> if invalid.
+     * @since 1.8
+     */
+    public int validateInt(final CharSequence value, final int defaultIfInvalid) {
+        return validateInt(value, (String)null, (Locale)null, defaultIfInvalid);
+    }
+
+    /**
+     * <p>Validate/convert an <code>int</code> using the specified
+     *    <code>Locale</code>, without creating an <code>Integer</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param locale The locale to use for the number format, system default if null.
+     * @param defaultIfInvalid The value to return if the value is invalid.
+     * @return The parsed value if valid or <code>defaultIfInvalid</code> if invalid.
+     * @since 1.8
+     */
+    public int validateInt(final CharSequence value, final Locale locale, final int defaultIfInvalid) {
+        return validateInt(value, (String)null, locale, defaultIfInvalid);
+    }
+
+    /**
+     * <p>Validate/convert an <code>int</code> using the specified
+     *    pattern and/ or <code>Locale</code>, without creating an <code>Integer</code>
+     *    for values which don't need to be parsed by the <code>NumberFormat</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the number format, system default if null.
+     * @param defaultIfInvalid The value to return if the value is invalid.
+     * @return The parsed value if valid or <code>defaultIfInvalid</code> if invalid.
+     * @since 1.8
+     */
+    public int validateInt(final CharSequence value, final String pattern, final Locale locale,
+            final int defaultIfInvalid) {
+        final long result = parseInteger(value, pattern, locale, IntegerValidator.class);
+        if (result == IntegerParser.NOT_PARSED) {
+            final Integer parsed = (Integer)parse(value == null ? null : value.toString(), pattern, locale);
+            return parsed == null ? defaultIfInvalid : parsed.intValue();
+        }
+        return result >= Integer.MIN_VALUE && result <= Integer.MAX_VALUE ? (int)result : defaultIfInvalid;
+    }
+
+    /**
+     * <p>Validate using the specified pattern and/or <code>Locale</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the number format, system default if null.
+     * @return <code>true</code> if the value is valid.
+     */
+    @Override
+    public boolean isValid(final String value, final String pattern, final Locale locale) {
+        final long result = parseInteger(value, pattern, locale, IntegerValidator.class);
+        if (result == IntegerParser.NOT_PARSED) {
+            return super.isValid(value, pattern, locale);
+        }
+        return result >= Integer.MIN_VALUE && result <= Integer.MAX_VALUE;
     }
 
     /**
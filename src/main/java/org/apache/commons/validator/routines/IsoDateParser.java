@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.util.TimeZone;
+
+/**
+ * Parses dates in the fixed width ISO-8601 formats <code>yyyy-MM-dd</code>
+ * and <code>yyyy-MM-dd'T'HH:mm:ss</code> with digit arithmetic, without the
+ * <code>SimpleDateFormat</code> and <code>Calendar</code> objects used to parse
+ * them with the format.
+ * <p>
+ * Only values which have exactly the width of the pattern, with ASCII digits, are
+ * parsed. The fields are checked in the same way as a non-lenient
+ * <code>SimpleDateFormat</code> (including leap years and the number of days in
+ * the month), so an invalid value returns {@link #INVALID}. Any other value (for
+ * example with fewer digits, a year before the Gregorian calendar was introduced,
+ * or a time near a time zone transition) returns {@link #NOT_PARSED} so the value
+ * can be parsed by the format.
+ * </p>
+ *
+ * @since 1.8
+ */
+final class IsoDateParser {
+
+    /** Returned by {@link #parse(CharSequence, String, TimeZone)} when the value needs to be parsed by the format */
+    static final long NOT_PARSED = Long.MIN_VALUE;
+
+    /** Returned by {@link #parse(CharSequence, String, TimeZone)} when the value is invalid */
+    static final long INVALID = Long.MIN_VALUE + 1;
+
+    /** The ISO-8601 date pattern */
+    static final String DATE_PATTERN = "yyyy-MM-dd";
+
+    /** The ISO-8601 date and time pattern */
+    static final String DATE_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
+
+    //CHECKSTYLE:OFF: MagicNumber
+    private static final int DATE_LENGTH = 10;
+    private static final int DATE_TIME_LENGTH = 19;
+
+    /** The first year which is entirely in the Gregorian calendar */
+    private static final int FIRST_GREGORIAN_YEAR = 1583;
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * MILLIS_PER_SECOND;
+    //CHECKSTYLE:ON: MagicNumber
+
+    private IsoDateParser() {
+    }
+
+    /**
+     * Check whether a pattern is one of the fixed width ISO-8601 patterns.
+     *
+     * @param pattern The pattern
+     * @return <code>true</code> if the pattern is parsed by this class
+     */
+    static boolean isIsoPattern(final String pattern) {
+        return DATE_PATTERN.equals(pattern) || DATE_TIME_PATTERN.equals(pattern);
+    }
+
+    /**
+     * Parse a value which has been trimmed.
+     *
+     * @param value The value
+     * @param pattern The pattern, which must be an ISO-8601 pattern (see {@link #isIsoPattern(String)})
+     * @param timeZone The time zone
+     * @return The milliseconds since the epoch, {@link #INVALID} if the value is invalid
+     * or {@link #NOT_PARSED} if the value needs to be parsed by the format
+     */
+    static long parse(final CharSequence value, final String pattern, final TimeZone timeZone) {
+        final boolean dateTime = pattern.length() != DATE_LENGTH;
+        if (value.length() != (dateTime ? DATE_TIME_LENGTH : DATE_LENGTH)
+                || value.charAt(4) != '-' || value.charAt(7) != '-') { // CHECKSTYLE IGNORE MagicNumber
+            return NOT_PARSED;
+        }
+        //CHECKSTYLE:OFF: MagicNumber
+        final int year = digits(value, 0, 4);
+        final int month = digits(value, 5, 7);
+        final int day = digits(value, 8, 10);
+        int seconds = 0;
+        if (dateTime) {
+            if (value.charAt(10) != 'T' || value.charAt(13) != ':' || value.charAt(16) != ':') {
+                return NOT_PARSED;
+            }
+            final int hour = digits(value, 11, 13);
+            final int minute = digits(value, 14, 16);
+            final int second = digits(value, 17, 19);
+            if (hour < 0 || minute < 0 || second < 0) {
+                return NOT_PARSED;
+            }
+            if (hour > 23 || minute > 59 || second > 59) {
+                return INVALID;
+            }
+            seconds = (hour * 60 + minute) * 60 + second;
+        }
+        if (year < FIRST_GREGORIAN_YEAR || month < 0 || day < 0) {
+            return NOT_PARSED;
+        }
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+            return INVALID;
+        }
+        //CHECKSTYLE:ON: MagicNumber
+        final long local = CalendarFields.epochDay(year, month, day) * MILLIS_PER_DAY + seconds * MILLIS_PER_SECOND;
+
+        // the offset must be the same a day either side, otherwise the time may be in a gap or overlap
+        final long standard = local - timeZone.getRawOffset();
+        final int offset = timeZone.getOffset(standard - MILLIS_PER_DAY);
+        if (offset != timeZone.getOffset(standard + MILLIS_PER_DAY)) {
+            return NOT_PARSED;
+        }
+        return local - offset;
+    }
+
+    /**
+     * Parse ASCII digits.
+     *
+     * @param value The value
+     * @param start The start of the digits
+     * @param end The end of the digits
+     * @return The number, or -1 if there is a character which isn't a digit
+     */
+    private static int digits(final CharSequence value, final int start, final int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0'); // CHECKSTYLE IGNORE MagicNumber
+        }
+        return result;
+    }
+
+    /**
+     * Return the number of days in a month of the Gregorian calendar.
+     *
+     * @param year The year
+     * @param month The month (1 to 12)
+     * @return The number of days
+     */
+    //CHECKSTYLE:OFF: MagicNumber
+    private static int daysInMonth(final int year, final int month) {
+        switch (month) {
+        case 2:
+            return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+    //CHECKSTYLE:ON: MagicNumber
+}
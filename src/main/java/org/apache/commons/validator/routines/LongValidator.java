@@ -115,7 +115,7 @@ public class LongValidator extends AbstractNumberValidator {
      *  if invalid.
      */
     public Long validate(final String value) {
-        return (Long)parse(value, (String)null, (Locale)null);
+        return validate(value, (String)null, (Locale)null);
     }
 
     /**
@@ -127,7 +127,7 @@ public class LongValidator extends AbstractNumberValidator {
      * @return The parsed <code>Long</code> if valid or <code>null</code> if invalid.
      */
     public Long validate(final String value, final String pattern) {
-        return (Long)parse(value, pattern, (Locale)null);
+        return validate(value, pattern, (Locale)null);
     }
 
     /**
@@ -139,7 +139,7 @@ public class LongValidator extends AbstractNumberValidator {
      * @return The parsed <code>Long</code> if valid or <code>null</code> if invalid.
      */
     public Long validate(final String value, final Locale locale) {
-        return (Long)parse(value, (String)null, locale);
+        return validate(value, (String)null, locale);
     }
 
     /**
@@ -153,7 +153,79 @@ public class LongValidator extends AbstractNumberValidator {
      * @return The parsed <code>Long</code> if valid or <code>null</code> if invalid.
      */
     public Long validate(final String value, final String pattern, final Locale locale) {
-        return (Long)parse(value, pattern, locale);
+        final long result = parseInteger(value, pattern, locale, LongValidator.class);
+        if (result == IntegerParser.NOT_PARSED) {
+            return (Long)parse(value, pattern, locale);
+        }
+        return result == IntegerParser.BLANK ? null : Long.valueOf(result);
+    }
+
+    /**
+     * <p>Validate/convert a <code>long</code> using the default
+     *    <code>Locale</code>, without creating a <code>Long</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param defaultIfInvalid The value to return if the value is invalid.
+     * @return The parsed value if valid or <code>defaultIfInvalid</code> if invalid.
+     * @since 1.8
+     */
+    public long validateLong(final CharSequence value, final long defaultIfInvalid) {
+        return validateLong(value, (String)null, (Locale)null, defaultIfInvalid);
+    }
+
+    /**
+     * <p>Validate/convert a <code>long</code> using the specified
+     *    <code>Locale</code>, without creating a <code>Long</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param locale The locale to use for the number format, system default if null.
+     * @param defaultIfInvalid The value to return if the value is invalid.
+     * @return The parsed value if valid or <code>defaultIfInvalid</code> if invalid.
+     * @since 1.8
+     */
+    public long validateLong(final CharSequence value, final Locale locale, final long defaultIfInvalid) {
+        return validateLong(value, (String)null, locale, defaultIfInvalid);
+    }
+
+    /**
+     * <p>Validate/convert a <code>long</code> using the specified
+     *    pattern and/ or <code>Locale</code>, without creating a <code>Long</code>
+     *    for values which don't need to be parsed by the <code>NumberFormat</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the number format, system default if null.
+     * @param defaultIfInvalid The value to return if the value is invalid.
+     * @return The parsed value if valid or <code>defaultIfInvalid</code> if invalid.
+     * @since 1.8
+     */
+    public long validateLong(final CharSequence value, final String pattern, final Locale locale,
+            final long defaultIfInvalid) {
+        final long result = parseInteger(value, pattern, locale, LongValidator.class);
+        if (result == IntegerParser.NOT_PARSED) {
+            final Long parsed = (Long)parse(value == null ? null : value.toString(), pattern, locale);
+            return parsed == null ? defaultIfInvalid : parsed.longValue();
+        }
+        return result == IntegerParser.BLANK ? defaultIfInvalid : result;
+    }
+
+    /**
+     * <p>Validate using the specified pattern and/or <code>Locale</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the number format, system default if null.
+     * @return <code>true</code> if the value is valid.
+     */
+    @Override
+    public boolean isValid(final String value, final String pattern, final Locale locale) {
+        final long result = parseInteger(value, pattern, locale, LongValidator.class);
+        if (result == IntegerParser.NOT_PARSED) {
+            return super.isValid(value, pattern, locale);
+        }
+        return result != IntegerParser.BLANK;
     }
 
     /**
@@ -19,6 +19,7 @@ package org.apache.commons.validator.routines;
 import java.text.DecimalFormat;
 import java.text.Format;
 import java.math.BigDecimal;
+import java.util.Locale;
 
 /**
  * <p><b>Percentage Validation</b> and Conversion routines (<code>java.math.BigDecimal</code>).</p>
@@ -80,6 +81,34 @@ public class PercentValidator extends BigDecimalValidator {
         super(strict, PERCENT_FORMAT, true);
     }
 
+    /**
+     * Parse the value with the cached {@link DecimalParser}s for the format with
+     * and without the percent symbol, in the same way as {@link #parse(String, Format)},
+     * unless a subclass may have changed how values are parsed.
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against.
+     * @param locale The locale to use for the number format.
+     * @return The parsed value, {@link DecimalParser#INVALID} if the value is invalid
+     *         or <code>null</code> if the value needs to be parsed by the format.
+     */
+    @Override
+    BigDecimal parseFast(final String value, final String pattern, final Locale locale) {
+        if (getClass() != PercentValidator.class) {
+            return null;
+        }
+        BigDecimal result = parseDecimal(value, pattern, locale);
+        if (result != DecimalParser.INVALID) {
+            return result;
+        }
+        result = parseDecimal(value, pattern, locale, PERCENT_SYMBOL);
+        if (result == null || result == DecimalParser.INVALID) {
+            return result;
+        }
+        // divide by 100 to get percent
+        return result.multiply(POINT_ZERO_ONE);
+    }
+
     /**
      * <p>Parse the value with the specified <code>Format</code>.</p>
      *
@@ -116,7 +116,7 @@ public class ShortValidator extends AbstractNumberValidator {
      *  if invalid.
      */
     public Short validate(final String value) {
-        return (Short)parse(value, (String)null, (Locale)null);
+        return validate(value, (String)null, (Locale)null);
     }
 
     /**
@@ -128,7 +128,7 @@ public class ShortValidator extends AbstractNumberValidator {
      * @return The parsed <code>Short</code> if valid or <code>null</code> if invalid.
      */
     public Short validate(final String value, final String pattern) {
-        return (Short)parse(value, pattern, (Locale)null);
+        return validate(value, pattern, (Locale)null);
     }
 
     /**
@@ -140,7 +140,7 @@ public class ShortValidator extends AbstractNumberValidator {
      * @return The parsed <code>Short</code> if valid or <code>null</code> if invalid.
      */
     public Short validate(final String value, final Locale locale) {
-        return (Short)parse(value, (String)null, locale);
+        return validate(value, (String)null, locale);
     }
 
     /**
@@ -154,7 +154,29 @@ public class ShortValidator extends AbstractNumberValidator {
      * @return The parsed <code>Short</code> if valid or <code>null</code> if invalid.
      */
     public Short validate(final String value, final String pattern, final Locale locale) {
-        return (Short)parse(value, pattern, locale);
+        final long result = parseInteger(value, pattern, locale, ShortValidator.class);
+        if (result == IntegerParser.NOT_PARSED) {
+            return (Short)parse(value, pattern, locale);
+        }
+        return result >= Short.MIN_VALUE && result <= Short.MAX_VALUE ? Short.valueOf((short)result) : null;
+    }
+
+    /**
+     * <p>Validate using the specified pattern and/or <code>Locale</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the number format, system default if null.
+     * @return <code>true</code> if the value is valid.
+     */
+    @Override
+    public boolean isValid(final String value, final String pattern, final Locale locale) {
+        final long result = parseInteger(value, pattern, locale, ShortValidator.class);
+        if (result == IntegerParser.NOT_PARSED) {
+            return super.isValid(value, pattern, locale);
+        }
+        return result >= Short.MIN_VALUE && result <= Short.MAX_VALUE;
     }
 
     /**
@@ -18,6 +18,8 @@ package org.apache.commons.validator.routines;
 
 import java.text.DateFormat;
 import java.text.Format;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Locale;
 import java.util.TimeZone;
@@ -218,6 +220,104 @@ public class TimeValidator extends AbstractCalendarValidator {
         return (Calendar)parse(value, pattern, locale, timeZone);
     }
 
+    /**
+     * <p>Validate/convert a <code>LocalTime</code> using <code>java.time</code>
+     *    with the default <code>Locale</code> (see {@link #validateLocalTime(String, String, Locale)}).</p>
+     *
+     * @param value The value validation is being performed on.
+     * @return The parsed <code>LocalTime</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public LocalTime validateLocalTime(final String value) {
+        return validateLocalTime(value, (String)null, (Locale)null);
+    }
+
+    /**
+     * <p>Validate/convert a <code>LocalTime</code> using <code>java.time</code>
+     *    with the specified pattern (see {@link #validateLocalTime(String, String, Locale)}).</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against.
+     * @return The parsed <code>LocalTime</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public LocalTime validateLocalTime(final String value, final String pattern) {
+        return validateLocalTime(value, pattern, (Locale)null);
+    }
+
+    /**
+     * <p>Validate/convert a <code>LocalTime</code> using <code>java.time</code>
+     *    with the specified <code>Locale</code> (see {@link #validateLocalTime(String, String, Locale)}).</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param locale The locale to use for the time format, system default if null.
+     * @return The parsed <code>LocalTime</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public LocalTime validateLocalTime(final String value, final Locale locale) {
+        return validateLocalTime(value, (String)null, locale);
+    }
+
+    /**
+     * <p>Validate/convert a <code>LocalTime</code> using <code>java.time</code>
+     *    with the specified pattern and/or <code>Locale</code>.</p>
+     *
+     * <p>The formatter for the pattern and <code>Locale</code> is created once and
+     *    cached, see {@link #getDateTimeFormatter(String, Locale)} for the
+     *    differences from <code>SimpleDateFormat</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the time format, system default if null.
+     * @return The parsed <code>LocalTime</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public LocalTime validateLocalTime(final String value, final String pattern, final Locale locale) {
+        final ZonedDateTime result = parseDateTime(value, pattern, locale, (TimeZone)null);
+        return result == null ? null : result.toLocalTime();
+    }
+
+    /**
+     * <p>Validate/convert a <code>ZonedDateTime</code> using <code>java.time</code>
+     *    with the specified pattern, <code>Locale</code> and <code>TimeZone</code>.</p>
+     *
+     * <p>The formatter for the pattern and <code>Locale</code> is created once and
+     *    cached, see {@link #parseDateTime(String, String, Locale, TimeZone)}.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the time format, system default if null.
+     * @param timeZone The Time Zone used to parse the time, system default if null.
+     * @return The parsed <code>ZonedDateTime</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public ZonedDateTime validateZonedDateTime(final String value, final String pattern, final Locale locale,
+            final TimeZone timeZone) {
+        return parseDateTime(value, pattern, locale, timeZone);
+    }
+
+    /**
+     * <p>Validate/convert a <code>Calendar</code> using <code>java.time</code>
+     *    with the specified pattern, <code>Locale</code> and <code>TimeZone</code>.</p>
+     *
+     * <p>This parses the value in the same way as
+     *    {@link #validateZonedDateTime(String, String, Locale, TimeZone)}, for callers
+     *    which need a <code>Calendar</code>.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the <code>Locale</code> if <code>null</code>.
+     * @param locale The locale to use for the time format, system default if null.
+     * @param timeZone The Time Zone used to parse the time, system default if null.
+     * @return The parsed <code>Calendar</code> if valid or <code>null</code> if invalid.
+     * @since 1.8
+     */
+    public Calendar validateCalendar(final String value, final String pattern, final Locale locale, final TimeZone timeZone) {
+        return toCalendar(parseDateTime(value, pattern, locale, timeZone), locale, timeZone);
+    }
+
     /**
      * <p>Compare Times (hour, minute, second and millisecond - not date).</p>
      *
@@ -270,6 +370,74 @@ public class TimeValidator extends AbstractCalendarValidator {
         return compareTime(value, compare, Calendar.HOUR_OF_DAY);
     }
 
+    /**
+     * <p>Compare <code>LocalTime</code> Times (hour, minute, second and millisecond).</p>
+     *
+     * @param value The <code>LocalTime</code> value to check.
+     * @param compare The <code>LocalTime</code> to compare the value to.
+     * @return Zero if the hours are equal, -1 if first
+     * time is less than the seconds and +1 if the first
+     * time is greater than.
+     * @since 1.8
+     */
+    public int compareTime(final LocalTime value, final LocalTime compare) {
+        return compareTime(value, compare, Calendar.MILLISECOND);
+    }
+
+    /**
+     * <p>Compare <code>LocalTime</code> Seconds (hours, minutes and seconds).</p>
+     *
+     * @param value The <code>LocalTime</code> value to check.
+     * @param compare The <code>LocalTime</code> to compare the value to.
+     * @return Zero if the hours are equal, -1 if first
+     * parameter's seconds are less than the seconds and +1 if the first
+     * parameter's seconds are greater than.
+     * @since 1.8
+     */
+    public int compareSeconds(final LocalTime value, final LocalTime compare) {
+        return compareTime(value, compare, Calendar.SECOND);
+    }
+
+    /**
+     * <p>Compare <code>LocalTime</code> Minutes (hours and minutes).</p>
+     *
+     * @param value The <code>LocalTime</code> value to check.
+     * @param compare The <code>LocalTime</code> to compare the value to.
+     * @return Zero if the hours are equal, -1 if first
+     * parameter's minutes are less than the seconds and +1 if the first
+     * parameter's minutes are greater than.
+     * @since 1.8
+     */
+    public int compareMinutes(final LocalTime value, final LocalTime compare) {
+        return compareTime(value, compare, Calendar.MINUTE);
+    }
+
+    /**
+     * <p>Compare <code>LocalTime</code> Hours.</p>
+     *
+     * @param value The <code>LocalTime</code> value to check.
+     * @param compare The <code>LocalTime</code> to compare the value to.
+     * @return Zero if the hours are equal, -1 if first
+     * parameter's hour is less than the seconds and +1 if the first
+     * parameter's hour is greater than.
+     * @since 1.8
+     */
+    public int compareHours(final LocalTime value, final LocalTime compare) {
+        return compareTime(value, compare, Calendar.HOUR_OF_DAY);
+    }
+
+    /**
+     * <p>Whether values with an ISO-8601 pattern can be parsed without the format,
+     *    and values compared without calendars, unless a subclass may have changed
+     *    how values are parsed or compared.</p>
+     *
+     * @return <code>true</code> if this isn't a subclass.
+     */
+    @Override
+    boolean isFastPath() {
+        return getClass() == TimeValidator.class;
+    }
+
     /**
      * <p>Convert the parsed <code>Date</code> to a <code>Calendar</code>.</p>
      *
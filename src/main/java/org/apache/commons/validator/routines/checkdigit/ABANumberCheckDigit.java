@@ -53,6 +53,9 @@ public final class ABANumberCheckDigit extends ModulusCheckDigit {
     /** weighting given to digits depending on their right position */
     private static final int[] POSITION_WEIGHT = {3, 1, 7};
 
+    /** weighting given to digits from right to left, starting with right position 1 */
+    private static final int[] RIGHT_TO_LEFT_WEIGHT = {1, 7, 3};
+
     /**
      * Construct a modulus 10 Check Digit routine for ABA Numbers.
      */
@@ -81,4 +84,65 @@ public final class ABANumberCheckDigit extends ModulusCheckDigit {
         return charValue * weight;
     }
 
+    /**
+     * Creates an accumulator which calculates or validates the check digit
+     * incrementally, without needing to know the length of the code.
+     *
+     * @return A new accumulator for this routine
+     * @since 1.8
+     */
+    @Override
+    public CheckDigitAccumulator newAccumulator() {
+        return new RightWeightedAccumulator(this, POSITION_WEIGHT.length);
+    }
+
+    /**
+     * Calculate the ABA total of the digits, from right to left.
+     *
+     * @param code The code containing the characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if a character is not an ASCII digit
+     */
+    @Override
+    int weightedTotal(final CharSequence code, final int start, final int end, final boolean includesCheckDigit) {
+        int total = 0;
+        int weightIdx = includesCheckDigit ? 0 : 1;
+        for (int i = end - 1; i >= start; i--) {
+            final int digit = code.charAt(i) - '0';
+            if (digit < 0 || digit > 9) { // CHECKSTYLE IGNORE MagicNumber
+                return -1;
+            }
+            total += digit * RIGHT_TO_LEFT_WEIGHT[weightIdx];
+            weightIdx = weightIdx == 2 ? 0 : weightIdx + 1;
+        }
+        return total;
+    }
+
+    /**
+     * Calculate the ABA total of the ASCII digits, from right to left.
+     *
+     * @param code The buffer containing the ASCII characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if a character is not an ASCII digit
+     * @see #weightedTotal(CharSequence, int, int, boolean)
+     */
+    @Override
+    int weightedTotal(final byte[] code, final int start, final int end, final boolean includesCheckDigit) {
+        int total = 0;
+        int weightIdx = includesCheckDigit ? 0 : 1;
+        for (int i = end - 1; i >= start; i--) {
+            final int digit = code[i] - '0';
+            if (digit < 0 || digit > 9) { // CHECKSTYLE IGNORE MagicNumber
+                return -1;
+            }
+            total += digit * RIGHT_TO_LEFT_WEIGHT[weightIdx];
+            weightIdx = weightIdx == 2 ? 0 : weightIdx + 1;
+        }
+        return total;
+    }
+
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines.checkdigit;
+
+/**
+ * Base class for {@link CheckDigitAccumulator} implementations, which
+ * counts the characters appended and passes each one to
+ * {@link #accumulate(char, int)}.
+ *
+ * @since 1.8
+ */
+abstract class AbstractCheckDigitAccumulator implements CheckDigitAccumulator {
+
+    /** The number of characters appended */
+    private int length;
+
+    @Override
+    public CheckDigitAccumulator append(final char character) {
+        accumulate(character, length++);
+        return this;
+    }
+
+    @Override
+    public CheckDigitAccumulator append(final CharSequence characters, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            accumulate(characters.charAt(i), length++);
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Non-ASCII bytes are treated as the Unicode replacement character,
+     * which is not valid in any code.
+     * </p>
+     */
+    @Override
+    public CheckDigitAccumulator append(final byte[] characters, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final byte character = characters[i];
+            accumulate(character >= 0 ? (char) character : '\uFFFD', length++);
+        }
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public CheckDigitAccumulator reset() {
+        length = 0;
+        clear();
+        return this;
+    }
+
+    /**
+     * Accumulates the next character of the code.
+     *
+     * @param character The character
+     * @param index The index of the character in the code (from left to right, starting at 0)
+     */
+    protected abstract void accumulate(char character, int index);
+
+    /**
+     * Clears the accumulated state.
+     */
+    protected abstract void clear();
+
+}
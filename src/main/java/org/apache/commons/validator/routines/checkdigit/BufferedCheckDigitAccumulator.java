@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines.checkdigit;
+
+/**
+ * {@link CheckDigitAccumulator} which collects the characters of the code
+ * and then delegates to the {@link CheckDigit} routine, for routines which
+ * don't provide an incremental implementation.
+ *
+ * @since 1.8
+ */
+final class BufferedCheckDigitAccumulator extends AbstractCheckDigitAccumulator {
+
+    /** The check digit routine */
+    private final CheckDigit routine;
+
+    /** The characters appended */
+    private final StringBuilder code = new StringBuilder();
+
+    /**
+     * Construct an accumulator for a check digit routine.
+     *
+     * @param routine The check digit routine to delegate to
+     */
+    BufferedCheckDigitAccumulator(final CheckDigit routine) {
+        this.routine = routine;
+    }
+
+    @Override
+    protected void accumulate(final char character, final int index) {
+        code.append(character);
+    }
+
+    @Override
+    protected void clear() {
+        code.setLength(0);
+    }
+
+    @Override
+    public boolean isValid() {
+        return routine.isValid(code.toString());
+    }
+
+    @Override
+    public String calculate() throws CheckDigitException {
+        return routine.calculate(code.toString());
+    }
+
+}
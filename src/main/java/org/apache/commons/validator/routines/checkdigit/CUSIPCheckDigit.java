@@ -48,6 +48,19 @@ public final class CUSIPCheckDigit extends ModulusCheckDigit {
     /** weighting given to digits depending on their right position */
     private static final int[] POSITION_WEIGHT = {2, 1};
 
+    /** sum of the digits of each character value (0-35) */
+    private static final int[] VALUE_DIGIT_SUM = new int[36]; // CHECKSTYLE IGNORE MagicNumber
+
+    /** sum of the digits of each doubled character value (0-35) */
+    private static final int[] DOUBLED_DIGIT_SUM = new int[36]; // CHECKSTYLE IGNORE MagicNumber
+
+    static {
+        for (int i = 0; i < VALUE_DIGIT_SUM.length; i++) {
+            VALUE_DIGIT_SUM[i] = ModulusCheckDigit.sumDigits(i);
+            DOUBLED_DIGIT_SUM[i] = ModulusCheckDigit.sumDigits(i * 2);
+        }
+    }
+
     /**
      * Construct an CUSIP Indetifier Check Digit routine.
      */
@@ -96,4 +109,69 @@ public final class CUSIPCheckDigit extends ModulusCheckDigit {
         final int weightedValue = (charValue * weight);
         return ModulusCheckDigit.sumDigits(weightedValue);
     }
+
+    /**
+     * Creates an accumulator which calculates or validates the check digit
+     * incrementally, without needing to know the length of the code.
+     *
+     * @return A new accumulator for this routine
+     * @since 1.8
+     */
+    @Override
+    public CheckDigitAccumulator newAccumulator() {
+        return new RightWeightedAccumulator(this, POSITION_WEIGHT.length);
+    }
+
+    /**
+     * Calculate the CUSIP total of the characters, from right to left,
+     * using lookup tables for the summed digits of the weighted values.
+     *
+     * @param code The code containing the characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if a character is not an ASCII
+     * letter or digit (or the check digit is not a digit)
+     */
+    @Override
+    int weightedTotal(final CharSequence code, final int start, final int end, final boolean includesCheckDigit) {
+        int total = 0;
+        boolean doubled = !includesCheckDigit;
+        for (int i = end - 1; i >= start; i--) {
+            final int charValue = ModulusCheckDigit.asciiValue(code.charAt(i));
+            if (charValue < 0 || (includesCheckDigit && i == end - 1 && charValue > 9)) { // CHECKSTYLE IGNORE MagicNumber
+                return -1;
+            }
+            total += doubled ? DOUBLED_DIGIT_SUM[charValue] : VALUE_DIGIT_SUM[charValue];
+            doubled = !doubled;
+        }
+        return total;
+    }
+
+    /**
+     * Calculate the CUSIP total of the ASCII characters, from right to left,
+     * using lookup tables for the summed digits of the weighted values.
+     *
+     * @param code The buffer containing the ASCII characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if a character is not an ASCII
+     * letter or digit (or the check digit is not a digit)
+     * @see #weightedTotal(CharSequence, int, int, boolean)
+     */
+    @Override
+    int weightedTotal(final byte[] code, final int start, final int end, final boolean includesCheckDigit) {
+        int total = 0;
+        boolean doubled = !includesCheckDigit;
+        for (int i = end - 1; i >= start; i--) {
+            final int charValue = ModulusCheckDigit.asciiValue(code[i]);
+            if (charValue < 0 || (includesCheckDigit && i == end - 1 && charValue > 9)) { // CHECKSTYLE IGNORE MagicNumber
+                return -1;
+            }
+            total += doubled ? DOUBLED_DIGIT_SUM[charValue] : VALUE_DIGIT_SUM[charValue];
+            doubled = !doubled;
+        }
+        return total;
+    }
 }
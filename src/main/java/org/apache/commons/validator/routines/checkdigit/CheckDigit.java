@@ -16,6 +16,9 @@
  */
 package org.apache.commons.validator.routines.checkdigit;
 
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+
 /**
  * <b>Check Digit</b> calculation and validation.
  * <p>
@@ -67,4 +70,90 @@ public interface CheckDigit {
      */
     boolean isValid(String code);
 
+    /**
+     * Creates an accumulator, which calculates or validates the check digit
+     * of a code appended to it incrementally.
+     * <p>
+     * This implementation collects the characters and then calls
+     * {@link #calculate(String)} or {@link #isValid(String)}; implementations
+     * in this package override it to keep a running total instead.
+     *
+     * @return A new accumulator for this routine
+     * @since 1.8
+     */
+    default CheckDigitAccumulator newAccumulator() {
+        return new BufferedCheckDigitAccumulator(this);
+    }
+
+    /**
+     * Validates the check digits for a column of codes packed into
+     * a single ASCII buffer.
+     * <p>
+     * Code <code>i</code> occupies the bytes from <code>offsets[i]</code>
+     * (inclusive) to <code>offsets[i + 1]</code> (exclusive), so the
+     * offsets array has one more entry than the number of codes. The
+     * result for code <code>i</code> is stored in bit <code>i % 64</code>
+     * of <code>results[i / 64]</code>.
+     * <p>
+     * If <code>parallel</code> is <code>true</code> the codes are split
+     * into blocks on 64 code boundaries (so that no two blocks share a
+     * result word) which are validated using the common fork/join pool.
+     *
+     * @param codes The codes to validate, including their check digits.
+     * @param offsets The start offset of each code, followed by the end
+     * offset of the last code.
+     * @param results The bitmap the results are stored in, which must have
+     * room for <code>offsets.length - 1</code> bits.
+     * @param parallel Whether to split the validation across threads.
+     * @return The number of valid codes.
+     * @since 1.8
+     */
+    default int isValid(final byte[] codes, final int[] offsets, final long[] results, final boolean parallel) {
+        final int count = offsets.length - 1;
+        // blocks of 64 result words
+        final int blockSize = 4096; // CHECKSTYLE IGNORE MagicNumber
+        if (!parallel || count <= blockSize) {
+            return isValid(codes, offsets, 0, count, results);
+        }
+        return IntStream.range(0, (count + blockSize - 1) / blockSize).parallel()
+                .map(block -> isValid(codes, offsets, block * blockSize, Math.min(count, (block + 1) * blockSize), results))
+                .sum();
+    }
+
+    /**
+     * Validates the check digits for a range of codes packed into a
+     * single ASCII buffer.
+     * <p>
+     * See {@link #isValid(byte[], int[], long[], boolean)} for the layout
+     * of the codes and the results. Only the result bits in the range are
+     * updated.
+     * <p>
+     * This implementation calls {@link #isValid(String)} for each code;
+     * implementations in this package override it to validate the bytes
+     * directly.
+     *
+     * @param codes The codes to validate, including their check digits.
+     * @param offsets The start offset of each code, followed by the end
+     * offset of the last code.
+     * @param fromIndex The index of the first code to validate (inclusive).
+     * @param toIndex The index of the last code to validate (exclusive).
+     * @param results The bitmap the results are stored in.
+     * @return The number of valid codes in the range.
+     * @since 1.8
+     */
+    default int isValid(final byte[] codes, final int[] offsets, final int fromIndex, final int toIndex,
+            final long[] results) {
+        int validCount = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            final String code = new String(codes, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.US_ASCII);
+            if (isValid(code)) {
+                results[i >>> 6] |= 1L << i; // CHECKSTYLE IGNORE MagicNumber
+                validCount++;
+            } else {
+                results[i >>> 6] &= ~(1L << i); // CHECKSTYLE IGNORE MagicNumber
+            }
+        }
+        return validCount;
+    }
+
 }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines.checkdigit;
+
+/**
+ * Incremental <b>Check Digit</b> calculation and validation.
+ * <p>
+ * An accumulator is obtained from {@link CheckDigit#newAccumulator()} and
+ * has the characters of a code appended to it, either one at a time or in
+ * slices, for example as they are read by a parser. Once the whole code has
+ * been appended {@link #isValid()} validates it (the code including its check
+ * digit) or {@link #calculate()} calculates its check digit (the code without
+ * a check digit). Neither requires the code to be available as a
+ * <code>String</code> and, where the algorithm allows it, the length of the
+ * code doesn't need to be known until the end.
+ * </p>
+ * <p>
+ * Accumulators are not thread safe. An accumulator can be re-used for
+ * another code by calling {@link #reset()}.
+ * </p>
+ *
+ * @see CheckDigit#newAccumulator()
+ * @since 1.8
+ */
+public interface CheckDigitAccumulator {
+
+    /**
+     * Appends a character of the code.
+     *
+     * @param character The next character of the code
+     * @return This accumulator
+     */
+    CheckDigitAccumulator append(char character);
+
+    /**
+     * Appends a slice of characters of the code.
+     *
+     * @param characters The characters to append
+     * @param start The index of the first character to append
+     * @param end The index after the last character to append
+     * @return This accumulator
+     */
+    CheckDigitAccumulator append(CharSequence characters, int start, int end);
+
+    /**
+     * Appends a slice of ASCII characters of the code.
+     *
+     * @param characters The buffer containing the ASCII characters to append
+     * @param start The index of the first character to append
+     * @param end The index after the last character to append
+     * @return This accumulator
+     */
+    CheckDigitAccumulator append(byte[] characters, int start, int end);
+
+    /**
+     * Returns the number of characters appended.
+     *
+     * @return The length of the code so far
+     */
+    int length();
+
+    /**
+     * Validates the check digit of the characters appended, which must
+     * include the check digit.
+     * <p>
+     * This does not change the state of the accumulator, so more characters
+     * may be appended afterwards.
+     * </p>
+     *
+     * @return <code>true</code> if the check digit is valid, otherwise
+     * <code>false</code>.
+     */
+    boolean isValid();
+
+    /**
+     * Calculates the <i>Check Digit</i> for the characters appended, which
+     * must not include the check digit.
+     * <p>
+     * This does not change the state of the accumulator, so more characters
+     * may be appended afterwards.
+     * </p>
+     *
+     * @return The calculated Check Digit
+     * @throws CheckDigitException if an error occurs.
+     */
+    String calculate() throws CheckDigitException;
+
+    /**
+     * Discards the characters appended so that the accumulator can be
+     * re-used for another code.
+     *
+     * @return This accumulator
+     */
+    CheckDigitAccumulator reset();
+
+}
@@ -74,4 +74,67 @@ public final class EAN13CheckDigit extends ModulusCheckDigit {
         final int weight = POSITION_WEIGHT[rightPos % 2];
         return charValue * weight;
     }
+
+    /**
+     * Creates an accumulator which calculates or validates the check digit
+     * incrementally, without needing to know the length of the code.
+     *
+     * @return A new accumulator for this routine
+     * @since 1.8
+     */
+    @Override
+    public CheckDigitAccumulator newAccumulator() {
+        return new RightWeightedAccumulator(this, POSITION_WEIGHT.length);
+    }
+
+    /**
+     * Calculate the EAN-13 total of the digits, from right to left,
+     * alternating the weights one and three.
+     *
+     * @param code The code containing the characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if a character is not an ASCII digit
+     */
+    @Override
+    int weightedTotal(final CharSequence code, final int start, final int end, final boolean includesCheckDigit) {
+        int total = 0;
+        int weight = includesCheckDigit ? 1 : 3; // CHECKSTYLE IGNORE MagicNumber
+        for (int i = end - 1; i >= start; i--) {
+            final int digit = code.charAt(i) - '0';
+            if (digit < 0 || digit > 9) { // CHECKSTYLE IGNORE MagicNumber
+                return -1;
+            }
+            total += digit * weight;
+            weight = 4 - weight; // CHECKSTYLE IGNORE MagicNumber
+        }
+        return total;
+    }
+
+    /**
+     * Calculate the EAN-13 total of the ASCII digits, from right to left,
+     * alternating the weights one and three.
+     *
+     * @param code The buffer containing the ASCII characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if a character is not an ASCII digit
+     * @see #weightedTotal(CharSequence, int, int, boolean)
+     */
+    @Override
+    int weightedTotal(final byte[] code, final int start, final int end, final boolean includesCheckDigit) {
+        int total = 0;
+        int weight = includesCheckDigit ? 1 : 3; // CHECKSTYLE IGNORE MagicNumber
+        for (int i = end - 1; i >= start; i--) {
+            final int digit = code[i] - '0';
+            if (digit < 0 || digit > 9) { // CHECKSTYLE IGNORE MagicNumber
+                return -1;
+            }
+            total += digit * weight;
+            weight = 4 - weight; // CHECKSTYLE IGNORE MagicNumber
+        }
+        return total;
+    }
 }
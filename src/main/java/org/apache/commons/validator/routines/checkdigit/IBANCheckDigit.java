@@ -72,10 +72,15 @@ public final class IBANCheckDigit implements CheckDigit, Serializable {
         if (code == null || code.length() < MIN_CODE_LEN) {
             return false;
         }
-        final String check = code.substring(2,4); // CHECKSTYLE IGNORE MagicNumber
-        if ("00".equals(check) || "01".equals(check) || "99".equals(check)) {
+        final char check1 = code.charAt(2); // CHECKSTYLE IGNORE MagicNumber
+        final char check2 = code.charAt(3); // CHECKSTYLE IGNORE MagicNumber
+        if ((check1 == '0' && (check2 == '0' || check2 == '1')) || (check1 == '9' && check2 == '9')) {
             return false;
         }
+        final int fastResult = modulus(code, 0, code.length(), false);
+        if (fastResult >= 0) {
+            return fastResult == 1;
+        }
         try {
             final int modulusResult = calculateModulus(code);
             return (modulusResult == 1);
@@ -84,6 +89,58 @@ public final class IBANCheckDigit implements CheckDigit, Serializable {
         }
     }
 
+    /**
+     * Creates an accumulator which calculates or validates the IBAN check
+     * digits incrementally, without needing to know the length of the code.
+     * Only the first four characters, which are moved to the end for the
+     * calculation, are held until the end.
+     *
+     * @return A new accumulator for this routine
+     * @since 1.8
+     */
+    @Override
+    public CheckDigitAccumulator newAccumulator() {
+        return new Accumulator();
+    }
+
+    /**
+     * Validate the check digits for a range of IBAN codes packed into a
+     * single ASCII buffer, without creating a <code>String</code> for each code.
+     *
+     * @param codes The codes to validate.
+     * @param offsets The start offset of each code, followed by the end
+     * offset of the last code.
+     * @param fromIndex The index of the first code to validate (inclusive).
+     * @param toIndex The index of the last code to validate (exclusive).
+     * @param results The bitmap the results are stored in.
+     * @return The number of valid codes in the range.
+     * @since 1.8
+     */
+    @Override
+    public int isValid(final byte[] codes, final int[] offsets, final int fromIndex, final int toIndex,
+            final long[] results) {
+        int validCount = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            final int start = offsets[i];
+            final int end = offsets[i + 1];
+            boolean valid = false;
+            if (end - start >= MIN_CODE_LEN) {
+                final byte check1 = codes[start + 2]; // CHECKSTYLE IGNORE MagicNumber
+                final byte check2 = codes[start + 3]; // CHECKSTYLE IGNORE MagicNumber
+                if (!((check1 == '0' && (check2 == '0' || check2 == '1')) || (check1 == '9' && check2 == '9'))) {
+                    valid = modulus(codes, start, end, false) == 1;
+                }
+            }
+            if (valid) {
+                results[i >>> 6] |= 1L << i; // CHECKSTYLE IGNORE MagicNumber
+                validCount++;
+            } else {
+                results[i >>> 6] &= ~(1L << i); // CHECKSTYLE IGNORE MagicNumber
+            }
+        }
+        return validCount;
+    }
+
     /**
      * Calculate the <i>Check Digit</i> for an IBAN code.
      * <p>
@@ -101,8 +158,11 @@ public final class IBANCheckDigit implements CheckDigit, Serializable {
             throw new CheckDigitException("Invalid Code length=" +
                     (code == null ? 0 : code.length()));
         }
-        code = code.substring(0, 2) + "00" + code.substring(4); // CHECKSTYLE IGNORE MagicNumber
-        final int modulusResult = calculateModulus(code);
+        int modulusResult = modulus(code, 0, code.length(), true);
+        if (modulusResult < 0) {
+            code = code.substring(0, 2) + "00" + code.substring(4); // CHECKSTYLE IGNORE MagicNumber
+            modulusResult = calculateModulus(code);
+        }
         final int charValue = (98 - modulusResult); // CHECKSTYLE IGNORE MagicNumber
         final String checkDigit = Integer.toString(charValue);
         return (charValue > 9 ? checkDigit : "0" + checkDigit); // CHECKSTYLE IGNORE MagicNumber
@@ -133,4 +193,184 @@ public final class IBANCheckDigit implements CheckDigit, Serializable {
         return (int)(total % MODULUS);
     }
 
+    /**
+     * Calculate the modulus for a range of characters without rearranging
+     * them, processing the characters after the first four and then the first four.
+     *
+     * @param code The code containing the characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param zeroCheckDigits Whether to treat the check digits as "<code>00</code>"
+     * (for calculating them)
+     * @return The modulus value, or -1 if a character is not an ASCII letter or digit
+     */
+    static int modulus(final CharSequence code, final int start, final int end, final boolean zeroCheckDigits) {
+        long total = 0;
+        final int bban = start + 4; // CHECKSTYLE IGNORE MagicNumber
+        for (int i = bban; i < end; i++) {
+            final int charValue = ModulusCheckDigit.asciiValue(code.charAt(i));
+            if (charValue < 0) {
+                return -1;
+            }
+            total = (charValue > 9 ? total * 100 : total * 10) + charValue; // CHECKSTYLE IGNORE MagicNumber
+            if (total > MAX) {
+                total = total % MODULUS;
+            }
+        }
+        for (int i = start; i < bban; i++) {
+            final int charValue = zeroCheckDigits && i >= start + 2 ? 0 : ModulusCheckDigit.asciiValue(code.charAt(i));
+            if (charValue < 0) {
+                return -1;
+            }
+            total = (charValue > 9 ? total * 100 : total * 10) + charValue; // CHECKSTYLE IGNORE MagicNumber
+            if (total > MAX) {
+                total = total % MODULUS;
+            }
+        }
+        return (int) (total % MODULUS);
+    }
+
+    /**
+     * Calculate the modulus for a range of ASCII characters without rearranging
+     * them, processing the characters after the first four and then the first four.
+     *
+     * @param code The buffer containing the ASCII characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param zeroCheckDigits Whether to treat the check digits as "<code>00</code>"
+     * (for calculating them)
+     * @return The modulus value, or -1 if a character is not an ASCII letter or digit
+     * @see #modulus(CharSequence, int, int, boolean)
+     */
+    static int modulus(final byte[] code, final int start, final int end, final boolean zeroCheckDigits) {
+        long total = 0;
+        final int bban = start + 4; // CHECKSTYLE IGNORE MagicNumber
+        for (int i = bban; i < end; i++) {
+            final int charValue = ModulusCheckDigit.asciiValue(code[i]);
+            if (charValue < 0) {
+                return -1;
+            }
+            total = (charValue > 9 ? total * 100 : total * 10) + charValue; // CHECKSTYLE IGNORE MagicNumber
+            if (total > MAX) {
+                total = total % MODULUS;
+            }
+        }
+        for (int i = start; i < bban; i++) {
+            final int charValue = zeroCheckDigits && i >= start + 2 ? 0 : ModulusCheckDigit.asciiValue(code[i]);
+            if (charValue < 0) {
+                return -1;
+            }
+            total = (charValue > 9 ? total * 100 : total * 10) + charValue; // CHECKSTYLE IGNORE MagicNumber
+            if (total > MAX) {
+                total = total % MODULUS;
+            }
+        }
+        return (int) (total % MODULUS);
+    }
+
+    /**
+     * Add the value of a character to a mod 97 total.
+     *
+     * @param total The total so far
+     * @param charValue The numeric value of the character
+     * @return The new total
+     */
+    private static long add(final long total, final int charValue) {
+        final long newTotal = (charValue > 9 ? total * 100 : total * 10) + charValue; // CHECKSTYLE IGNORE MagicNumber
+        return newTotal > MAX ? newTotal % MODULUS : newTotal;
+    }
+
+    /**
+     * IBAN {@link CheckDigitAccumulator}.
+     */
+    private static final class Accumulator extends AbstractCheckDigitAccumulator {
+
+        /** The number of leading characters (country code and check digits) moved to the end */
+        private static final int HEAD_LEN = 4;
+
+        /** The leading characters */
+        private final char[] head = new char[HEAD_LEN];
+
+        /** The total of the remaining characters */
+        private long total;
+
+        /** The first invalid character error in the remaining characters */
+        private CheckDigitException error;
+
+        @Override
+        protected void accumulate(final char character, final int index) {
+            if (index < HEAD_LEN) {
+                head[index] = character;
+                return;
+            }
+            if (error != null) {
+                return;
+            }
+            final int charValue = Character.getNumericValue(character);
+            if (charValue < 0 || charValue > MAX_ALPHANUMERIC_VALUE) {
+                error = new CheckDigitException("Invalid Character[" +
+                        (index - HEAD_LEN) + "] = '" + charValue + "'");
+                return;
+            }
+            total = add(total, charValue);
+        }
+
+        @Override
+        protected void clear() {
+            total = 0;
+            error = null;
+        }
+
+        @Override
+        public boolean isValid() {
+            if (length() < MIN_CODE_LEN) {
+                return false;
+            }
+            final char check1 = head[2];
+            final char check2 = head[3]; // CHECKSTYLE IGNORE MagicNumber
+            if ((check1 == '0' && (check2 == '0' || check2 == '1')) || (check1 == '9' && check2 == '9')) {
+                return false;
+            }
+            try {
+                return modulus(false) == 1;
+            } catch (final CheckDigitException ex) {
+                return false;
+            }
+        }
+
+        @Override
+        public String calculate() throws CheckDigitException {
+            if (length() < MIN_CODE_LEN) {
+                throw new CheckDigitException("Invalid Code length=" + length());
+            }
+            final int charValue = (98 - modulus(true)); // CHECKSTYLE IGNORE MagicNumber
+            final String checkDigit = Integer.toString(charValue);
+            return (charValue > 9 ? checkDigit : "0" + checkDigit); // CHECKSTYLE IGNORE MagicNumber
+        }
+
+        /**
+         * Calculate the modulus, adding the leading characters to the total.
+         *
+         * @param zeroCheckDigits Whether to treat the check digits as "<code>00</code>"
+         * @return The modulus value
+         * @throws CheckDigitException if a character is invalid
+         */
+        private int modulus(final boolean zeroCheckDigits) throws CheckDigitException {
+            if (error != null) {
+                throw error;
+            }
+            long modulusTotal = total;
+            for (int i = 0; i < HEAD_LEN; i++) {
+                final int charValue = zeroCheckDigits && i >= 2 ? 0 : Character.getNumericValue(head[i]);
+                if (charValue < 0 || charValue > MAX_ALPHANUMERIC_VALUE) {
+                    throw new CheckDigitException("Invalid Character[" +
+                            (length() - HEAD_LEN + i) + "] = '" + charValue + "'");
+                }
+                modulusTotal = add(modulusTotal, charValue);
+            }
+            return (int) (modulusTotal % MODULUS);
+        }
+
+    }
+
 }
@@ -111,4 +111,115 @@ public final class ISBN10CheckDigit extends ModulusCheckDigit {
         return super.toCheckDigit(charValue);
     }
 
+    /**
+     * Creates an accumulator which calculates or validates the check digit
+     * incrementally, without needing to know the length of the code.
+     *
+     * @return A new accumulator for this routine
+     * @since 1.8
+     */
+    @Override
+    public CheckDigitAccumulator newAccumulator() {
+        return new Accumulator(this);
+    }
+
+    /**
+     * Calculate the ISBN-10 total of the digits, weighted by their
+     * position from right to left.
+     *
+     * @param code The code containing the characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if a character is not an ASCII digit
+     * (or 'X' check digit)
+     */
+    @Override
+    int weightedTotal(final CharSequence code, final int start, final int end, final boolean includesCheckDigit) {
+        int total = 0;
+        int rightPos = includesCheckDigit ? 1 : 2;
+        for (int i = end - 1; i >= start; i--, rightPos++) {
+            final char character = code.charAt(i);
+            final int digit = character - '0';
+            if (digit >= 0 && digit <= 9) { // CHECKSTYLE IGNORE MagicNumber
+                total += digit * rightPos;
+            } else if (rightPos == 1 && character == 'X') {
+                total += 10; // CHECKSTYLE IGNORE MagicNumber
+            } else {
+                return -1;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Calculate the ISBN-10 total of the ASCII digits, weighted by their
+     * position from right to left.
+     *
+     * @param code The buffer containing the ASCII characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if a character is not an ASCII digit
+     * (or 'X' check digit)
+     * @see #weightedTotal(CharSequence, int, int, boolean)
+     */
+    @Override
+    int weightedTotal(final byte[] code, final int start, final int end, final boolean includesCheckDigit) {
+        int total = 0;
+        int rightPos = includesCheckDigit ? 1 : 2;
+        for (int i = end - 1; i >= start; i--, rightPos++) {
+            final byte character = code[i];
+            final int digit = character - '0';
+            if (digit >= 0 && digit <= 9) { // CHECKSTYLE IGNORE MagicNumber
+                total += digit * rightPos;
+            } else if (rightPos == 1 && character == 'X') {
+                total += 10; // CHECKSTYLE IGNORE MagicNumber
+            } else {
+                return -1;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * ISBN-10 {@link CheckDigitAccumulator}.
+     * <p>
+     * As the weight is the right position (i.e. the length less the index)
+     * the total is calculated at the end from the sum of the values and the
+     * sum of the values multiplied by their index.
+     * </p>
+     */
+    private static final class Accumulator extends ModulusAccumulator {
+
+        /** The sum of the values, excluding the last character */
+        private int sum;
+
+        /** The sum of the values multiplied by their index, excluding the last character */
+        private int indexSum;
+
+        Accumulator(final ISBN10CheckDigit routine) {
+            super(routine, 0);
+        }
+
+        @Override
+        void add(final int charValue, final int index) {
+            sum += charValue;
+            indexSum += charValue * index;
+        }
+
+        @Override
+        int total(final int lastValue, final int lth) {
+            return lth * (sum + lastValue) - (indexSum + lastValue * (length() - 1));
+        }
+
+        @Override
+        protected void clear() {
+            super.clear();
+            sum = 0;
+            indexSum = 0;
+        }
+
+    }
+
 }
@@ -50,6 +50,9 @@ public final class ISINCheckDigit extends ModulusCheckDigit {
     /** weighting given to digits depending on their right position */
     private static final int[] POSITION_WEIGHT = {2, 1};
 
+    /** weighted values of the digits 0-9 in an even position (doubled, with the digits summed) */
+    private static final int[] DOUBLED_VALUE = {0, 2, 4, 6, 8, 1, 3, 5, 7, 9};
+
     /**
      * Construct an ISIN Indetifier Check Digit routine.
      */
@@ -68,6 +71,10 @@ public final class ISINCheckDigit extends ModulusCheckDigit {
      */
     @Override
     protected int calculateModulus(final String code, final boolean includesCheckDigit) throws CheckDigitException {
+        final int total = weightedTotal(code, 0, code.length(), includesCheckDigit);
+        if (total > 0) {
+            return total % getModulus();
+        }
         final StringBuilder transformed = new  StringBuilder(code.length() * 2); // CHECKSTYLE IGNORE MagicNumber
         if (includesCheckDigit) {
             final char checkDigit = code.charAt(code.length()-1); // fetch the last character
@@ -107,4 +114,146 @@ public final class ISINCheckDigit extends ModulusCheckDigit {
         final int weightedValue = charValue * weight;
         return ModulusCheckDigit.sumDigits(weightedValue);
     }
+
+    /**
+     * Creates an accumulator which calculates or validates the check digit
+     * incrementally, without needing to know the length of the code.
+     *
+     * @return A new accumulator for this routine
+     * @since 1.8
+     */
+    @Override
+    public CheckDigitAccumulator newAccumulator() {
+        return new Accumulator(this);
+    }
+
+    /**
+     * Calculate the ISIN total of the characters, from right to left,
+     * expanding letters to their two digit values as it goes rather than
+     * building the transformed code.
+     *
+     * @param code The code containing the characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if a character is not an ASCII
+     * letter or digit (or the check digit is not a digit)
+     */
+    @Override
+    int weightedTotal(final CharSequence code, final int start, final int end, final boolean includesCheckDigit) {
+        int total = 0;
+        boolean doubled = !includesCheckDigit;
+        for (int i = end - 1; i >= start; i--) {
+            final int charValue = ModulusCheckDigit.asciiValue(code.charAt(i));
+            if (charValue < 0 || (includesCheckDigit && i == end - 1 && charValue > 9)) { // CHECKSTYLE IGNORE MagicNumber
+                return -1;
+            }
+            if (charValue > 9) { // CHECKSTYLE IGNORE MagicNumber
+                // letters are two digits, the units digit being furthest right
+                final int units = charValue % 10; // CHECKSTYLE IGNORE MagicNumber
+                final int tens = charValue / 10; // CHECKSTYLE IGNORE MagicNumber
+                total += doubled ? DOUBLED_VALUE[units] + tens : units + DOUBLED_VALUE[tens];
+            } else {
+                total += doubled ? DOUBLED_VALUE[charValue] : charValue;
+                doubled = !doubled;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Calculate the ISIN total of the ASCII characters, from right to left,
+     * expanding letters to their two digit values as it goes rather than
+     * building the transformed code.
+     *
+     * @param code The buffer containing the ASCII characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if a character is not an ASCII
+     * letter or digit (or the check digit is not a digit)
+     * @see #weightedTotal(CharSequence, int, int, boolean)
+     */
+    @Override
+    int weightedTotal(final byte[] code, final int start, final int end, final boolean includesCheckDigit) {
+        int total = 0;
+        boolean doubled = !includesCheckDigit;
+        for (int i = end - 1; i >= start; i--) {
+            final int charValue = ModulusCheckDigit.asciiValue(code[i]);
+            if (charValue < 0 || (includesCheckDigit && i == end - 1 && charValue > 9)) { // CHECKSTYLE IGNORE MagicNumber
+                return -1;
+            }
+            if (charValue > 9) { // CHECKSTYLE IGNORE MagicNumber
+                // letters are two digits, the units digit being furthest right
+                final int units = charValue % 10; // CHECKSTYLE IGNORE MagicNumber
+                final int tens = charValue / 10; // CHECKSTYLE IGNORE MagicNumber
+                total += doubled ? DOUBLED_VALUE[units] + tens : units + DOUBLED_VALUE[tens];
+            } else {
+                total += doubled ? DOUBLED_VALUE[charValue] : charValue;
+                doubled = !doubled;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * ISIN {@link CheckDigitAccumulator}, which converts the characters to
+     * their one or two digit values and accumulates those digits.
+     */
+    private static final class Accumulator extends AbstractCheckDigitAccumulator {
+
+        /** Accumulates the digits of the converted characters */
+        private final CheckDigitAccumulator digits;
+
+        /** The last character appended */
+        private char last;
+
+        /** The first invalid character error */
+        private CheckDigitException error;
+
+        Accumulator(final ISINCheckDigit routine) {
+            digits = new RightWeightedAccumulator(routine, POSITION_WEIGHT.length);
+        }
+
+        @Override
+        protected void accumulate(final char character, final int index) {
+            last = character;
+            if (error != null) {
+                return;
+            }
+            final int charValue = Character.getNumericValue(character);
+            if (charValue < 0 || charValue > MAX_ALPHANUMERIC_VALUE) {
+                error = new CheckDigitException("Invalid Character[" +
+                        (index + 1) + "] = '" + charValue + "'");
+                return;
+            }
+            if (charValue > 9) { // CHECKSTYLE IGNORE MagicNumber
+                digits.append((char) ('0' + charValue / 10)); // CHECKSTYLE IGNORE MagicNumber
+            }
+            digits.append((char) ('0' + charValue % 10)); // CHECKSTYLE IGNORE MagicNumber
+        }
+
+        @Override
+        protected void clear() {
+            digits.reset();
+            error = null;
+        }
+
+        @Override
+        public boolean isValid() {
+            return length() > 0 && error == null && Character.isDigit(last) && digits.isValid();
+        }
+
+        @Override
+        public String calculate() throws CheckDigitException {
+            if (length() == 0) {
+                throw new CheckDigitException("Code is missing");
+            }
+            if (error != null) {
+                throw error;
+            }
+            return digits.calculate();
+        }
+
+    }
 }
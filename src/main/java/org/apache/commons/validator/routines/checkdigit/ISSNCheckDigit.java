@@ -82,4 +82,77 @@ public final class ISSNCheckDigit extends ModulusCheckDigit {
         }
         return super.toInt(character, leftPos, rightPos);
     }
+
+    /**
+     * Creates an accumulator which calculates or validates the check digit
+     * incrementally.
+     *
+     * @return A new accumulator for this routine
+     * @since 1.8
+     */
+    @Override
+    public CheckDigitAccumulator newAccumulator() {
+        return new LeftWeightedAccumulator(this, 0);
+    }
+
+    /**
+     * Calculate the ISSN total of the digits, weighted by their
+     * position from left to right.
+     *
+     * @param code The code containing the characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if a character is not an ASCII digit
+     * (or 'X' check digit)
+     */
+    @Override
+    int weightedTotal(final CharSequence code, final int start, final int end, final boolean includesCheckDigit) {
+        int total = 0;
+        final int last = includesCheckDigit ? end - 1 : end;
+        for (int i = start; i < end; i++) {
+            final char character = code.charAt(i);
+            final int digit = character - '0';
+            final int weight = 8 - (i - start); // CHECKSTYLE IGNORE MagicNumber
+            if (digit >= 0 && digit <= 9) { // CHECKSTYLE IGNORE MagicNumber
+                total += digit * weight;
+            } else if (i == last && character == 'X') {
+                total += 10 * weight; // CHECKSTYLE IGNORE MagicNumber
+            } else {
+                return -1;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Calculate the ISSN total of the ASCII digits, weighted by their
+     * position from left to right.
+     *
+     * @param code The buffer containing the ASCII characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if a character is not an ASCII digit
+     * (or 'X' check digit)
+     * @see #weightedTotal(CharSequence, int, int, boolean)
+     */
+    @Override
+    int weightedTotal(final byte[] code, final int start, final int end, final boolean includesCheckDigit) {
+        int total = 0;
+        final int last = includesCheckDigit ? end - 1 : end;
+        for (int i = start; i < end; i++) {
+            final byte character = code[i];
+            final int digit = character - '0';
+            final int weight = 8 - (i - start); // CHECKSTYLE IGNORE MagicNumber
+            if (digit >= 0 && digit <= 9) { // CHECKSTYLE IGNORE MagicNumber
+                total += digit * weight;
+            } else if (i == last && character == 'X') {
+                total += 10 * weight; // CHECKSTYLE IGNORE MagicNumber
+            } else {
+                return -1;
+            }
+        }
+        return total;
+    }
 }
@@ -34,6 +34,13 @@ package org.apache.commons.validator.routines.checkdigit;
  * for more details.
  * </p>
  *
+ * <p>
+ * A routine created with a set of separator characters, for example
+ * <code>new LuhnCheckDigit(" -")</code>, skips them wherever they occur in
+ * a code, so formatted card numbers such as <code>"4417-1234-5678-9113"</code>
+ * can be validated without first removing the separators.
+ * </p>
+ *
  * @since 1.4
  */
 public final class LuhnCheckDigit extends ModulusCheckDigit {
@@ -46,11 +53,72 @@ public final class LuhnCheckDigit extends ModulusCheckDigit {
     /** weighting given to digits depending on their right position */
     private static final int[] POSITION_WEIGHT = {2, 1};
 
+    /** weighted values of the digits 0-9 in an even position (doubled, with 9 subtracted if greater than 9) */
+    private static final int[] DOUBLED_VALUE = {0, 2, 4, 6, 8, 1, 3, 5, 7, 9};
+
+    /** The separator characters skipped in codes, or <code>null</code> if there aren't any */
+    private final String separators;
+
     /**
      * Construct a modulus 10 Luhn Check Digit routine.
      */
     public LuhnCheckDigit() {
+        this(null);
+    }
+
+    /**
+     * Construct a modulus 10 Luhn Check Digit routine which skips
+     * separator characters in codes.
+     *
+     * @param separators The separator characters, or <code>null</code>
+     * or an empty String if codes have no separators
+     * @since 1.8
+     */
+    public LuhnCheckDigit(final String separators) {
         super(10); // CHECKSTYLE IGNORE MagicNumber
+        this.separators = separators == null || separators.isEmpty() ? null : separators;
+    }
+
+    /**
+     * Return the separator characters skipped in codes.
+     *
+     * @return The separator characters, or <code>null</code> if there aren't any
+     * @since 1.8
+     */
+    public String getSeparators() {
+        return separators;
+    }
+
+    /**
+     * Calculate the modulus for a code, skipping any separators.
+     *
+     * @param code The code to calculate the modulus for.
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The modulus value
+     * @throws CheckDigitException if an error occurs calculating the modulus
+     * for the specified code
+     */
+    @Override
+    protected int calculateModulus(final String code, final boolean includesCheckDigit) throws CheckDigitException {
+        if (separators == null) {
+            return super.calculateModulus(code, includesCheckDigit);
+        }
+        final int total = weightedTotal(code, 0, code.length(), includesCheckDigit);
+        if (total < 0) {
+            // not just ASCII digits and separators - remove the separators for the generic routine
+            final StringBuilder buffer = new StringBuilder(code.length());
+            for (int i = 0; i < code.length(); i++) {
+                final char c = code.charAt(i);
+                if (separators.indexOf(c) < 0) {
+                    buffer.append(c);
+                }
+            }
+            return super.calculateModulus(buffer.toString(), includesCheckDigit);
+        }
+        if (total == 0) {
+            throw new CheckDigitException("Invalid code, sum is zero");
+        }
+        return total % getModulus();
     }
 
     /**
@@ -72,4 +140,75 @@ public final class LuhnCheckDigit extends ModulusCheckDigit {
         final int weightedValue = charValue * weight;
         return weightedValue > 9 ? (weightedValue - 9) : weightedValue; // CHECKSTYLE IGNORE MagicNumber
     }
+
+    /**
+     * Creates an accumulator which calculates or validates the check digit
+     * incrementally, without needing to know the length of the code.
+     *
+     * @return A new accumulator for this routine
+     * @since 1.8
+     */
+    @Override
+    public CheckDigitAccumulator newAccumulator() {
+        final CheckDigitAccumulator accumulator = new RightWeightedAccumulator(this, POSITION_WEIGHT.length);
+        return separators == null ? accumulator : new SeparatorSkippingAccumulator(accumulator, separators);
+    }
+
+    /**
+     * Calculate the Luhn total of the digits, from right to left, using
+     * a lookup table for the doubled values.
+     *
+     * @param code The code containing the characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if a character is not an ASCII digit (or separator)
+     */
+    @Override
+    int weightedTotal(final CharSequence code, final int start, final int end, final boolean includesCheckDigit) {
+        int total = 0;
+        boolean doubled = !includesCheckDigit;
+        for (int i = end - 1; i >= start; i--) {
+            final char c = code.charAt(i);
+            final int digit = c - '0';
+            if (digit < 0 || digit > 9) { // CHECKSTYLE IGNORE MagicNumber
+                if (separators != null && separators.indexOf(c) >= 0) {
+                    continue;
+                }
+                return -1;
+            }
+            total += doubled ? DOUBLED_VALUE[digit] : digit;
+            doubled = !doubled;
+        }
+        return total;
+    }
+
+    /**
+     * Calculate the Luhn total of the ASCII digits, from right to left, using
+     * a lookup table for the doubled values.
+     *
+     * @param code The buffer containing the ASCII characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if a character is not an ASCII digit (or separator)
+     * @see #weightedTotal(CharSequence, int, int, boolean)
+     */
+    @Override
+    int weightedTotal(final byte[] code, final int start, final int end, final boolean includesCheckDigit) {
+        int total = 0;
+        boolean doubled = !includesCheckDigit;
+        for (int i = end - 1; i >= start; i--) {
+            final int digit = code[i] - '0';
+            if (digit < 0 || digit > 9) { // CHECKSTYLE IGNORE MagicNumber
+                if (separators != null && code[i] >= 0 && separators.indexOf(code[i]) >= 0) {
+                    continue;
+                }
+                return -1;
+            }
+            total += doubled ? DOUBLED_VALUE[digit] : digit;
+            doubled = !doubled;
+        }
+        return total;
+    }
 }
@@ -17,6 +17,8 @@
 package org.apache.commons.validator.routines.checkdigit;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * Abstract <b>Modulus</b> Check digit calculation/validation.
@@ -36,10 +38,27 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
 
     private static final long serialVersionUID = 2948962251251528941L;
 
+    /** Numeric values of the ASCII alphanumerics ('0'-'9' = 0-9, 'A'-'Z' and 'a'-'z' = 10-35), -1 for other characters */
+    private static final byte[] ASCII_VALUES = new byte[128]; // CHECKSTYLE IGNORE MagicNumber
+
+    static {
+        Arrays.fill(ASCII_VALUES, (byte) -1);
+        for (char c = '0'; c <= '9'; c++) {
+            ASCII_VALUES[c] = (byte) (c - '0');
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            ASCII_VALUES[c] = (byte) (c - 'A' + 10); // CHECKSTYLE IGNORE MagicNumber
+            ASCII_VALUES[Character.toLowerCase(c)] = ASCII_VALUES[c];
+        }
+    }
+
     // N.B. The modulus can be > 10 provided that the implementing class overrides toCheckDigit and toInt
     // (for example as in ISBN10CheckDigit)
     private final int modulus;
 
+    /** Lookup table shared by the {@link RightWeightedAccumulator}s of this routine, built on first use */
+    private transient volatile int[] rightWeightedValues;
+
     /**
      * Construct a {@link CheckDigit} routine for a specified modulus.
      *
@@ -78,6 +97,48 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
         }
     }
 
+    /**
+     * Validate the modulus check digits for a range of codes packed into a
+     * single ASCII buffer.
+     * <p>
+     * Implementations in this package validate the bytes directly, only
+     * creating a <code>String</code> for codes they can't handle.
+     *
+     * @param codes The codes to validate, including their check digits.
+     * @param offsets The start offset of each code, followed by the end
+     * offset of the last code.
+     * @param fromIndex The index of the first code to validate (inclusive).
+     * @param toIndex The index of the last code to validate (exclusive).
+     * @param results The bitmap the results are stored in.
+     * @return The number of valid codes in the range.
+     * @since 1.8
+     */
+    @Override
+    public int isValid(final byte[] codes, final int[] offsets, final int fromIndex, final int toIndex,
+            final long[] results) {
+        int validCount = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            final int start = offsets[i];
+            final int end = offsets[i + 1];
+            final int total = end > start ? weightedTotal(codes, start, end, true) : 0;
+            final boolean valid;
+            if (total > 0) {
+                valid = total % modulus == 0;
+            } else if (total == 0) {
+                valid = false;
+            } else {
+                valid = isValid(new String(codes, start, end - start, StandardCharsets.US_ASCII));
+            }
+            if (valid) {
+                results[i >>> 6] |= 1L << i; // CHECKSTYLE IGNORE MagicNumber
+                validCount++;
+            } else {
+                results[i >>> 6] &= ~(1L << i); // CHECKSTYLE IGNORE MagicNumber
+            }
+        }
+        return validCount;
+    }
+
     /**
      * Calculate a modulus <i>Check Digit</i> for a code which does not yet have one.
      *
@@ -106,13 +167,17 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
      * for the specified code
      */
     protected int calculateModulus(final String code, final boolean includesCheckDigit) throws CheckDigitException {
-        int total = 0;
-        for (int i = 0; i < code.length(); i++) {
+        int total = weightedTotal(code, 0, code.length(), includesCheckDigit);
+        if (total < 0) {
+            // not handled by the table driven routine (or invalid) - use toInt() and weightedValue()
+            total = 0;
             final int lth = code.length() + (includesCheckDigit ? 0 : 1);
-            final int leftPos  = i + 1;
-            final int rightPos = lth - i;
-            final int charValue = toInt(code.charAt(i), leftPos, rightPos);
-            total += weightedValue(charValue, leftPos, rightPos);
+            for (int i = 0; i < code.length(); i++) {
+                final int leftPos  = i + 1;
+                final int rightPos = lth - i;
+                final int charValue = toInt(code.charAt(i), leftPos, rightPos);
+                total += weightedValue(charValue, leftPos, rightPos);
+            }
         }
         if (total == 0) {
             throw new CheckDigitException("Invalid code, sum is zero");
@@ -120,6 +185,43 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
         return total % modulus;
     }
 
+    /**
+     * Calculate the total of the weighted values for a range of characters
+     * using a table driven routine.
+     * <p>
+     * Implementations in this package override this to avoid the per character
+     * <code>toInt()</code> and <code>weightedValue()</code> calls. It should
+     * return a negative value for any code it can't handle (for example
+     * characters outside the ASCII range or invalid characters), in which case
+     * {@link #calculateModulus(String, boolean)} falls back to the
+     * <code>toInt()</code> and <code>weightedValue()</code> methods, which
+     * also report the error.
+     *
+     * @param code The code containing the characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if not handled
+     */
+    int weightedTotal(final CharSequence code, final int start, final int end, final boolean includesCheckDigit) {
+        return -1;
+    }
+
+    /**
+     * Calculate the total of the weighted values for a range of ASCII
+     * characters using a table driven routine.
+     *
+     * @param code The buffer containing the ASCII characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if not handled
+     * @see #weightedTotal(CharSequence, int, int, boolean)
+     */
+    int weightedTotal(final byte[] code, final int start, final int end, final boolean includesCheckDigit) {
+        return -1;
+    }
+
     /**
      * Calculates the <i>weighted</i> value of a character in the
      * code at a specified position.
@@ -156,6 +258,9 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
      */
     protected int toInt(final char character, final int leftPos, final int rightPos)
             throws CheckDigitException {
+        if (character >= '0' && character <= '9') {
+            return character - '0';
+        }
         if (Character.isDigit(character)) {
             return Character.getNumericValue(character);
         }
@@ -184,6 +289,29 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
                 + charValue);
     }
 
+    /**
+     * Return the numeric value of an ASCII alphanumeric character, as
+     * <code>Character.getNumericValue()</code> would.
+     *
+     * @param character The character to convert
+     * @return The numeric value (0-35) or -1 if the character is not an
+     * ASCII letter or digit
+     */
+    static int asciiValue(final char character) {
+        return character < ASCII_VALUES.length ? ASCII_VALUES[character] : -1;
+    }
+
+    /**
+     * Return the numeric value of an ASCII alphanumeric character.
+     *
+     * @param character The ASCII character to convert
+     * @return The numeric value (0-35) or -1 if the character is not an
+     * ASCII letter or digit
+     */
+    static int asciiValue(final byte character) {
+        return character >= 0 ? ASCII_VALUES[character] : -1;
+    }
+
     /**
      * Add together the individual digits in a number.
      *
@@ -200,4 +328,249 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
         return total;
     }
 
+
+    /**
+     * Base {@link CheckDigitAccumulator} for modulus routines.
+     * <p>
+     * The last character appended is held back until the next one arrives,
+     * since it may be the check digit, which some routines convert
+     * differently (for example 'X' for ISBN-10). The other characters are
+     * converted with a right position of zero, meaning not known.
+     * </p>
+     */
+    abstract static class ModulusAccumulator extends AbstractCheckDigitAccumulator {
+
+        /** The check digit routine */
+        final ModulusCheckDigit routine;
+
+        /** The maximum length of the code, or zero if there isn't one */
+        private final int maxLength;
+
+        /** The last character appended */
+        private char last;
+
+        /** The first error converting a character other than the last one */
+        private CheckDigitException error;
+
+        /**
+         * Construct an accumulator for a modulus routine.
+         *
+         * @param routine The check digit routine
+         * @param maxLength The maximum length of the code, or zero if there isn't one
+         */
+        ModulusAccumulator(final ModulusCheckDigit routine, final int maxLength) {
+            this.routine = routine;
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        protected void accumulate(final char character, final int index) {
+            if (index > 0 && error == null && (maxLength == 0 || index < maxLength)) {
+                try {
+                    add(routine.toInt(last, index, 0), index - 1);
+                } catch (final CheckDigitException ex) {
+                    error = ex;
+                }
+            }
+            last = character;
+        }
+
+        @Override
+        protected void clear() {
+            error = null;
+        }
+
+        @Override
+        public boolean isValid() {
+            if (length() == 0) {
+                return false;
+            }
+            try {
+                return total(true) % routine.getModulus() == 0;
+            } catch (final CheckDigitException ex) {
+                return false;
+            }
+        }
+
+        @Override
+        public String calculate() throws CheckDigitException {
+            if (length() == 0) {
+                throw new CheckDigitException("Code is missing");
+            }
+            final int modulus = routine.getModulus();
+            return routine.toCheckDigit((modulus - total(false) % modulus) % modulus);
+        }
+
+        /**
+         * Calculate the total of the weighted values of all the characters.
+         *
+         * @param includesCheckDigit Whether the code includes the Check Digit or not.
+         * @return The total of the weighted values
+         * @throws CheckDigitException if the code is invalid or the total is zero
+         */
+        private int total(final boolean includesCheckDigit) throws CheckDigitException {
+            if (maxLength > 0 && length() > maxLength) {
+                throw new CheckDigitException("Invalid Code Length = " + length());
+            }
+            if (error != null) {
+                throw error;
+            }
+            final int lth = length() + (includesCheckDigit ? 0 : 1);
+            final int rightPos = includesCheckDigit ? 1 : 2;
+            final int total = total(routine.toInt(last, length(), rightPos), lth);
+            if (total == 0) {
+                throw new CheckDigitException("Invalid code, sum is zero");
+            }
+            return total;
+        }
+
+        /**
+         * Add the value of a character other than the last one.
+         *
+         * @param charValue The numeric value of the character
+         * @param index The index of the character in the code (from left to right, starting at 0)
+         * @throws CheckDigitException if an error occurs calculating the weighted value
+         */
+        abstract void add(int charValue, int index) throws CheckDigitException;
+
+        /**
+         * Return the total of the weighted values, including the last character.
+         *
+         * @param lastValue The numeric value of the last character
+         * @param lth The length of the code, including the check digit
+         * @return The total of the weighted values
+         * @throws CheckDigitException if an error occurs calculating the weighted value
+         */
+        abstract int total(int lastValue, int lth) throws CheckDigitException;
+
+    }
+
+    /**
+     * {@link CheckDigitAccumulator} for routines whose weights repeat every
+     * <code>period</code> positions, counting from the right.
+     * <p>
+     * As the length isn't known until the end, a total is kept for each
+     * possible length modulo the period and the right one picked at the end.
+     * </p>
+     */
+    static final class RightWeightedAccumulator extends ModulusAccumulator {
+
+        /** The largest character value in the lookup table */
+        private static final int MAX_TABLE_VALUE = 35;
+
+        /** The number of positions after which the weights repeat */
+        private final int period;
+
+        /** The weighted value of each character value, by right position modulo the period */
+        private final int[] weightedValues;
+
+        /** The totals, by length (including the check digit) modulo the period */
+        private final int[] totals;
+
+        /**
+         * Construct an accumulator for a modulus routine.
+         *
+         * @param routine The check digit routine
+         * @param period The number of positions after which the weights repeat
+         * @throws IllegalArgumentException if the routine can't calculate the weighted
+         * value of a character in the lookup table
+         */
+        RightWeightedAccumulator(final ModulusCheckDigit routine, final int period) {
+            super(routine, 0);
+            this.period = period;
+            this.totals = new int[period];
+            int[] table = routine.rightWeightedValues;
+            if (table == null || table.length != period * (MAX_TABLE_VALUE + 1)) {
+                table = new int[period * (MAX_TABLE_VALUE + 1)];
+                for (int r = 0; r < period; r++) {
+                    for (int charValue = 0; charValue <= MAX_TABLE_VALUE; charValue++) {
+                        try {
+                            table[r * (MAX_TABLE_VALUE + 1) + charValue] = weightedValue(charValue, 0, r);
+                        } catch (final CheckDigitException ex) {
+                            throw new IllegalArgumentException("Cannot calculate the weighted value of character value "
+                                    + charValue + " at right position " + (r == 0 ? period : r) + ": "
+                                    + ex.getMessage(), ex);
+                        }
+                    }
+                }
+                routine.rightWeightedValues = table;
+            }
+            this.weightedValues = table;
+        }
+
+        @Override
+        void add(final int charValue, final int index) throws CheckDigitException {
+            final int shift = index % period;
+            for (int h = 0; h < period; h++) {
+                final int r = h >= shift ? h - shift : h - shift + period;
+                totals[h] += charValue <= MAX_TABLE_VALUE
+                        ? weightedValues[r * (MAX_TABLE_VALUE + 1) + charValue]
+                        : weightedValue(charValue, index, r);
+            }
+        }
+
+        @Override
+        int total(final int lastValue, final int lth) throws CheckDigitException {
+            return totals[lth % period] + routine.weightedValue(lastValue, length(), lth - length() + 1);
+        }
+
+        @Override
+        protected void clear() {
+            super.clear();
+            Arrays.fill(totals, 0);
+        }
+
+        /**
+         * Return the weighted value of a character.
+         *
+         * @param charValue The numeric value of the character
+         * @param index The index of the character in the code
+         * @param r The right position of the character modulo the period
+         * @return The weighted value
+         * @throws CheckDigitException if an error occurs calculating the weighted value
+         */
+        private int weightedValue(final int charValue, final int index, final int r) throws CheckDigitException {
+            final int rightPos = r == 0 ? period : r;
+            return routine.weightedValue(charValue, index + 1, rightPos);
+        }
+
+    }
+
+    /**
+     * {@link CheckDigitAccumulator} for routines whose weights depend on the
+     * position of the character counting from the left.
+     */
+    static final class LeftWeightedAccumulator extends ModulusAccumulator {
+
+        /** The total of the weighted values, excluding the last character */
+        private int total;
+
+        /**
+         * Construct an accumulator for a modulus routine.
+         *
+         * @param routine The check digit routine
+         * @param maxLength The maximum length of the code, or zero if there isn't one
+         */
+        LeftWeightedAccumulator(final ModulusCheckDigit routine, final int maxLength) {
+            super(routine, maxLength);
+        }
+
+        @Override
+        void add(final int charValue, final int index) throws CheckDigitException {
+            total += routine.weightedValue(charValue, index + 1, 0);
+        }
+
+        @Override
+        int total(final int lastValue, final int lth) throws CheckDigitException {
+            return total + routine.weightedValue(lastValue, length(), lth - length() + 1);
+        }
+
+        @Override
+        protected void clear() {
+            super.clear();
+            total = 0;
+        }
+
+    }
+
 }
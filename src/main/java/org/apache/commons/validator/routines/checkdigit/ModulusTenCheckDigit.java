@@ -183,6 +183,21 @@ public final class ModulusTenCheckDigit extends ModulusCheckDigit {
         return super.isValid(code);
     }
 
+    /**
+     * Creates an accumulator which calculates or validates the check digit
+     * incrementally, without needing to know the length of the code.
+     *
+     * @return A new accumulator for this routine
+     * @since 1.8
+     */
+    @Override
+    public CheckDigitAccumulator newAccumulator() {
+        if (useRightPos) {
+            return new RightWeightedAccumulator(this, postitionWeight.length);
+        }
+        return new LeftWeightedAccumulator(this, 0);
+    }
+
     /**
      * Convert a character at a specified position to an integer value.
      * <p>
@@ -193,13 +208,16 @@ public final class ModulusTenCheckDigit extends ModulusCheckDigit {
      * @param leftPos The position of the character in the code, counting from
      *            left to right (for identifying the position in the string)
      * @param rightPos The position of the character in the code, counting from
-     *            right to left (not used here)
+     *            right to left (the check digit must be numeric)
      * @return The integer value of the character
      * @throws CheckDigitException if Character.getNumericValue(char) returns a
      *             negative number
      */
     @Override
     protected int toInt(final char character, final int leftPos, final int rightPos) throws CheckDigitException {
+        if (rightPos == 1 && !Character.isDigit(character)) {
+            throw new CheckDigitException("Invalid Check Digit[" + leftPos + "] = '" + character + "'");
+        }
         final int num = Character.getNumericValue(character);
         if (num < 0) {
             throw new CheckDigitException("Invalid Character[" + leftPos + "] = '" + character + "'");
@@ -110,4 +110,73 @@ public final class SedolCheckDigit extends ModulusCheckDigit {
         return charValue;
     }
 
+    /**
+     * Creates an accumulator which calculates or validates the check digit
+     * incrementally.
+     *
+     * @return A new accumulator for this routine
+     * @since 1.8
+     */
+    @Override
+    public CheckDigitAccumulator newAccumulator() {
+        return new LeftWeightedAccumulator(this, POSITION_WEIGHT.length);
+    }
+
+    /**
+     * Calculate the SEDOL total of the characters, weighted by their
+     * position from left to right.
+     *
+     * @param code The code containing the characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if the code is too long or a
+     * character is not an ASCII letter or digit (or the check digit is not a digit)
+     */
+    @Override
+    int weightedTotal(final CharSequence code, final int start, final int end, final boolean includesCheckDigit) {
+        if (end - start > POSITION_WEIGHT.length) {
+            return -1;
+        }
+        int total = 0;
+        final int checkDigitIdx = includesCheckDigit ? end - 1 : end;
+        for (int i = start; i < end; i++) {
+            final int charValue = ModulusCheckDigit.asciiValue(code.charAt(i));
+            if (charValue < 0 || (i == checkDigitIdx && charValue > 9)) { // CHECKSTYLE IGNORE MagicNumber
+                return -1;
+            }
+            total += charValue * POSITION_WEIGHT[i - start];
+        }
+        return total;
+    }
+
+    /**
+     * Calculate the SEDOL total of the ASCII characters, weighted by their
+     * position from left to right.
+     *
+     * @param code The buffer containing the ASCII characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The total of the weighted values, or -1 if the code is too long or a
+     * character is not an ASCII letter or digit (or the check digit is not a digit)
+     * @see #weightedTotal(CharSequence, int, int, boolean)
+     */
+    @Override
+    int weightedTotal(final byte[] code, final int start, final int end, final boolean includesCheckDigit) {
+        if (end - start > POSITION_WEIGHT.length) {
+            return -1;
+        }
+        int total = 0;
+        final int checkDigitIdx = includesCheckDigit ? end - 1 : end;
+        for (int i = start; i < end; i++) {
+            final int charValue = ModulusCheckDigit.asciiValue(code[i]);
+            if (charValue < 0 || (i == checkDigitIdx && charValue > 9)) { // CHECKSTYLE IGNORE MagicNumber
+                return -1;
+            }
+            total += charValue * POSITION_WEIGHT[i - start];
+        }
+        return total;
+    }
+
 }
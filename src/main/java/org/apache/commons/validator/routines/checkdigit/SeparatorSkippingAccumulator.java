@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines.checkdigit;
+
+/**
+ * {@link CheckDigitAccumulator} which skips separator characters, such as
+ * spaces and hyphens, passing the other characters to another accumulator.
+ *
+ * @since 1.8
+ */
+final class SeparatorSkippingAccumulator implements CheckDigitAccumulator {
+
+    /** The accumulator for the characters of the code */
+    private final CheckDigitAccumulator accumulator;
+
+    /** The separator characters */
+    private final String separators;
+
+    /**
+     * Construct an accumulator which skips separators.
+     *
+     * @param accumulator The accumulator for the characters of the code
+     * @param separators The separator characters
+     */
+    SeparatorSkippingAccumulator(final CheckDigitAccumulator accumulator, final String separators) {
+        this.accumulator = accumulator;
+        this.separators = separators;
+    }
+
+    @Override
+    public CheckDigitAccumulator append(final char character) {
+        if (separators.indexOf(character) < 0) {
+            accumulator.append(character);
+        }
+        return this;
+    }
+
+    @Override
+    public CheckDigitAccumulator append(final CharSequence characters, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            append(characters.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public CheckDigitAccumulator append(final byte[] characters, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final byte character = characters[i];
+            append(character >= 0 ? (char) character : '\uFFFD');
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The separators are not included in the length.
+     * </p>
+     */
+    @Override
+    public int length() {
+        return accumulator.length();
+    }
+
+    @Override
+    public boolean isValid() {
+        return accumulator.isValid();
+    }
+
+    @Override
+    public String calculate() throws CheckDigitException {
+        return accumulator.calculate();
+    }
+
+    @Override
+    public CheckDigitAccumulator reset() {
+        accumulator.reset();
+        return this;
+    }
+
+}
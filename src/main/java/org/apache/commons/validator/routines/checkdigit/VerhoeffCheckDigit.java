@@ -17,6 +17,7 @@
 package org.apache.commons.validator.routines.checkdigit;
 
 import java.io.Serializable;
+import java.util.Arrays;
 
 /**
  * <b>Verhoeff</b> (Dihedral) Check Digit calculation/validation.
@@ -64,6 +65,22 @@ public final class VerhoeffCheckDigit implements CheckDigit, Serializable {
     /** inv: inverse table */
     private static final int[] INV_TABLE = {0,  4,  3,  2,  1,  5,  6,  7,  8,  9};
 
+    /**
+     * Combined D and P tables - the next checksum for each
+     * [position % 8][current checksum][digit] combination
+     */
+    private static final byte[] STEP_TABLE = new byte[8 * 10 * 10]; // CHECKSTYLE IGNORE MagicNumber
+
+    static {
+        for (int pos = 0; pos < P_TABLE.length; pos++) {
+            for (int checksum = 0; checksum < D_TABLE.length; checksum++) {
+                for (int num = 0; num < 10; num++) { // CHECKSTYLE IGNORE MagicNumber
+                    STEP_TABLE[(pos * 10 + checksum) * 10 + num] = (byte) D_TABLE[checksum][P_TABLE[pos][num]]; // CHECKSTYLE IGNORE MagicNumber
+                }
+            }
+        }
+    }
+
 
     /**
      * Validate the Verhoeff <i>Check Digit</i> for a code.
@@ -84,6 +101,49 @@ public final class VerhoeffCheckDigit implements CheckDigit, Serializable {
         }
     }
 
+    /**
+     * Creates an accumulator which calculates or validates the Verhoeff
+     * check digit incrementally, without needing to know the length of the code.
+     *
+     * @return A new accumulator for this routine
+     * @since 1.8
+     */
+    @Override
+    public CheckDigitAccumulator newAccumulator() {
+        return new Accumulator();
+    }
+
+    /**
+     * Validate the Verhoeff <i>Check Digits</i> for a range of codes packed
+     * into a single ASCII buffer, without creating a <code>String</code> for
+     * each code.
+     *
+     * @param codes The codes to validate, including their check digits.
+     * @param offsets The start offset of each code, followed by the end
+     * offset of the last code.
+     * @param fromIndex The index of the first code to validate (inclusive).
+     * @param toIndex The index of the last code to validate (exclusive).
+     * @param results The bitmap the results are stored in.
+     * @return The number of valid codes in the range.
+     * @since 1.8
+     */
+    @Override
+    public int isValid(final byte[] codes, final int[] offsets, final int fromIndex, final int toIndex,
+            final long[] results) {
+        int validCount = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            final int start = offsets[i];
+            final int end = offsets[i + 1];
+            if (end > start && checksum(codes, start, end, true) == 0) {
+                results[i >>> 6] |= 1L << i; // CHECKSTYLE IGNORE MagicNumber
+                validCount++;
+            } else {
+                results[i >>> 6] &= ~(1L << i); // CHECKSTYLE IGNORE MagicNumber
+            }
+        }
+        return validCount;
+    }
+
     /**
      * Calculate a Verhoeff <i>Check Digit</i> for a code.
      *
@@ -110,6 +170,10 @@ public final class VerhoeffCheckDigit implements CheckDigit, Serializable {
      * @throws CheckDigitException if the code contains an invalid character (i.e. not numeric)
      */
     private int calculateChecksum(final String code, final boolean includesCheckDigit) throws CheckDigitException {
+        final int fastChecksum = checksum(code, 0, code.length(), includesCheckDigit);
+        if (fastChecksum >= 0) {
+            return fastChecksum;
+        }
         int checksum = 0;
         for (int i = 0; i < code.length(); i++) {
             final int idx = code.length() - (i + 1);
@@ -124,4 +188,110 @@ public final class VerhoeffCheckDigit implements CheckDigit, Serializable {
         return checksum;
     }
 
+    /**
+     * Calculate the checksum for a range of characters using the combined
+     * lookup table.
+     *
+     * @param code The code containing the characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The checksum value, or -1 if a character is not an ASCII digit
+     */
+    static int checksum(final CharSequence code, final int start, final int end, final boolean includesCheckDigit) {
+        int checksum = 0;
+        int pos = includesCheckDigit ? 0 : 1;
+        for (int i = end - 1; i >= start; i--, pos++) {
+            final int num = code.charAt(i) - '0';
+            if (num < 0 || num > 9) { // CHECKSTYLE IGNORE MagicNumber
+                return -1;
+            }
+            checksum = STEP_TABLE[((pos & 7) * 10 + checksum) * 10 + num]; // CHECKSTYLE IGNORE MagicNumber
+        }
+        return checksum;
+    }
+
+    /**
+     * Calculate the checksum for a range of ASCII characters using the combined
+     * lookup table.
+     *
+     * @param code The buffer containing the ASCII characters
+     * @param start The index of the first character of the code
+     * @param end The index after the last character of the code
+     * @param includesCheckDigit Whether the code includes the Check Digit or not.
+     * @return The checksum value, or -1 if a character is not an ASCII digit
+     * @see #checksum(CharSequence, int, int, boolean)
+     */
+    static int checksum(final byte[] code, final int start, final int end, final boolean includesCheckDigit) {
+        int checksum = 0;
+        int pos = includesCheckDigit ? 0 : 1;
+        for (int i = end - 1; i >= start; i--, pos++) {
+            final int num = code[i] - '0';
+            if (num < 0 || num > 9) { // CHECKSTYLE IGNORE MagicNumber
+                return -1;
+            }
+            checksum = STEP_TABLE[((pos & 7) * 10 + checksum) * 10 + num]; // CHECKSTYLE IGNORE MagicNumber
+        }
+        return checksum;
+    }
+
+    /**
+     * Verhoeff {@link CheckDigitAccumulator}.
+     * <p>
+     * The checksum is the product (in the dihedral group) of the permuted
+     * digits from right to left. As the digits arrive from left to right the
+     * product is built up by multiplying on the left, and as the permutation
+     * depends on the position from the right a product is kept for each
+     * possible length modulo 8.
+     * </p>
+     */
+    private static final class Accumulator extends AbstractCheckDigitAccumulator {
+
+        /** The products, by right position of the first character modulo 8 */
+        private final int[] products = new int[8]; // CHECKSTYLE IGNORE MagicNumber
+
+        /** The index of the last invalid character, or -1 */
+        private int invalidIndex = -1;
+
+        /** The last invalid character */
+        private char invalidChar;
+
+        @Override
+        protected void accumulate(final char character, final int index) {
+            final int num = character >= '0' && character <= '9' ? character - '0' : Character.getNumericValue(character);
+            if (num < 0 || num > 9) { // CHECKSTYLE IGNORE MagicNumber
+                invalidIndex = index;
+                invalidChar = character;
+                return;
+            }
+            for (int pos = 0; pos < products.length; pos++) {
+                products[pos] = D_TABLE[P_TABLE[(pos - index) & 7][num]][products[pos]]; // CHECKSTYLE IGNORE MagicNumber
+            }
+        }
+
+        @Override
+        protected void clear() {
+            Arrays.fill(products, 0);
+            invalidIndex = -1;
+        }
+
+        @Override
+        public boolean isValid() {
+            return length() > 0 && invalidIndex < 0 && products[(length() - 1) & 7] == 0; // CHECKSTYLE IGNORE MagicNumber
+        }
+
+        @Override
+        public String calculate() throws CheckDigitException {
+            if (length() == 0) {
+                throw new CheckDigitException("Code is missing");
+            }
+            if (invalidIndex >= 0) {
+                throw new CheckDigitException("Invalid Character[" +
+                        (length() - 1 - invalidIndex) + "] = '" + ((int) invalidChar) + "'");
+            }
+            return Integer.toString(INV_TABLE[products[length() & 7]]); // CHECKSTYLE IGNORE MagicNumber
+        }
+
+    }
+
 }
@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.util;
+
+import java.beans.IndexedPropertyDescriptor;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.beanutils.BeanUtilsBean;
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.MethodUtils;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.commons.beanutils.expression.Resolver;
+
+/**
+ * The default {@link PropertyAccessor}, which reads properties through
+ * <code>MethodHandle</code>s bound to the getters once for each bean class
+ * and property name.
+ * <p>
+ * The getters are those <code>PropertyUtils</code> would call, found
+ * through its property descriptors, and property names are parsed with its
+ * <code>Resolver</code>. Nested, indexed and mapped properties are read
+ * without reflection once their getters are bound, as are the properties of
+ * <code>Map</code> beans and the components of records.
+ * <p>
+ * Anything else, such as a <code>DynaBean</code>, an unknown property, a
+ * <code>null</code> nested property, an index out of range or a getter
+ * throwing an exception, is left to <code>PropertyUtils</code>, so the value
+ * or exception is the same. The getters are bound when a property of a class
+ * is first read, so later changes to the <code>PropertyUtils</code>
+ * introspection aren't seen.
+ *
+ * @since 1.8
+ */
+public class CachedPropertyAccessor implements PropertyAccessor {
+
+    /** The maximum number of property names cached. */
+    private static final int MAX_CACHED_PROPERTIES = 1024;
+
+    /** Returned when a property has to be read by <code>PropertyUtils</code>. */
+    private static final Object UNRESOLVED = new Object();
+
+    /** The segments of a property name which has to be read by <code>PropertyUtils</code>. */
+    private static final Segment[] UNSUPPORTED = new Segment[0];
+
+    /** The type of the getters. */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /** A simple property, <code>a</code>. */
+    private static final int SIMPLE = 0;
+
+    /** An indexed property, <code>a[0]</code>. */
+    private static final int INDEXED = 1;
+
+    /** A mapped property, <code>a(key)</code>. */
+    private static final int MAPPED = 2;
+
+    /**
+     * A getter bound to a bean class.
+     */
+    private static final class Getter {
+
+        /** The getter, taking the bean and returning the value as an <code>Object</code>. */
+        private final MethodHandle handle;
+
+        /** Whether the getter is an indexed getter, bound to the index. */
+        private final boolean indexed;
+
+        Getter(final MethodHandle handle, final boolean indexed) {
+            this.handle = handle;
+            this.indexed = indexed;
+        }
+    }
+
+    /**
+     * One of the nested properties of a property name, with its getter for
+     * each bean class.
+     */
+    private static final class Segment extends ClassValue<Getter> {
+
+        private final int kind;
+        private final String name;
+        private final int index;
+        private final String key;
+
+        Segment(final int kind, final String name, final int index, final String key) {
+            this.kind = kind;
+            this.name = name;
+            this.index = index;
+            this.key = key;
+        }
+
+        /**
+         * Returns the value of the property, or {@link #UNRESOLVED}.
+         */
+        Object getValue(final Object bean) {
+            if (bean instanceof Map) {
+                return kind == SIMPLE ? ((Map<?, ?>) bean).get(name) : UNRESOLVED;
+            }
+            if (bean instanceof DynaBean) {
+                return UNRESOLVED;
+            }
+            final Getter getter = get(bean.getClass());
+            if (getter == null) {
+                return UNRESOLVED;
+            }
+
+            final Object value;
+            try {
+                value = (Object) getter.handle.invokeExact(bean);
+            } catch (final Throwable t) {
+                return UNRESOLVED;
+            }
+
+            if (kind == MAPPED) {
+                return value instanceof Map ? ((Map<?, ?>) value).get(key) : null;
+            }
+            if (kind == SIMPLE || getter.indexed) {
+                return value;
+            }
+            if (value instanceof List) {
+                final List<?> list = (List<?>) value;
+                return index >= 0 && index < list.size() ? list.get(index) : UNRESOLVED;
+            }
+            if (value instanceof Object[]) {
+                final Object[] array = (Object[]) value;
+                return index >= 0 && index < array.length ? array[index] : UNRESOLVED;
+            }
+            if (value != null && value.getClass().isArray()) {
+                return index >= 0 && index < Array.getLength(value) ? Array.get(value, index) : UNRESOLVED;
+            }
+            return UNRESOLVED;
+        }
+
+        /**
+         * Binds the getter of the property for a bean class.
+         * @return The getter, <code>null</code> if there isn't one.
+         */
+        @Override
+        protected Getter computeValue(final Class<?> type) {
+            PropertyDescriptor descriptor = null;
+            for (final PropertyDescriptor propertyDescriptor : PropertyUtils.getPropertyDescriptors(type)) {
+                if (name.equals(propertyDescriptor.getName())) {
+                    descriptor = propertyDescriptor;
+                    break;
+                }
+            }
+
+            try {
+                if (descriptor == null) {
+                    final Method accessor = getRecordAccessor(type, name);
+                    return accessor == null ? null : new Getter(unreflect(accessor), false);
+                }
+                if (kind == INDEXED && descriptor instanceof IndexedPropertyDescriptor) {
+                    final Method indexedReadMethod = getAccessibleMethod(type,
+                            ((IndexedPropertyDescriptor) descriptor).getIndexedReadMethod());
+                    if (indexedReadMethod != null) {
+                        final MethodHandle handle = MethodHandles.publicLookup().unreflect(indexedReadMethod)
+                            .asType(MethodType.methodType(Object.class, Object.class, int.class));
+                        return new Getter(MethodHandles.insertArguments(handle, 1, Integer.valueOf(index)), true);
+                    }
+                }
+                final Method readMethod = getAccessibleMethod(type, descriptor.getReadMethod());
+                return readMethod == null ? null : new Getter(unreflect(readMethod), false);
+            } catch (final IllegalAccessException e) {
+                return null;
+            }
+        }
+    }
+
+    /** The segments of each property name. */
+    private final ConcurrentMap<String, Segment[]> properties = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the value of a property of a bean.
+     *
+     * @param bean The bean object.
+     * @param property The name of the property to access.
+     * @return The value of the property.
+     * @throws IllegalAccessException if the caller does not have access to the
+     * property accessor method
+     * @throws InvocationTargetException if the property accessor method throws
+     * an exception
+     * @throws NoSuchMethodException if an accessor method for the property
+     * cannot be found
+     */
+    @Override
+    public Object getProperty(final Object bean, final String property)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        if (bean != null && property != null) {
+            final Object value = getValue(bean, getSegments(property));
+            if (value != UNRESOLVED) {
+                return value;
+            }
+        }
+        return PropertyUtils.getProperty(bean, property);
+    }
+
+    /**
+     * Returns the value of the nested properties, or {@link #UNRESOLVED}.
+     */
+    private static Object getValue(final Object bean, final Segment[] segments) {
+        if (segments.length == 0) {
+            return UNRESOLVED;
+        }
+        Object value = bean;
+        for (final Segment segment : segments) {
+            if (value == null) {
+                return UNRESOLVED;
+            }
+            value = segment.getValue(value);
+            if (value == UNRESOLVED) {
+                return UNRESOLVED;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the segments of a property name, parsing it the first time.
+     */
+    private Segment[] getSegments(final String property) {
+        Segment[] segments = properties.get(property);
+        if (segments == null) {
+            segments = parse(property);
+            if (properties.size() < MAX_CACHED_PROPERTIES) {
+                properties.putIfAbsent(property, segments);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Parses a property name into its nested properties, in the same way as
+     * <code>PropertyUtils</code>.
+     */
+    private static Segment[] parse(final String property) {
+        final Resolver resolver = BeanUtilsBean.getInstance().getPropertyUtils().getResolver();
+        final List<Segment> segments = new ArrayList<>();
+        try {
+            String name = property;
+            while (resolver.hasNested(name)) {
+                segments.add(createSegment(resolver, resolver.next(name)));
+                name = resolver.remove(name);
+            }
+            segments.add(createSegment(resolver, name));
+        } catch (final IllegalArgumentException e) {
+            return UNSUPPORTED;
+        }
+        return segments.contains(null) ? UNSUPPORTED : segments.toArray(new Segment[0]);
+    }
+
+    /**
+     * Creates the segment for a nested property.
+     * @return The segment, <code>null</code> if it isn't supported.
+     */
+    private static Segment createSegment(final Resolver resolver, final String expression) {
+        if (resolver.isMapped(expression)) {
+            final String name = resolver.getProperty(expression);
+            final String key = resolver.getKey(expression);
+            return name == null || name.isEmpty() || key == null ? null : new Segment(MAPPED, name, -1, key);
+        }
+        if (resolver.isIndexed(expression)) {
+            final String name = resolver.getProperty(expression);
+            final int index = resolver.getIndex(expression);
+            return name == null || name.isEmpty() ? null : new Segment(INDEXED, name, index, null);
+        }
+        return new Segment(SIMPLE, expression, -1, null);
+    }
+
+    /**
+     * Returns an accessible method for a getter, as <code>PropertyUtils</code>
+     * would call it.
+     */
+    private static Method getAccessibleMethod(final Class<?> type, final Method method) {
+        return method == null ? null : MethodUtils.getAccessibleMethod(type, method);
+    }
+
+    /**
+     * Returns the accessor of a record component.
+     * @return The accessor, <code>null</code> if the class isn't a record or
+     * has no such component.
+     */
+    private static Method getRecordAccessor(final Class<?> type, final String name) {
+        final Class<?> superclass = type.getSuperclass();
+        if (superclass == null || !"java.lang.Record".equals(superclass.getName())) {
+            return null;
+        }
+        try {
+            final Object[] components = (Object[]) Class.class.getMethod("getRecordComponents").invoke(type);
+            for (final Object component : components) {
+                final Class<?> componentClass = component.getClass();
+                if (name.equals(componentClass.getMethod("getName").invoke(component))) {
+                    return (Method) componentClass.getMethod("getAccessor").invoke(component);
+                }
+            }
+        } catch (final ReflectiveOperationException e) {
+            return null;
+        }
+        return null;
+    }
+
+    /**
+     * Creates a getter for a method.
+     */
+    private static MethodHandle unreflect(final Method method) throws IllegalAccessException {
+        return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.util;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.apache.commons.beanutils.PropertyUtils;
+
+/**
+ * Reads the value of a bean property, for {@link ValidatorUtils#getValueAsString(Object, String)}
+ * and the indexed list properties of a <code>Field</code>.
+ * <p>
+ * Property names are expressions in the syntax of Commons BeanUtils
+ * <code>PropertyUtils</code>, with nested (<code>a.b</code>), indexed
+ * (<code>a[0]</code>) and mapped (<code>a(key)</code>) properties.
+ * Implementations must be thread safe.
+ *
+ * @see ValidatorUtils#setPropertyAccessor(PropertyAccessor)
+ * @since 1.8
+ */
+public interface PropertyAccessor {
+
+    /**
+     * Reads properties with <code>PropertyUtils</code>, introspecting the bean
+     * each time.
+     */
+    PropertyAccessor PROPERTY_UTILS = PropertyUtils::getProperty;
+
+    /**
+     * Returns the value of a property of a bean.
+     *
+     * @param bean The bean object.
+     * @param property The name of the property to access.
+     * @return The value of the property.
+     * @throws IllegalAccessException if the caller does not have access to the
+     * property accessor method
+     * @throws InvocationTargetException if the property accessor method throws
+     * an exception
+     * @throws NoSuchMethodException if an accessor method for the property
+     * cannot be found
+     * @throws IllegalArgumentException if the bean or name is <code>null</code>,
+     * or a nested property is <code>null</code>
+     */
+    Object getProperty(Object bean, String property)
+        throws IllegalAccessException, InvocationTargetException, NoSuchMethodException;
+
+}
@@ -23,7 +23,6 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import org.apache.commons.beanutils.PropertyUtils;
 import org.apache.commons.collections.FastHashMap; // DEPRECATED
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -43,6 +42,33 @@ public class ValidatorUtils {
 
     private static final Log LOG = LogFactory.getLog(ValidatorUtils.class);
 
+    /** The accessor used to read bean properties. */
+    private static volatile PropertyAccessor propertyAccessor = new CachedPropertyAccessor();
+
+    /**
+     * Gets the {@link PropertyAccessor} used to read bean properties.
+     *
+     * @return The property accessor.
+     * @since 1.8
+     */
+    public static PropertyAccessor getPropertyAccessor() {
+        return propertyAccessor;
+    }
+
+    /**
+     * Sets the {@link PropertyAccessor} used to read bean properties, by
+     * {@link #getValueAsString(Object, String)} and for the indexed list
+     * properties of fields.  By default the properties are read by a
+     * {@link CachedPropertyAccessor}.
+     *
+     * @param accessor The property accessor, or <code>null</code> to restore
+     * the default.
+     * @since 1.8
+     */
+    public static void setPropertyAccessor(final PropertyAccessor accessor) {
+        propertyAccessor = accessor == null ? new CachedPropertyAccessor() : accessor;
+    }
+
     /**
      * <p>Replace part of a <code>String</code> with another value.</p>
      *
@@ -90,7 +116,7 @@ public class ValidatorUtils {
      * <code>Collection</code> and it is empty, an empty <code>String</code>
      * "" is returned.  Otherwise, property.toString() is returned.  This method
      * may return <code>null</code> if there was an error retrieving the
-     * property.
+     * property.  The property is read by the {@link PropertyAccessor}.
      *
      * @param bean The bean object.
      * @param property The name of the property to access.
@@ -101,7 +127,7 @@ public class ValidatorUtils {
         Object value = null;
 
         try {
-            value = PropertyUtils.getProperty(bean, property);
+            value = propertyAccessor.getProperty(bean, property);
 
         } catch(IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
             LOG.error(e.getMessage(), e);
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * Test the validations of a {@link CompiledForm} give the same
+ * results as those of its <code>Form</code>.
+ */
+public class CompiledFormTest extends AbstractCommonTest {
+
+    private static final String FORM_KEY = "nameForm";
+
+    private static final String[] VALUES = {null, "", "Test", "12", "-5"};
+
+    public CompiledFormTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Fields depending on actions which depend on other actions.
+     */
+    public void testDependencies() throws Exception {
+        loadResources("MultipleTests-config.xml");
+        for (final String firstName : VALUES) {
+            for (final String middleName : VALUES) {
+                for (final String lastName : VALUES) {
+                    final NameBean bean = new NameBean();
+                    bean.setFirstName(firstName);
+                    bean.setMiddleName(middleName);
+                    bean.setLastName(lastName);
+                    assertCompiled(bean, Locale.US, null, false);
+                    assertCompiled(bean, Locale.US, null, true);
+                    assertCompiled(bean, Locale.US, "middleName", false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Forms found through the <code>Locale</code>.
+     */
+    public void testLocales() throws Exception {
+        loadResources("LocaleTest-config.xml");
+        final Locale[] locales = {Locale.US, Locale.UK, Locale.FRANCE, new Locale("en", "US", "TEST1"),
+                new Locale("en", "US", "TEST2"), new Locale("en", "UK", "TEST3")};
+        resources.compile();
+        for (final Locale locale : locales) {
+            final CompiledForm compiled = resources.getCompiledForm(locale, FORM_KEY);
+            assertSame(locale.toString(), resources.getForm(locale, FORM_KEY), compiled.getForm());
+            assertSame(locale.toString(), compiled, resources.getCompiledForm(locale, FORM_KEY));
+            for (final String value : VALUES) {
+                final NameBean bean = new NameBean();
+                bean.setFirstName(value);
+                bean.setLastName(value);
+                assertCompiled(bean, locale, null, false);
+            }
+        }
+        assertNull(resources.getCompiledForm(Locale.US, "unknownForm"));
+    }
+
+    /**
+     * The compiled forms are discarded when the resources change.
+     */
+    public void testNotCompiled() throws Exception {
+        loadResources("MultipleTests-config.xml");
+        assertNull(resources.getCompiledForm(Locale.US, FORM_KEY));
+        resources.compile();
+        assertNotNull(resources.getCompiledForm(Locale.US, FORM_KEY));
+        resources.addFormSet(new FormSet());
+        resources.process();
+        assertNull(resources.getCompiledForm(Locale.US, FORM_KEY));
+    }
+
+    /**
+     * Unknown actions only fail when they are reached.
+     */
+    public void testUnknownAction() throws Exception {
+        resources = setupResources("int,unknown", null);
+        final NameBean bean = new NameBean();
+        bean.setFirstName("Test");
+        assertCompiled(bean, Locale.US, null, false);
+        bean.setFirstName("1");
+        assertException(bean, "No ValidatorAction named unknown found for field firstName");
+    }
+
+    /**
+     * Actions depending on each other fail when they are reached.
+     */
+    public void testCircularDependency() throws Exception {
+        resources = setupResources("required,int", "int");
+        final NameBean bean = new NameBean();
+        bean.setFirstName("");
+        assertCompiled(bean, Locale.US, null, false);
+        bean.setFirstName("1");
+        assertException(bean, "ValidatorAction int depends on itself for field firstName");
+    }
+
+    private ValidatorResources setupResources(final String depends, final String intDepends) {
+        final ValidatorResources resources = new ValidatorResources();
+        resources.addValidatorAction(createAction("required", "validateRequired", null));
+        resources.addValidatorAction(createAction("int", "validateInt", intDepends));
+
+        final FormSet fs = new FormSet();
+        final Form form = new Form();
+        form.setName(FORM_KEY);
+        final Field field = new Field();
+        field.setProperty("firstName");
+        field.setDepends(depends);
+        form.addField(field);
+        fs.addForm(form);
+        resources.addFormSet(fs);
+        resources.process();
+        return resources;
+    }
+
+    private ValidatorAction createAction(final String name, final String method, final String depends) {
+        final ValidatorAction va = new ValidatorAction();
+        va.setName(name);
+        va.setClassname("org.apache.commons.validator.GenericValidatorImpl");
+        va.setMethod(method);
+        va.setMethodParams("java.lang.Object,org.apache.commons.validator.Field");
+        if (depends != null) {
+            va.setDepends(depends);
+        }
+        return va;
+    }
+
+    private void assertException(final NameBean bean, final String message) throws ValidatorException {
+        resources.process();
+        try {
+            createValidator(bean, Locale.US, null, false).validate();
+            fail("Expected ValidatorException without the plan");
+        } catch (final ValidatorException e) {
+            assertEquals(message, e.getMessage());
+        }
+        resources.compile();
+        try {
+            createValidator(bean, Locale.US, null, false).validate();
+            fail("Expected ValidatorException");
+        } catch (final ValidatorException e) {
+            assertEquals(message, e.getMessage());
+        }
+    }
+
+    private void assertCompiled(final NameBean bean, final Locale locale, final String fieldName,
+            final boolean onlyReturnErrors) throws ValidatorException {
+        resources.process();
+        final String expected = describe(createValidator(bean, locale, fieldName, onlyReturnErrors).validate());
+        resources.compile();
+        final String actual = describe(createValidator(bean, locale, fieldName, onlyReturnErrors).validate());
+        assertEquals(locale + " " + fieldName, expected, actual);
+    }
+
+    private Validator createValidator(final NameBean bean, final Locale locale, final String fieldName,
+            final boolean onlyReturnErrors) {
+        final Validator validator = new Validator(resources, FORM_KEY, fieldName);
+        validator.setParameter(Validator.BEAN_PARAM, bean);
+        validator.setParameter(Validator.LOCALE_PARAM, locale);
+        validator.setOnlyReturnErrors(onlyReturnErrors);
+        return validator;
+    }
+
+    private String describe(final ValidatorResults results) {
+        final StringBuilder buffer = new StringBuilder();
+        for (final String property : new TreeSet<>(results.getPropertyNames())) {
+            final ValidatorResult result = results.getValidatorResult(property);
+            final List<String> actions = new ArrayList<>();
+            for (final Iterator<String> i = result.getActions(); i.hasNext();) {
+                final String action = i.next();
+                actions.add(action + "=" + result.isValid(action));
+            }
+            buffer.append(property).append(new TreeSet<>(actions)).append(' ');
+        }
+        return buffer.toString();
+    }
+
+}
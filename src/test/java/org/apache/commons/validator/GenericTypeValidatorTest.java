@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TimeZone;
 
 import org.xml.sax.SAXException;
 
@@ -144,6 +145,41 @@ protected void tearDown() {
       assertTrue("double value not correct", ((Double)map.get("double")).intValue() == 129);
   }
 
+   /**
+    * Tests plain integers, which are parsed without the number format, give the
+    * same results as the number format.
+    */
+   public void testPlainIntegers() {
+      assertEquals("byte", Byte.valueOf((byte) -128), GenericTypeValidator.formatByte("-128", Locale.US));
+      assertNull("byte range", GenericTypeValidator.formatByte("128", Locale.US));
+      assertEquals("short", Short.valueOf((short) 7), GenericTypeValidator.formatShort("007", Locale.US));
+      assertEquals("int", Integer.valueOf(0), GenericTypeValidator.formatInt("-0", Locale.US));
+      assertNull("int range", GenericTypeValidator.formatInt("2147483648", Locale.US));
+      assertEquals("long", Long.valueOf(-999999999999999999L), GenericTypeValidator.formatLong("-999999999999999999", Locale.US));
+      assertEquals("float", Float.valueOf(-0.0f), GenericTypeValidator.formatFloat("-0", Locale.US));
+      assertEquals("double", Double.valueOf(12345), GenericTypeValidator.formatDouble("12345", Locale.GERMAN));
+      assertEquals("grouping", Integer.valueOf(12345), GenericTypeValidator.formatInt("12.345", Locale.GERMAN));
+      assertNull("decimal", GenericTypeValidator.formatInt("12,5", Locale.GERMAN));
+   }
+
+   /**
+    * Tests cached date formats use the current default time zone.
+    */
+   public void testDateTimeZone() {
+      final TimeZone origDefault = TimeZone.getDefault();
+      try {
+         TimeZone.setDefault(TimeZone.getTimeZone("GMT"));
+         final Date gmt = GenericTypeValidator.formatDate("12/31/2005", "MM/dd/yyyy", true);
+         TimeZone.setDefault(TimeZone.getTimeZone("EST"));
+         final Date est = GenericTypeValidator.formatDate("12/31/2005", "MM/dd/yyyy", true);
+         assertEquals("time zone", 5 * 60 * 60 * 1000L, est.getTime() - gmt.getTime());
+         assertNull("strict", GenericTypeValidator.formatDate("12/31/05", "MM/dd/yyyy", true));
+         assertNotNull("not strict", GenericTypeValidator.formatDate("12/31/05", "MM/dd/yyyy", false));
+      } finally {
+         TimeZone.setDefault(origDefault);
+      }
+   }
+
   /**
     * Tests the locale.
     */
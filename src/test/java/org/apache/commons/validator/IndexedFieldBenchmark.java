@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Times the validation of an indexed field over large lists, with and
+ * without compiling the resources.
+ * <p>
+ * The time for each element should stay the same as the list grows.
+ * <p>
+ * Not run as part of the tests; run the <code>main</code> method, for example:
+ * <pre>
+ * java -cp target/classes:target/test-classes org.apache.commons.validator.IndexedFieldBenchmark
+ * </pre>
+ */
+public class IndexedFieldBenchmark {
+
+    private static final int[] SIZES = {100, 1000, 5000, 20000};
+    /** The number of items validated to warm up, and to time, for each size. */
+    private static final int ITEMS = 2000000;
+
+    /**
+     * A bean with a list of line items.
+     */
+    public static class OrderBean {
+        private final List<ValueBean> items = new ArrayList<>();
+
+        public List<ValueBean> getItems() {
+            return items;
+        }
+    }
+
+    private static ValidatorAction createAction(final String name, final String method) {
+        final ValidatorAction va = new ValidatorAction();
+        va.setName(name);
+        va.setClassname("org.apache.commons.validator.GenericValidatorImpl");
+        va.setMethod(method);
+        va.setMethodParams("java.lang.Object,org.apache.commons.validator.Field");
+        return va;
+    }
+
+    private static ValidatorResources createResources() {
+        final ValidatorResources resources = new ValidatorResources();
+        resources.addValidatorAction(createAction("required", "validateRequired"));
+        final ValidatorAction positive = createAction("positive", "validatePositive");
+        positive.setDepends("required,int");
+        resources.addValidatorAction(createAction("int", "validateInt"));
+        resources.addValidatorAction(positive);
+
+        final FormSet fs = new FormSet();
+        final Form form = new Form();
+        form.setName("orderForm");
+        final Field field = new Field();
+        field.setProperty("value");
+        field.setIndexedListProperty("items");
+        field.setDepends("required,positive");
+        for (int i = 0; i < 3; i++) {
+            final Arg arg = new Arg();
+            arg.setKey("orderForm.item.arg" + i);
+            field.addArg(arg);
+        }
+        field.addVar("min", "1", null);
+        field.addVar("max", "1000", null);
+        form.addField(field);
+        fs.addForm(form);
+        resources.addFormSet(fs);
+        resources.process();
+        return resources;
+    }
+
+    private static long time(final ValidatorResources resources, final OrderBean bean) throws ValidatorException {
+        final Validator validator = new Validator(resources, "orderForm");
+        validator.setParameter(Validator.BEAN_PARAM, bean);
+        final int iterations = Math.max(ITEMS / bean.getItems().size(), 1);
+        for (int i = 0; i < iterations; i++) {
+            validate(validator);
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            validate(validator);
+        }
+        return (System.nanoTime() - start) / iterations;
+    }
+
+    private static void validate(final Validator validator) throws ValidatorException {
+        final ValidatorResults results = validator.validate();
+        if (!results.getValidatorResult("items[].value").isValid("positive")) {
+            throw new IllegalStateException("Invalid items");
+        }
+    }
+
+    public static void main(final String[] args) throws ValidatorException {
+        final ValidatorResources resources = createResources();
+        final ValidatorResources compiled = createResources();
+        compiled.compile();
+        for (final int size : SIZES) {
+            final OrderBean bean = new OrderBean();
+            for (int i = 0; i < size; i++) {
+                final ValueBean item = new ValueBean();
+                item.setValue(Integer.toString(i + 1));
+                bean.getItems().add(item);
+            }
+            final long time = time(resources, bean);
+            final long compiledTime = time(compiled, bean);
+            System.out.printf("%6d items: %8d us/validate (%5d ns/item), compiled %8d us/validate (%5d ns/item)%n",
+                    size, time / 1000, time / size, compiledTime / 1000, compiledTime / size);
+        }
+    }
+}
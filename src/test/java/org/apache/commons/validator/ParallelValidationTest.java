@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Test the fields of a form validated on an <code>Executor</code> give the
+ * same results as when they are validated in turn.
+ */
+public class ParallelValidationTest extends AbstractCommonTest {
+
+    private static final String FORM_KEY = "nameForm";
+
+    private static final String[] VALUES = {null, "", "Test", "12", "-5"};
+
+    /** The threads the fields were validated on, keyed on the field key. */
+    private static final Map<String, Thread> THREADS = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+
+    public ParallelValidationTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Records the thread a field is validated on.
+     */
+    public static boolean recordThread(final Object bean, final Field field) {
+        THREADS.put(field.getKey(), Thread.currentThread());
+        return true;
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        loadResources("ParallelValidationTest-config.xml");
+        executor = Executors.newFixedThreadPool(4);
+        THREADS.clear();
+    }
+
+    @Override
+    protected void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * The <code>threadSafe</code> attribute of the validators.
+     */
+    public void testThreadSafe() {
+        assertTrue(resources.getValidatorAction("required").isThreadSafe());
+        assertTrue(resources.getValidatorAction("concurrent").isThreadSafe());
+        assertFalse(resources.getValidatorAction("sequential").isThreadSafe());
+    }
+
+    /**
+     * The results are the same as those of the fields validated in turn.
+     */
+    public void testResults() throws Exception {
+        for (int compiled = 0; compiled < 2; compiled++) {
+            if (compiled == 1) {
+                resources.compile();
+            }
+            for (final String firstName : VALUES) {
+                for (final String middleName : VALUES) {
+                    for (final String lastName : VALUES) {
+                        final NameBean bean = new NameBean();
+                        bean.setFirstName(firstName);
+                        bean.setMiddleName(middleName);
+                        bean.setLastName(lastName);
+                        assertParallel(bean, 0, false);
+                        assertParallel(bean, 1, true);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Only the fields whose actions are all thread safe are validated on
+     * the executor.
+     */
+    public void testThreads() throws Exception {
+        assertThreads();
+        resources.compile();
+        assertThreads();
+    }
+
+    /**
+     * Exceptions thrown on the executor are thrown by the validator.
+     */
+    public void testException() throws Exception {
+        assertException();
+        resources.compile();
+        assertException();
+    }
+
+    private void assertThreads() throws ValidatorException {
+        THREADS.clear();
+        final NameBean bean = new NameBean();
+        bean.setLastName("1");
+        final Validator validator = createValidator("threadForm", bean, 0, false);
+        validator.setExecutor(executor);
+        final ValidatorResults results = validator.validate();
+        assertNotSame(Thread.currentThread(), THREADS.get("firstName"));
+        assertSame(Thread.currentThread(), THREADS.get("lastName"));
+        assertFalse(THREADS.containsKey("middleName"));
+        assertTrue(results.getValidatorResult("firstName").isValid("concurrent"));
+        assertTrue(results.getValidatorResult("lastName").isValid("sequential"));
+    }
+
+    private void assertException() {
+        final NameBean bean = new NameBean();
+        bean.setLastName("1");
+        final Validator validator = createValidator("raiseForm", bean, 0, false);
+        validator.setExecutor(executor);
+        try {
+            validator.validate();
+            fail("Expected ValidatorException");
+        } catch (final ValidatorException e) {
+            assertEquals("VALIDATOR-EXCEPTION", e.getMessage());
+        }
+    }
+
+    private void assertParallel(final NameBean bean, final int page, final boolean onlyReturnErrors)
+            throws ValidatorException {
+        final String expected = describe(createValidator(FORM_KEY, bean, page, onlyReturnErrors).validate());
+        final Validator validator = createValidator(FORM_KEY, bean, page, onlyReturnErrors);
+        validator.setExecutor(executor);
+        assertEquals(expected, describe(validator.validate()));
+        assertEquals(expected, describe(validator.validate(ValidationContext.of(bean))));
+    }
+
+    private Validator createValidator(final String formKey, final NameBean bean, final int page,
+            final boolean onlyReturnErrors) {
+        final Validator validator = new Validator(resources, formKey);
+        validator.setParameter(Validator.BEAN_PARAM, bean);
+        validator.setPage(page);
+        validator.setOnlyReturnErrors(onlyReturnErrors);
+        return validator;
+    }
+
+    private String describe(final ValidatorResults results) {
+        final StringBuilder buffer = new StringBuilder();
+        for (final String property : new TreeSet<>(results.getPropertyNames())) {
+            final ValidatorResult result = results.getValidatorResult(property);
+            final List<String> actions = new ArrayList<>();
+            for (final Iterator<String> i = result.getActions(); i.hasNext();) {
+                final String action = i.next();
+                actions.add(action + "=" + result.isValid(action));
+            }
+            buffer.append(property).append(new TreeSet<>(actions)).append(' ');
+        }
+        return buffer.toString();
+    }
+
+}
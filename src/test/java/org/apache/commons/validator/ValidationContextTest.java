@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test validating with a {@link ValidationContext}.
+ */
+public class ValidationContextTest extends AbstractCommonTest {
+
+    private static final String FORM_KEY = "nameForm";
+
+    private static final String[] VALUES = {null, "", "Test", "12", "-5"};
+
+    public ValidationContextTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * The <code>with</code> methods don't change the context.
+     */
+    public void testImmutable() {
+        final NameBean bean = new NameBean();
+        final ValidationContext context = ValidationContext.of(bean);
+        final ValidationContext french = context.withLocale(Locale.FRENCH);
+        final ValidationContext other = french.withParameter("java.lang.String", "value");
+        final ValidationContext changed = other.withParameter("java.lang.String", "changed");
+
+        assertSame(bean, context.getBean());
+        assertNull(context.getLocale());
+        assertSame(Locale.FRENCH, french.getLocale());
+        assertSame(bean, french.getBean());
+        assertNull(french.getParameterValue("java.lang.String"));
+        assertEquals("value", other.getParameterValue("java.lang.String"));
+        assertEquals("changed", changed.getParameterValue("java.lang.String"));
+        assertSame(Locale.FRENCH, changed.getParameterValue(Validator.LOCALE_PARAM));
+        assertSame(bean, ValidationContext.of(bean, Locale.US).getParameterValue(Validator.BEAN_PARAM));
+    }
+
+    /**
+     * The validation methods get all the parameters, without changing the
+     * <code>Validator</code>.
+     */
+    public void testParameters() throws Exception {
+        loadResources("ParameterTest-config.xml");
+        final Validator validator = new Validator(resources, FORM_KEY);
+        final NameBean bean = new NameBean();
+        bean.setFirstName("foo");
+        final ValidatorResults results = validator.validate(ValidationContext.of(bean, Locale.US));
+        assertTrue(results.getValidatorResult("firstName").isValid("required"));
+        assertNull(validator.getParameterValue(Validator.VALIDATOR_PARAM));
+        assertNull(validator.getParameterValue(Validator.FORM_PARAM));
+        assertNull(validator.getParameterValue(Validator.FIELD_PARAM));
+        assertNull(validator.getParameterValue(Validator.VALIDATOR_ACTION_PARAM));
+    }
+
+    /**
+     * Validation methods reading the parameters through the
+     * <code>Validator</code> get those of the call.
+     */
+    public void testValidatorParameter() throws Exception {
+        loadResources("RequiredIfTest-config.xml");
+        final Validator shared = new Validator(resources, FORM_KEY);
+        shared.setParameter(Validator.LOCALE_PARAM, Locale.US);
+
+        ValidatorResults results = shared.validate(ValidationContext.of(new NameBean()));
+        assertTrue("firstName", results.getValidatorResult("firstName").isValid("requiredif"));
+        assertTrue("lastName", results.getValidatorResult("lastName").isValid("requiredif"));
+
+        final NameBean bean = new NameBean();
+        bean.setFirstName("");
+        bean.setLastName("Test");
+        results = shared.validate(ValidationContext.of(bean));
+        assertFalse("blank firstName", results.getValidatorResult("firstName").isValid("requiredif"));
+        assertTrue("lastName", results.getValidatorResult("lastName").isValid("requiredif"));
+
+        assertNull(shared.getParameterValue(Validator.BEAN_PARAM));
+        assertSame(Locale.US, shared.getParameterValue(Validator.LOCALE_PARAM));
+    }
+
+    /**
+     * The parameters of the <code>Validator</code> are used for those the
+     * context doesn't have.
+     */
+    public void testValidatorParameters() throws Exception {
+        loadResources("ParameterTest-config.xml");
+        final Validator validator = new Validator(resources, FORM_KEY);
+        validator.setParameter(Validator.LOCALE_PARAM, Locale.US);
+        final NameBean bean = new NameBean();
+        bean.setFirstName("foo");
+        final ValidatorResults results = validator.validate(ValidationContext.of(bean));
+        assertTrue(results.getValidatorResult("firstName").isValid("required"));
+    }
+
+    /**
+     * The results are the same as those of {@link Validator#validate()}.
+     */
+    public void testResults() throws Exception {
+        loadResources("MultipleTests-config.xml");
+        assertResults();
+        resources.compile();
+        assertResults();
+    }
+
+    /**
+     * One <code>Validator</code> validates on many threads at the same time.
+     */
+    public void testConcurrent() throws Exception {
+        loadResources("MultipleTests-config.xml");
+        resources.compile();
+        final Validator validator = new Validator(resources, FORM_KEY);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        for (int i = 0; i < 50; i++) {
+                            assertResults(validator);
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertResults() throws ValidatorException {
+        assertResults(new Validator(resources, FORM_KEY));
+    }
+
+    private void assertResults(final Validator shared) throws ValidatorException {
+        for (final String firstName : VALUES) {
+            for (final String middleName : VALUES) {
+                for (final String lastName : VALUES) {
+                    final NameBean bean = new NameBean();
+                    bean.setFirstName(firstName);
+                    bean.setMiddleName(middleName);
+                    bean.setLastName(lastName);
+                    final Validator validator = new Validator(resources, FORM_KEY);
+                    validator.setParameter(Validator.BEAN_PARAM, bean);
+                    final String expected = describe(validator.validate());
+                    assertEquals(expected, describe(shared.validate(ValidationContext.of(bean))));
+                }
+            }
+        }
+    }
+
+    private String describe(final ValidatorResults results) {
+        final StringBuilder buffer = new StringBuilder();
+        for (final String property : new TreeSet<>(results.getPropertyNames())) {
+            final ValidatorResult result = results.getValidatorResult(property);
+            final List<String> actions = new ArrayList<>();
+            for (final Iterator<String> i = result.getActions(); i.hasNext();) {
+                final String action = i.next();
+                actions.add(action + "=" + result.isValid(action));
+            }
+            buffer.append(property).append(new TreeSet<>(actions)).append(' ');
+        }
+        return buffer.toString();
+    }
+
+}
@@ -219,6 +219,121 @@ public class ValidatorTest extends TestCase {
       assertEquals("Validation of the letter 'AA'.", 1, l.size());
    }
 
+   /**
+    * A parameter value of the wrong type fails with a <code>ValidatorException</code>.
+    */
+   public void testParameterTypeMismatch() {
+      final ValidatorResources resources = new ValidatorResources();
+
+      final ValidatorAction va = new ValidatorAction();
+      va.setName("capLetter");
+      va.setClassname("org.apache.commons.validator.ValidatorTest");
+      va.setMethod("isCapLetter");
+      va.setMethodParams("java.lang.Object,org.apache.commons.validator.Field,java.util.List");
+
+      final FormSet fs = new FormSet();
+      final Form form = new Form();
+      form.setName("testForm");
+      final Field field = new Field();
+      field.setProperty("letter");
+      field.setDepends("capLetter");
+      form.addField(field);
+      fs.addForm(form);
+
+      resources.addValidatorAction(va);
+      resources.addFormSet(fs);
+      resources.process();
+
+      final TestBean bean = new TestBean();
+      bean.setLetter("A");
+
+      final Validator validator = new Validator(resources, "testForm");
+      validator.setParameter(Validator.BEAN_PARAM, bean);
+      validator.setParameter("java.util.List", "Not a List");
+
+      try {
+         validator.validate();
+         fail("Expected ValidatorException");
+      } catch (final ValidatorException e) {
+         assertEquals("argument type mismatch", e.getMessage());
+      }
+
+      validator.setParameter("java.util.List", new ArrayList<>());
+      try {
+         assertTrue(validator.validate().getValidatorResult("letter").isValid("capLetter"));
+      } catch (final ValidatorException e) {
+         fail("An exception was thrown while calling Validator.validate()");
+      }
+   }
+
+   /**
+    * Each element of an indexed field is validated with its own key, until one fails.
+    */
+   public void testIndexedField() throws ValidatorException {
+      final ValidatorResources resources = new ValidatorResources();
+
+      final ValidatorAction va = new ValidatorAction();
+      va.setName("capLetter");
+      va.setClassname("org.apache.commons.validator.ValidatorTest");
+      va.setMethod("isIndexedCapLetter");
+      va.setMethodParams("java.lang.Object,org.apache.commons.validator.Field,java.util.List");
+
+      final FormSet fs = new FormSet();
+      final Form form = new Form();
+      form.setName("testForm");
+      final Field field = new Field();
+      field.setProperty("letter");
+      field.setIndexedListProperty("beans");
+      field.setDepends("capLetter");
+      form.addField(field);
+      fs.addForm(form);
+
+      resources.addValidatorAction(va);
+      resources.addFormSet(fs);
+      resources.process();
+
+      final ListBean bean = new ListBean();
+      for (final String letter : new String[] {"A", "B", "cc", "D"}) {
+         final TestBean item = new TestBean();
+         item.setLetter(letter);
+         bean.getBeans().add(item);
+      }
+
+      for (int i = 0; i < 2; i++) {
+         final List<String> errors = new ArrayList<>();
+         final Validator validator = new Validator(resources, "testForm");
+         validator.setParameter(Validator.BEAN_PARAM, bean);
+         validator.setParameter("java.util.List", errors);
+
+         final ValidatorResults results = validator.validate();
+         assertEquals("beans[].letter", results.getPropertyNames().iterator().next());
+         assertFalse(results.getValidatorResult("beans[].letter").isValid("capLetter"));
+         assertEquals("[beans[2].letter]", errors.toString());
+
+         bean.getBeans().get(2).setLetter("C");
+         errors.clear();
+         assertTrue(validator.validate().getValidatorResult("beans[].letter").isValid("capLetter"));
+         assertEquals(0, errors.size());
+
+         bean.getBeans().get(2).setLetter("cc");
+         resources.compile();
+      }
+      assertEquals("beans[].letter", field.getKey());
+   }
+
+   /**
+    * Checks if the field of an element is one upper case letter, adding
+    * the key of the element if it isn't.
+    */
+   public static boolean isIndexedCapLetter(final Object bean, final Field field, final List<String> l) {
+      final List<String> errors = new ArrayList<>();
+      if (isCapLetter(bean, field, errors)) {
+         return true;
+      }
+      l.add(field.getKey());
+      return false;
+   }
+
    /**
     * Checks if the field is one upper case letter between 'A' and 'Z'.
     */
@@ -258,6 +373,14 @@ public class ValidatorTest extends TestCase {
       return date;
    }
 
+   public static class ListBean {
+      private final List<TestBean> beans = new ArrayList<>();
+
+      public List<TestBean> getBeans() {
+         return beans;
+      }
+   }
+
    public static class TestBean {
       private String letter = null;
       private String date = null;
@@ -22,6 +22,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.time.ZonedDateTime;
 import java.util.Date;
 import java.util.Calendar;
 import java.util.Locale;
@@ -176,6 +177,34 @@ public abstract class AbstractCalendarValidatorTest extends TestCase {
         }
     }
 
+    /**
+     * Test Valid and Invalid Dates with the <code>java.time</code> formatters
+     */
+    public void testDateTimeFormatter() {
+        for (int i = 0; i < 4; i++) {
+            final String text = i + " value=[" +patternValid[i]+"] failed ";
+            final ZonedDateTime date = validator.parseDateTime(patternValid[i], "yyyy-MM-dd", null, null);
+            assertNotNull("parseDateTime() " + text, date);
+            assertEquals("compare " + text, patternExpect[i], Date.from(date.toInstant()));
+        }
+        assertEquals("two digit year", patternExpect[4],
+                Date.from(validator.parseDateTime(patternValid[4], "yy-MM-dd", null, null).toInstant()));
+        for (int i = 0; i < localeValid.length; i++) {
+            final String text = i + " value=[" +localeValid[i]+"] failed ";
+            assertNotNull("parseDateTime() " + text, validator.parseDateTime(localeValid[i], null, Locale.US, null));
+        }
+        for (int i = 0; i < patternInvalid.length; i++) {
+            final String text = i + " value=[" +patternInvalid[i]+"] passed ";
+            assertNull("parseDateTime() " + text, validator.parseDateTime(patternInvalid[i], "yyyy-MM-dd", null, null));
+        }
+        for (int i = 0; i < localeInvalid.length; i++) {
+            final String text = i + " value=[" +localeInvalid[i]+"] passed ";
+            assertNull("parseDateTime() " + text, validator.parseDateTime(localeInvalid[i], null, Locale.US, null));
+        }
+        assertSame("cached", validator.getDateTimeFormatter("yyyy-MM-dd", Locale.US),
+                validator.getDateTimeFormatter("yyyy-MM-dd", Locale.US));
+    }
+
     /**
      * Test Invalid Dates with "locale" validation
      */
@@ -57,6 +57,9 @@ public abstract class AbstractNumberValidatorTest extends TestCase {
     protected Locale testLocale;
     protected Number localeExpected;
 
+    /** The default locale before the test */
+    private Locale origDefault;
+
     /**
      * Constructor
      * @param name test name
@@ -69,6 +72,7 @@ public abstract class AbstractNumberValidatorTest extends TestCase {
     protected void setUp() throws Exception {
         super.setUp();
 
+        origDefault = Locale.getDefault();
         Locale.setDefault(Locale.US);
 
     }
@@ -82,6 +86,7 @@ public abstract class AbstractNumberValidatorTest extends TestCase {
         super.tearDown();
         validator = null;
         strictValidator = null;
+        Locale.setDefault(origDefault);
     }
 
     /**
@@ -174,6 +179,21 @@ public abstract class AbstractNumberValidatorTest extends TestCase {
         assertNull("Default Locale, DE Format", strictValidator.parse(testStringDE, null, null));
     }
 
+    /**
+     * Test the formats are cached, without sharing them or fixing the default Locale
+     */
+    public void testFormatCache() {
+        final DecimalFormat format = (DecimalFormat) strictValidator.getFormat(testPattern, Locale.US);
+        assertNotSame("Copy", format, strictValidator.getFormat(testPattern, Locale.US));
+        assertEquals("Equal", format, strictValidator.getFormat(testPattern, Locale.US));
+        format.applyPattern("0.0%");
+        assertFalse("Modified", format.equals(strictValidator.getFormat(testPattern, Locale.US)));
+
+        assertEquals("Default Locale, US Format", testNumber, strictValidator.parse(testStringUS, null, null));
+        Locale.setDefault(Locale.GERMAN);
+        assertEquals("Default Locale, DE Format", testNumber, strictValidator.parse(testStringDE, null, null));
+    }
+
     /**
      * Test format() methods
      */
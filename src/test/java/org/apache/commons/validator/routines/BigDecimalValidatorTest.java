@@ -140,4 +140,68 @@ public class BigDecimalValidatorTest extends AbstractNumberValidatorTest {
         assertTrue("maxValue(A) = max",     validator.maxValue(number20, max));
         assertFalse("maxValue(A) > max",    validator.maxValue(number21, max));
     }
+
+    /**
+     * Test the decimal parser gives the same results as the format
+     * and is exact for long values
+     */
+    public void testDecimalParser() {
+        final String[] values = {"0", "-0", "-0.00", "0.000", "1234.5", "1,234.50", "-1,234.5", "1,234.567", ".5", "1.",
+            "1,", "1,,234", "1.2.3", "1E3", "12X", "  42.10 ", "", "007.250", "12345678901234567.891",
+            "-98,765,432,109,876,543,210.5", "(12,345,678,901,234,567,890)", "12345678901234567.891xyz"};
+        final String[] patterns = {null, "#,##0.00", "#,##0.###", "0", "#,##0;(#,##0)"};
+        for (final boolean strict : new boolean[] {true, false}) {
+            final BigDecimalValidator fast = new BigDecimalValidator(strict);
+            final BigDecimalValidator format = new BigDecimalValidator(strict) {
+                private static final long serialVersionUID = 1L;
+            };
+            for (final String value : values) {
+                for (final String pattern : patterns) {
+                    final String msg = value + ", " + pattern + ", " + strict;
+                    assertEquals(msg, format.validate(value, pattern, Locale.US), fast.validate(value, pattern, Locale.US));
+                    assertEquals(msg, format.isValid(value, pattern, Locale.US), fast.isValid(value, pattern, Locale.US));
+                }
+            }
+        }
+        final BigDecimalValidator instance = BigDecimalValidator.getInstance();
+        assertEquals("18 digits", new BigDecimal("1234567890123456.78"),
+                instance.validate("1,234,567,890,123,456.78", "#,##0.00", Locale.US));
+        assertEquals("24 digits", new BigDecimal("-1234567890123456789012.34"),
+                instance.validate("-1.234.567.890.123.456.789.012,34", "#,##0.00", Locale.GERMANY));
+        assertEquals("fixed scale", new BigDecimal("1234567890123456789.99"),
+                instance.validate("1234567890123456789.999", "0.00", Locale.US));
+
+        // values parsed by the format are exact too
+        final BigDecimalValidator format = new BigDecimalValidator(false) {
+            private static final long serialVersionUID = 1L;
+        };
+        assertEquals("subclass", new BigDecimal("1234567890123456.78"),
+                format.validate("1,234,567,890,123,456.78", "#,##0.00", Locale.US));
+        assertEquals("negative subpattern", new BigDecimal("-12345678901234567890"),
+                instance.validate("(12,345,678,901,234,567,890)", "#,##0;(#,##0)", Locale.US));
+        assertEquals("trailing text", new BigDecimal("12345678901234567.891"),
+                new BigDecimalValidator(false).validate("12345678901234567.891xyz", null, Locale.US));
+    }
+
+    /**
+     * Test that exponents beyond the range of a <code>double</code> are handled quickly.
+     */
+    public void testExponentRange() {
+        final BigDecimalValidator strict = new BigDecimalValidator(true);
+        final BigDecimalValidator lenient = new BigDecimalValidator(false);
+        final long start = System.currentTimeMillis();
+        assertNull("too large", strict.validate("1E3000000", "#,##0.00", Locale.US));
+        assertNull("too large lenient", lenient.validate("1E999999999", Locale.US));
+        assertNull("too large scale", strict.validate("1E2147483648", "#,##0.00", Locale.US));
+        assertNull("too small scale", strict.validate("1E-2147483648", "#,##0.00", Locale.US));
+        assertNull("currency", CurrencyValidator.getInstance().validate("$1E999999999", Locale.US));
+        assertNull("percent", PercentValidator.getInstance().validate("1E999999999%", Locale.US));
+        assertEquals("underflow", new BigDecimal("0.00"), strict.validate("1E-999999999", "#,##0.00", Locale.US));
+        assertEquals("underflow lenient", BigDecimal.ZERO, lenient.validate("1E-999999999", Locale.US));
+        assertTrue("time", System.currentTimeMillis() - start < 5000);
+
+        assertEquals("in range", new BigDecimal("1.5E308").setScale(2),
+                strict.validate("1.5E308", "#,##0.00", Locale.US));
+        assertEquals("exponent", new BigDecimal("1000"), lenient.validate("1E3", Locale.US));
+    }
 }
@@ -94,6 +94,22 @@ public class CalendarValidatorTest extends AbstractCalendarValidatorTest {
         assertEquals("validate(C) both",    expectedZone, CalendarValidator.getInstance().validate(germanVal, germanPattern, Locale.GERMAN, zone).getTime());
     }
 
+    /**
+     * Test the fixed width ISO-8601 patterns give the same
+     * calendars as the general purpose parsing.
+     */
+    public void testIsoPatterns() {
+        final CalendarValidator fast = CalendarValidator.getInstance();
+        final CalendarValidator legacy = new CalendarValidator() { private static final long serialVersionUID = 1L; };
+        final String[] values = {"2005-12-31", "2004-02-29", "2005-02-29", "2005-13-01", "1500-01-01", "2005-12-3X"};
+        for (final String value : values) {
+            assertEquals(value, legacy.validate(value, "yyyy-MM-dd", EET), fast.validate(value, "yyyy-MM-dd", EET));
+            assertEquals(value, legacy.validate(value, "yyyy-MM-dd"), fast.validate(value, "yyyy-MM-dd"));
+        }
+        assertEquals("time", createCalendar(GMT, 20051231, 235959).getTime(),
+                fast.validate("2005-12-31T23:59:59", "yyyy-MM-dd'T'HH:mm:ss", GMT).getTime());
+    }
+
     /**
      * Test compare date methods
      */
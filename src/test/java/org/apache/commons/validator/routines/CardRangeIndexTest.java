@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.util.Random;
+
+import org.apache.commons.validator.routines.CreditCardValidator.CreditCardRange;
+
+import junit.framework.TestCase;
+
+/**
+ * CardRangeIndex Test Case.
+ */
+public class CardRangeIndexTest extends TestCase {
+
+    private static final CreditCardRange[] RANGES = {
+        new CreditCardRange("300", "305", 14, 14), // Diners
+        new CreditCardRange("3095", null, 14, 14), // Diners
+        new CreditCardRange("36",   null, 14, 14), // Diners
+        new CreditCardRange("38",   "39", 14, 14), // Diners
+        new CreditCardRange("4",    null, new int[] {13, 16}), // VISA
+        new CreditCardRange("644",  "65", 16, 16), // Discover
+        new CreditCardRange("6011", null, 16, 16), // Discover
+        new CreditCardRange("412345", "412399", 16, 19), // overlaps VISA
+    };
+
+    /**
+     * Constructor
+     * @param name test name
+     */
+    public CardRangeIndexTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Test finding ranges.
+     */
+    public void testIndexOf() {
+        final CardRangeIndex index = new CardRangeIndex(RANGES);
+        assertEquals("size", RANGES.length, index.size());
+        assertEquals("key digits", 6, index.getKeyDigits());
+        assertEquals("300", 0, index.indexOf("30012345678901"));
+        assertEquals("305", 0, index.indexOf("30599999999999"));
+        assertEquals("306", -1, index.indexOf("30600000000000"));
+        assertEquals("3095", 1, index.indexOf("30950000000000"));
+        assertEquals("36", 2, index.indexOf("36000000000000"));
+        assertEquals("39", 3, index.indexOf("39999999999999"));
+        assertEquals("VISA 13", 4, index.indexOf("4123456789012"));
+        assertEquals("VISA 16", 4, index.indexOf("4123456789012345"));
+        assertEquals("Overlap 17", 7, index.indexOf("41234567890123456"));
+        assertEquals("VISA 15", -1, index.indexOf("412345678901234"));
+        assertEquals("643", -1, index.indexOf("6439999999999999"));
+        assertEquals("644", 5, index.indexOf("6440000000000000"));
+        assertEquals("6011", 6, index.indexOf("6011000000000000"));
+        assertEquals("Short", -1, index.indexOf("412"));
+        assertEquals("Non numeric", -1, index.indexOf("41234567890123a"));
+        assertEquals("Empty", -1, index.indexOf(""));
+        assertEquals("Null", -1, index.indexOf(null));
+    }
+
+    /**
+     * Test the index gives the same results as comparing with each range in turn.
+     */
+    public void testMatchesLinearSearch() {
+        final Random random = new Random(1L);
+        final CreditCardRange[] ranges = new CreditCardRange[500];
+        for (int i = 0; i < ranges.length; i++) {
+            final String low = randomDigits(random, 1 + random.nextInt(8));
+            final String high = random.nextBoolean() ? null : randomDigits(random, 1 + random.nextInt(8));
+            ranges[i] = random.nextBoolean()
+                    ? new CreditCardRange(low, high, 12 + random.nextInt(4), 15 + random.nextInt(5))
+                    : new CreditCardRange(low, high, new int[] {12 + random.nextInt(8), 12 + random.nextInt(8)});
+        }
+        final CardRangeIndex index = new CardRangeIndex(ranges);
+        final CardRangeIndex linear = new CardRangeIndex(append(ranges, new CreditCardRange("9", "X", 1, 1)));
+        assertEquals("linear", -1, linear.getKeyDigits());
+        for (int i = 0; i < 100000; i++) {
+            final String number = randomDigits(random, 8 + random.nextInt(12));
+            assertEquals(number, linear.indexOf(number), index.indexOf(number));
+        }
+    }
+
+    private static String randomDigits(final Random random, final int length) {
+        final StringBuilder buffer = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            buffer.append((char) ('0' + random.nextInt(10)));
+        }
+        return buffer.toString();
+    }
+
+    private static CreditCardRange[] append(final CreditCardRange[] ranges, final CreditCardRange range) {
+        final CreditCardRange[] result = new CreditCardRange[ranges.length + 1];
+        System.arraycopy(ranges, 0, result, 0, ranges.length);
+        result[ranges.length] = range;
+        return result;
+    }
+}
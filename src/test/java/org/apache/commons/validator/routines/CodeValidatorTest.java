@@ -185,6 +185,65 @@ public class CodeValidatorTest extends TestCase {
 
     }
 
+    /**
+     * Test Compiled Format.
+     */
+    public void testFormat() {
+        final CodeFormat format = CodeFormat.of(CodeFormat.DIGITS, 6)
+                .withOptionalPrefix("No.")
+                .withGroups("-" + CodeFormat.WHITESPACE, false, new int[] {3, 3}, new int[] {3, 3});
+        CodeValidator validator = new CodeValidator(format, 6, (CheckDigit)null);
+        assertNull("Format Regex", validator.getRegexValidator());
+        assertSame("Format", format, validator.getFormat());
+        assertEquals("Format Length", 6, format.getLength());
+        assertEquals("Format 123456",     "123456", validator.validate("123456"));
+        assertEquals("Format 123-456",    "123456", validator.validate("123-456"));
+        assertEquals("Format 123 456",    "123456", validator.validate(" 123 456 "));
+        assertEquals("Format No.123-456", "123456", validator.validate("No.123-456"));
+        assertEquals("Format 12-3456",    null,     validator.validate("12-3456"));
+        assertEquals("Format 123--456",   null,     validator.validate("123--456"));
+        assertEquals("Format 123-456-",   null,     validator.validate("-123-456"));
+        assertEquals("Format 123.456",    null,     validator.validate("123.456"));
+        assertEquals("Format 12345",      null,     validator.validate("12345"));
+        assertEquals("Format 1234567",    null,     validator.validate("1234567"));
+        assertEquals("Format No.",        null,     validator.validate("No."));
+        assertEquals("Format Spaces",     null,     validator.validate("   "));
+        assertEquals("Format Null",       null,     validator.validate(null));
+        assertFalse("Format isValid 123.456", validator.isValid("123.456"));
+        assertTrue("Format isValid 123-456",  validator.isValid("123-456"));
+        assertTrue("Format matches",  format.matches("123 456"));
+        assertFalse("Format matches", format.matches("123 4567"));
+
+        // Required separators
+        validator = new CodeValidator(CodeFormat.of(CodeFormat.DIGITS, 6)
+                .withGroups("-", true, new int[] {2, 2}, new int[] {4, 4}), 6, (CheckDigit)null);
+        assertEquals("Required 123-456", "123456", validator.validate("123-456"));
+        assertEquals("Required 12-3456", "123456", validator.validate("12-3456"));
+        assertEquals("Required 123456",  null,     validator.validate("123456"));
+        assertEquals("Required 1-23456", null,     validator.validate("1-23456"));
+
+        // Check Digit
+        validator = new CodeValidator(CodeFormat.of(CodeFormat.DIGITS, 9)
+                .withGroups(" ", false, new int[] {1, 1}, new int[] {8, 8}), 9, EAN13CheckDigit.EAN13_CHECK_DIGIT);
+        assertEquals("Check Digit Valid",   "123456784", validator.validate("12345678 4"));
+        assertTrue("Check Digit isValid",   validator.isValid("123456784"));
+        assertEquals("Check Digit Invalid", null, validator.validate("12345678 5"));
+        assertFalse("Check Digit isValid",  validator.isValid("123456785"));
+
+        try {
+            CodeFormat.of("\u00E9", 1);
+            fail("Expected IllegalArgumentException");
+        } catch (final IllegalArgumentException expected) {
+            // expected
+        }
+        try {
+            format.withGroups("-", false, new int[] {0, 3}, new int[] {3, 3});
+            fail("Expected IllegalArgumentException");
+        } catch (final IllegalArgumentException expected) {
+            // expected
+        }
+    }
+
     /**
      * Test Regular Expression.
      */
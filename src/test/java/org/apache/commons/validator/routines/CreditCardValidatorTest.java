@@ -16,6 +16,12 @@
  */
 package org.apache.commons.validator.routines;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
 import junit.framework.TestCase;
 import org.apache.commons.validator.routines.checkdigit.LuhnCheckDigit;
 import org.apache.commons.validator.routines.CreditCardValidator.CreditCardRange;
@@ -646,4 +652,117 @@ public class CreditCardValidatorTest extends TestCase {
             );
         assertTrue(ccv.isValid(VALID_DINERS));
     }
+
+    public void testIdentify() {
+        final CreditCardValidator ccv = new CreditCardValidator(CreditCardValidator.VISA + CreditCardValidator.AMEX
+                + CreditCardValidator.MASTERCARD + CreditCardValidator.DISCOVER + CreditCardValidator.DINERS);
+        assertEquals("Visa",       CreditCardValidator.VISA,       ccv.identify(VALID_VISA));
+        assertEquals("Short Visa", CreditCardValidator.VISA,       ccv.identify(VALID_SHORT_VISA));
+        assertEquals("Amex",       CreditCardValidator.AMEX,       ccv.identify(VALID_AMEX));
+        assertEquals("Mastercard", CreditCardValidator.MASTERCARD, ccv.identify(VALID_MASTERCARD));
+        assertEquals("Discover",   CreditCardValidator.DISCOVER,   ccv.identify(VALID_DISCOVER));
+        assertEquals("Discover65", CreditCardValidator.DISCOVER,   ccv.identify(VALID_DISCOVER65));
+        assertEquals("Diners",     CreditCardValidator.DINERS,     ccv.identify(new StringBuilder(VALID_DINERS)));
+        assertEquals("Trimmed",    CreditCardValidator.AMEX,       ccv.identify(" " + VALID_AMEX + " "));
+        assertEquals("Null",       CreditCardValidator.NONE,       ccv.identify(null));
+        for (final String s : ERROR_CARDS) {
+            assertEquals(s, CreditCardValidator.NONE, ccv.identify(s));
+        }
+
+        // custom validators and ranges
+        final CodeValidator custom = new CodeValidator("^(9\\d{15})$", null);
+        final CreditCardValidator mixed = new CreditCardValidator(
+            new CodeValidator[] {custom, CreditCardValidator.AMEX_VALIDATOR},
+            new CreditCardRange[] {
+                new CreditCardRange("300", "305", 14, 14),
+                new CreditCardRange("4", null, 16, 16),
+            });
+        assertEquals("Custom validator", CreditCardValidator.CUSTOM_VALIDATOR,     mixed.identify("9000000000000000"));
+        assertEquals("Amex",             CreditCardValidator.AMEX,                 mixed.identify(VALID_AMEX));
+        assertEquals("Custom range 0",   CreditCardValidator.CUSTOM_RANGE,         mixed.identify(VALID_DINERS));
+        assertEquals("Custom range 1",   CreditCardValidator.CUSTOM_RANGE + 1,     mixed.identify(VALID_VISA));
+        assertEquals("Short Visa",       CreditCardValidator.NONE,                 mixed.identify(VALID_SHORT_VISA));
+        assertEquals("Validate",         VALID_VISA,                               mixed.validate(" " + VALID_VISA));
+        assertEquals("Validate custom",  "9000000000000000",                       mixed.validate("9000000000000000"));
+    }
+
+    public void testSeparators() {
+        final CreditCardValidator ccv = new CreditCardValidator().withSeparators(" -");
+        assertTrue("Spaces",         ccv.isValid("4417 1234 5678 9113"));
+        assertTrue("Hyphens",        ccv.isValid(" 3782-822463-10005 "));
+        assertFalse("Invalid",       ccv.isValid("4417 1234 5678 9112"));
+        assertFalse("Wrong length",  ccv.isValid("4417 1234 5678 91130"));
+        assertFalse("Other",         ccv.isValid("4417.1234.5678.9113"));
+        assertFalse("Default",       new CreditCardValidator().isValid("4417 1234 5678 9113"));
+        assertEquals("Identify",     CreditCardValidator.VISA, ccv.identify("4417-1234-5678-9113"));
+        assertEquals("Validate",     VALID_VISA, ccv.validate("4417 1234 5678 9113"));
+
+        final char[] buffer = new char[19];
+        assertEquals("Normalize",    16, ccv.normalize(" 4417 1234-5678 9113", buffer));
+        assertEquals("Normalized",   VALID_VISA, new String(buffer, 0, 16));
+        assertEquals("Normalize invalid", -1, ccv.normalize("4417 1234 5678 9112", buffer));
+        try {
+            ccv.normalize("4417 1234 5678 9113", new char[10]);
+            fail("Expected IllegalArgumentException");
+        } catch (final IllegalArgumentException expected) {
+            // expected
+        }
+
+        final CreditCardValidator ranges = new CreditCardValidator(new CreditCardRange[] {
+            new CreditCardRange("300", "305", 14, 14),
+        }).withSeparators(" ");
+        assertEquals("Range", CreditCardValidator.CUSTOM_RANGE, ranges.identify("3056 930902 5904"));
+    }
+
+    public void testSerialization() throws Exception {
+        final CreditCardValidator mixed = new CreditCardValidator(
+            new CodeValidator[] {new CodeValidator("^(9\\d{15})$", null), CreditCardValidator.AMEX_VALIDATOR},
+            new CreditCardRange[] {
+                new CreditCardRange("300", "305", 14, 14),
+                new CreditCardRange("4", null, 16, 16),
+            }).withSeparators(" ");
+        final CreditCardValidator copy = (CreditCardValidator) serialize(mixed);
+        assertEquals("Custom validator", CreditCardValidator.CUSTOM_VALIDATOR, copy.identify("9000000000000000"));
+        assertEquals("Amex",             CreditCardValidator.AMEX,             copy.identify(VALID_AMEX));
+        assertEquals("Custom range 0",   CreditCardValidator.CUSTOM_RANGE,     copy.identify(VALID_DINERS));
+        assertEquals("Custom range 1",   CreditCardValidator.CUSTOM_RANGE + 1, copy.identify("4417 1234 5678 9113"));
+        assertEquals("Short Visa",       CreditCardValidator.NONE,             copy.identify(VALID_SHORT_VISA));
+
+        final CreditCardValidator predefined = (CreditCardValidator) serialize(new CreditCardValidator());
+        for (final String s : VALID_CARDS) {
+            assertEquals(s, new CreditCardValidator().identify(s), predefined.identify(s));
+        }
+    }
+
+    /**
+     * Validators serialized before the card types were indexed don't have
+     * the option flags and range index.
+     */
+    public void testSerializationWithoutIndex() throws Exception {
+        final CreditCardValidator ccv = new CreditCardValidator(
+            new CodeValidator[] {CreditCardValidator.AMEX_VALIDATOR, CreditCardValidator.VISA_VALIDATOR},
+            new CreditCardRange[] {new CreditCardRange("300", "305", 14, 14)});
+        for (final String name : new String[] {"cardTypeOptions", "rangeIndex"}) {
+            final java.lang.reflect.Field field = CreditCardValidator.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(ccv, null);
+        }
+        final CreditCardValidator copy = (CreditCardValidator) serialize(ccv);
+        assertTrue("Amex",    copy.isValid(VALID_AMEX));
+        assertTrue("Visa",    copy.isValid(VALID_VISA));
+        assertTrue("Diners",  copy.isValid(VALID_DINERS));
+        assertFalse("Error",  copy.isValid(ERROR_VISA));
+        assertFalse("Other",  copy.isValid(VALID_MASTERCARD));
+        assertEquals("Validate", VALID_DINERS, copy.validate(VALID_DINERS));
+    }
+
+    private static Object serialize(final Object object) throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(object);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            return ois.readObject();
+        }
+    }
 }
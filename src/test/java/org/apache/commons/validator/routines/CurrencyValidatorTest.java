@@ -193,4 +193,30 @@ public class CurrencyValidatorTest extends TestCase {
         // Restore the original default
         Locale.setDefault(origDefault);
     }
+
+    /**
+     * Test the compiled parsers give the same results as parsing with the formats.
+     */
+    public void testCompiledParser() {
+        final String[] values = {"$1,234.56", "1,234.56", "($1,234.56)", "-$1,234.56", "(1,234.56)", "$1,234", "$ 1,234.56",
+            "1.234,56 \u20AC", "1.234,56", "-1.234,56 \u20AC", "\u20AC1.234,56", "$1,234.56x", "$", "", "$0.00", "($0.00)", "1.5"};
+        final Locale[] locales = {Locale.US, Locale.GERMANY, Locale.UK};
+        final String[] patterns = {null, "#,##0.00 \u00A4", "\u00A4#,##0.00;(\u00A4#,##0.00)"};
+        for (final boolean strict : new boolean[] {true, false}) {
+            final CurrencyValidator compiled = new CurrencyValidator(strict, true);
+            final CurrencyValidator format = new CurrencyValidator(strict, true) {
+                private static final long serialVersionUID = 1L;
+            };
+            for (final String value : values) {
+                for (final Locale locale : locales) {
+                    for (final String pattern : patterns) {
+                        final String msg = value + ", " + locale + ", " + pattern + ", " + strict;
+                        assertEquals(msg, format.validate(value, pattern, locale), compiled.validate(value, pattern, locale));
+                        assertEquals(msg, format.isValid(value, pattern, locale), compiled.isValid(value, pattern, locale));
+                    }
+                }
+            }
+        }
+    }
+
 }
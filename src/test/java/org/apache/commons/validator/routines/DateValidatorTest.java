@@ -17,6 +17,7 @@
 package org.apache.commons.validator.routines;
 
 import java.text.DateFormat;
+import java.time.LocalDate;
 import java.util.Date;
 import java.util.Locale;
 import java.util.TimeZone;
@@ -109,6 +110,55 @@ public class DateValidatorTest extends AbstractCalendarValidatorTest {
         assertEquals("validate(C) both",    expectedZone, DateValidator.getInstance().validate(germanVal, germanPattern, Locale.GERMAN, zone));
     }
 
+    /**
+     * Test DateValidator java.time Methods
+     */
+    public void testJavaTimeMethods() {
+        Locale.setDefault(Locale.US);
+        final LocalDate expected = LocalDate.of(2005, 12, 31);
+
+        assertEquals("default", expected, DateValidator.getInstance().validateLocalDate("12/31/05"));
+        assertEquals("locale ", expected, DateValidator.getInstance().validateLocalDate("31.12.2005", Locale.GERMAN));
+        assertEquals("pattern", expected, DateValidator.getInstance().validateLocalDate("2005-12-31", "yyyy-MM-dd"));
+        assertEquals("both",    expected, DateValidator.getInstance().validateLocalDate("31 Dez 2005", "dd MMM yyyy", Locale.GERMAN));
+        assertNull("invalid",   DateValidator.getInstance().validateLocalDate("2005-02-29", "yyyy-MM-dd"));
+        assertNull("trailing",  DateValidator.getInstance().validateLocalDate("2005-12-31 X", "yyyy-MM-dd"));
+        assertEquals("lenient", expected, new DateValidator(false, DateFormat.SHORT).validateLocalDate("2005-12-31 X", "yyyy-MM-dd"));
+        assertEquals("month",   LocalDate.of(2005, 12, 1), DateValidator.getInstance().validateLocalDate("2005-12", "yyyy-MM"));
+
+        final Date expectedDate = createDate(EST, 20051231, 0);
+        assertEquals("instant", expectedDate.toInstant(), DateValidator.getInstance().validateInstant("2005-12-31", "yyyy-MM-dd", null, EST));
+        assertEquals("date",    expectedDate, DateValidator.getInstance().validateDate("2005-12-31", "yyyy-MM-dd", null, EST));
+        assertEquals("offset",  createDate(GMT, 20051231, 123000), DateValidator.getInstance().validateDate("2005-12-31T14:30+02:00",
+                "yyyy-MM-dd'T'HH:mmXXX", null, EST));
+        assertNull("date invalid", DateValidator.getInstance().validateDate("XXXX", "yyyy-MM-dd", null, EST));
+    }
+
+    /**
+     * Test the fixed width ISO-8601 patterns give the same
+     * results as the general purpose parsing.
+     */
+    public void testIsoPatterns() {
+        Locale.setDefault(Locale.US);
+        final DateValidator fast = DateValidator.getInstance();
+        final DateValidator legacy = new DateValidator() { private static final long serialVersionUID = 1L; };
+        final String[] values = {"2005-12-31", "2004-02-29", "2005-02-29", "1900-02-29", "2000-02-29", "2005-13-01",
+                "2005-00-10", "2005-04-31", "1500-01-01", "2005-1-31", " 2005-12-31 ", "2005/12/31", "2005-12-31X"};
+        for (final String value : values) {
+            assertEquals(value, legacy.validate(value, "yyyy-MM-dd", EST), fast.validate(value, "yyyy-MM-dd", EST));
+            assertEquals(value, legacy.isValid(value, "yyyy-MM-dd"), fast.isValid(value, "yyyy-MM-dd"));
+        }
+        final String[] times = {"2005-12-31T23:59:59", "2005-12-31T24:00:00", "2005-12-31T12:60:00", "2005-12-31T12:00:60",
+                "2005-04-03T02:30:00", "2005-10-30T01:30:00"};
+        final TimeZone newYork = TimeZone.getTimeZone("America/New_York");
+        for (final String value : times) {
+            assertEquals(value, legacy.validate(value, "yyyy-MM-dd'T'HH:mm:ss", newYork),
+                    fast.validate(value, "yyyy-MM-dd'T'HH:mm:ss", newYork));
+        }
+        assertEquals("date", createDate(EST, 20051231, 0), fast.validate("2005-12-31", "yyyy-MM-dd", EST));
+        assertEquals("time", createDate(GMT, 20051231, 235959), fast.validate("2005-12-31T23:59:59", "yyyy-MM-dd'T'HH:mm:ss", GMT));
+    }
+
     /**
      * Test compare date methods
      */
@@ -181,4 +231,66 @@ public class DateValidatorTest extends AbstractCalendarValidatorTest {
         assertEquals("date EQ", 1,  dateValidator.compareDates(value, sameDayTwoAm, EST));    // same day, diff hour
         assertEquals("date GT", 1,  dateValidator.compareDates(value, date20050822, EST)); // -1 day
     }
+
+    /**
+     * Test the comparisons without calendars give the same results as with calendars.
+     */
+    public void testCompareWithoutCalendars() {
+        final DateValidator legacy = new DateValidator() { private static final long serialVersionUID = 1L; };
+        final TimeZone newYork = TimeZone.getTimeZone("America/New_York");
+        final Locale[] locales = {Locale.US, Locale.FRANCE, new Locale("th", "TH")};
+        final long start = createDate(GMT, 20041220, 230000).getTime();
+        final Locale origDefault = Locale.getDefault();
+        try {
+            for (final Locale locale : locales) {
+                Locale.setDefault(locale);
+                for (int i = 0; i < 40; i++) {
+                    final Date value = new Date(start + i * 11L * 60 * 60 * 1000);
+                    final Date compare = new Date(start + 7L * 24 * 60 * 60 * 1000);
+                    final String msg = locale + " " + value;
+                    assertEquals(msg, legacy.compareDates(value, compare, newYork),
+                            dateValidator.compareDates(value, compare, newYork));
+                    assertEquals(msg, legacy.compareWeeks(value, compare, newYork),
+                            dateValidator.compareWeeks(value, compare, newYork));
+                    assertEquals(msg, legacy.compareMonths(value, compare, newYork),
+                            dateValidator.compareMonths(value, compare, newYork));
+                    assertEquals(msg, legacy.compareQuarters(value, compare, newYork, 12),
+                            dateValidator.compareQuarters(value.getTime(), compare.getTime(), newYork, 12));
+                    assertEquals(msg, legacy.compareYears(value, compare, null),
+                            dateValidator.compareYears(value, compare, null));
+                }
+            }
+        } finally {
+            Locale.setDefault(origDefault);
+        }
+        assertEquals("before Gregorian", -1, dateValidator.compareYears(createDate(GMT, 15820101, 0).getTime(),
+                createDate(GMT, 15830101, 0).getTime(), GMT));
+    }
+
+    /**
+     * Test compare <code>LocalDate</code> methods.
+     */
+    public void testCompareLocalDate() {
+        Locale.setDefault(Locale.US);
+        final LocalDate value = LocalDate.of(2005, 8, 23);
+        assertEquals("date LT", -1, dateValidator.compareDates(value, LocalDate.of(2005, 8, 24)));
+        assertEquals("date EQ", 0,  dateValidator.compareDates(value, value));
+        assertEquals("week EQ", 0,  dateValidator.compareWeeks(value, LocalDate.of(2005, 8, 21)));
+        assertEquals("week GT", 1,  dateValidator.compareWeeks(value, LocalDate.of(2005, 8, 20)));
+        assertEquals("mnth LT", -1, dateValidator.compareMonths(value, LocalDate.of(2005, 9, 1)));
+        assertEquals("mnth EQ", 0,  dateValidator.compareMonths(value, LocalDate.of(2005, 8, 1)));
+        assertEquals("qtrA EQ", 0,  dateValidator.compareQuarters(value, LocalDate.of(2005, 7, 1)));
+        assertEquals("qtrB GT", 1,  dateValidator.compareQuarters(value, LocalDate.of(2005, 7, 1), 8));
+        assertEquals("qtrB prev", 1, dateValidator.compareQuarters(value, LocalDate.of(2005, 1, 10), 2));
+        assertEquals("year GT", 1,  dateValidator.compareYears(value, LocalDate.of(2004, 12, 31)));
+
+        // 2005-01-01 is in the last week of 2004 in France, but the first week of 2005 in the US
+        assertEquals("week US", -1, dateValidator.compareWeeks(LocalDate.of(2005, 1, 1), LocalDate.of(2005, 1, 3)));
+        Locale.setDefault(Locale.FRANCE);
+        try {
+            assertEquals("week FR", 1, dateValidator.compareWeeks(LocalDate.of(2005, 1, 1), LocalDate.of(2005, 1, 3)));
+        } finally {
+            Locale.setDefault(Locale.US);
+        }
+    }
 }
@@ -134,4 +134,18 @@ public class DoubleValidatorTest extends AbstractNumberValidatorTest {
         assertTrue("maxValue() = max",     validator.maxValue(number20, 20));
         assertFalse("maxValue() > max",    validator.maxValue(number21, 20));
     }
+
+    /**
+     * Test validateDouble() methods
+     */
+    public void testValidateDouble() {
+        final DoubleValidator instance = DoubleValidator.getInstance();
+        assertEquals("default", 1234d, instance.validateDouble("1,234", -1d), 0d);
+        assertEquals("fraction", 1234.5d, instance.validateDouble("1,234.5", -1d), 0d);
+        assertEquals("locale", 1234.5d, instance.validateDouble("1.234,5", Locale.GERMAN, -1d), 0d);
+        assertEquals("pattern", -1234d, instance.validateDouble("-1,234", "#,##0.00", Locale.US, -1d), 0d);
+        assertEquals("null", -1d, instance.validateDouble(null, -1d), 0d);
+        assertEquals("invalid", -1d, instance.validateDouble("12X", -1d), 0d);
+        assertTrue("isInRange(double)", instance.isInRange(10.5d, 10d, 20d));
+    }
 }
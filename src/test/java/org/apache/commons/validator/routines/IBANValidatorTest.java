@@ -16,6 +16,7 @@
  */
 package org.apache.commons.validator.routines;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -24,8 +25,18 @@ import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -219,6 +230,164 @@ public class IBANValidatorTest {
         assertNull("no longer present",validator.setValidator("GB", -1, ""));
     }
 
+    @Test
+    public void testStructureMatchesRegex() {
+        final String chars = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZa -";
+        for (final String f : validIBANFormat) {
+            final Validator validator = VALIDATOR.getValidator(f);
+            for (int i = 0; i < f.length(); i++) {
+                final char[] code = f.toCharArray();
+                for (int j = 0; j < chars.length(); j++) {
+                    code[i] = chars.charAt(j);
+                    final String changed = new String(code);
+                    final boolean expected = validator.validator.isValid(changed)
+                            && IBANCheckDigit.IBAN_CHECK_DIGIT.isValid(changed);
+                    assertEquals(changed, expected, VALIDATOR.isValid(changed));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRegexFormat() {
+        final IBANValidator validator = new IBANValidator();
+        validator.setValidator("XX", 12, "XX\\d{2}(?:AB|CD)\\d{6}");
+        assertTrue(validator.isValid("XX73AB123456"));
+        assertFalse(validator.isValid("XX73AC123456"));
+        assertFalse(validator.isValid("XX74AB123456"));
+        assertNotNull("XX", validator.getValidator("XX73AB123456"));
+        assertNull("XY", validator.getValidator("XY42AB123456"));
+        assertNull("XX", VALIDATOR.getValidator("XX73AB123456"));
+    }
+
+    @Test
+    public void testReadRegistry() throws Exception {
+        final String registry =
+            "Data element\tAndorra\tEl Salvador\tUnited Kingdom\n" +
+            "Name of country\tAndorra\tEl Salvador\t\"United Kingdom\"\n" +
+            "IBAN prefix country code (ISO 3166)\tAD\tSV\tGB\n" +
+            "IBAN structure\tAD2!n4!n4!n12!c\tSV2!n4!a20!n\tGB2!n4!a6!n8!n\n" +
+            "IBAN length\t24\t28!n\t22\n";
+        final Validator[] validators = IBANValidator.readValidators(new StringReader(registry));
+        assertEquals(3, validators.length);
+        assertEquals("AD", validators[0].countryCode);
+        assertEquals("GB", validators[1].countryCode);
+        assertEquals("SV", validators[2].countryCode);
+        assertEquals("RegexValidator{AD\\d{10}[A-Z0-9]{12}}", validators[0].validator.toString());
+        assertEquals(28, validators[2].lengthOfIBAN);
+        final IBANValidator validator = new IBANValidator(validators);
+        assertTrue(validator.isValid("GB29NWBK60161331926819"));
+        assertTrue(validator.isValid("AD1200012030200359100100"));
+        assertTrue(validator.isValid("SV62CENR00000000000000700025"));
+        assertFalse(validator.isValid("DE89370400440532013000"));
+    }
+
+    @Test
+    public void testReadFormats() throws Exception {
+        final String formats =
+            "# country, length, format\n" +
+            "\n" +
+            "GB 22 GB2!n4!a6!n8!n\n" +
+            "DE\t22\tDE\\d{20}\n";
+        final Validator[] validators = IBANValidator.readValidators(new StringReader(formats));
+        assertEquals(2, validators.length);
+        assertEquals("DE", validators[0].countryCode);
+        assertEquals("GB", validators[1].countryCode);
+        final IBANValidator validator = new IBANValidator(validators);
+        assertTrue(validator.isValid("GB29NWBK60161331926819"));
+        assertTrue(validator.isValid("DE89370400440532013000"));
+        assertFalse(validator.isValid("AD1200012030200359100100"));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testReadFormatsInvalid() throws Exception {
+        IBANValidator.readValidators(new StringReader("GB 22\n"));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testReadFormatsDuplicate() throws Exception {
+        IBANValidator.readValidators(new StringReader("GB 22 GB2!n4!a6!n8!n\nGB 22 GB2!n4!a6!n8!n\n"));
+    }
+
+    @Test
+    public void testSetValidators() {
+        final IBANValidator validator = new IBANValidator();
+        assertTrue(validator.isValid("DE89370400440532013000"));
+        final Validator[] previous = validator.setValidators(new Validator[] {
+            new Validator("GB", 22, "GB\\d{2}[A-Z]{4}\\d{14}")
+        });
+        assertEquals(validator.getDefaultValidators().length, previous.length);
+        assertFalse(validator.isValid("DE89370400440532013000"));
+        assertTrue(validator.isValid("GB29NWBK60161331926819"));
+        assertEquals(1, validator.getValidators().length);
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void testSetDefaultValidators() {
+        VALIDATOR.setValidators(new Validator[0]);
+    }
+
+    @Test
+    public void testValidateReader() throws Exception {
+        final String records = "gb29 nwbk 6016 1331 9268 19\n\nDE89370400440532013000;DE89370400440532013001\r\n"
+                + "GB29NWBK6016133192681900000000000000000000\n  fr14 2004 1010 0505 0001 3m02 606  ";
+        final List<String> results = new ArrayList<>();
+        final long count = VALIDATOR.validate(new StringReader(records), "\n;", (start, end, iban, valid) ->
+            results.add(start + "-" + end + ":" + iban + ":" + valid));
+        assertEquals(5, count);
+        assertEquals("0-27:GB29NWBK60161331926819:true", results.get(0));
+        assertEquals("29-51:DE89370400440532013000:true", results.get(1));
+        assertEquals("52-75:DE89370400440532013001:false", results.get(2));
+        assertEquals("76-118:GB29NWBK601613319268190000000000000:false", results.get(3));
+        assertEquals("119-156:FR1420041010050500013M02606:true", results.get(4));
+    }
+
+    @Test
+    public void testValidateFile() throws Exception {
+        final File file = File.createTempFile("iban", ".txt");
+        try {
+            final StringBuilder records = new StringBuilder();
+            for (int i = 0; i < 1000; i++) {
+                for (final String f : validIBANFormat) {
+                    records.append(f).append(i % 2 == 0 ? '\n' : ',');
+                }
+                for (final String f : invalidIBANFormat) {
+                    records.append(f).append('\n');
+                }
+            }
+            final String contents = records.toString();
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), "ISO_8859_1")) {
+                writer.write(contents);
+            }
+            final AtomicLong valid = new AtomicLong();
+            final Set<String> seen = ConcurrentHashMap.newKeySet();
+            final long count = VALIDATOR.validate(file.toPath(), "\n,", (start, end, iban, isValid) -> {
+                assertEquals(contents.substring((int) start, (int) end).toUpperCase(Locale.ENGLISH).replaceAll("\\s", ""),
+                        iban.toString());
+                assertEquals(VALIDATOR.isValid(iban.toString()), isValid);
+                assertTrue(seen.add(start + "-" + end));
+                if (isValid) {
+                    valid.incrementAndGet();
+                }
+            }, 7);
+            long expected = validIBANFormat.length;
+            long expectedValid = validIBANFormat.length;
+            for (final String f : invalidIBANFormat) {
+                final String normalised = f.toUpperCase(Locale.ENGLISH).replaceAll("\\s", "");
+                if (!normalised.isEmpty()) {
+                    expected++;
+                }
+                if (VALIDATOR.isValid(normalised)) {
+                    expectedValid++;
+                }
+            }
+            assertEquals(1000 * expected, count);
+            assertEquals(1000 * expectedValid, valid.get());
+        } finally {
+            file.delete();
+        }
+    }
+
     @Test
     public void testSorted() {
         final IBANValidator validator = new IBANValidator();
@@ -16,9 +16,13 @@
  */
 package org.apache.commons.validator.routines;
 
+import java.util.Random;
 import java.util.regex.Pattern;
 import junit.framework.TestCase;
 
+import org.apache.commons.validator.routines.checkdigit.EAN13CheckDigit;
+import org.apache.commons.validator.routines.checkdigit.ISBN10CheckDigit;
+
 /**
  * ISBNValidator Test Case.
  *
@@ -148,6 +152,36 @@ public class ISBNValidatorTest extends TestCase {
         }
     }
 
+    /**
+     * Test the compiled formats give the same results as the regular expressions.
+     */
+    public void testFormatMatchesRegex() {
+        final ISBNValidator validator = ISBNValidator.getInstance(false);
+        final CodeValidator isbn10 = new CodeValidator(ISBNValidator.ISBN10_REGEX, 10, ISBN10CheckDigit.ISBN10_CHECK_DIGIT);
+        final CodeValidator isbn13 = new CodeValidator(ISBNValidator.ISBN13_REGEX, 13, EAN13CheckDigit.EAN13_CHECK_DIGIT);
+        final String[][] formats = {validISBN10Format, invalidISBN10Format, validISBN13Format, invalidISBN13Format,
+                {"1930110995", "1-930110-99-5", "9781930110991", "978-1-930110-99-1"}};
+        final String chars = "0123456789X- \t";
+        final Random random = new Random(1L);
+        for (final String[] format : formats) {
+            for (final String code : format) {
+                for (int i = 0; i < 200; i++) {
+                    final StringBuilder buffer = new StringBuilder(code);
+                    final int pos = random.nextInt(buffer.length() + 1);
+                    final char c = chars.charAt(random.nextInt(chars.length()));
+                    switch (random.nextInt(3)) {
+                        case 0: buffer.insert(pos, c); break;
+                        case 1: if (pos < buffer.length()) { buffer.deleteCharAt(pos); } break;
+                        default: if (pos < buffer.length()) { buffer.setCharAt(pos, c); } break;
+                    }
+                    final String input = buffer.toString();
+                    assertEquals("ISBN-10 " + input, isbn10.validate(input), validator.validateISBN10(input));
+                    assertEquals("ISBN-13 " + input, isbn13.validate(input), validator.validateISBN13(input));
+                }
+            }
+        }
+    }
+
     /**
      * Test isValid() ISBN-10 codes
      */
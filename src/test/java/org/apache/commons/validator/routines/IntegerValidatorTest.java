@@ -148,4 +148,50 @@ public class IntegerValidatorTest extends AbstractNumberValidatorTest {
         assertTrue("-2147483648 is min integer", validator.isValid("-2147483648"));
         assertFalse("-2147483649 < min integer", validator.isValid("-2147483649"));
     }
+
+    /**
+     * Test the fast integer parser gives the same results as the format
+     */
+    public void testFastParse() {
+        final String[] values = {"0", "-0", "007", "-5", "1,234", "1,2,3", "1,", ",1", "1,,2", "1.234", "1.5",
+            "  42 ", "", "   ", "+1", "--1", "2147483648", "-2147483648", "1234567890123456789",
+            "12345678901234567890", "1 234", "1\u00a0234", "1'234", "$1", "1%", "1E3", "\u0661"};
+        final String[] patterns = {null, "#,##0", "0", "#,##0;(#,##0)", "#,##0%"};
+        final Locale[] locales = {Locale.US, Locale.GERMANY, Locale.FRANCE, new Locale("de", "CH")};
+        for (int type = AbstractNumberValidator.STANDARD_FORMAT; type <= AbstractNumberValidator.PERCENT_FORMAT; type++) {
+            for (final boolean strict : new boolean[] {true, false}) {
+                final IntegerValidator fast = new IntegerValidator(strict, type);
+                final IntegerValidator format = new IntegerValidator(strict, type) {
+                    private static final long serialVersionUID = 1L;
+                };
+                for (final String value : values) {
+                    for (final String pattern : patterns) {
+                        for (final Locale locale : locales) {
+                            final String msg = value + ", " + pattern + ", " + locale + ", " + strict + ", " + type;
+                            assertEquals(msg, format.validate(value, pattern, locale), fast.validate(value, pattern, locale));
+                            assertEquals(msg, format.isValid(value, pattern, locale), fast.isValid(value, pattern, locale));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Test validateInt() methods
+     */
+    public void testValidateInt() {
+        final IntegerValidator instance = IntegerValidator.getInstance();
+        assertEquals("default", 1234, instance.validateInt("1,234", -1));
+        assertEquals("locale", 1234, instance.validateInt("1.234", Locale.GERMAN, -1));
+        assertEquals("pattern", -1234, instance.validateInt(new StringBuilder("-1,234"), "#,##0", Locale.US, -1));
+        assertEquals("prefix", -1234, instance.validateInt("(1,234)", "#,##0;(#,##0)", Locale.US, -1));
+        assertEquals("null", -1, instance.validateInt(null, -1));
+        assertEquals("blank", -1, instance.validateInt("  ", -1));
+        assertEquals("invalid", -1, instance.validateInt("12X", -1));
+        assertEquals("max", Integer.MAX_VALUE, instance.validateInt("2147483647", -1));
+        assertEquals("> max", -1, instance.validateInt("2147483648", -1));
+        assertTrue("isInRange(long)", instance.isInRange(10L, 10L, 20L));
+        assertFalse("isInRange(long)", instance.isInRange(21L, 10L, 20L));
+    }
 }
@@ -145,4 +145,19 @@ public class LongValidatorTest extends AbstractNumberValidatorTest {
         assertTrue("maxValue() = max",     validator.maxValue(number20, 20));
         assertFalse("maxValue() > max",    validator.maxValue(number21, 20));
     }
+
+    /**
+     * Test validateLong() methods
+     */
+    public void testValidateLong() {
+        final LongValidator instance = LongValidator.getInstance();
+        assertEquals("default", 1234L, instance.validateLong("1,234", -1L));
+        assertEquals("locale", 1234L, instance.validateLong("1.234", Locale.GERMAN, -1L));
+        assertEquals("pattern", -1234L, instance.validateLong("-1,234", "#,##0", Locale.US, -1L));
+        assertEquals("null", -1L, instance.validateLong(null, -1L));
+        assertEquals("invalid", -1L, instance.validateLong("12X", -1L));
+        assertEquals("max", Long.MAX_VALUE, instance.validateLong("9223372036854775807", -1L));
+        assertEquals("> max", -1L, instance.validateLong("9223372036854775808", -1L));
+        assertEquals("min", Long.MIN_VALUE, instance.validateLong("-9223372036854775808", -1L));
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.Format;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+/**
+ * Compares the number validators with formats created for each value
+ * (as they were before the formats were cached) and with cached formats.
+ * <p>
+ * The uncached validators are subclasses, so they don't use the
+ * {@link IntegerParser} either.
+ * <p>
+ * The currency and percent validators are also compared with subclasses which
+ * use the cached formats, but parse a value without the symbol by retrying with
+ * a second format, rather than with the compiled {@link DecimalParser}s.
+ * <p>
+ * Not run as part of the tests; run the <code>main</code> method, for example:
+ * <pre>
+ * java -cp target/classes:target/test-classes org.apache.commons.validator.routines.NumberValidatorBenchmark
+ * </pre>
+ */
+public class NumberValidatorBenchmark {
+
+    private static final int WARMUP = 200000;
+    private static final int ITERATIONS = 1000000;
+
+    /**
+     * Create a format in the same way as before the formats were cached.
+     */
+    private static Format createFormat(final AbstractNumberValidator validator, final String pattern, final Locale locale) {
+        final NumberFormat formatter;
+        if (pattern == null || pattern.isEmpty()) {
+            formatter = (NumberFormat) validator.getFormat(locale);
+        } else if (locale == null) {
+            formatter = new DecimalFormat(pattern);
+        } else {
+            formatter = new DecimalFormat(pattern, new DecimalFormatSymbols(locale));
+        }
+        if (!validator.isAllowFractions()) {
+            formatter.setParseIntegerOnly(true);
+        }
+        return formatter;
+    }
+
+    private static void run(final String name, final AbstractNumberValidator cached, final AbstractNumberValidator uncached,
+            final String value, final String pattern, final Locale locale) {
+        final Object result = cached.parse(value, pattern, locale);
+        if (result == null || !result.equals(uncached.parse(value, pattern, locale))) {
+            throw new IllegalStateException(name + " results differ for " + value);
+        }
+        final long uncachedTime = time(uncached, value, pattern, locale);
+        final long cachedTime = time(cached, value, pattern, locale);
+        System.out.printf("%-20s %-14s uncached %6d ns/op, cached %6d ns/op (%.1fx)%n", name, value,
+                uncachedTime / ITERATIONS, cachedTime / ITERATIONS, (double) uncachedTime / cachedTime);
+    }
+
+    private static void runRetry(final String name, final AbstractNumberValidator compiled,
+            final AbstractNumberValidator retry, final String value, final Locale locale) {
+        final Object result = compiled.parse(value, null, locale);
+        if (result == null || !result.equals(retry.parse(value, null, locale))) {
+            throw new IllegalStateException(name + " results differ for " + value);
+        }
+        final long retryTime = time(retry, value, null, locale);
+        final long compiledTime = time(compiled, value, null, locale);
+        System.out.printf("%-20s %-14s retry    %6d ns/op, compiled %4d ns/op (%.1fx)%n", name, value,
+                retryTime / ITERATIONS, compiledTime / ITERATIONS, (double) retryTime / compiledTime);
+    }
+
+    private static long time(final AbstractNumberValidator validator, final String value, final String pattern, final Locale locale) {
+        int count = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            count += validator.isValid(value, pattern, locale) ? 1 : 0;
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            count += validator.isValid(value, pattern, locale) ? 1 : 0;
+        }
+        final long time = System.nanoTime() - start;
+        if (count != WARMUP + ITERATIONS) {
+            throw new IllegalStateException("Invalid " + value);
+        }
+        return time;
+    }
+
+    public static void main(final String[] args) {
+        run("IntegerValidator", new IntegerValidator(), new IntegerValidator() {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected Format getFormat(final String pattern, final Locale locale) {
+                return createFormat(this, pattern, locale);
+            }
+        }, "1.234.567", "#,##0", Locale.GERMANY);
+        run("LongValidator", new LongValidator(), new LongValidator() {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected Format getFormat(final String pattern, final Locale locale) {
+                return createFormat(this, pattern, locale);
+            }
+        }, "1,234,567,890", null, Locale.US);
+        run("BigDecimalValidator", new BigDecimalValidator(), new BigDecimalValidator() {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected Format getFormat(final String pattern, final Locale locale) {
+                return createFormat(this, pattern, locale);
+            }
+        }, "1.234,56", "#,##0.00", Locale.GERMANY);
+        run("CurrencyValidator", new CurrencyValidator(), new CurrencyValidator() {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected Format getFormat(final String pattern, final Locale locale) {
+                return createFormat(this, pattern, locale);
+            }
+        }, "$1,234.56", null, Locale.US);
+        run("PercentValidator", new PercentValidator(), new PercentValidator() {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected Format getFormat(final String pattern, final Locale locale) {
+                return createFormat(this, pattern, locale);
+            }
+        }, "12%", null, Locale.US);
+
+        final CurrencyValidator currencyRetry = new CurrencyValidator() {
+            private static final long serialVersionUID = 1L;
+        };
+        runRetry("CurrencyValidator", new CurrencyValidator(), currencyRetry, "$1,234.56", Locale.US);
+        runRetry("CurrencyValidator", new CurrencyValidator(), currencyRetry, "1,234.56", Locale.US);
+        runRetry("CurrencyValidator", new CurrencyValidator(), currencyRetry, "1.234,56 \u20AC", Locale.GERMANY);
+        final PercentValidator percentRetry = new PercentValidator() {
+            private static final long serialVersionUID = 1L;
+        };
+        runRetry("PercentValidator", new PercentValidator(), percentRetry, "12%", Locale.US);
+        runRetry("PercentValidator", new PercentValidator(), percentRetry, "12", Locale.US);
+    }
+}
@@ -113,4 +113,37 @@ public class PercentValidatorTest extends TestCase {
         assertFalse("US wrong negative",  validator.isValid("(12%)", Locale.US));
     }
 
+    /**
+     * Test the compiled parsers give the same results as parsing with the formats.
+     */
+    public void testCompiledParser() {
+        final String[] values = {"12%", "12", "-12%", "-12", "12.5%", "100%", "1,000%", "0%", "-0%", "12 %", "12%%", "%12",
+            "12,5%", "", "%", "abc", "0.35%", "0,35%", "1.1%", "33.33%", "-0.07%", "12345678901234567.89%"};
+        final Locale[] locales = {Locale.US, Locale.GERMANY};
+        final String[] patterns = {null, "0.00%", "#,##0.0", "#,##0.00%"};
+        for (final boolean strict : new boolean[] {true, false}) {
+            final PercentValidator compiled = new PercentValidator(strict);
+            final PercentValidator format = new PercentValidator(strict) {
+                private static final long serialVersionUID = 1L;
+            };
+            for (final String value : values) {
+                for (final Locale locale : locales) {
+                    for (final String pattern : patterns) {
+                        final String msg = value + ", " + locale + ", " + pattern + ", " + strict;
+                        assertEquals(msg, format.validate(value, pattern, locale), compiled.validate(value, pattern, locale));
+                        assertEquals(msg, format.isValid(value, pattern, locale), compiled.isValid(value, pattern, locale));
+                    }
+                }
+            }
+        }
+
+        // not exact as a double, so the format path must parse a BigDecimal too
+        final PercentValidator format = new PercentValidator(true) {
+            private static final long serialVersionUID = 1L;
+        };
+        assertEquals("compiled", new BigDecimal("0.0035"),
+                PercentValidator.getInstance().validate("0.35%", "#,##0.00%", Locale.US));
+        assertEquals("format", new BigDecimal("0.0035"), format.validate("0.35%", "#,##0.00%", Locale.US));
+    }
+
 }
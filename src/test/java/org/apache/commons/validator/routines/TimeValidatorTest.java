@@ -18,6 +18,7 @@ package org.apache.commons.validator.routines;
 
 import junit.framework.TestCase;
 
+import java.time.LocalTime;
 import java.util.Date;
 import java.util.Calendar;
 import java.util.Locale;
@@ -242,6 +243,29 @@ public class TimeValidatorTest extends TestCase {
 
     }
 
+    /**
+     * Test java.time methods.
+     */
+    public void testJavaTimeMethods() {
+        Locale.setDefault(Locale.UK);
+        TimeZone.setDefault(GMT);
+
+        assertEquals("default", LocalTime.of(18, 1), validator.validateLocalTime("18:01"));
+        assertEquals("pattern", LocalTime.of(14, 34), validator.validateLocalTime("14-34", "HH-mm"));
+        assertEquals("locale",  LocalTime.of(19, 18), validator.validateLocalTime("7:18 PM", Locale.US));
+        assertEquals("both",    LocalTime.of(21, 5), validator.validateLocalTime("21-05", "HH-mm", Locale.GERMAN));
+        assertNull("invalid",   validator.validateLocalTime("25:01"));
+        assertNull("invalid",   validator.validateLocalTime("18:01 X"));
+        assertNull("no hour",   validator.validateLocalTime("01", "mm", Locale.UK));
+
+        final Calendar result = validator.validateCalendar("16:49", null, null, EST);
+        assertNotNull("calendar result", result);
+        assertEquals("calendar zone",  EST, result.getTimeZone());
+        assertEquals("calendar date",  createDate(EST, 164900, 0), result.getTime());
+        assertEquals("zoned",  result.getTime().toInstant(), validator.validateZonedDateTime("16:49", null, null, EST).toInstant());
+        assertNull("calendar invalid", validator.validateCalendar("XXXX", null, null, EST));
+    }
+
     /**
      * Test Invalid Dates with "locale" validation
      */
@@ -302,6 +326,21 @@ public class TimeValidatorTest extends TestCase {
 
     }
 
+    /**
+     * Test compare <code>LocalTime</code> methods.
+     */
+    public void testCompareLocalTime() {
+        final LocalTime value = LocalTime.of(12, 34, 56, 789000000);
+        assertEquals("mili LT", -1, validator.compareTime(value, LocalTime.of(12, 34, 56, 790000000)));
+        assertEquals("mili EQ", 0,  validator.compareTime(value, LocalTime.of(12, 34, 56, 789999999)));
+        assertEquals("secs GT", 1,  validator.compareSeconds(value, LocalTime.of(12, 34, 55, 999000000)));
+        assertEquals("secs EQ", 0,  validator.compareSeconds(value, LocalTime.of(12, 34, 56)));
+        assertEquals("mins LT", -1, validator.compareMinutes(value, LocalTime.of(12, 35)));
+        assertEquals("mins EQ", 0,  validator.compareMinutes(value, LocalTime.of(12, 34)));
+        assertEquals("hour GT", 1,  validator.compareHours(value, LocalTime.of(11, 59, 59)));
+        assertEquals("hour EQ", 0,  validator.compareHours(value, LocalTime.of(12, 59, 59)));
+    }
+
     /**
      * Create a calendar instance for a specified time zone, date and time.
      *
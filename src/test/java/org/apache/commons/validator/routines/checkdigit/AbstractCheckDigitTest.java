@@ -20,6 +20,8 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -143,6 +145,101 @@ public abstract class AbstractCheckDigitTest extends TestCase {
         }
     }
 
+    /**
+     * Test isValid() for a packed buffer of codes matches isValid() for each code.
+     */
+    public void testIsValidBatch() {
+        final List<String> codes = new ArrayList<>();
+        for (final String code : valid) {
+            codes.add(code);
+        }
+        for (final String code : invalid) {
+            codes.add(code);
+        }
+        for (final String code : createInvalidCodes(valid)) {
+            if (code.chars().allMatch(c -> c < 128)) {
+                codes.add(code);
+            }
+        }
+        codes.add("");
+
+        // repeat the codes so that the parallel validation splits them
+        final int count = 5000;
+        final int[] offsets = new int[count + 1];
+        final StringBuilder buffer = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            offsets[i] = buffer.length();
+            buffer.append(codes.get(i % codes.size()));
+        }
+        offsets[count] = buffer.length();
+        final byte[] bytes = buffer.toString().getBytes(StandardCharsets.US_ASCII);
+
+        int expectedCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (routine.isValid(codes.get(i % codes.size()))) {
+                expectedCount++;
+            }
+        }
+        for (final boolean parallel : new boolean[] {false, true}) {
+            final long[] results = new long[(count + 63) / 64];
+            Arrays.fill(results, -1L);
+            assertEquals("valid count, parallel=" + parallel, expectedCount, routine.isValid(bytes, offsets, results, parallel));
+            for (int i = 0; i < count; i++) {
+                final String code = codes.get(i % codes.size());
+                assertEquals("code[" + i + "]=" + code + ", parallel=" + parallel, routine.isValid(code),
+                        (results[i / 64] & (1L << (i % 64))) != 0);
+            }
+        }
+    }
+
+    /**
+     * Test the accumulator gives the same results as the routine.
+     */
+    public void testAccumulator() throws Exception {
+        final CheckDigitAccumulator accumulator = routine.newAccumulator();
+        assertFalse("empty", accumulator.isValid());
+
+        // valid codes, one character at a time
+        for (int i = 0; i < valid.length; i++) {
+            accumulator.reset();
+            for (int j = 0; j < valid[i].length(); j++) {
+                accumulator.append(valid[i].charAt(j));
+            }
+            assertEquals("length[" + i + "]", valid[i].length(), accumulator.length());
+            assertTrue("valid[" + i + "]: " + valid[i], accumulator.isValid());
+        }
+
+        // check digits, in two slices
+        for (int i = 0; i < valid.length; i++) {
+            final String code = removeCheckDigit(valid[i]);
+            final int split = code.length() / 2;
+            accumulator.reset().append(code, 0, split).append(new StringBuilder(code), split, code.length());
+            assertEquals("calculate[" + i + "]: " + valid[i], checkDigit(valid[i]), accumulator.calculate());
+        }
+
+        // invalid codes
+        final List<String> codes = new ArrayList<>(Arrays.asList(invalid));
+        codes.addAll(Arrays.asList(createInvalidCodes(valid)));
+        if (zeroSum != null) {
+            codes.add(zeroSum);
+        }
+        for (final String code : codes) {
+            accumulator.reset().append(code, 0, code.length());
+            assertEquals("isValid: " + code, routine.isValid(code), accumulator.isValid());
+            String expected;
+            try {
+                expected = routine.calculate(code);
+            } catch (final CheckDigitException e) {
+                expected = null;
+            }
+            try {
+                assertEquals("calculate: " + code, expected, accumulator.calculate());
+            } catch (final CheckDigitException e) {
+                assertNull("calculate: " + code + " threw " + e.getMessage(), expected);
+            }
+        }
+    }
+
     /**
      * Test calculate() for valid values.
      */
@@ -56,4 +56,44 @@ public class LuhnCheckDigitTest extends AbstractCheckDigitTest {
                 VALID_DISCOVER,
                 VALID_DINERS};
     }
+
+    /**
+     * Test non-ASCII digits, which are not handled by the table
+     * driven calculation, are still treated as digits.
+     */
+    public void testNonAsciiDigits() throws Exception {
+        final StringBuilder fullWidth = new StringBuilder();
+        for (int i = 0; i < VALID_VISA.length(); i++) {
+            fullWidth.append((char) ('\uFF10' + VALID_VISA.charAt(i) - '0'));
+        }
+        assertTrue("full width", routine.isValid(fullWidth.toString()));
+        assertEquals("full width check digit", "3", routine.calculate(fullWidth.substring(0, fullWidth.length() - 1)));
+    }
+
+    /**
+     * Test separators are skipped by a routine configured with them.
+     */
+    public void testSeparators() throws Exception {
+        final LuhnCheckDigit separated = new LuhnCheckDigit(" -");
+        assertEquals("separators", " -", separated.getSeparators());
+        assertNull("no separators", new LuhnCheckDigit("").getSeparators());
+        assertTrue("spaces",  separated.isValid("4417 1234 5678 9113"));
+        assertTrue("hyphens", separated.isValid("4417-1234-5678-9113"));
+        assertTrue("mixed",   separated.isValid("3782 822463 10005"));
+        assertFalse("invalid", separated.isValid("4417 1234 5678 9112"));
+        assertFalse("other separator", separated.isValid("4417.1234.5678.9113"));
+        assertFalse("only separators", separated.isValid(" - "));
+        assertFalse("default routine", routine.isValid("4417 1234 5678 9113"));
+        assertEquals("calculate", "3", separated.calculate("4417 1234 5678 911"));
+
+        final CheckDigitAccumulator accumulator = separated.newAccumulator();
+        accumulator.append("4417 1234", 0, 9).append('-').append("5678 9113", 0, 9);
+        assertEquals("accumulator length", 16, accumulator.length());
+        assertTrue("accumulator", accumulator.isValid());
+
+        final byte[] codes = "4417 1234 5678 9113,4417-1234-5678-9112".getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+        final long[] results = new long[1];
+        assertEquals("batch", 1, separated.isValid(codes, new int[] {0, 19, 20}, 0, 1, results));
+        assertEquals("batch", 0, separated.isValid(codes, new int[] {0, 19, 20, 39}, 1, 2, results));
+    }
 }
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.beanutils.BasicDynaClass;
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.DynaProperty;
+import org.apache.commons.beanutils.PropertyUtils;
+
+/**
+ * Test the {@link CachedPropertyAccessor} reads the same values, and throws
+ * the same exceptions, as <code>PropertyUtils</code>.
+ */
+public class CachedPropertyAccessorTest extends TestCase {
+
+    private static final String[] PROPERTIES = {
+        "name", "active", "count", "customer", "customer.name", "customer.customer.name",
+        "items", "items[0]", "items[1].name", "items[5]", "items[-1]", "codes[1]", "codes[2]",
+        "scores[0]", "scores[3]", "line[2]", "line[9]", "attributes(color)", "attributes(size)",
+        "attributes(a.b)", "name(key)", "name[0]", "failing", "unknown", "customer.unknown",
+        "", "items[x]", "(key)", "[0]", "getClass", "class"
+    };
+
+    private final CachedPropertyAccessor accessor = new CachedPropertyAccessor();
+
+    /**
+     * A bean with simple, nested, indexed and mapped properties.
+     */
+    public static class OrderBean {
+        private final String name;
+        private OrderBean customer;
+        private final List<OrderBean> items = new ArrayList<>();
+        private final Map<String, Object> attributes = new HashMap<>();
+
+        public OrderBean(final String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isActive() {
+            return true;
+        }
+
+        public int getCount() {
+            return items.size();
+        }
+
+        public OrderBean getCustomer() {
+            return customer;
+        }
+
+        public List<OrderBean> getItems() {
+            return items;
+        }
+
+        public String[] getCodes() {
+            return new String[] {"A", "B"};
+        }
+
+        public int[] getScores() {
+            return new int[] {1, 2, 3};
+        }
+
+        public String getLine(final int index) {
+            if (index > 5) {
+                throw new IndexOutOfBoundsException("Line " + index);
+            }
+            return "Line " + index;
+        }
+
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        public String getFailing() {
+            throw new IllegalStateException("Failing");
+        }
+    }
+
+    private static OrderBean createBean() {
+        final OrderBean bean = new OrderBean("order");
+        bean.customer = new OrderBean("customer");
+        bean.items.add(new OrderBean("first"));
+        bean.items.add(new OrderBean("second"));
+        bean.attributes.put("color", "red");
+        bean.attributes.put("a.b", "dotted");
+        return bean;
+    }
+
+    /**
+     * Test the properties of a bean.
+     */
+    public void testBean() {
+        final OrderBean bean = createBean();
+        for (final String property : PROPERTIES) {
+            assertSameProperty(bean, property);
+            // read again, with the getters bound
+            assertSameProperty(bean, property);
+        }
+    }
+
+    /**
+     * Test the properties of a <code>Map</code>.
+     */
+    public void testMap() {
+        final Map<String, Object> bean = new HashMap<>();
+        bean.put("name", "map");
+        bean.put("customer", createBean());
+        bean.put("items", Arrays.asList("A", "B"));
+        for (final String property : PROPERTIES) {
+            assertSameProperty(bean, property);
+        }
+    }
+
+    /**
+     * Test the properties of a <code>DynaBean</code>.
+     */
+    public void testDynaBean() throws Exception {
+        final BasicDynaClass dynaClass = new BasicDynaClass("order", null, new DynaProperty[] {
+            new DynaProperty("name", String.class), new DynaProperty("customer", OrderBean.class)});
+        final DynaBean bean = dynaClass.newInstance();
+        bean.set("name", "dyna");
+        bean.set("customer", createBean());
+        for (final String property : PROPERTIES) {
+            assertSameProperty(bean, property);
+        }
+    }
+
+    /**
+     * Test a <code>null</code> bean and property name.
+     */
+    public void testNull() {
+        assertSameProperty(null, "name");
+        assertSameProperty(createBean(), null);
+    }
+
+    /**
+     * Test the default accessor reads the properties for validation.
+     */
+    public void testDefault() {
+        assertTrue(ValidatorUtils.getPropertyAccessor() instanceof CachedPropertyAccessor);
+        final OrderBean bean = createBean();
+        assertEquals("second", ValidatorUtils.getValueAsString(bean, "items[1].name"));
+        try {
+            ValidatorUtils.setPropertyAccessor(PropertyAccessor.PROPERTY_UTILS);
+            assertSame(PropertyAccessor.PROPERTY_UTILS, ValidatorUtils.getPropertyAccessor());
+            assertEquals("second", ValidatorUtils.getValueAsString(bean, "items[1].name"));
+        } finally {
+            ValidatorUtils.setPropertyAccessor(null);
+        }
+        assertTrue(ValidatorUtils.getPropertyAccessor() instanceof CachedPropertyAccessor);
+    }
+
+    private void assertSameProperty(final Object bean, final String property) {
+        assertEquals(String.valueOf(property), read(PropertyAccessor.PROPERTY_UTILS, bean, property),
+                read(accessor, bean, property));
+    }
+
+    private static String read(final PropertyAccessor propertyAccessor, final Object bean, final String property) {
+        try {
+            final Object value = propertyAccessor.getProperty(bean, property);
+            return value instanceof OrderBean ? "OrderBean " + ((OrderBean) value).getName() : String.valueOf(value);
+        } catch (final Exception e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+}